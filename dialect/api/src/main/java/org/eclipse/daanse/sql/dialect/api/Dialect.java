@@ -31,6 +31,7 @@ import java.sql.SQLException;
 
 import org.eclipse.daanse.sql.dialect.api.capability.DialectCapabilitiesProvider;
 import org.eclipse.daanse.sql.dialect.api.generator.AggregationGenerator;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.CastGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.CteGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.DdlGenerator;
@@ -172,6 +173,15 @@ public interface Dialect
         };
     }
 
+    /**
+     * Native CSV loading ({@code COPY}, {@code LOAD DATA}, {@code BULK INSERT},
+     * {@code CSVREAD}).
+     */
+    default BulkLoadGenerator bulkLoadGenerator() {
+        return new BulkLoadGenerator() {
+        };
+    }
+
     /**
      * The spelling of the duplicate-eliminating set-union operator. ANSI SQL and
      * virtually every DBMS accept the bare {@code union};
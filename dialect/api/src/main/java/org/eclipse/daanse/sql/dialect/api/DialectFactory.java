@@ -28,7 +28,8 @@ public interface DialectFactory {
         return createDialect(DialectInitData.fromConnection(connection));
     }
 
+    /** A new dialect from the snapshot {@link DialectRegistry} keeps for {@code dataSource}. */
     default Dialect createDialect(DataSource dataSource) throws SQLException {
-        return createDialect(DialectInitData.fromDataSource(dataSource));
+        return createDialect(DialectRegistry.initData(dataSource));
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.dialect.api;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+/**
+ * Process-wide cache of {@link DialectInitData} and {@link Dialect} per
+ * {@link DataSource}. {@link DialectInitData#fromConnection(Connection)} borrows a
+ * connection and makes about fifteen {@link DatabaseMetaData} calls; through the
+ * registry every component of a deployment resolves its dialect with a map
+ * lookup after the first.
+ * <p>
+ * Data sources are held weakly and drop out with the pool that owns them. The
+ * snapshot is also indexed by JDBC URL and user, so two data sources on the same
+ * database — a pool and a plain driver data source, say — read it once; that index
+ * holds the snapshot weakly too, so it lives only as long as a data source using
+ * it. A cached snapshot goes stale when the server is upgraded or switched to
+ * read-only; {@link #invalidate(DataSource)}, {@link #invalidate(String)} and
+ * {@link #invalidateAll()} drop it.
+ * <p>
+ * {@link #dialect(DataSource, DialectFactory)} hands the same instance to every
+ * caller. A caller that changes the dialect, e.g. its quoting policy, creates its
+ * own from {@link #initData(DataSource)} instead. A component that is unbound from
+ * a factory calls {@link #invalidate(DialectFactory)}, so the dialects of a
+ * replaced factory bundle are not handed out again.
+ */
+public final class DialectRegistry {
+
+    private record UrlKey(String url, String user) {
+    }
+
+    private static final class Entry {
+
+        private final UrlKey urlKey;
+        private final DialectInitData initData;
+        private final Map<DialectFactory, Dialect> dialects = Collections.synchronizedMap(new WeakHashMap<>());
+
+        Entry(UrlKey urlKey, DialectInitData initData) {
+            this.urlKey = urlKey;
+            this.initData = initData;
+        }
+    }
+
+    private static final Map<DataSource, Entry> BY_DATA_SOURCE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<UrlKey, WeakReference<DialectInitData>> BY_URL = new ConcurrentHashMap<>();
+
+    private DialectRegistry() {
+    }
+
+    /**
+     * @return the cached snapshot of {@code dataSource}, read on the first call;
+     *         {@link DialectInitData#ansiDefaults()} for {@code null}
+     * @throws SQLException when no connection can be obtained on the first call
+     */
+    public static DialectInitData initData(DataSource dataSource) throws SQLException {
+        if (dataSource == null) {
+            return DialectInitData.ansiDefaults();
+        }
+        return entry(dataSource).initData;
+    }
+
+    /**
+     * @return the dialect {@code factory} builds for {@code dataSource}, built once
+     *         per data source and factory
+     * @throws SQLException when no connection can be obtained on the first call
+     */
+    public static Dialect dialect(DataSource dataSource, DialectFactory factory) throws SQLException {
+        if (dataSource == null) {
+            return factory.createDialect(DialectInitData.ansiDefaults());
+        }
+        Entry entry = entry(dataSource);
+        Dialect dialect = entry.dialects.get(factory);
+        if (dialect == null) {
+            dialect = factory.createDialect(entry.initData);
+            Dialect raced = entry.dialects.putIfAbsent(factory, dialect);
+            dialect = raced != null ? raced : dialect;
+        }
+        return dialect;
+    }
+
+    /** Drops the snapshot and the dialects of {@code dataSource}. */
+    public static void invalidate(DataSource dataSource) {
+        Entry entry = BY_DATA_SOURCE.remove(dataSource);
+        if (entry != null && entry.urlKey != null) {
+            BY_URL.remove(entry.urlKey);
+        }
+    }
+
+    /**
+     * Drops the snapshot of every user of {@code url}, and the data sources that
+     * were resolved to it.
+     *
+     * @param url as the driver reports it in {@link DatabaseMetaData#getURL()}
+     */
+    public static void invalidate(String url) {
+        BY_URL.keySet().removeIf(key -> key.url().equals(url));
+        synchronized (BY_DATA_SOURCE) {
+            BY_DATA_SOURCE.values().removeIf(entry -> entry.urlKey != null && entry.urlKey.url().equals(url));
+        }
+    }
+
+    /**
+     * Drops the dialects {@code factory} built, and the snapshots no data source
+     * holds on to any more.
+     */
+    public static void invalidate(DialectFactory factory) {
+        synchronized (BY_DATA_SOURCE) {
+            BY_DATA_SOURCE.values().forEach(entry -> entry.dialects.remove(factory));
+        }
+        BY_URL.values().removeIf(ref -> ref.get() == null);
+    }
+
+    public static void invalidateAll() {
+        BY_DATA_SOURCE.clear();
+        BY_URL.clear();
+    }
+
+    private static Entry entry(DataSource dataSource) throws SQLException {
+        Entry entry = BY_DATA_SOURCE.get(dataSource);
+        if (entry != null) {
+            return entry;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            UrlKey urlKey = urlKey(connection);
+            DialectInitData initData = urlKey == null ? null : cached(urlKey);
+            if (initData == null) {
+                initData = DialectInitData.fromConnection(connection);
+                if (urlKey != null) {
+                    BY_URL.values().removeIf(ref -> ref.get() == null);
+                    DialectInitData read = initData;
+                    DialectInitData raced = BY_URL.compute(urlKey,
+                            (k, old) -> old != null && old.get() != null ? old : new WeakReference<>(read)).get();
+                    initData = raced != null ? raced : read;
+                }
+            }
+            entry = new Entry(urlKey, initData);
+        }
+        Entry raced = BY_DATA_SOURCE.putIfAbsent(dataSource, entry);
+        return raced != null ? raced : entry;
+    }
+
+    /** @return {@code null} when no live data source holds the snapshot of {@code urlKey} */
+    private static DialectInitData cached(UrlKey urlKey) {
+        WeakReference<DialectInitData> ref = BY_URL.get(urlKey);
+        return ref == null ? null : ref.get();
+    }
+
+    /** @return {@code null} when the driver does not report its URL */
+    private static UrlKey urlKey(Connection connection) {
+        try {
+            DatabaseMetaData md = connection.getMetaData();
+            String url = md.getURL();
+            return url == null ? null : new UrlKey(url, md.getUserName());
+        } catch (SQLException | UnsupportedOperationException ignore) {
+            return null;
+        }
+    }
+}
@@ -154,6 +154,15 @@ public interface DialectCapabilitiesProvider {
         return false;
     }
 
+    /**
+     * @return true if DDL statements take part in transactions, so that several
+     *         of them commit or roll back together; false (default) if each one
+     *         commits implicitly
+     */
+    default boolean supportsTransactionalDdl() {
+        return false;
+    }
+
     /** @return true if dialect sharing is allowed */
     boolean allowsDialectSharing();
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ */
+package org.eclipse.daanse.sql.dialect.api.generator;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * The database's own CSV loader ({@code COPY}, {@code LOAD DATA},
+ * {@code BULK INSERT}, {@code CSVREAD}) in place of batched inserts.
+ */
+public interface BulkLoadGenerator {
+
+    /** How the data gets to the load statement. */
+    enum Transfer {
+        /** Executing the statement loads the file; the database or the driver reads it by path. */
+        STATEMENT,
+        /**
+         * The statement reads standard input; the caller streams the data records,
+         * without the header records, through the driver's copy API.
+         */
+        COPY_IN
+    }
+
+    /**
+     * @param fieldSeparator the field separator
+     * @param quoteCharacter the quote character; doubled inside a quoted field
+     * @param nullValue      field text that stands for SQL {@code NULL}; empty when
+     *                       only empty fields do
+     * @param headerRecords  records at the start of the file that hold no data
+     * @param encoding       Java charset name of the file
+     * @param lineSeparator  what ends each record, {@code \n}, {@code \r\n} or
+     *                       {@code \r}; loaders that split records by a fixed
+     *                       terminator expect it at the end of every record
+     */
+    record CsvFormat(char fieldSeparator, char quoteCharacter, String nullValue, int headerRecords, String encoding,
+            String lineSeparator) {
+        public CsvFormat {
+            if (headerRecords < 0) {
+                throw new IllegalArgumentException("headerRecords must not be negative");
+            }
+            nullValue = nullValue == null ? "" : nullValue;
+            encoding = encoding == null ? "UTF-8" : encoding;
+            lineSeparator = lineSeparator == null ? "\n" : lineSeparator;
+            if (!lineSeparator.equals("\n") && !lineSeparator.equals("\r\n") && !lineSeparator.equals("\r")) {
+                throw new IllegalArgumentException("lineSeparator must be \\n, \\r\\n or \\r");
+            }
+        }
+
+        /** A format whose records end with {@code \n}. */
+        public CsvFormat(char fieldSeparator, char quoteCharacter, String nullValue, int headerRecords,
+                String encoding) {
+            this(fieldSeparator, quoteCharacter, nullValue, headerRecords, encoding, "\n");
+        }
+    }
+
+    /** The load statement and how to feed it. */
+    record BulkLoad(String sql, Transfer transfer) {
+    }
+
+    /**
+     * @param table   the target table, already created
+     * @param columns the columns of {@code table} in file order
+     * @param file    absolute path of the file, as the reading side sees it
+     * @return the load statement, or empty if this dialect has no native loader or
+     *         cannot express {@code format}
+     */
+    default Optional<BulkLoad> bulkLoad(TableReference table, List<String> columns, String file, CsvFormat format) {
+        return Optional.empty();
+    }
+
+    default boolean supportsBulkLoad() {
+        return false;
+    }
+}
@@ -151,6 +151,29 @@ public interface DdlGenerator extends IdentifierQuoter, DialectCapabilitiesProvi
         return sb.toString();
     }
 
+    /**
+     * {@code DELETE FROM schema.table WHERE NOT EXISTS (SELECT 1 FROM keys WHERE
+     * keys.col1 = schema.table.col1 AND …)} — deletes the rows whose key is not in
+     * {@code keys}.
+     */
+    default String deleteAbsent(TableReference table, TableReference keys, List<String> keyColumns) {
+        if (keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("keyColumns must not be empty for DELETE of absent keys");
+        }
+        StringBuilder sb = new StringBuilder("DELETE FROM ");
+        sb.append(qualified(table));
+        sb.append(" WHERE NOT EXISTS (SELECT 1 FROM ").append(qualified(keys)).append(" WHERE ");
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0)
+                sb.append(" AND ");
+            String column = quoteIdentifier(keyColumns.get(i));
+            sb.append(qualified(keys)).append('.').append(column).append(" = ").append(qualified(table))
+                    .append('.').append(column);
+        }
+        sb.append(")");
+        return sb.toString();
+    }
+
     // -------------------- DDL — drop / truncate --------------------
 
     /** {@code DROP TABLE [IF EXISTS] schema.table}. */
@@ -576,6 +599,67 @@ public interface DdlGenerator extends IdentifierQuoter, DialectCapabilitiesProvi
         return sb.toString();
     }
 
+    // -------------------- bulk load --------------------
+
+    /**
+     * {@link #createTable(TableReference, List, PrimaryKey, boolean)} for a table
+     * that is filled by a bulk load right after. PostgreSQL creates it
+     * {@code UNLOGGED}; {@link #endBulkLoad(TableReference)} makes it logged
+     * again.
+     */
+    default String createTableForBulkLoad(TableReference table, List<ColumnDefinition> columns,
+            PrimaryKey primaryKey, boolean ifNotExists) {
+        return createTable(table, columns, primaryKey, ifNotExists);
+    }
+
+    /**
+     * Statements to run before the rows are loaded into a table that was just
+     * created, setting aside its constraint checks. Secondary indexes are left
+     * alone: a table created for the load has none yet, and disabling them on a
+     * filled table means rebuilding them in full, which costs more than the
+     * load saves. Empty where the dialect has nothing to set aside.
+     */
+    default List<String> beginBulkLoad(TableReference table) {
+        return List.of();
+    }
+
+    /**
+     * Statements to run once the rows are in, also after a failed load:
+     * validates the constraints that {@link #beginBulkLoad(TableReference)} set
+     * aside.
+     */
+    default List<String> endBulkLoad(TableReference table) {
+        return List.of();
+    }
+
+    /**
+     * Queries reading the connection settings that
+     * {@link #beginBulkLoadSession()} changes, each returning one row with one
+     * column. Run them on every loading connection first; their values go to
+     * {@link #endBulkLoadSession(List)}.
+     */
+    default List<String> bulkLoadSettings() {
+        return List.of();
+    }
+
+    /**
+     * Statements changing the settings of one loading connection, e.g. to not
+     * wait for the disk on each commit.
+     */
+    default List<String> beginBulkLoadSession() {
+        return List.of();
+    }
+
+    /**
+     * Statements restoring the settings {@link #beginBulkLoadSession()} changed,
+     * also after a failed load.
+     *
+     * @param settings the values {@link #bulkLoadSettings()} read, in order
+     */
+    default List<String> endBulkLoadSession(List<String> settings) {
+        return List.of();
+    }
+
     // -------------------- helpers --------------------
 
     /** Dialect-quoted, fully-qualified {@code "schema"."table"}. */
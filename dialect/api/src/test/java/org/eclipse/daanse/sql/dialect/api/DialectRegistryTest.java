@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.dialect.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DialectRegistryTest {
+
+    private final String url = "jdbc:h2:mem:registry" + UUID.randomUUID();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /** An H2 data source on {@link #url} that counts the connections handed out. */
+    private DataSource dataSource() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL(url);
+        h2.setUser("sa");
+        h2.setPassword("");
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        connections.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(h2, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /** A factory building a new, otherwise unusable dialect on every call. */
+    private static DialectFactory factory() {
+        return new DialectFactory() {
+
+            @Override
+            public Dialect createDialect(DialectInitData init) {
+                return (Dialect) Proxy.newProxyInstance(DialectRegistryTest.class.getClassLoader(),
+                        new Class<?>[] { Dialect.class }, (proxy, method, args) -> {
+                            if ("toString".equals(method.getName())) {
+                                return init.productName();
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                        });
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        DialectRegistry.invalidateAll();
+    }
+
+    @Test
+    void dialect_isResolvedOncePerDataSourceAndFactory() throws SQLException {
+        DataSource ds = dataSource();
+        DialectFactory factory = factory();
+
+        Dialect first = DialectRegistry.dialect(ds, factory);
+        Dialect second = DialectRegistry.dialect(ds, factory);
+
+        assertThat(second).isSameAs(first);
+        assertThat(DialectRegistry.initData(ds).productName()).isEqualTo("H2");
+        assertThat(connections).hasValue(1);
+        assertThat(DialectRegistry.dialect(ds, factory())).isNotSameAs(first);
+    }
+
+    @Test
+    void initData_isSharedByDataSourcesOfOneUrl() throws SQLException {
+        DataSource a = dataSource();
+        DataSource b = dataSource();
+
+        DialectInitData fromA = DialectRegistry.initData(a);
+
+        assertThat(DialectRegistry.initData(b)).isSameAs(fromA);
+        assertThat(factory().createDialect(b)).isNotSameAs(factory().createDialect(b));
+        // b borrows one connection to learn its URL, then reuses a's snapshot
+        assertThat(connections).hasValue(2);
+    }
+
+    @Test
+    void invalidate_readsTheSnapshotAgain() throws SQLException {
+        DataSource ds = dataSource();
+        DialectInitData before = DialectRegistry.initData(ds);
+
+        DialectRegistry.invalidate(ds);
+        DialectInitData afterDataSource = DialectRegistry.initData(ds);
+        DialectRegistry.invalidate(url);
+        DialectInitData afterUrl = DialectRegistry.initData(ds);
+
+        assertThat(afterDataSource).isEqualTo(before).isNotSameAs(before);
+        assertThat(afterUrl).isEqualTo(before).isNotSameAs(afterDataSource);
+        assertThat(connections).hasValue(3);
+    }
+
+    @Test
+    void invalidateFactory_buildsItsDialectsAgain() throws SQLException {
+        DataSource ds = dataSource();
+        DialectFactory factory = factory();
+        DialectFactory other = factory();
+        Dialect first = DialectRegistry.dialect(ds, factory);
+        Dialect kept = DialectRegistry.dialect(ds, other);
+
+        DialectRegistry.invalidate(factory);
+
+        assertThat(DialectRegistry.dialect(ds, factory)).isNotSameAs(first);
+        assertThat(DialectRegistry.dialect(ds, other)).isSameAs(kept);
+        assertThat(connections).hasValue(1);
+    }
+}
@@ -84,6 +84,21 @@ public class DerbyDialect extends AbstractJdbcDialect {
         return false;
     }
 
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
+    /**
+     * Derby escalates a transaction's row locks to a table lock past
+     * {@code derby.locks.escalationThreshold} (5000 rows by default), after which
+     * concurrent loaders into the same table wait on each other or time out.
+     */
+    @Override
+    public boolean supportsParallelLoading() {
+        return false;
+    }
+
     @Override
     public boolean supportsDropTableIfExists() {
         return false;
@@ -54,6 +54,7 @@ public class DuckDbDialect extends AbstractJdbcDialect {
     private static final String SUPPORTED_PRODUCT_NAME = "DUCKDB";
 
     private volatile org.eclipse.daanse.sql.dialect.api.generator.PaginationGenerator cachedPaginationGenerator;
+    private volatile org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator cachedBulkLoadGenerator;
 
     /** JDBC-free constructor for SQL generation. */
     public DuckDbDialect() {
@@ -161,6 +162,12 @@ public class DuckDbDialect extends AbstractJdbcDialect {
         return true;
     }
 
+    /** DuckDB runs DDL inside transactions. */
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
     /** DuckDB supports {@code ORDER BY ... NULLS FIRST/LAST} natively. */
     @Override
     protected boolean supportsNullsOrdering() {
@@ -203,4 +210,51 @@ public class DuckDbDialect extends AbstractJdbcDialect {
         return local;
     }
 
+    /**
+     * DuckDB: {@code COPY t (...) FROM file (FORMAT csv, ...)}, read by the
+     * engine's own CSV reader. The reader takes UTF-8 only.
+     */
+    @Override
+    public org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator bulkLoadGenerator() {
+        var local = cachedBulkLoadGenerator;
+        if (local != null)
+            return local;
+        local = new org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator() {
+            @Override
+            public boolean supportsBulkLoad() {
+                return true;
+            }
+
+            @Override
+            public Optional<BulkLoad> bulkLoad(org.eclipse.daanse.sql.model.schema.TableReference table,
+                    java.util.List<String> columns, String file, CsvFormat format) {
+                if (!java.nio.charset.StandardCharsets.UTF_8.name().equalsIgnoreCase(format.encoding())
+                        && !"UTF8".equalsIgnoreCase(format.encoding())) {
+                    return Optional.empty();
+                }
+                StringBuilder sb = new StringBuilder("COPY ").append(qualified(table)).append(" (");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0)
+                        sb.append(", ");
+                    sb.append(quoteIdentifier(columns.get(i)));
+                }
+                sb.append(") FROM ");
+                quoteStringLiteral(sb, file);
+                sb.append(" (FORMAT csv, HEADER false, SKIP ").append(format.headerRecords()).append(", DELIMITER ");
+                quoteStringLiteral(sb, String.valueOf(format.fieldSeparator()));
+                sb.append(", QUOTE ");
+                quoteStringLiteral(sb, String.valueOf(format.quoteCharacter()));
+                sb.append(", ESCAPE ");
+                quoteStringLiteral(sb, String.valueOf(format.quoteCharacter()));
+                if (!format.nullValue().isEmpty()) {
+                    sb.append(", NULLSTR ");
+                    quoteStringLiteral(sb, format.nullValue());
+                }
+                sb.append(")");
+                return Optional.of(new BulkLoad(sb.toString(), Transfer.STATEMENT));
+            }
+        };
+        cachedBulkLoadGenerator = local;
+        return local;
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.dialect.db.duckdb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.BulkLoad;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.CsvFormat;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.Transfer;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DuckDbBulkLoadTest {
+
+    private final DuckDbDialect dialect = new DuckDbDialect();
+
+    @Test
+    void copy_loadsDataRecordsAfterHeaderAndTypeRow(@TempDir Path dir) throws Exception {
+        Path csv = dir.resolve("item.csv");
+        Files.writeString(csv, """
+                id,name
+                INTEGER,VARCHAR
+                1,"a, b"
+                2,"two
+                lines"
+                3,NULL
+                """, StandardCharsets.UTF_8);
+        TableReference table = new TableReference(Optional.empty(), "item", TableReference.TYPE_TABLE);
+
+        BulkLoad load = dialect.bulkLoadGenerator()
+                .bulkLoad(table, List.of("id", "name"), csv.toAbsolutePath().toString(),
+                        new CsvFormat(',', '"', "NULL", 2, "UTF-8"))
+                .orElseThrow();
+
+        assertEquals(Transfer.STATEMENT, load.transfer());
+        try (Connection connection = DriverManager.getConnection("jdbc:duckdb:");
+                Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE \"item\" (\"id\" INTEGER, \"name\" VARCHAR(20))");
+            assertEquals(3, stmt.executeUpdate(load.sql()));
+            try (ResultSet rs = stmt.executeQuery("SELECT \"id\", \"name\" FROM \"item\" ORDER BY \"id\"")) {
+                assertTrue(rs.next());
+                assertEquals("a, b", rs.getString(2));
+                assertTrue(rs.next());
+                assertEquals("two\nlines", rs.getString(2));
+                assertTrue(rs.next());
+                assertNull(rs.getString(2));
+                assertFalse(rs.next());
+            }
+        }
+    }
+}
@@ -21,4 +21,10 @@ class DuckDbDialectCapabilitiesTest {
         // row limit must be inlined as LIMIT n (same treatment as ClickHouse).
         assertTrue(new DuckDbDialect().requiresDrillthroughMaxRowsInLimit());
     }
+
+    @Test
+    void ddlIsTransactional() {
+        // the CSV importer's staging load swaps tables by renames in one transaction
+        assertTrue(new DuckDbDialect().supportsTransactionalDdl());
+    }
 }
@@ -28,6 +28,8 @@ public class H2Dialect extends AbstractJdbcDialect {
 
     private static final String SUPPORTED_PRODUCT_NAME = "H2";
 
+    private volatile org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator cachedBulkLoadGenerator;
+
     /** JDBC-free constructor for SQL generation. */
     public H2Dialect() {
         super(org.eclipse.daanse.sql.dialect.api.DialectInitData.ansiDefaults());
@@ -148,4 +150,70 @@ public class H2Dialect extends AbstractJdbcDialect {
     public boolean supportsListAgg() {
         return true;
     }
+
+    /**
+     * H2: {@code INSERT INTO t (...) SELECT * FROM CSVREAD(file, NULL, options)}.
+     * {@code CSVREAD} names the columns after the first record; further header
+     * records are skipped with {@code OFFSET}. The options are space-separated, so
+     * a separator or null text containing a space has no native form.
+     */
+    @Override
+    public org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator bulkLoadGenerator() {
+        var local = cachedBulkLoadGenerator;
+        if (local != null)
+            return local;
+        local = new org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator() {
+            @Override
+            public boolean supportsBulkLoad() {
+                return true;
+            }
+
+            @Override
+            public Optional<BulkLoad> bulkLoad(org.eclipse.daanse.sql.model.schema.TableReference table,
+                    List<String> columns, String file, CsvFormat format) {
+                if (format.headerRecords() == 0 || format.fieldSeparator() == ' ' || format.quoteCharacter() == ' '
+                        || format.nullValue().contains(" ")) {
+                    return Optional.empty();
+                }
+                StringBuilder options = new StringBuilder("charset=").append(format.encoding())
+                        .append(" fieldSeparator=").append(format.fieldSeparator()).append(" fieldDelimiter=")
+                        .append(format.quoteCharacter()).append(" escape=").append(format.quoteCharacter());
+                if (!format.nullValue().isEmpty()) {
+                    options.append(" nullString=").append(format.nullValue());
+                }
+                StringBuilder sb = new StringBuilder("INSERT INTO ").append(qualified(table)).append(" (");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0)
+                        sb.append(", ");
+                    sb.append(quoteIdentifier(columns.get(i)));
+                }
+                sb.append(") SELECT * FROM CSVREAD(");
+                quoteStringLiteral(sb, file);
+                sb.append(", NULL, ");
+                quoteStringLiteral(sb, options.toString());
+                sb.append(")");
+                if (format.headerRecords() > 1) {
+                    sb.append(" OFFSET ").append(format.headerRecords() - 1).append(" ROWS");
+                }
+                return Optional.of(new BulkLoad(sb.toString(), Transfer.STATEMENT));
+            }
+        };
+        cachedBulkLoadGenerator = local;
+        return local;
+    }
+
+    /**
+     * H2: {@code SET REFERENTIAL_INTEGRITY FALSE} for the loaded table only, the
+     * database-wide form would affect every connection.
+     */
+    @Override
+    public List<String> beginBulkLoad(org.eclipse.daanse.sql.model.schema.TableReference table) {
+        return List.of("ALTER TABLE " + qualified(table) + " SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    /** H2: enables referential integrity again and checks the loaded rows. */
+    @Override
+    public List<String> endBulkLoad(org.eclipse.daanse.sql.model.schema.TableReference table) {
+        return List.of("ALTER TABLE " + qualified(table) + " SET REFERENTIAL_INTEGRITY TRUE CHECK");
+    }
 }
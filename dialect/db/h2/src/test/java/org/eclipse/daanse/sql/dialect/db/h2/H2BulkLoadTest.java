@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.dialect.db.h2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.BulkLoad;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.CsvFormat;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator.Transfer;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class H2BulkLoadTest {
+
+    private final H2Dialect dialect = new H2Dialect();
+
+    @Test
+    void csvread_loadsDataRecordsAfterHeaderAndTypeRow(@TempDir Path dir) throws Exception {
+        Path csv = dir.resolve("item.csv");
+        Files.writeString(csv, """
+                id,name
+                INTEGER,VARCHAR
+                1,"a, b"
+                2,"two
+                lines"
+                3,NULL
+                """, StandardCharsets.UTF_8);
+        TableReference table = new TableReference(Optional.empty(), "item", TableReference.TYPE_TABLE);
+
+        BulkLoad load = dialect.bulkLoadGenerator()
+                .bulkLoad(table, List.of("id", "name"), csv.toAbsolutePath().toString(),
+                        new CsvFormat(',', '"', "NULL", 2, "UTF-8"))
+                .orElseThrow();
+
+        assertEquals(Transfer.STATEMENT, load.transfer());
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:bulkLoad", "sa", "");
+                Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE \"item\" (\"id\" INTEGER, \"name\" VARCHAR(20))");
+            assertEquals(3, stmt.executeUpdate(load.sql()));
+            try (ResultSet rs = stmt.executeQuery("SELECT \"id\", \"name\" FROM \"item\" ORDER BY \"id\"")) {
+                assertTrue(rs.next());
+                assertEquals("a, b", rs.getString(2));
+                assertTrue(rs.next());
+                assertEquals("two\nlines", rs.getString(2));
+                assertTrue(rs.next());
+                assertNull(rs.getString(2));
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    void csvread_needsTheHeaderRecord() {
+        TableReference table = new TableReference(Optional.empty(), "item", TableReference.TYPE_TABLE);
+
+        assertTrue(dialect.bulkLoadGenerator()
+                .bulkLoad(table, List.of("id"), "/tmp/item.csv", new CsvFormat(',', '"', "", 0, "UTF-8")).isEmpty());
+    }
+
+    @Test
+    void bulkLoadSession_checksReferencesAfterTheLoad() throws Exception {
+        TableReference child = new TableReference(Optional.empty(), "child", TableReference.TYPE_TABLE);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:bulkLoadSession", "sa", "");
+                Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE \"parent\" (\"id\" INTEGER PRIMARY KEY)");
+            stmt.execute("CREATE TABLE \"child\" (\"parent_id\" INTEGER REFERENCES \"parent\"(\"id\"))");
+            for (String sql : dialect.beginBulkLoad(child)) {
+                stmt.execute(sql);
+            }
+
+            stmt.execute("INSERT INTO \"child\" VALUES (1)");
+
+            assertThrows(SQLException.class, () -> {
+                for (String sql : dialect.endBulkLoad(child)) {
+                    stmt.execute(sql);
+                }
+            });
+            stmt.execute("INSERT INTO \"parent\" VALUES (1)");
+            for (String sql : dialect.endBulkLoad(child)) {
+                stmt.execute(sql);
+            }
+            assertThrows(SQLException.class, () -> stmt.execute("INSERT INTO \"child\" VALUES (2)"));
+        }
+    }
+}
@@ -53,6 +53,7 @@ public class MicrosoftSqlServerDialect extends AbstractJdbcDialect {
     private volatile org.eclipse.daanse.sql.dialect.api.generator.ReturningGenerator cachedReturningGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator cachedMergeGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.CteGenerator cachedCteGenerator;
+    private volatile org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator cachedBulkLoadGenerator;
 
     public MicrosoftSqlServerDialect() {
         super(org.eclipse.daanse.sql.dialect.api.DialectInitData.ansiDefaults());
@@ -211,6 +212,11 @@ public class MicrosoftSqlServerDialect extends AbstractJdbcDialect {
         return false;
     }
 
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
     /** SQL Server rejects {@code IF NOT EXISTS} on {@code CREATE TABLE}. */
     @Override
     public boolean supportsCreateTableIfNotExists() {
@@ -646,4 +652,60 @@ public class MicrosoftSqlServerDialect extends AbstractJdbcDialect {
             sb.append(", '").append(objectType).append("'");
         return sb.toString();
     }
+
+    /**
+     * SQL Server 2017 and later: {@code BULK INSERT t FROM file WITH (FORMAT = 'CSV', ...)}.
+     * The server reads the file, so the path must be visible to it. Fields map to
+     * the table's columns by position; {@code BULK INSERT} knows no null text, only
+     * empty fields load as {@code NULL} ({@code KEEPNULLS}).
+     */
+    @Override
+    public org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator bulkLoadGenerator() {
+        if (!dialectVersion.isUnknownOrAtLeast(14, 0)) {
+            return super.bulkLoadGenerator();
+        }
+        var local = cachedBulkLoadGenerator;
+        if (local != null)
+            return local;
+        local = new org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator() {
+            @Override
+            public boolean supportsBulkLoad() {
+                return true;
+            }
+
+            @Override
+            public Optional<BulkLoad> bulkLoad(TableReference table, List<String> columns, String file,
+                    CsvFormat format) {
+                boolean utf8 = "UTF-8".equalsIgnoreCase(format.encoding()) || "UTF8".equalsIgnoreCase(format.encoding());
+                if (!utf8 || !format.nullValue().isEmpty()) {
+                    return Optional.empty();
+                }
+                StringBuilder sb = new StringBuilder("BULK INSERT ").append(qualified(table)).append(" FROM ");
+                quoteStringLiteral(sb, file);
+                sb.append(" WITH (FORMAT = 'CSV', FIRSTROW = ").append(format.headerRecords() + 1)
+                        .append(", FIELDTERMINATOR = ");
+                quoteStringLiteral(sb, String.valueOf(format.fieldSeparator()));
+                sb.append(", FIELDQUOTE = ");
+                quoteStringLiteral(sb, String.valueOf(format.quoteCharacter()));
+                sb.append(", ROWTERMINATOR = '0x")
+                        .append(format.lineSeparator().replace("\r", "0d").replace("\n", "0a"))
+                        .append("', CODEPAGE = '65001', KEEPNULLS, TABLOCK)");
+                return Optional.of(new BulkLoad(sb.toString(), Transfer.STATEMENT));
+            }
+        };
+        cachedBulkLoadGenerator = local;
+        return local;
+    }
+
+    /** SQL Server: stops checking the table's foreign key and check constraints. */
+    @Override
+    public List<String> beginBulkLoad(TableReference table) {
+        return List.of("ALTER TABLE " + qualified(table) + " NOCHECK CONSTRAINT ALL");
+    }
+
+    /** SQL Server: validates the constraints again. */
+    @Override
+    public List<String> endBulkLoad(TableReference table) {
+        return List.of("ALTER TABLE " + qualified(table) + " WITH CHECK CHECK CONSTRAINT ALL");
+    }
 }
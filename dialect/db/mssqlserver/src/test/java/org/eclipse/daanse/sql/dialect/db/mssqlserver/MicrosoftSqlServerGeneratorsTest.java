@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.KnownFunction;
 import org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.StatementHint;
@@ -133,4 +134,25 @@ class MicrosoftSqlServerGeneratorsTest {
         assertThatThrownBy(() -> d.functionGenerator().generateKnownFunction(KnownFunction.NOW, List.of("x")))
                 .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("NOW");
     }
+
+    @Test
+    void bulk_load_bulk_insert_utf8_only() {
+        BulkLoadGenerator.BulkLoad load = d.bulkLoadGenerator().bulkLoad(table("dbo", "USERS"), List.of("ID", "NAME"),
+                "C:\\data\\users.csv", new BulkLoadGenerator.CsvFormat(',', '"', "", 2, "UTF-8")).orElseThrow();
+        assertThat(load.sql()).startsWith("BULK INSERT \"dbo\".\"USERS\" FROM 'C:\\data\\users.csv'")
+                .contains("FIRSTROW = 3").contains("ROWTERMINATOR = '0x0a'").contains("CODEPAGE = '65001'");
+        assertThat(d.bulkLoadGenerator().bulkLoad(table("dbo", "USERS"), List.of("ID"), "C:\\data\\users.csv",
+                new BulkLoadGenerator.CsvFormat(',', '"', "", 2, "UTF-8", "\r\n")).orElseThrow().sql())
+                .contains("ROWTERMINATOR = '0x0d0a'");
+        assertThat(d.bulkLoadGenerator().bulkLoad(table("dbo", "USERS"), List.of("ID"), "C:\\data\\users.csv",
+                new BulkLoadGenerator.CsvFormat(',', '"', "NULL", 2, "UTF-8"))).isEmpty();
+    }
+
+    @Test
+    void bulk_load_session_sets_constraint_checks_aside() {
+        assertThat(d.beginBulkLoad(table("dbo", "USERS")))
+                .containsExactly("ALTER TABLE \"dbo\".\"USERS\" NOCHECK CONSTRAINT ALL");
+        assertThat(d.endBulkLoad(table("dbo", "USERS")))
+                .containsExactly("ALTER TABLE \"dbo\".\"USERS\" WITH CHECK CHECK CONSTRAINT ALL");
+    }
 }
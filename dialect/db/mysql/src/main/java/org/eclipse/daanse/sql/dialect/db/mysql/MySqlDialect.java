@@ -53,6 +53,7 @@ public class MySqlDialect extends AbstractJdbcDialect {
     private volatile org.eclipse.daanse.sql.dialect.api.generator.PaginationGenerator cachedPaginationGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator cachedMergeGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.CteGenerator cachedCteGenerator;
+    private volatile org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator cachedBulkLoadGenerator;
 
     /** JDBC-free constructor for SQL generation. Uses MySQL backtick quoting. */
     public MySqlDialect() {
@@ -611,4 +612,64 @@ public class MySqlDialect extends AbstractJdbcDialect {
             return org.eclipse.daanse.sql.dialect.api.DialectInitData.ansiDefaults();
         }
     }
+
+    /**
+     * MySQL and MariaDB: {@code LOAD DATA LOCAL INFILE}; the driver reads the file
+     * and sends it to the server, which requires {@code allowLoadLocalInfile} on
+     * the connection and {@code local_infile} on the server. Each field goes
+     * through a user variable so that {@code NULLIF} can map the null text.
+     */
+    @Override
+    public org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator bulkLoadGenerator() {
+        var local = cachedBulkLoadGenerator;
+        if (local != null)
+            return local;
+        local = new org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator() {
+            @Override
+            public boolean supportsBulkLoad() {
+                return true;
+            }
+
+            @Override
+            public Optional<BulkLoad> bulkLoad(TableReference table, List<String> columns, String file,
+                    CsvFormat format) {
+                String charset = switch (format.encoding().toUpperCase(java.util.Locale.ROOT)) {
+                case "UTF-8", "UTF8" -> "utf8mb4";
+                case "ISO-8859-1", "ISO_8859_1" -> "latin1";
+                case "US-ASCII", "US_ASCII" -> "ascii";
+                default -> null;
+                };
+                if (charset == null) {
+                    return Optional.empty();
+                }
+                StringBuilder sb = new StringBuilder("LOAD DATA LOCAL INFILE ");
+                quoteStringLiteral(sb, file);
+                sb.append(" INTO TABLE ").append(qualified(table)).append(" CHARACTER SET ").append(charset)
+                        .append(" FIELDS TERMINATED BY ");
+                quoteStringLiteral(sb, String.valueOf(format.fieldSeparator()));
+                sb.append(" OPTIONALLY ENCLOSED BY ");
+                quoteStringLiteral(sb, String.valueOf(format.quoteCharacter()));
+                sb.append(" ESCAPED BY '' LINES TERMINATED BY '")
+                        .append(format.lineSeparator().replace("\r", "\\r").replace("\n", "\\n"))
+                        .append("' IGNORE ").append(format.headerRecords())
+                        .append(" LINES (");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0)
+                        sb.append(", ");
+                    sb.append("@v").append(i);
+                }
+                sb.append(") SET ");
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0)
+                        sb.append(", ");
+                    sb.append(quoteIdentifier(columns.get(i))).append(" = NULLIF(@v").append(i).append(", ");
+                    quoteStringLiteral(sb, format.nullValue());
+                    sb.append(")");
+                }
+                return Optional.of(new BulkLoad(sb.toString(), Transfer.STATEMENT));
+            }
+        };
+        cachedBulkLoadGenerator = local;
+        return local;
+    }
 }
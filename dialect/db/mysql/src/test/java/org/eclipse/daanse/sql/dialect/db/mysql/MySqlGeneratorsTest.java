@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.util.List;
 import java.util.OptionalLong;
 
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.KnownFunction;
 import org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.StatementHint;
@@ -117,4 +118,17 @@ class MySqlGeneratorsTest {
         assertThatThrownBy(() -> d.functionGenerator().generateKnownFunction(KnownFunction.INDEX_OF, List.of("n")))
                 .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("INDEX_OF");
     }
+
+    @Test
+    void bulk_load_load_data_local_infile() {
+        BulkLoadGenerator.BulkLoad load = d.bulkLoadGenerator().bulkLoad(table("db", "USERS"), List.of("ID", "NAME"),
+                "/data/users.csv", new BulkLoadGenerator.CsvFormat(',', '"', "NULL", 2, "UTF-8")).orElseThrow();
+        assertThat(load.sql()).startsWith("LOAD DATA LOCAL INFILE '/data/users.csv' INTO TABLE")
+                .contains("LINES TERMINATED BY '\\n' IGNORE 2 LINES").contains("NULLIF(@v1, 'NULL')");
+        assertThat(d.bulkLoadGenerator().bulkLoad(table("db", "USERS"), List.of("ID"), "/data/users.csv",
+                new BulkLoadGenerator.CsvFormat(',', '"', "", 2, "UTF-8", "\r\n")).orElseThrow().sql())
+                .contains("LINES TERMINATED BY '\\r\\n' IGNORE 2 LINES");
+        assertThat(d.bulkLoadGenerator().bulkLoad(table("db", "USERS"), List.of("ID"), "/data/users.csv",
+                new BulkLoadGenerator.CsvFormat(',', '"', "", 2, "UTF-16"))).isEmpty();
+    }
 }
@@ -52,6 +52,7 @@ public class PostgreSqlDialect extends AbstractJdbcDialect {
     private volatile org.eclipse.daanse.sql.dialect.api.generator.PaginationGenerator cachedPaginationGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.ReturningGenerator cachedReturningGenerator;
     private volatile org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator cachedMergeGenerator;
+    private volatile org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator cachedBulkLoadGenerator;
 
     /** JDBC-free constructor for SQL generation. */
     public PostgreSqlDialect() {
@@ -76,6 +77,11 @@ public class PostgreSqlDialect extends AbstractJdbcDialect {
         return dialectVersion.atLeast(14, 0);
     }
 
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
     /** PostgreSQL: {@code LIMIT n OFFSET m} — both clauses optional. */
     @Override
     public org.eclipse.daanse.sql.dialect.api.generator.PaginationGenerator paginationGenerator() {
@@ -378,4 +384,65 @@ public class PostgreSqlDialect extends AbstractJdbcDialect {
     public boolean supportsNthValue() {
         return true;
     }
+
+    /**
+     * PostgreSQL: {@code COPY t (...) FROM STDIN (FORMAT csv, ...)}, fed through the
+     * driver's {@code CopyManager}. The client streams the file, so it needs no
+     * access to the server's file system.
+     */
+    @Override
+    public org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator bulkLoadGenerator() {
+        var local = cachedBulkLoadGenerator;
+        if (local != null)
+            return local;
+        local = new org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator() {
+            @Override
+            public boolean supportsBulkLoad() {
+                return true;
+            }
+
+            @Override
+            public Optional<BulkLoad> bulkLoad(TableReference table, List<String> columns, String file,
+                    CsvFormat format) {
+                StringBuilder sb = new StringBuilder("COPY ").append(qualified(table)).append(" (");
+                appendQuotedCsv(sb, columns);
+                sb.append(") FROM STDIN (FORMAT csv, DELIMITER ");
+                quoteStringLiteral(sb, String.valueOf(format.fieldSeparator()));
+                sb.append(", QUOTE ");
+                quoteStringLiteral(sb, String.valueOf(format.quoteCharacter()));
+                sb.append(", NULL ");
+                quoteStringLiteral(sb, format.nullValue());
+                sb.append(", ENCODING ");
+                quoteStringLiteral(sb, format.encoding());
+                sb.append(")");
+                return Optional.of(new BulkLoad(sb.toString(), Transfer.COPY_IN));
+            }
+        };
+        cachedBulkLoadGenerator = local;
+        return local;
+    }
+
+    /**
+     * PostgreSQL 9.5 and later: {@code CREATE UNLOGGED TABLE}, so the load writes
+     * no WAL; {@link #endBulkLoad(TableReference)} turns it into a regular table.
+     */
+    @Override
+    public String createTableForBulkLoad(TableReference table,
+            List<org.eclipse.daanse.sql.model.schema.ColumnDefinition> columns,
+            org.eclipse.daanse.sql.model.schema.PrimaryKey primaryKey, boolean ifNotExists) {
+        String sql = createTable(table, columns, primaryKey, ifNotExists);
+        if (!dialectVersion.isUnknownOrAtLeast(9, 5) || !sql.startsWith("CREATE TABLE ")) {
+            return sql;
+        }
+        return "CREATE UNLOGGED TABLE " + sql.substring("CREATE TABLE ".length());
+    }
+
+    /** PostgreSQL: {@code ALTER TABLE t SET LOGGED}; a no-op on a logged table. */
+    @Override
+    public List<String> endBulkLoad(TableReference table) {
+        if (!dialectVersion.isUnknownOrAtLeast(9, 5)) {
+            return List.of();
+        }
+        return List.of("ALTER TABLE " + qualified(table) + " SET LOGGED");
+    }
 }
@@ -17,6 +17,7 @@ import static org.eclipse.daanse.sql.dialect.db.testsupport.GeneratorTestSupport
 import java.util.List;
 import java.util.OptionalLong;
 
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator;
 import org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator;
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +63,23 @@ class PostgreSqlGeneratorsTest {
         String sql = d.mergeGenerator().upsert(spec, List.of("1", "'foo'")).orElseThrow();
         assertThat(sql).contains("ON CONFLICT (\"ID\") DO NOTHING");
     }
+
+    @Test
+    void bulk_load_copy_from_stdin() {
+        BulkLoadGenerator.BulkLoad load = d.bulkLoadGenerator().bulkLoad(table("public", "USERS"),
+                List.of("ID", "NAME"), "/data/users.csv", new BulkLoadGenerator.CsvFormat(',', '"', "NULL", 2, "UTF-8"))
+                .orElseThrow();
+        assertThat(load.transfer()).isEqualTo(BulkLoadGenerator.Transfer.COPY_IN);
+        assertThat(load.sql()).startsWith("COPY \"public\".\"USERS\" (\"ID\", \"NAME\") FROM STDIN")
+                .contains("FORMAT csv").contains("NULL 'NULL'");
+    }
+
+    @Test
+    void bulk_load_session_unlogged_table() {
+        assertThat(d.createTableForBulkLoad(table("public", "USERS"), List.of(), null, true))
+                .startsWith("CREATE UNLOGGED TABLE IF NOT EXISTS \"public\".\"USERS\"");
+        assertThat(d.beginBulkLoad(table("public", "USERS"))).isEmpty();
+        assertThat(d.endBulkLoad(table("public", "USERS")))
+                .containsExactly("ALTER TABLE \"public\".\"USERS\" SET LOGGED");
+    }
 }
@@ -67,6 +67,20 @@ public class SqliteDialect extends AbstractJdbcDialect {
         return false;
     }
 
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
+    /**
+     * SQLite has a single writer per database file: concurrent loaders only wait on
+     * each other's locks or fail with {@code SQLITE_BUSY}.
+     */
+    @Override
+    public boolean supportsParallelLoading() {
+        return false;
+    }
+
     /**
      * SQLite does not support the ANSI derived-column-list aliasing
      * {@code (VALUES ...) AS t (c1, c2)} ("near \"(\": syntax error"); inline
@@ -241,4 +255,28 @@ public class SqliteDialect extends AbstractJdbcDialect {
         return local;
     }
 
+    /** SQLite: reads {@code PRAGMA synchronous}, the level as a number. */
+    @Override
+    public java.util.List<String> bulkLoadSettings() {
+        return java.util.List.of("PRAGMA synchronous");
+    }
+
+    /**
+     * SQLite: {@code PRAGMA synchronous = OFF}, the load does not wait for the disk
+     * on each commit. The pragma holds for the connection, not the table.
+     */
+    @Override
+    public java.util.List<String> beginBulkLoadSession() {
+        return java.util.List.of("PRAGMA synchronous = OFF");
+    }
+
+    /**
+     * SQLite: restores the {@code synchronous} level read before the load, or
+     * the default {@code FULL} when none was read.
+     */
+    @Override
+    public java.util.List<String> endBulkLoadSession(java.util.List<String> settings) {
+        String level = settings.isEmpty() || settings.get(0) == null ? "" : settings.get(0).strip();
+        return java.util.List.of("PRAGMA synchronous = " + (level.matches("[0-3]") ? level : "FULL"));
+    }
 }
@@ -84,4 +84,26 @@ class SqliteGeneratorsRoundTripTest {
         String returning = dialect.returningGenerator().returning(List.of("id")).orElseThrow();
         assertFirstIntEquals(conn, "INSERT INTO \"users\" (id, name) VALUES (99, 'returned')" + returning, 99);
     }
+
+    @Test
+    void bulk_load_session_restores_the_synchronous_level() throws SQLException {
+        try (Statement s = conn.createStatement()) {
+            s.execute("PRAGMA synchronous = NORMAL");
+            List<String> settings = new java.util.ArrayList<>();
+            for (String sql : dialect.bulkLoadSettings()) {
+                try (java.sql.ResultSet rs = s.executeQuery(sql)) {
+                    rs.next();
+                    settings.add(rs.getString(1));
+                }
+            }
+            for (String sql : dialect.beginBulkLoadSession()) {
+                s.execute(sql);
+            }
+            assertFirstIntEquals(conn, "PRAGMA synchronous", 0);
+            for (String sql : dialect.endBulkLoadSession(settings)) {
+                s.execute(sql);
+            }
+            assertFirstIntEquals(conn, "PRAGMA synchronous", 1);
+        }
+    }
 }
@@ -17,6 +17,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
@@ -25,6 +26,7 @@ import org.eclipse.daanse.sql.model.schema.CatalogReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.FunctionColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
@@ -40,6 +42,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.SuperTable;
 import org.eclipse.daanse.sql.jdbc.api.schema.SuperType;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
@@ -56,6 +59,38 @@ public interface MetadataProvider {
     MetadataProvider EMPTY = new MetadataProvider() {
     };
 
+    /**
+     * @return the scope this provider pushes into its catalog queries
+     */
+    default MetadataScope scope() {
+        return MetadataScope.ALL;
+    }
+
+    /**
+     * Returns a provider whose {@code getAll*} queries are restricted to the given
+     * scope's table patterns. Providers that cannot filter return {@code this}; the
+     * caller then filters the rows itself via {@link MetadataScope#matchesTable}.
+     *
+     * @param scope the scope to apply
+     * @return a scoped provider, or {@code this}
+     */
+    default MetadataProvider withScope(MetadataScope scope) {
+        return this;
+    }
+
+    /**
+     * Cheap single-row summary of the catalog (object counts plus the latest DDL
+     * marker the engine exposes). Two equal fingerprints mean a persisted snapshot
+     * can be reused without re-reading the catalog.
+     *
+     * @return the fingerprint, or Optional.empty() when the engine offers no cheap
+     *         way to detect DDL changes
+     * @throws SQLException on database access error
+     */
+    default Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        return Optional.empty();
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @return the index info list, or Optional.empty() to fall back to standard
@@ -135,6 +170,32 @@ public interface MetadataProvider {
         return List.of();
     }
 
+    /**
+     * Optimizer statistics of every table in the schema, read from the engine's
+     * catalog without touching table data; no JDBC equivalent exists.
+     *
+     * @param catalog the catalog name, or null
+     * @return the statistics — empty when the engine keeps none or the loader is
+     *         not implemented for this dialect
+     * @throws SQLException on database access error
+     */
+    default List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return List.of();
+    }
+
+    /**
+     * Optimizer statistics of every column in the schema; see
+     * {@link #getAllTableStatistics(Connection, String, String)}.
+     *
+     * @param catalog the catalog name, or null
+     * @throws SQLException on database access error
+     */
+    default List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return List.of();
+    }
+
     /**
      * @param catalog the catalog name, or null
      * @param table   the table name (must not be null)
@@ -271,6 +332,26 @@ public interface MetadataProvider {
         return Optional.empty();
     }
 
+    /**
+     * Streaming form of
+     * {@link #getAllColumnDefinitions(Connection, String, String, String, String)}:
+     * rows are handed to {@code sink} as they are read. The default implementation
+     * delegates to the list form; providers with a bulk column query override it
+     * so a catalog walk does not buffer every column.
+     *
+     * @return false when the provider has no bulk column query and the caller
+     *         should fall back to standard JDBC
+     * @throws SQLException on database access error
+     */
+    default boolean visitAllColumnDefinitions(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, Consumer<? super ColumnDefinition> sink)
+            throws SQLException {
+        Optional<List<ColumnDefinition>> columns = getAllColumnDefinitions(connection, catalog, schemaPattern,
+                tableNamePattern, columnNamePattern);
+        columns.ifPresent(list -> list.forEach(sink));
+        return columns.isPresent();
+    }
+
     /** Bulk alternative to {@link java.sql.DatabaseMetaData#getTypeInfo()}. */
     default Optional<List<TypeInfo>> getAllTypeInfo(Connection connection) throws SQLException {
         return Optional.empty();
@@ -368,6 +449,18 @@ public interface MetadataProvider {
         return Optional.empty();
     }
 
+    /**
+     * Schema-wide alternative to
+     * {@link java.sql.DatabaseMetaData#getColumnPrivileges(String, String, String, String)}:
+     * one query for every table instead of one per table. Empty when the provider
+     * cannot read them in bulk; callers then fall back to
+     * {@link #getColumnPrivileges(Connection, String, String, String, String)}.
+     */
+    default Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        return Optional.empty();
+    }
+
     /**
      * Per-table alternative to
      * {@link java.sql.DatabaseMetaData#getColumnPrivileges(String, String, String, String)}.
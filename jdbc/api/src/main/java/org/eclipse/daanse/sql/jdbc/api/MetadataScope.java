@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Restricts which part of the catalog a {@link SnapshotBuilder} reads. Patterns use
+ * the SQL {@code LIKE} syntax ({@code %} and {@code _}, {@code \} as escape) so
+ * that {@link MetadataProvider} implementations can push them straight into the
+ * {@code WHERE} clause of their catalog queries; an empty include list means
+ * "everything". Excludes win over includes.
+ * <p>
+ * {@link #like} compares case-sensitively. In the catalog queries case follows
+ * the collation of the database: MySQL, MariaDB, SQL Server and SQLite compare
+ * names case-insensitively by default, so a pattern may match more there than
+ * the Java filter would.
+ *
+ * @param schemaIncludes schema name patterns to read, empty for all
+ * @param schemaExcludes schema name patterns to skip
+ * @param tableIncludes  table name patterns to read, empty for all
+ * @param tableExcludes  table name patterns to skip
+ * @param skippedKinds   object kinds that are not read at all
+ */
+public record MetadataScope(List<String> schemaIncludes, List<String> schemaExcludes, List<String> tableIncludes,
+        List<String> tableExcludes, Set<ObjectKind> skippedKinds) {
+
+    /**
+     * Object kinds that can be skipped wholesale. Tables and columns are always read.
+     */
+    public enum ObjectKind {
+        INDEXES, PRIMARY_KEYS, IMPORTED_KEYS, TRIGGERS, SEQUENCES, CHECK_CONSTRAINTS, UNIQUE_CONSTRAINTS,
+        USER_DEFINED_TYPES, VIEW_DEFINITIONS, PROCEDURES, FUNCTIONS, MATERIALIZED_VIEWS, PARTITIONS, PRIVILEGES,
+        STATISTICS
+    }
+
+    /** Unrestricted scope — the behaviour of a snapshot without a scope. */
+    public static final MetadataScope ALL = new MetadataScope(List.of(), List.of(), List.of(), List.of(), Set.of());
+
+    public MetadataScope {
+        schemaIncludes = List.copyOf(schemaIncludes);
+        schemaExcludes = List.copyOf(schemaExcludes);
+        tableIncludes = List.copyOf(tableIncludes);
+        tableExcludes = List.copyOf(tableExcludes);
+        skippedKinds = skippedKinds.isEmpty() ? Set.of() : Set.copyOf(EnumSet.copyOf(skippedKinds));
+    }
+
+    public MetadataScope includeSchemas(String... patterns) {
+        return new MetadataScope(List.of(patterns), schemaExcludes, tableIncludes, tableExcludes, skippedKinds);
+    }
+
+    public MetadataScope excludeSchemas(String... patterns) {
+        return new MetadataScope(schemaIncludes, List.of(patterns), tableIncludes, tableExcludes, skippedKinds);
+    }
+
+    public MetadataScope includeTables(String... patterns) {
+        return new MetadataScope(schemaIncludes, schemaExcludes, List.of(patterns), tableExcludes, skippedKinds);
+    }
+
+    public MetadataScope excludeTables(String... patterns) {
+        return new MetadataScope(schemaIncludes, schemaExcludes, tableIncludes, List.of(patterns), skippedKinds);
+    }
+
+    public MetadataScope skip(ObjectKind... kinds) {
+        Set<ObjectKind> skipped = EnumSet.noneOf(ObjectKind.class);
+        skipped.addAll(skippedKinds);
+        skipped.addAll(List.of(kinds));
+        return new MetadataScope(schemaIncludes, schemaExcludes, tableIncludes, tableExcludes, skipped);
+    }
+
+    /**
+     * @return {@code true} when the kind is read under this scope
+     */
+    public boolean reads(ObjectKind kind) {
+        return !skippedKinds.contains(kind);
+    }
+
+    /**
+     * @return {@code true} when no table-name pattern is set
+     */
+    public boolean allTables() {
+        return tableIncludes.isEmpty() && tableExcludes.isEmpty();
+    }
+
+    /**
+     * @return {@code true} when neither name patterns nor skipped kinds are set
+     */
+    public boolean isUnrestricted() {
+        return schemaIncludes.isEmpty() && schemaExcludes.isEmpty() && allTables() && skippedKinds.isEmpty();
+    }
+
+    /**
+     * Java-side counterpart of the SQL filter, used on the JDBC fallback path and for
+     * rows that a provider could not filter itself. A {@code null} schema always
+     * matches.
+     */
+    public boolean matchesSchema(String schema) {
+        return schema == null || matches(schema, schemaIncludes, schemaExcludes);
+    }
+
+    /**
+     * @see #matchesSchema(String)
+     */
+    public boolean matchesTable(String table) {
+        return table == null || matches(table, tableIncludes, tableExcludes);
+    }
+
+    private static boolean matches(String name, List<String> includes, List<String> excludes) {
+        for (String exclude : excludes) {
+            if (like(name, exclude)) {
+                return false;
+            }
+        }
+        if (includes.isEmpty()) {
+            return true;
+        }
+        for (String include : includes) {
+            if (like(name, include)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates a SQL {@code LIKE} pattern with the default {@code \} escape.
+     */
+    public static boolean like(String value, String pattern) {
+        StringBuilder regex = new StringBuilder(pattern.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length()) {
+                literal.append(pattern.charAt(++i));
+            } else if (c == '%' || c == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL).matcher(value).matches();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.ObjectPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * Receives catalog objects one at a time while
+ * {@link SnapshotBuilder#visitMetaInfo(java.sql.Connection, MetadataProvider, MetadataScope, MetadataVisitor)}
+ * walks the catalog, so tools that look at every object once (exports, search
+ * indexes) do not have to hold a whole {@link MetaInfo} in memory.
+ * <p>
+ * Objects are delivered grouped by kind, in the order the {@link StructureInfo}
+ * lists use; the same rows and filters apply as for
+ * {@link SnapshotBuilder#createMetaInfo(java.sql.Connection, MetadataProvider, MetadataScope)}.
+ * Every callback defaults to a no-op. References handed to a visitor are not
+ * shared between objects, so retaining some of them does not pin the rest.
+ */
+public interface MetadataVisitor {
+
+    default void onDatabaseInfo(DatabaseInfo databaseInfo) {
+    }
+
+    default void onIdentifierInfo(IdentifierInfo identifierInfo) {
+    }
+
+    default void onTypeInfo(TypeInfo typeInfo) {
+    }
+
+    default void onCatalog(CatalogReference catalog) {
+    }
+
+    default void onSchema(SchemaReference schema) {
+    }
+
+    default void onTable(TableDefinition table) {
+    }
+
+    default void onColumn(ColumnDefinition column) {
+    }
+
+    default void onIndex(IndexInfo index) {
+    }
+
+    default void onPrimaryKey(PrimaryKey primaryKey) {
+    }
+
+    default void onForeignKey(ImportedKey foreignKey) {
+    }
+
+    default void onTrigger(Trigger trigger) {
+    }
+
+    default void onSequence(Sequence sequence) {
+    }
+
+    default void onCheckConstraint(CheckConstraint checkConstraint) {
+    }
+
+    default void onUniqueConstraint(UniqueConstraint uniqueConstraint) {
+    }
+
+    default void onUserDefinedType(UserDefinedType userDefinedType) {
+    }
+
+    default void onViewDefinition(ViewDefinition viewDefinition) {
+    }
+
+    default void onProcedure(Procedure procedure) {
+    }
+
+    default void onFunction(Function function) {
+    }
+
+    default void onMaterializedView(MaterializedView materializedView) {
+    }
+
+    default void onPartition(Partition partition) {
+    }
+
+    default void onTablePrivilege(TablePrivilege tablePrivilege) {
+    }
+
+    default void onColumnPrivilege(ColumnPrivilege columnPrivilege) {
+    }
+
+    default void onObjectPrivilege(ObjectPrivilege objectPrivilege) {
+    }
+
+    default void onTableStatistics(TableStatistics tableStatistics) {
+    }
+
+    default void onColumnStatistics(ColumnStatistics columnStatistics) {
+    }
+
+    /**
+     * Whether the walk times its catalog queries for {@link #onLoadQuery} and
+     * {@link #onLoadReport}. Recording intercepts every JDBC call of the walk, so
+     * it is off unless a visitor asks for it.
+     */
+    default boolean recordsLoad() {
+        return false;
+    }
+
+    /**
+     * Called as each catalog query of the walk completes, so a slow query can be
+     * reported while the walk still runs.
+     */
+    default void onLoadQuery(MetadataLoadReport.Query query) {
+    }
+
+    /** Called once at the end of the walk with all of its queries. */
+    default void onLoadReport(MetadataLoadReport report) {
+    }
+
+    /**
+     * Feeds an already captured snapshot to {@code visitor}, in walk order.
+     *
+     * @param metaInfo the snapshot
+     * @param visitor  the visitor
+     */
+    static void replay(MetaInfo metaInfo, MetadataVisitor visitor) {
+        visitor.onDatabaseInfo(metaInfo.databaseInfo());
+        visitor.onIdentifierInfo(metaInfo.identifierInfo());
+        metaInfo.typeInfos().forEach(visitor::onTypeInfo);
+        StructureInfo si = metaInfo.structureInfo();
+        si.catalogs().forEach(visitor::onCatalog);
+        si.schemas().forEach(visitor::onSchema);
+        si.tables().forEach(visitor::onTable);
+        si.columns().forEach(visitor::onColumn);
+        metaInfo.indexInfos().forEach(visitor::onIndex);
+        si.primaryKeys().forEach(visitor::onPrimaryKey);
+        si.importedKeys().forEach(visitor::onForeignKey);
+        si.triggers().forEach(visitor::onTrigger);
+        si.sequences().forEach(visitor::onSequence);
+        si.checkConstraints().forEach(visitor::onCheckConstraint);
+        si.uniqueConstraints().forEach(visitor::onUniqueConstraint);
+        si.userDefinedTypes().forEach(visitor::onUserDefinedType);
+        si.viewDefinitions().forEach(visitor::onViewDefinition);
+        si.procedures().forEach(visitor::onProcedure);
+        si.functions().forEach(visitor::onFunction);
+        si.materializedViews().forEach(visitor::onMaterializedView);
+        si.partitions().forEach(visitor::onPartition);
+        si.tablePrivileges().forEach(visitor::onTablePrivilege);
+        si.columnPrivileges().forEach(visitor::onColumnPrivilege);
+        si.objectPrivileges().forEach(visitor::onObjectPrivilege);
+        metaInfo.tableStatistics().forEach(visitor::onTableStatistics);
+        metaInfo.columnStatistics().forEach(visitor::onColumnStatistics);
+        metaInfo.loadReport().ifPresent(report -> {
+            report.queries().forEach(visitor::onLoadQuery);
+            visitor.onLoadReport(report);
+        });
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Hands out one shared instance per distinct name, catalog, schema, table and
+ * column reference while a snapshot is built. Without it, every column row of a
+ * large catalog carries its own {@code ColumnReference → TableReference →
+ * SchemaReference → CatalogReference} chain plus private copies of the names and
+ * type name strings the driver returned.
+ * <p>
+ * The name-based factories build references from already shared parts. The
+ * reference-based overloads intern instances built elsewhere (e.g. by a
+ * {@link MetadataProvider}): the first instance seen is kept and later equal ones
+ * are mapped to it. Lookup is by {@code equals}, so a table seen as {@code TABLE}
+ * and as {@code VIEW} stays two instances. An interner lives as long as the
+ * snapshot it builds; instances are thread-safe.
+ * <p>
+ * {@link #unshared()} returns an interner that hands every instance back as is,
+ * for catalog walks whose objects are not retained and where the pools would
+ * only grow with the catalog.
+ */
+public final class ReferenceInterner {
+
+    private final Map<String, String> strings = new ConcurrentHashMap<>();
+    private final Map<CatalogReference, Optional<CatalogReference>> catalogs = new ConcurrentHashMap<>();
+    private final Map<SchemaReference, Optional<SchemaReference>> schemas = new ConcurrentHashMap<>();
+    private final Map<TableReference, Optional<TableReference>> tables = new ConcurrentHashMap<>();
+    private final Map<ColumnReference, ColumnReference> columns = new ConcurrentHashMap<>();
+    private final boolean sharing;
+
+    public ReferenceInterner() {
+        this(true);
+    }
+
+    private ReferenceInterner(boolean sharing) {
+        this.sharing = sharing;
+    }
+
+    /**
+     * @return an interner that shares nothing and keeps no state
+     */
+    public static ReferenceInterner unshared() {
+        return new ReferenceInterner(false);
+    }
+
+    /**
+     * @return the shared instance equal to {@code value}, {@code null} for {@code null}
+     */
+    public String name(String value) {
+        if (value == null || !sharing) {
+            return value;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * @return the shared optional for the catalog, empty for a {@code null} name
+     */
+    public Optional<CatalogReference> catalog(String catalog) {
+        return catalog == null ? Optional.empty() : catalog(new CatalogReference(name(catalog)));
+    }
+
+    /**
+     * @return the shared optional for the schema, empty for a {@code null} schema name
+     */
+    public Optional<SchemaReference> schema(String catalog, String schema) {
+        return schema == null ? Optional.empty() : schema(new SchemaReference(catalog(catalog), name(schema)));
+    }
+
+    /**
+     * @return the shared table reference
+     */
+    public TableReference table(String catalog, String schema, String table, String type) {
+        return table(new TableReference(schema(catalog, schema), name(table), name(type)));
+    }
+
+    /**
+     * @return the shared {@link TableReference#TYPE_TABLE} reference
+     */
+    public TableReference table(String catalog, String schema, String table) {
+        return table(catalog, schema, table, TableReference.TYPE_TABLE);
+    }
+
+    /**
+     * @return the shared column reference
+     */
+    public ColumnReference column(TableReference table, String column) {
+        return column(new ColumnReference(tableOptional(table), name(column)));
+    }
+
+    /**
+     * @return the shared optional holding the canonical catalog; the first instance
+     *         seen becomes the canonical one
+     */
+    public Optional<CatalogReference> catalog(CatalogReference catalog) {
+        return sharing ? shared(catalogs, catalog) : Optional.of(catalog);
+    }
+
+    /**
+     * @return the shared optional holding the canonical schema; the first instance
+     *         seen becomes the canonical one
+     */
+    public Optional<SchemaReference> schema(SchemaReference schema) {
+        return sharing ? shared(schemas, schema) : Optional.of(schema);
+    }
+
+    /**
+     * @return the canonical instance equal to {@code table}
+     */
+    public TableReference table(TableReference table) {
+        return tableOptional(table).get();
+    }
+
+    /**
+     * @return the shared optional holding the canonical table, as stored in
+     *         {@link ColumnReference#table()}; the first instance seen becomes the
+     *         canonical one
+     */
+    public Optional<TableReference> tableOptional(TableReference table) {
+        return sharing ? shared(tables, table) : Optional.of(table);
+    }
+
+    /**
+     * @return the canonical instance equal to {@code column}; the first instance
+     *         seen becomes the canonical one
+     */
+    public ColumnReference column(ColumnReference column) {
+        if (!sharing) {
+            return column;
+        }
+        ColumnReference existing = columns.putIfAbsent(column, column);
+        return existing != null ? existing : column;
+    }
+
+    /**
+     * @return the canonical optional column, empty stays empty
+     */
+    public Optional<ColumnReference> column(Optional<ColumnReference> column) {
+        return column.map(this::column);
+    }
+
+    private static <T> Optional<T> shared(Map<T, Optional<T>> pool, T value) {
+        Optional<T> existing = pool.get(value);
+        if (existing == null) {
+            Optional<T> created = Optional.of(value);
+            existing = pool.putIfAbsent(value, created);
+            if (existing == null) {
+                existing = created;
+            }
+        }
+        return existing;
+    }
+}
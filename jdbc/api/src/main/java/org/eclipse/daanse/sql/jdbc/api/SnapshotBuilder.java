@@ -60,4 +60,59 @@ public interface SnapshotBuilder {
     default MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider) throws SQLException {
         return createMetaInfo(connection);
     }
+
+    /**
+     * @param dataSource       pooled or unpooled source
+     * @param metadataProvider dialect-specific override
+     * @param scope            schemas, tables and object kinds to read; default
+     *                         implementation ignores it and delegates to
+     *                         {@link #createMetaInfo(DataSource, MetadataProvider)}
+     * @return MetaInfo snapshot
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider, MetadataScope scope)
+            throws SQLException {
+        return createMetaInfo(dataSource, metadataProvider);
+    }
+
+    /**
+     * @param connection       caller-managed connection (not closed by this method)
+     * @param metadataProvider dialect-specific override
+     * @param scope            schemas, tables and object kinds to read; default
+     *                         implementation ignores it and delegates to
+     *                         {@link #createMetaInfo(Connection, MetadataProvider)}
+     * @return MetaInfo snapshot
+     * @throws SQLException on database access error
+     */
+    default MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider, MetadataScope scope)
+            throws SQLException {
+        return createMetaInfo(connection, metadataProvider);
+    }
+
+    /**
+     * Walks the catalog and hands each object to {@code visitor} instead of
+     * collecting a {@link MetaInfo}; see {@link MetadataVisitor}.
+     *
+     * @param connection caller-managed connection (not closed by this method)
+     * @param visitor    receives the catalog objects
+     * @throws SQLException on database access error
+     */
+    default void visitMetaInfo(Connection connection, MetadataVisitor visitor) throws SQLException {
+        visitMetaInfo(connection, MetadataProvider.EMPTY, MetadataScope.ALL, visitor);
+    }
+
+    /**
+     * @param connection       caller-managed connection (not closed by this method)
+     * @param metadataProvider dialect-specific override
+     * @param scope            schemas, tables and object kinds to read
+     * @param visitor          receives the catalog objects; default implementation
+     *                         captures a snapshot via
+     *                         {@link #createMetaInfo(Connection, MetadataProvider, MetadataScope)}
+     *                         and replays it
+     * @throws SQLException on database access error
+     */
+    default void visitMetaInfo(Connection connection, MetadataProvider metadataProvider, MetadataScope scope,
+            MetadataVisitor visitor) throws SQLException {
+        MetadataVisitor.replay(createMetaInfo(connection, metadataProvider, scope), visitor);
+    }
 }
@@ -14,6 +14,12 @@
 package org.eclipse.daanse.sql.jdbc.api.meta;
 
 import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
 
 public interface MetaInfo {
 
@@ -26,4 +32,44 @@ public interface MetaInfo {
     StructureInfo structureInfo();
 
     List<IndexInfo> indexInfos();
+
+    /**
+     * Optimizer statistics of the tables, for callers that pick a strategy by size
+     * (IN-list versus join, serial versus parallel scan). Empty when the dialect
+     * provider reads none.
+     */
+    default List<TableStatistics> tableStatistics() {
+        return List.of();
+    }
+
+    /** Optimizer statistics of the columns; see {@link #tableStatistics()}. */
+    default List<ColumnStatistics> columnStatistics() {
+        return List.of();
+    }
+
+    /**
+     * Matches on schema and table name, so a reference of another type string
+     * ({@code TABLE} versus {@code BASE TABLE}) still finds its statistics.
+     *
+     * @param table a table of this snapshot
+     * @return the table's statistics, or empty when none were read
+     */
+    default Optional<TableStatistics> tableStatistics(TableReference table) {
+        Optional<String> schema = table.schema().map(SchemaReference::name);
+        for (TableStatistics statistics : tableStatistics()) {
+            if (statistics.table().name().equals(table.name())
+                    && statistics.table().schema().map(SchemaReference::name).equals(schema)) {
+                return Optional.of(statistics);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return timing, rows and bytes of the catalog queries that built this
+     *         snapshot; empty for snapshots not read from a database
+     */
+    default Optional<MetadataLoadReport> loadReport() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.meta;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * How a {@link MetaInfo} snapshot was read: every catalog query a metadata
+ * provider ran and every {@link java.sql.DatabaseMetaData} call, with its time,
+ * rows and an estimate of the bytes read. Describes the load, not the catalog.
+ */
+public interface MetadataLoadReport {
+
+    /**
+     * One catalog query.
+     */
+    interface Query {
+
+        /** The part of the snapshot being read, e.g. {@code columns} or {@code indexes}. */
+        String section();
+
+        /** The SQL text, or the {@code DatabaseMetaData} method and its arguments. */
+        String statement();
+
+        /** From execution to the close of the result, including fetching. */
+        Duration elapsed();
+
+        long rows();
+
+        /**
+         * Size of the values read from the result: characters of strings, length of
+         * byte arrays, the width of primitives.
+         */
+        long bytes();
+    }
+
+    /** @return the queries in the order they completed */
+    List<Query> queries();
+
+    /** @return time of the whole snapshot, including work between queries */
+    Duration elapsed();
+
+    /** @return the {@code limit} queries that took longest, slowest first */
+    default List<Query> slowest(int limit) {
+        return queries().stream().sorted(Comparator.comparing(Query::elapsed).reversed()).limit(limit).toList();
+    }
+
+    /** @return summed query time of one section */
+    default Duration elapsed(String section) {
+        Duration total = Duration.ZERO;
+        for (Query query : queries()) {
+            if (query.section().equals(section)) {
+                total = total.plus(query.elapsed());
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.schema;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+
+/**
+ * Optimizer statistics of a single column. Like {@link TableStatistics} these
+ * are estimates; a value is empty when the engine has none.
+ */
+public interface ColumnStatistics {
+
+    ColumnReference column();
+
+    /** Estimated number of distinct non-null values. */
+    Optional<Long> distinctValues();
+
+    /** Fraction of rows holding null, between 0 and 1. */
+    Optional<Double> nullFraction();
+
+    /** Average stored width of a value in bytes. */
+    Optional<Integer> averageWidth();
+
+    /**
+     * Bucket bounds of the column's histogram in ascending order, rendered as the
+     * engine renders them as text; empty when it keeps no histogram.
+     */
+    List<String> histogramBounds();
+}
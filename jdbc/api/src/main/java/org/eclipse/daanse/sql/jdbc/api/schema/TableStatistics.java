@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.api.schema;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Optimizer statistics of a table as the engine last gathered them. Every value
+ * is an estimate and may be stale; a value is empty when the engine has not
+ * analyzed the table or does not track it.
+ */
+public interface TableStatistics {
+
+    TableReference table();
+
+    /** Estimated number of rows. */
+    Optional<Long> rowCount();
+
+    /** Bytes the table occupies on disk, including its indexes where the engine reports them together. */
+    Optional<Long> totalBytes();
+
+    /** Average row length in bytes. */
+    Optional<Long> averageRowLength();
+}
@@ -9,20 +9,43 @@
  */
 package org.eclipse.daanse.sql.jdbc.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.WeakHashMap;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class CachingDatabaseService extends DatabaseServiceImpl {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingDatabaseService.class);
+    private static final String SNAPSHOT_SUFFIX = ".metainfo";
+
     private final Duration ttl;
+    private final Path snapshotDirectory;
+    private final Function<String, Optional<MetadataProvider>> providers;
     private final Map<DataSource, Entry> cache = java.util.Collections.synchronizedMap(new WeakHashMap<>());
 
     private record Entry(MetaInfo info, Instant expiresAt) {}
@@ -36,6 +59,32 @@ public final class CachingDatabaseService extends DatabaseServiceImpl {
         if (ttl.isNegative() || ttl.isZero()) {
             throw new IllegalArgumentException("ttl must be > 0: " + ttl);
         }
+        this.snapshotDirectory = null;
+        this.providers = productName -> Optional.empty();
+    }
+
+    /**
+     * Additionally persists every snapshot below {@code snapshotDirectory}, so a
+     * fresh process can skip the catalog read. On a memory miss the catalog
+     * fingerprint of the database is compared with the one stored in the file;
+     * only a mismatch (or a database without fingerprint support) triggers the
+     * full read.
+     *
+     * @param ttl               in-memory validity, as for
+     *                          {@link #CachingDatabaseService(Duration)}
+     * @param snapshotDirectory where snapshot files are kept, created on demand
+     * @param providers         resolves the provider that computes the catalog
+     *                          fingerprint from the database product name, e.g.
+     *                          {@code MetadataProviders::forProductName}
+     */
+    public CachingDatabaseService(Duration ttl, Path snapshotDirectory,
+            Function<String, Optional<MetadataProvider>> providers) {
+        this.ttl = Objects.requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be > 0: " + ttl);
+        }
+        this.snapshotDirectory = Objects.requireNonNull(snapshotDirectory, "snapshotDirectory");
+        this.providers = Objects.requireNonNull(providers, "providers");
     }
 
     @Override
@@ -45,11 +94,67 @@ public final class CachingDatabaseService extends DatabaseServiceImpl {
         if (e != null && now.isBefore(e.expiresAt)) {
             return e.info;
         }
-        MetaInfo info = super.createMetaInfo(dataSource);
+        MetaInfo info = snapshotDirectory == null ? super.createMetaInfo(dataSource) : loadPersisted(dataSource);
         cache.put(dataSource, new Entry(info, now.plus(ttl)));
         return info;
     }
 
+    private MetaInfo loadPersisted(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData dmd = connection.getMetaData();
+            Optional<MetadataProvider> provider = providers.apply(dmd.getDatabaseProductName());
+            Optional<String> fingerprint = provider.isPresent() ? provider.get().getCatalogFingerprint(connection)
+                    : Optional.empty();
+            if (fingerprint.isEmpty()) {
+                return createMetaInfo(connection);
+            }
+            Path file = snapshotFile(dmd);
+            try (InputStream in = Files.newInputStream(file)) {
+                Optional<MetaInfo> persisted = MetaInfoSnapshotCodec.read(in, fingerprint.get());
+                if (persisted.isPresent()) {
+                    LOGGER.debug("Reusing MetaInfo snapshot {}", file);
+                    return persisted.get();
+                }
+                LOGGER.debug("Catalog changed since snapshot {}, re-reading", file);
+            } catch (NoSuchFileException e) {
+                LOGGER.debug("No MetaInfo snapshot at {}", file);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Ignoring unreadable MetaInfo snapshot {}: {}", file, e.toString());
+            }
+            MetaInfo info = createMetaInfo(connection);
+            persist(info, fingerprint.get(), file);
+            return info;
+        }
+    }
+
+    private static void persist(MetaInfo info, String fingerprint, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    MetaInfoSnapshotCodec.write(info, fingerprint, out);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write MetaInfo snapshot {}: {}", file, e.toString());
+        }
+    }
+
+    /** One file per JDBC URL and user, named by a hash of both. */
+    private Path snapshotFile(DatabaseMetaData dmd) throws SQLException {
+        String key = dmd.getURL() + '\u0000' + dmd.getUserName();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return snapshotDirectory.resolve(HexFormat.of().formatHex(digest, 0, 16) + SNAPSHOT_SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // createMetaInfo(Connection): inherited unchanged — connections from a
     // pool aren't stable cache keys.
 
@@ -58,7 +163,10 @@ public final class CachingDatabaseService extends DatabaseServiceImpl {
     // provider-customized snapshots bypass the cache because the same
     // DataSource can yield different MetaInfo depending on the provider.
 
-    /** Force-evict all cached snapshots. */
+    /**
+     * Force-evict all cached snapshots. Persisted snapshots stay on disk; they are
+     * re-validated against the catalog fingerprint on next access.
+     */
     public void invalidateAll() {
         cache.clear();
     }
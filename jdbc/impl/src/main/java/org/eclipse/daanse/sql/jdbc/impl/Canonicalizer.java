@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+
+/**
+ * Re-points the references of provider-built key and index lists at the
+ * snapshot's shared instances, so a primary key column and the column definition
+ * it names are one object.
+ */
+final class Canonicalizer {
+
+    private Canonicalizer() {
+    }
+
+    static List<PrimaryKey> primaryKeys(List<PrimaryKey> primaryKeys, ReferenceInterner refs) {
+        List<PrimaryKey> result = new ArrayList<>(primaryKeys.size());
+        for (PrimaryKey pk : primaryKeys) {
+            result.add(primaryKey(pk, refs));
+        }
+        return List.copyOf(result);
+    }
+
+    static PrimaryKey primaryKey(PrimaryKey pk, ReferenceInterner refs) {
+        List<ColumnReference> columns = new ArrayList<>(pk.columns().size());
+        for (ColumnReference column : pk.columns()) {
+            columns.add(refs.column(column));
+        }
+        return new PrimaryKeyRecord(refs.table(pk.table()), List.copyOf(columns), pk.constraintName());
+    }
+
+    static List<ImportedKey> importedKeys(List<ImportedKey> importedKeys, ReferenceInterner refs) {
+        List<ImportedKey> result = new ArrayList<>(importedKeys.size());
+        for (ImportedKey ik : importedKeys) {
+            result.add(importedKey(ik, refs));
+        }
+        return List.copyOf(result);
+    }
+
+    static ImportedKey importedKey(ImportedKey ik, ReferenceInterner refs) {
+        return new ImportedKeyRecord(refs.column(ik.primaryKeyColumn()), refs.column(ik.foreignKeyColumn()),
+                refs.name(ik.name()), ik.keySequence(), ik.updateRule(), ik.deleteRule(),
+                ik.primaryKeyName().map(refs::name), ik.deferrability());
+    }
+
+    static List<IndexInfo> indexInfos(List<IndexInfo> indexInfos, ReferenceInterner refs) {
+        List<IndexInfo> result = new ArrayList<>(indexInfos.size());
+        for (IndexInfo info : indexInfos) {
+            result.add(indexInfo(info, refs));
+        }
+        return List.copyOf(result);
+    }
+
+    static IndexInfo indexInfo(IndexInfo info, ReferenceInterner refs) {
+        List<IndexInfoItem> items = new ArrayList<>(info.indexInfoItems().size());
+        for (IndexInfoItem item : info.indexInfoItems()) {
+            items.add(new IndexInfoItemRecord(item.indexName().map(refs::name), item.type(),
+                    refs.column(item.column()), item.ordinalPosition(), item.ascending(), item.cardinality(),
+                    item.pages(), item.filterCondition(), item.unique()));
+        }
+        return new IndexInfoRecord(refs.table(info.tableReference()), List.copyOf(items));
+    }
+}
@@ -20,11 +20,24 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
@@ -32,11 +45,13 @@ import org.eclipse.daanse.sql.jdbc.api.DatabaseService;
 import org.eclipse.daanse.sql.jdbc.api.schema.BestRowIdentifier;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
 import org.eclipse.daanse.sql.jdbc.api.schema.PseudoColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
 import org.eclipse.daanse.sql.jdbc.api.schema.SuperTable;
 import org.eclipse.daanse.sql.jdbc.api.schema.SuperType;
 import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
@@ -44,6 +59,10 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.VersionColumn;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.MetadataVisitor;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope.ObjectKind;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
@@ -79,6 +98,7 @@ import org.eclipse.daanse.sql.jdbc.record.schema.BestRowIdentifierRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
@@ -93,6 +113,7 @@ import org.eclipse.daanse.sql.jdbc.record.schema.SuperTypeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TablePrivilegeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UserDefinedTypeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.VersionColumnRecord;
 import org.osgi.service.component.annotations.Component;
@@ -106,6 +127,7 @@ public class DatabaseServiceImpl implements DatabaseService {
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseServiceImpl.class);
 
     // Index info column positions (from JDBC spec)
+    private static final int INDEX_TABLE_NAME = 3;
     private static final int INDEX_NON_UNIQUE = 4;
     private static final int INDEX_NAME = 6;
     private static final int INDEX_TYPE = 7;
@@ -116,11 +138,29 @@ public class DatabaseServiceImpl implements DatabaseService {
     private static final int INDEX_PAGES = 12;
     private static final int INDEX_FILTER_CONDITION = 13;
 
+    /** Per-table fallback reads use extra connections only from this many tables per connection. */
+    private static final int PARALLEL_TABLES_PER_CONNECTION = 64;
+    /** Upper bound of connections a per-table fallback read uses, the walking one included. */
+    private static final int MAX_FALLBACK_CONNECTIONS = 4;
+
     private static final int[] RESULT_SET_TYPE_VALUES = { ResultSet.TYPE_FORWARD_ONLY,
             ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.TYPE_SCROLL_SENSITIVE };
 
     private static final int[] CONCURRENCY_VALUES = { ResultSet.CONCUR_READ_ONLY, ResultSet.CONCUR_UPDATABLE };
 
+    private final boolean recordLoad;
+
+    public DatabaseServiceImpl() {
+        this(false);
+    }
+
+    /**
+     * @param recordLoad whether snapshots carry a {@link MetaInfo#loadReport() load report};
+     *                   recording routes every JDBC call of the walk through a proxy
+     */
+    public DatabaseServiceImpl(boolean recordLoad) {
+        this.recordLoad = recordLoad;
+    }
     @Override
     public MetaInfo createMetaInfo(DataSource dataSource) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
@@ -142,9 +182,7 @@ public class DatabaseServiceImpl implements DatabaseService {
      */
     @Override
     public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            return createMetaInfo(connection, metadataProvider);
-        }
+        return createMetaInfo(dataSource, metadataProvider, MetadataScope.ALL);
     }
 
     /**
@@ -159,121 +197,637 @@ public class DatabaseServiceImpl implements DatabaseService {
         return readMetaInfoWithProvider(connection, databaseMetaData, metadataProvider);
     }
 
+    /**
+     * @param dataSource       the data source
+     * @param metadataProvider the dialect-specific metadata provider
+     * @param scope            schemas, tables and object kinds to read
+     * @return MetaInfo snapshot restricted to the scope
+     * @throws SQLException on database access error
+     */
+    @Override
+    public MetaInfo createMetaInfo(DataSource dataSource, MetadataProvider metadataProvider, MetadataScope scope)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return readMetaInfo(connection, dataSource, metadataProvider, scope);
+        }
+    }
+
+    /**
+     * @param connection       the connection (not closed by this method)
+     * @param metadataProvider the dialect-specific metadata provider
+     * @param scope            schemas, tables and object kinds to read
+     * @return MetaInfo snapshot restricted to the scope
+     * @throws SQLException on database access error
+     */
+    @Override
+    public MetaInfo createMetaInfo(Connection connection, MetadataProvider metadataProvider, MetadataScope scope)
+            throws SQLException {
+        DatabaseMetaData databaseMetaData = connection.getMetaData();
+        return readMetaInfoWithProvider(connection, databaseMetaData, metadataProvider, scope);
+    }
+
     protected MetaInfo readMetaInfoWithProvider(Connection connection, DatabaseMetaData databaseMetaData,
             MetadataProvider provider) throws SQLException {
+        return readMetaInfoWithProvider(connection, databaseMetaData, provider, MetadataScope.ALL);
+    }
 
-        // Standard metadata (always via JDBC)
-        DatabaseInfo databaseInfo = readDatabaseInfo(databaseMetaData);
-        IdentifierInfo identifierInfo = readIdentifierInfo(databaseMetaData);
-        List<TypeInfo> typeInfos = getTypeInfo(databaseMetaData);
+    protected MetaInfo readMetaInfoWithProvider(Connection connection, DatabaseMetaData databaseMetaData,
+            MetadataProvider provider, MetadataScope scope) throws SQLException {
+        MetaInfoCollector collector = new MetaInfoCollector(recordLoad);
+        // One interner per snapshot: JDBC rows and provider rows share reference instances.
+        walk(connection, databaseMetaData, null, provider, scope, collector, new ReferenceInterner());
+        return collector.metaInfo();
+    }
 
-        // Tables, columns, catalogs, schemas (always via JDBC as the base)
+    /**
+     * As {@link #readMetaInfoWithProvider(Connection, DatabaseMetaData, MetadataProvider, MetadataScope)};
+     * the per-table JDBC fallbacks may borrow further connections from {@code dataSource}.
+     */
+    private MetaInfo readMetaInfo(Connection connection, DataSource dataSource, MetadataProvider provider,
+            MetadataScope scope) throws SQLException {
+        MetaInfoCollector collector = new MetaInfoCollector(recordLoad);
+        walk(connection, connection.getMetaData(), dataSource, provider, scope, collector, new ReferenceInterner());
+        return collector.metaInfo();
+    }
+
+    /**
+     * @param connection       the connection (not closed by this method)
+     * @param metadataProvider the dialect-specific metadata provider
+     * @param scope            schemas, tables and object kinds to read
+     * @param visitor          receives the catalog objects as they are read
+     * @throws SQLException on database access error
+     */
+    @Override
+    public void visitMetaInfo(Connection connection, MetadataProvider metadataProvider, MetadataScope scope,
+            MetadataVisitor visitor) throws SQLException {
+        walk(connection, connection.getMetaData(), null, metadataProvider, scope, visitor,
+                ReferenceInterner.unshared());
+    }
+
+    /**
+     * Reads the catalog and hands each object to the visitor as soon as it is built.
+     * Only catalogs, schemas, table references (for the per-table JDBC fallbacks)
+     * and materialized-view names are kept for the duration of the walk.
+     *
+     * If the visitor {@link MetadataVisitor#recordsLoad() asks for it}, every catalog query
+     * of the walk, JDBC or provider, is timed and reported to {@link MetadataVisitor#onLoadQuery}
+     * and, at the end, {@link MetadataVisitor#onLoadReport}.
+     *
+     * @param dataSource where {@code connection} came from, or {@code null}; lets the
+     *                   per-table JDBC fallbacks read on a few connections at once
+     */
+    private void walk(Connection connection, DatabaseMetaData databaseMetaData, DataSource dataSource,
+            MetadataProvider provider, MetadataScope scope, MetadataVisitor visitor, ReferenceInterner refs)
+            throws SQLException {
+        QueryRecorder recorder = new QueryRecorder(visitor::onLoadQuery);
+        if (!visitor.recordsLoad()) {
+            // Nothing is wrapped, so the recorder only tracks the section names.
+            read(connection, databaseMetaData, dataSource, provider, scope, visitor, refs, recorder);
+            return;
+        }
+        Connection recorded = recorder.wrap(connection);
+        read(recorded, recorder.wrap(databaseMetaData, recorded), recorder.wrap(dataSource), provider, scope, visitor,
+                refs, recorder);
+        visitor.onLoadReport(recorder.report());
+    }
+
+    private void read(Connection connection, DatabaseMetaData databaseMetaData, DataSource dataSource,
+            MetadataProvider provider, MetadataScope scope, MetadataVisitor visitor, ReferenceInterner refs,
+            QueryRecorder recorder) throws SQLException {
+
+        // Table-name patterns are pushed into the provider's catalog queries; schema
+        // patterns select which schemas the (single-schema) provider queries run for.
+        provider = provider.withScope(scope);
+
+        // Standard metadata (always via JDBC); the product-level sections are shared
+        // process-wide by all databases of the same driver and product version.
+        recorder.section("database");
+        DriverMetadataCache.Entry product = DriverMetadataCache.get(databaseMetaData,
+                withTypeInfo -> new DriverMetadataCache.Entry(readDatabaseInfo(databaseMetaData),
+                        readIdentifierInfo(databaseMetaData), withTypeInfo ? getTypeInfo(databaseMetaData) : null));
+        visitor.onDatabaseInfo(product.databaseInfo());
+        visitor.onIdentifierInfo(withSessionValues(product.identifierInfo(), databaseMetaData));
+        (product.typeInfos() != null ? product.typeInfos() : getTypeInfo(databaseMetaData))
+                .forEach(visitor::onTypeInfo);
+
+        // Catalogs, schemas (always via JDBC as the base)
+        recorder.section("schemas");
         List<CatalogReference> catalogs = getCatalogs(databaseMetaData);
-        List<SchemaReference> schemas = getSchemas(databaseMetaData);
-        List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
+        List<SchemaReference> schemas = inScope(getSchemas(databaseMetaData), scope);
+        catalogs.forEach(visitor::onCatalog);
+        schemas.forEach(visitor::onSchema);
+        List<String> providerSchemas = providerSchemas(connection, schemas, catalogs, scope);
+        final MetadataProvider p = provider;
+
+        // Materialized views are read ahead so they can be left out of tables() and
+        // viewDefinitions(): Oracle's JDBC driver reports MVs as TABLE_TYPE='TABLE',
+        // PostgreSQL's as TABLE_TYPE='MATERIALIZED VIEW'. Either way, when a provider
+        // returns them in getAllMaterializedViews we keep them only there.
+        recorder.section("materializedViews");
+        List<MaterializedView> materializedViews = scope.reads(ObjectKind.MATERIALIZED_VIEWS)
+                ? inScope(perSchema(providerSchemas, s -> p.getAllMaterializedViews(connection, null, s)), scope,
+                        MaterializedView::view)
+                : List.of();
+        Set<String> mvKeys = new HashSet<>();
+        for (MaterializedView mv : materializedViews) {
+            mvKeys.add(tableKey(mv.view()));
+        }
+
+        // Tables (always via JDBC); the per-table fallbacks below still see the MVs.
+        recorder.section("tables");
+        List<TableReference> tables = new ArrayList<>();
+        List<TableReference> plainTables = new ArrayList<>();
+        visitTableDefinitions(databaseMetaData, scope, refs, td -> {
+            tables.add(td.table());
+            if (!mvKeys.contains(tableKey(td.table()))) {
+                plainTables.add(td.table());
+                visitor.onTable(td);
+            }
+        });
+
         // BULK: Columns — dialect-optimized when supported (Oracle's ALL_TAB_COLS
         // avoids the COLUMN_DEF LONG quirk that breaks DatabaseMetaData.getColumns).
-        List<ColumnDefinition> columns;
-        Optional<List<ColumnDefinition>> providerColumns =
-                provider.getAllColumnDefinitions(connection, null, null, null, null);
-        if (providerColumns.isPresent()) {
-            columns = providerColumns.get();
+        recorder.section("columns");
+        Consumer<ColumnDefinition> columnSink = column -> {
+            TableReference table = column.column().table().orElse(null);
+            if (scope.isUnrestricted() || table == null || inScope(table, scope)) {
+                visitor.onColumn(column);
+            }
+        };
+        Consumer<ColumnDefinition> providerColumnSink = column -> {
+            refs.column(column.column());
+            columnSink.accept(column);
+        };
+        if (scope.isUnrestricted()) {
+            if (!provider.visitAllColumnDefinitions(connection, null, null, null, null, providerColumnSink)) {
+                visitColumnDefinitions(databaseMetaData, scope, refs, columnSink);
+            }
         } else {
-            columns = getColumnDefinitions(databaseMetaData);
+            boolean first = true;
+            for (String schema : providerSchemas) {
+                if (provider.visitAllColumnDefinitions(connection, null, schema, null, null, providerColumnSink)) {
+                    first = false;
+                } else if (first) {
+                    visitColumnDefinitions(databaseMetaData, scope, refs, columnSink);
+                    break;
+                } else {
+                    for (String tablePattern : jdbcPatterns(scope.tableIncludes())) {
+                        visitColumnDefinitions(databaseMetaData, null, schema, tablePattern, null, refs, columnSink);
+                    }
+                }
+            }
         }
 
         // BULK: Indexes — dialect-optimized or fallback to per-table JDBC
-        List<IndexInfo> indexInfos;
-        Optional<List<IndexInfo>> providerIndexes = provider.getAllIndexInfo(connection, null, null);
-        if (providerIndexes.isPresent()) {
-            indexInfos = providerIndexes.get();
-        } else {
-            indexInfos = getIndexInfo(databaseMetaData);
+        recorder.section("indexes");
+        if (scope.reads(ObjectKind.INDEXES)) {
+            Optional<List<IndexInfo>> providerIndexes = perSchemaOptional(providerSchemas,
+                    s -> p.getAllIndexInfo(connection, null, s));
+            if (providerIndexes.isPresent()) {
+                for (IndexInfo info : inScope(providerIndexes.get(), scope, IndexInfo::tableReference)) {
+                    visitor.onIndex(Canonicalizer.indexInfo(info, refs));
+                }
+            } else {
+                Map<TableReference, List<IndexInfoItem>> indexes = readFallback(databaseMetaData, dataSource, tables,
+                        SchemaWideSupport.Read.INDEX_INFO, (md, table) -> readIndexInfo(md, table, refs),
+                        (md, catalog, schema, byName) -> readIndexInfo(md, catalog, schema, byName, refs),
+                        items -> items);
+                indexes.forEach((table, items) -> visitor.onIndex(new IndexInfoRecord(table, items)));
+            }
         }
 
         // BULK: PrimaryKeys — dialect-optimized or fallback to per-table JDBC
-        List<PrimaryKey> primaryKeys;
-        Optional<List<PrimaryKey>> providerPKs = provider.getAllPrimaryKeys(connection, null, null);
+        recorder.section("primaryKeys");
+        Optional<List<PrimaryKey>> providerPKs = scope.reads(ObjectKind.PRIMARY_KEYS)
+                ? perSchemaOptional(providerSchemas, s -> p.getAllPrimaryKeys(connection, null, s))
+                : Optional.of(List.of());
         if (providerPKs.isPresent()) {
-            primaryKeys = providerPKs.get();
-        } else {
-            primaryKeys = new ArrayList<>();
-            for (TableDefinition tableDefinition : tables) {
-                PrimaryKey pk = getPrimaryKey(databaseMetaData, tableDefinition.table());
-                if (pk != null) {
-                    primaryKeys.add(pk);
-                }
+            for (PrimaryKey pk : inScope(providerPKs.get(), scope, PrimaryKey::table)) {
+                visitor.onPrimaryKey(Canonicalizer.primaryKey(pk, refs));
             }
+        } else {
+            readFallback(databaseMetaData, dataSource, tables, SchemaWideSupport.Read.PRIMARY_KEYS,
+                    (md, table) -> getPrimaryKey(md, table, refs),
+                    (md, catalog, schema, byName) -> readPrimaryKeys(md, catalog, schema, null, byName::get, refs),
+                    List::of).values().forEach(visitor::onPrimaryKey);
         }
 
         // BULK: ImportedKeys — dialect-optimized or fallback to per-table JDBC
-        List<ImportedKey> importedKeys;
-        Optional<List<ImportedKey>> providerFKs = provider.getAllImportedKeys(connection, null, null);
+        recorder.section("importedKeys");
+        Optional<List<ImportedKey>> providerFKs = scope.reads(ObjectKind.IMPORTED_KEYS)
+                ? perSchemaOptional(providerSchemas, s -> p.getAllImportedKeys(connection, null, s))
+                : Optional.of(List.of());
         if (providerFKs.isPresent()) {
-            importedKeys = providerFKs.get();
-        } else {
-            importedKeys = new ArrayList<>();
-            for (TableDefinition tableDefinition : tables) {
-                importedKeys.addAll(getImportedKeys(databaseMetaData, tableDefinition.table()));
+            for (ImportedKey ik : inScope(providerFKs.get(), scope,
+                    ik -> ik.foreignKeyColumn().table().orElse(null))) {
+                visitor.onForeignKey(Canonicalizer.importedKey(ik, refs));
             }
+        } else {
+            readFallback(databaseMetaData, dataSource, tables, SchemaWideSupport.Read.IMPORTED_KEYS,
+                    (md, table) -> emptyToNull(getImportedKeys(md, table, refs)),
+                    (md, catalog, schema, byName) -> importedKeysByTable(md, catalog, schema, byName, refs),
+                    keys -> keys).values().forEach(keys -> keys.forEach(visitor::onForeignKey));
         }
 
         // NEW metadata — only via dialect, no JDBC fallback needed
-        List<Trigger> triggers = provider.getAllTriggers(connection, null, null);
-        List<Sequence> sequences = provider.getAllSequences(connection, null, null);
-        List<CheckConstraint> checkConstraints = provider.getAllCheckConstraints(connection, null, null);
-        List<UniqueConstraint> uniqueConstraints = provider.getAllUniqueConstraints(connection, null, null);
-        List<UserDefinedType> userDefinedTypes = provider.getAllUserDefinedTypes(connection, null, null);
-        List<ViewDefinition> viewDefinitions = provider.getAllViewDefinitions(connection, null, null);
-        List<Procedure> procedures = provider.getAllProcedures(connection, null, null);
-        List<Function> functions = provider.getAllFunctions(connection, null, null);
-        List<MaterializedView> materializedViews = provider.getAllMaterializedViews(connection, null, null);
-        List<org.eclipse.daanse.sql.jdbc.api.schema.Partition> partitions =
-                provider.getAllPartitions(connection, null, null);
-
-        // Deduplicate materialized views out of tables() and viewDefinitions(): Oracle's
-        // JDBC driver reports MVs as TABLE_TYPE='TABLE', PostgreSQL's as
-        // TABLE_TYPE='MATERIALIZED VIEW'. Either way, when a provider returns them in
-        // getAllMaterializedViews we keep them only there.
-        if (!materializedViews.isEmpty()) {
-            Set<String> mvKeys = new HashSet<>();
-            for (MaterializedView mv : materializedViews) {
-                mvKeys.add(tableKey(mv.view()));
+        if (scope.reads(ObjectKind.TRIGGERS)) {
+            recorder.section("triggers");
+            inScope(perSchema(providerSchemas, s -> p.getAllTriggers(connection, null, s)), scope,
+                    t -> t.reference().table()).forEach(visitor::onTrigger);
+        }
+        if (scope.reads(ObjectKind.SEQUENCES)) {
+            recorder.section("sequences");
+            perSchema(providerSchemas, s -> p.getAllSequences(connection, null, s)).forEach(visitor::onSequence);
+        }
+        if (scope.reads(ObjectKind.CHECK_CONSTRAINTS)) {
+            recorder.section("checkConstraints");
+            inScope(perSchema(providerSchemas, s -> p.getAllCheckConstraints(connection, null, s)), scope,
+                    CheckConstraint::table).forEach(visitor::onCheckConstraint);
+        }
+        if (scope.reads(ObjectKind.UNIQUE_CONSTRAINTS)) {
+            recorder.section("uniqueConstraints");
+            inScope(perSchema(providerSchemas, s -> p.getAllUniqueConstraints(connection, null, s)), scope,
+                    UniqueConstraint::table).forEach(visitor::onUniqueConstraint);
+        }
+        if (scope.reads(ObjectKind.USER_DEFINED_TYPES)) {
+            recorder.section("userDefinedTypes");
+            perSchema(providerSchemas, s -> p.getAllUserDefinedTypes(connection, null, s))
+                    .forEach(visitor::onUserDefinedType);
+        }
+        if (scope.reads(ObjectKind.VIEW_DEFINITIONS)) {
+            recorder.section("viewDefinitions");
+            for (ViewDefinition vd : inScope(perSchema(providerSchemas,
+                    s -> p.getAllViewDefinitions(connection, null, s)), scope, ViewDefinition::view)) {
+                if (!mvKeys.contains(tableKey(vd.view()))) {
+                    visitor.onViewDefinition(vd);
+                }
             }
-            List<TableDefinition> filteredTables = new ArrayList<>(tables.size());
-            for (TableDefinition td : tables) {
-                if (!mvKeys.contains(tableKey(td.table()))) {
-                    filteredTables.add(td);
+        }
+        if (scope.reads(ObjectKind.PROCEDURES)) {
+            recorder.section("procedures");
+            perSchema(providerSchemas, s -> p.getAllProcedures(connection, null, s)).forEach(visitor::onProcedure);
+        }
+        if (scope.reads(ObjectKind.FUNCTIONS)) {
+            recorder.section("functions");
+            perSchema(providerSchemas, s -> p.getAllFunctions(connection, null, s)).forEach(visitor::onFunction);
+        }
+        materializedViews.forEach(visitor::onMaterializedView);
+        if (scope.reads(ObjectKind.PARTITIONS)) {
+            recorder.section("partitions");
+            inScope(perSchema(providerSchemas, s -> p.getAllPartitions(connection, null, s)), scope,
+                    org.eclipse.daanse.sql.jdbc.api.schema.Partition::table).forEach(visitor::onPartition);
+        }
+
+        // Privileges — only via dialect providers; the plain-JDBC path stays without them.
+        if (scope.reads(ObjectKind.PRIVILEGES)) {
+            recorder.section("privileges");
+            inScope(perSchemaOptional(providerSchemas, s -> p.getAllTablePrivileges(connection, null, s, null))
+                    .orElse(List.of()), scope, org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege::table)
+                    .forEach(visitor::onTablePrivilege);
+            Optional<List<org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege>> bulkColumnPrivileges =
+                    perSchemaOptional(providerSchemas, s -> p.getAllColumnPrivileges(connection, null, s));
+            if (bulkColumnPrivileges.isPresent()) {
+                inScope(bulkColumnPrivileges.get(), scope, cp -> cp.column().table().orElse(null))
+                        .forEach(visitor::onColumnPrivilege);
+            } else {
+                // Fallback: one round trip per table.
+                for (TableReference table : plainTables) {
+                    String tpSchema = table.schema().map(SchemaReference::name).orElse(null);
+                    provider.getColumnPrivileges(connection, null, tpSchema, table.name(), null)
+                            .ifPresent(list -> list.forEach(visitor::onColumnPrivilege));
                 }
             }
-            tables = filteredTables;
-            List<ViewDefinition> filteredViews = new ArrayList<>(viewDefinitions.size());
-            for (ViewDefinition vd : viewDefinitions) {
-                if (!mvKeys.contains(tableKey(vd.view()))) {
-                    filteredViews.add(vd);
+            perSchemaOptional(providerSchemas, s -> p.getAllObjectPrivileges(connection, null, s))
+                    .orElse(List.of()).forEach(visitor::onObjectPrivilege);
+        }
+
+        // Statistics — only via dialect providers, from the catalog without scanning data.
+        if (scope.reads(ObjectKind.STATISTICS)) {
+            recorder.section("statistics");
+            for (TableStatistics ts : inScope(perSchema(providerSchemas,
+                    s -> p.getAllTableStatistics(connection, null, s)), scope, TableStatistics::table)) {
+                visitor.onTableStatistics(new TableStatisticsRecord(refs.table(ts.table()), ts.rowCount(),
+                        ts.totalBytes(), ts.averageRowLength()));
+            }
+            for (ColumnStatistics cs : inScope(perSchema(providerSchemas,
+                    s -> p.getAllColumnStatistics(connection, null, s)), scope, cs -> cs.column().table().orElse(null))) {
+                visitor.onColumnStatistics(new ColumnStatisticsRecord(refs.column(cs.column()), cs.distinctValues(),
+                        cs.nullFraction(), cs.averageWidth(), cs.histogramBounds()));
+            }
+        }
+    }
+
+    /**
+     * Schemas the single-schema provider queries run for. {@code null} stands for the
+     * connection's current schema and keeps the unscoped behaviour unchanged.
+     */
+    private static List<String> providerSchemas(Connection connection, List<SchemaReference> schemas,
+            List<CatalogReference> catalogs, MetadataScope scope) throws SQLException {
+        if (scope.schemaIncludes().isEmpty()) {
+            if (scope.schemaExcludes().isEmpty() || scope.matchesSchema(connection.getSchema())) {
+                return Collections.singletonList(null);
+            }
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (SchemaReference schema : schemas) {
+            names.add(schema.name());
+        }
+        if (names.isEmpty()) {
+            // catalog-as-schema engines (MySQL, MariaDB) report no schemas
+            for (CatalogReference catalog : catalogs) {
+                if (scope.matchesSchema(catalog.name())) {
+                    names.add(catalog.name());
                 }
             }
-            viewDefinitions = filteredViews;
         }
+        return List.copyOf(names);
+    }
 
-        // Privileges — only via dialect providers; the plain-JDBC path stays without them.
-        List<org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege> tablePrivileges =
-                provider.getAllTablePrivileges(connection, null, null, null).orElse(List.of());
-        List<org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege> columnPrivileges = new ArrayList<>();
-        for (TableDefinition td : tables) {
-            String tpSchema = td.table().schema().map(SchemaReference::name).orElse(null);
-            provider.getColumnPrivileges(connection, null, tpSchema, td.table().name(), null)
-                    .ifPresent(columnPrivileges::addAll);
+    @FunctionalInterface
+    private interface SchemaRead<T> {
+        T read(String schema) throws SQLException;
+    }
+
+    private static <T> List<T> perSchema(List<String> schemas, SchemaRead<List<T>> read) throws SQLException {
+        if (schemas.size() == 1) {
+            return read.read(schemas.get(0));
+        }
+        List<T> result = new ArrayList<>();
+        for (String schema : schemas) {
+            result.addAll(read.read(schema));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Like {@link #perSchema} for the provider methods with a JDBC fallback: empty as
+     * soon as the provider declines one schema.
+     */
+    private static <T> Optional<List<T>> perSchemaOptional(List<String> schemas,
+            SchemaRead<Optional<List<T>>> read) throws SQLException {
+        if (schemas.size() == 1) {
+            return read.read(schemas.get(0));
+        }
+        List<T> result = new ArrayList<>();
+        for (String schema : schemas) {
+            Optional<List<T>> part = read.read(schema);
+            if (part.isEmpty()) {
+                return Optional.empty();
+            }
+            result.addAll(part.get());
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    private static List<SchemaReference> inScope(List<SchemaReference> schemas, MetadataScope scope) {
+        if (scope.schemaIncludes().isEmpty() && scope.schemaExcludes().isEmpty()) {
+            return schemas;
+        }
+        return schemas.stream().filter(s -> scope.matchesSchema(s.name())).toList();
+    }
+
+    /**
+     * Java-side safety net for rows a provider could not filter in SQL.
+     */
+    private static <T> List<T> inScope(List<T> items, MetadataScope scope,
+            java.util.function.Function<T, TableReference> table) {
+        if (scope.isUnrestricted() || items.isEmpty()) {
+            return items;
+        }
+        List<T> result = new ArrayList<>(items.size());
+        for (T item : items) {
+            TableReference ref = table.apply(item);
+            if (ref == null || inScope(ref, scope)) {
+                result.add(item);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static boolean inScope(TableReference table, MetadataScope scope) {
+        return scope.matchesSchema(table.schema().map(SchemaReference::name).orElse(null))
+                && scope.matchesTable(table.name());
+    }
+
+    private void visitTableDefinitions(DatabaseMetaData databaseMetaData, MetadataScope scope,
+            ReferenceInterner refs, Consumer<TableDefinition> sink) throws SQLException {
+        if (scope.isUnrestricted()) {
+            visitTableDefinitions(databaseMetaData, null, null, null, null, refs, sink);
+            return;
+        }
+        // overlapping patterns report a table more than once
+        Set<String> seen = new HashSet<>();
+        for (String schemaPattern : jdbcPatterns(scope.schemaIncludes())) {
+            for (String tablePattern : jdbcPatterns(scope.tableIncludes())) {
+                visitTableDefinitions(databaseMetaData, null, schemaPattern, tablePattern, null, refs, td -> {
+                    if (seen.add(tableKey(td.table())) && inScope(td.table(), scope)) {
+                        sink.accept(td);
+                    }
+                });
+            }
+        }
+    }
+
+    private void visitColumnDefinitions(DatabaseMetaData databaseMetaData, MetadataScope scope,
+            ReferenceInterner refs, Consumer<ColumnDefinition> sink) throws SQLException {
+        if (scope.isUnrestricted()) {
+            visitColumnDefinitions(databaseMetaData, null, null, null, null, refs, sink);
+            return;
+        }
+        for (String schemaPattern : jdbcPatterns(scope.schemaIncludes())) {
+            for (String tablePattern : jdbcPatterns(scope.tableIncludes())) {
+                visitColumnDefinitions(databaseMetaData, null, schemaPattern, tablePattern, null, refs, sink);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableRead<T> {
+        /** @return the rows of one table, or {@code null} when it has none */
+        T read(DatabaseMetaData databaseMetaData, TableReference table) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface SchemaWideRead<T> {
+        /**
+         * Reads with a {@code null} table name.
+         *
+         * @param tables the tables of the schema in scope, by name
+         * @return the rows of those tables; tables without rows may be absent
+         */
+        Map<TableReference, T> read(DatabaseMetaData databaseMetaData, String catalog, String schema,
+                Map<String, TableReference> tables) throws SQLException;
+    }
+
+    private record SchemaKey(String catalog, String schema) {
+    }
+
+    /**
+     * The JDBC fallback for indexes, primary and foreign keys when the provider has
+     * no bulk query. Where an earlier probe showed that the driver answers the read
+     * for a whole schema, one call per schema replaces the per-table calls. Otherwise
+     * the tables are read one by one — on up to {@link #MAX_FALLBACK_CONNECTIONS}
+     * connections when a data source is at hand and there are enough tables — and,
+     * while the driver's answer is unknown, one schema-wide read is compared with the
+     * per-table rows to settle it for {@link SchemaWideSupport}.
+     *
+     * @param rowsOf the rows of one table's value, compared as a set by the probe
+     * @return the values by table in table order; tables without rows are absent
+     */
+    private <T> Map<TableReference, T> readFallback(DatabaseMetaData databaseMetaData, DataSource dataSource,
+            List<TableReference> tables, SchemaWideSupport.Read kind, TableRead<T> perTable,
+            SchemaWideRead<T> schemaWide, java.util.function.Function<T, Collection<?>> rowsOf)
+            throws SQLException {
+        if (tables.isEmpty()) {
+            return Map.of();
+        }
+        Map<SchemaKey, Map<String, TableReference>> bySchema = new LinkedHashMap<>();
+        for (TableReference table : tables) {
+            Optional<SchemaReference> oSchema = table.schema();
+            SchemaKey key = new SchemaKey(oSchema.flatMap(SchemaReference::catalog).map(CatalogReference::name)
+                    .orElse(null), oSchema.map(SchemaReference::name).orElse(null));
+            bySchema.computeIfAbsent(key, k -> new LinkedHashMap<>()).putIfAbsent(table.name(), table);
+        }
+
+        Optional<Boolean> supported = SchemaWideSupport.supported(databaseMetaData, kind);
+        if (supported.orElse(false)) {
+            Map<TableReference, T> rows = new HashMap<>();
+            for (Map.Entry<SchemaKey, Map<String, TableReference>> schema : bySchema.entrySet()) {
+                rows.putAll(schemaWide.read(databaseMetaData, schema.getKey().catalog(), schema.getKey().schema(),
+                        schema.getValue()));
+            }
+            Map<TableReference, T> result = new LinkedHashMap<>();
+            for (TableReference table : tables) {
+                T value = rows.get(table);
+                if (value != null) {
+                    result.put(table, value);
+                }
+            }
+            return result;
         }
 
-        List<org.eclipse.daanse.sql.jdbc.api.schema.ObjectPrivilege> objectPrivileges =
-                provider.getAllObjectPrivileges(connection, null, null).orElse(List.of());
+        Map<TableReference, T> result = readPerTable(databaseMetaData, dataSource, tables, perTable);
+        if (supported.isEmpty()) {
+            // probe on the first schema with rows; a schema without any proves nothing
+            for (Map.Entry<SchemaKey, Map<String, TableReference>> schema : bySchema.entrySet()) {
+                if (schema.getValue().values().stream().anyMatch(t -> !rowList(result.get(t), rowsOf).isEmpty())) {
+                    probeSchemaWide(databaseMetaData, kind, schema.getKey(), schema.getValue(), result, schemaWide,
+                            rowsOf);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
 
-        StructureInfo structureInfo = new StructureInfoRecord(catalogs, schemas, tables, columns,
-                importedKeys, primaryKeys, triggers, sequences, checkConstraints, uniqueConstraints,
-                userDefinedTypes, viewDefinitions, procedures, functions, materializedViews, partitions,
-                tablePrivileges, List.copyOf(columnPrivileges), objectPrivileges);
-        return new MetaInfoRecord(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos);
+    /** Records whether the schema-wide read returns exactly the per-table rows. */
+    private <T> void probeSchemaWide(DatabaseMetaData databaseMetaData, SchemaWideSupport.Read kind,
+            SchemaKey schema, Map<String, TableReference> tables, Map<TableReference, T> perTableRows,
+            SchemaWideRead<T> schemaWide, java.util.function.Function<T, Collection<?>> rowsOf)
+            throws SQLException {
+        Map<TableReference, T> schemaRows;
+        try {
+            schemaRows = schemaWide.read(databaseMetaData, schema.catalog(), schema.schema(), tables);
+        } catch (SQLException | RuntimeException e) {
+            // drivers reject the null table name with either
+            LOGGER.debug("Schema-wide {} read not supported by {}: {}", kind,
+                    databaseMetaData.getDatabaseProductName(), e.getMessage());
+            SchemaWideSupport.record(databaseMetaData, kind, false);
+            return;
+        }
+        boolean anyRows = false;
+        for (TableReference table : tables.values()) {
+            List<?> expected = rowList(perTableRows.get(table), rowsOf);
+            List<?> actual = rowList(schemaRows.get(table), rowsOf);
+            if (expected.size() != actual.size() || !new HashSet<>(expected).equals(new HashSet<>(actual))) {
+                LOGGER.debug("Schema-wide {} read of {} differs from the per-table read of {}", kind,
+                        databaseMetaData.getDatabaseProductName(), table.name());
+                SchemaWideSupport.record(databaseMetaData, kind, false);
+                return;
+            }
+            anyRows |= !expected.isEmpty();
+        }
+        if (anyRows) {
+            SchemaWideSupport.record(databaseMetaData, kind, true);
+        }
+    }
+
+    private static <T> List<?> rowList(T value, java.util.function.Function<T, Collection<?>> rowsOf) {
+        return value == null ? List.of() : List.copyOf(rowsOf.apply(value));
+    }
+
+    /**
+     * Reads table by table. From {@link #PARALLEL_TABLES_PER_CONNECTION} tables per
+     * connection on, contiguous slices of the tables go to further connections of
+     * {@code dataSource}; the walking connection reads the first slice.
+     */
+    private <T> Map<TableReference, T> readPerTable(DatabaseMetaData databaseMetaData, DataSource dataSource,
+            List<TableReference> tables, TableRead<T> read) throws SQLException {
+        int connections = dataSource == null ? 1
+                : Math.min(MAX_FALLBACK_CONNECTIONS, tables.size() / PARALLEL_TABLES_PER_CONNECTION);
+        List<T> values;
+        if (connections <= 1) {
+            values = readSlice(databaseMetaData, tables, read);
+        } else {
+            int sliceSize = (tables.size() + connections - 1) / connections;
+            ExecutorService executor = Executors.newFixedThreadPool(connections - 1);
+            try {
+                List<Future<List<T>>> slices = new ArrayList<>();
+                for (int from = sliceSize; from < tables.size(); from += sliceSize) {
+                    List<TableReference> slice = tables.subList(from, Math.min(from + sliceSize, tables.size()));
+                    slices.add(executor.submit(() -> {
+                        try (Connection connection = dataSource.getConnection()) {
+                            return readSlice(connection.getMetaData(), slice, read);
+                        }
+                    }));
+                }
+                values = new ArrayList<>(readSlice(databaseMetaData, tables.subList(0, sliceSize), read));
+                for (Future<List<T>> slice : slices) {
+                    values.addAll(await(slice));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Map<TableReference, T> result = new LinkedHashMap<>();
+        for (int i = 0; i < tables.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(tables.get(i), values.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static <T> List<T> readSlice(DatabaseMetaData databaseMetaData, List<TableReference> tables,
+            TableRead<T> read) throws SQLException {
+        List<T> values = new ArrayList<>(tables.size());
+        for (TableReference table : tables) {
+            values.add(read.read(databaseMetaData, table));
+        }
+        return values;
+    }
+
+    private static <T> T await(Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while reading metadata", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SQLException(e.getCause());
+        }
+    }
+
+    /** Include patterns as JDBC search patterns; no include means one unrestricted call. */
+    private static List<String> jdbcPatterns(List<String> includes) {
+        return includes.isEmpty() ? Collections.singletonList(null) : includes;
     }
 
     private static String tableKey(TableReference table) {
@@ -283,75 +837,121 @@ public class DatabaseServiceImpl implements DatabaseService {
     }
 
     protected MetaInfo readMetaInfo(DatabaseMetaData databaseMetaData) throws SQLException {
-        DatabaseInfo databaseInfo = readDatabaseInfo(databaseMetaData);
-        IdentifierInfo identifierInfo = readIdentifierInfo(databaseMetaData);
-        List<TypeInfo> typeInfos = getTypeInfo(databaseMetaData);
-        StructureInfo structureInfo = getStructureInfo(databaseMetaData);
-        List<IndexInfo> indexInfos = getIndexInfo(databaseMetaData);
-        return new MetaInfoRecord(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos);
+        MetaInfoCollector collector = new MetaInfoCollector(recordLoad);
+        walk(databaseMetaData.getConnection(), databaseMetaData, null, MetadataProvider.EMPTY, MetadataScope.ALL,
+                collector, new ReferenceInterner());
+        return collector.metaInfo();
     }
 
     public List<IndexInfo> getIndexInfo(DatabaseMetaData databaseMetaData) throws SQLException {
-        List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
         List<IndexInfo> indexInfos = new ArrayList<>();
-        for (TableDefinition tableDefinition : tables) {
-            String catalog = null;
-            String schema = null;
-            TableReference table = tableDefinition.table();
-            List<IndexInfoItem> indexInfoItems = new ArrayList<>();
-            Optional<SchemaReference> oSchema = table.schema();
-            if (oSchema.isPresent()) {
-                SchemaReference sr = oSchema.get();
-                schema = oSchema.get().name();
-                if (sr.catalog().isPresent()) {
-                    catalog = sr.catalog().get().name();
-                }
+        visitIndexInfo(databaseMetaData, getTableDefinitions(databaseMetaData).stream().map(TableDefinition::table)
+                .toList(), new ReferenceInterner(), indexInfos::add);
+        return List.copyOf(indexInfos);
+    }
+
+    private void visitIndexInfo(DatabaseMetaData databaseMetaData, List<TableReference> tables,
+            ReferenceInterner refs, Consumer<IndexInfo> sink) throws SQLException {
+        for (TableReference table : tables) {
+            List<IndexInfoItem> indexInfoItems = readIndexInfo(databaseMetaData, table, refs);
+            if (indexInfoItems != null) {
+                sink.accept(new IndexInfoRecord(table, indexInfoItems));
             }
-            LOGGER.debug("Reading index info for table: {}.{}.{}", catalog, schema, table.name());
-            try (ResultSet resultSet = databaseMetaData.getIndexInfo(catalog, schema, table.name(), false, true)) {
-                while (resultSet.next()) {
-                    boolean nonUnique = resultSet.getBoolean(INDEX_NON_UNIQUE);
-                    Optional<String> indexName = Optional.ofNullable(resultSet.getString(INDEX_NAME));
-                    int type = resultSet.getInt(INDEX_TYPE);
-                    int ordinalPosition = resultSet.getInt(INDEX_ORDINAL_POSITION);
-                    String columnNameStr = resultSet.getString(INDEX_COLUMN_NAME);
-                    Optional<ColumnReference> colRef = Optional.ofNullable(columnNameStr)
-                            .map(cn -> new ColumnReference(Optional.of(table), cn));
-                    String ascOrDesc = resultSet.getString(INDEX_ASC_OR_DESC);
-                    Optional<Boolean> ascending = ascOrDesc == null ? Optional.empty() :
-                            Optional.of("A".equalsIgnoreCase(ascOrDesc));
-                    long cardinality = resultSet.getLong(INDEX_CARDINALITY);
-                    long pages = resultSet.getLong(INDEX_PAGES);
-                    Optional<String> filterCondition = Optional.ofNullable(resultSet.getString(INDEX_FILTER_CONDITION));
-
-                    IndexInfoItem.IndexType indexType = IndexInfoItem.IndexType.of(type);
-                    indexInfoItems.add(new IndexInfoItemRecord(indexName, indexType, colRef, ordinalPosition,
-                            ascending, cardinality, pages, filterCondition, !nonUnique));
-                }
-            } catch (SQLException e) {
-                LOGGER.warn("Error reading index info for table: {}.{}.{} - {}", catalog, schema, table.name(),
-                        e.getMessage());
+        }
+    }
 
-                continue;
+    /** @return the table's index rows, or {@code null} when the driver failed to read them */
+    private List<IndexInfoItem> readIndexInfo(DatabaseMetaData databaseMetaData, TableReference table,
+            ReferenceInterner refs) {
+        String catalog = null;
+        String schema = null;
+        Optional<SchemaReference> oSchema = table.schema();
+        if (oSchema.isPresent()) {
+            SchemaReference sr = oSchema.get();
+            schema = oSchema.get().name();
+            if (sr.catalog().isPresent()) {
+                catalog = sr.catalog().get().name();
             }
-            indexInfos.add(new IndexInfoRecord(table, indexInfoItems));
         }
-        return List.copyOf(indexInfos);
+        LOGGER.debug("Reading index info for table: {}.{}.{}", catalog, schema, table.name());
+        try {
+            return readIndexInfo(databaseMetaData, catalog, schema, table.name(), name -> table, refs)
+                    .getOrDefault(table, List.of());
+        } catch (SQLException e) {
+            LOGGER.warn("Error reading index info for table: {}.{}.{} - {}", catalog, schema, table.name(),
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /** Schema-wide index read: an entry for every table of {@code tables}, also without indexes. */
+    private Map<TableReference, List<IndexInfoItem>> readIndexInfo(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, Map<String, TableReference> tables, ReferenceInterner refs)
+            throws SQLException {
+        Map<TableReference, List<IndexInfoItem>> rows = readIndexInfo(databaseMetaData, catalog, schema, null,
+                tables::get, refs);
+        Map<TableReference, List<IndexInfoItem>> result = new LinkedHashMap<>();
+        for (TableReference table : tables.values()) {
+            result.put(table, rows.getOrDefault(table, List.of()));
+        }
+        return result;
+    }
+
+    /**
+     * @param tables resolves the TABLE_NAME of a row; rows of tables it does not know
+     *               are skipped
+     */
+    private Map<TableReference, List<IndexInfoItem>> readIndexInfo(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, String tableName,
+            java.util.function.Function<String, TableReference> tables, ReferenceInterner refs) throws SQLException {
+        Map<TableReference, List<IndexInfoItem>> result = new LinkedHashMap<>();
+        try (ResultSet resultSet = databaseMetaData.getIndexInfo(catalog, schema, tableName, false, true)) {
+            while (resultSet.next()) {
+                TableReference table = tables.apply(resultSet.getString(INDEX_TABLE_NAME));
+                if (table == null) {
+                    continue;
+                }
+                boolean nonUnique = resultSet.getBoolean(INDEX_NON_UNIQUE);
+                Optional<String> indexName = Optional.ofNullable(refs.name(resultSet.getString(INDEX_NAME)));
+                int type = resultSet.getInt(INDEX_TYPE);
+                int ordinalPosition = resultSet.getInt(INDEX_ORDINAL_POSITION);
+                String columnNameStr = resultSet.getString(INDEX_COLUMN_NAME);
+                Optional<ColumnReference> colRef = Optional.ofNullable(columnNameStr)
+                        .map(cn -> refs.column(table, cn));
+                String ascOrDesc = resultSet.getString(INDEX_ASC_OR_DESC);
+                Optional<Boolean> ascending = ascOrDesc == null ? Optional.empty() :
+                        Optional.of("A".equalsIgnoreCase(ascOrDesc));
+                long cardinality = resultSet.getLong(INDEX_CARDINALITY);
+                long pages = resultSet.getLong(INDEX_PAGES);
+                Optional<String> filterCondition = Optional.ofNullable(resultSet.getString(INDEX_FILTER_CONDITION));
+
+                IndexInfoItem.IndexType indexType = IndexInfoItem.IndexType.of(type);
+                result.computeIfAbsent(table, t -> new ArrayList<>()).add(new IndexInfoItemRecord(indexName,
+                        indexType, colRef, ordinalPosition, ascending, cardinality, pages, filterCondition,
+                        !nonUnique));
+            }
+        }
+        return result;
     }
 
     protected StructureInfo getStructureInfo(DatabaseMetaData databaseMetaData) throws SQLException {
+        return getStructureInfo(databaseMetaData, new ReferenceInterner());
+    }
+
+    private StructureInfo getStructureInfo(DatabaseMetaData databaseMetaData, ReferenceInterner refs)
+            throws SQLException {
         List<CatalogReference> catalogs = getCatalogs(databaseMetaData);
         List<SchemaReference> schemas = getSchemas(databaseMetaData);
-        List<TableDefinition> tables = getTableDefinitions(databaseMetaData);
-        List<ColumnDefinition> columns = getColumnDefinitions(databaseMetaData);
+        List<TableDefinition> tables = getTableDefinitions(databaseMetaData, null, null, null, null, refs);
+        List<ColumnDefinition> columns = getColumnDefinitions(databaseMetaData, null, null, null, null, refs);
 
         List<ImportedKey> importedKeys = new ArrayList<ImportedKey>();
         List<PrimaryKey> primaryKeys = new ArrayList<PrimaryKey>();
         for (TableDefinition tableDefinition : tables) {
-            List<ImportedKey> iks = getImportedKeys(databaseMetaData, tableDefinition.table());
+            List<ImportedKey> iks = getImportedKeys(databaseMetaData, tableDefinition.table(), refs);
             importedKeys.addAll(iks);
 
-            PrimaryKey pk = getPrimaryKey(databaseMetaData, tableDefinition.table());
+            PrimaryKey pk = getPrimaryKey(databaseMetaData, tableDefinition.table(), refs);
             if (pk != null) {
                 primaryKeys.add(pk);
             }
@@ -470,8 +1070,22 @@ public class DatabaseServiceImpl implements DatabaseService {
 
     private List<TableDefinition> getTableDefinitions(DatabaseMetaData databaseMetaData, String catalog,
             String schemaPattern, String tableNamePattern, String types[]) throws SQLException {
+        return getTableDefinitions(databaseMetaData, catalog, schemaPattern, tableNamePattern, types,
+                new ReferenceInterner());
+    }
 
+    private List<TableDefinition> getTableDefinitions(DatabaseMetaData databaseMetaData, String catalog,
+            String schemaPattern, String tableNamePattern, String types[], ReferenceInterner refs)
+            throws SQLException {
         List<TableDefinition> tabeDefinitions = new ArrayList<>();
+        visitTableDefinitions(databaseMetaData, catalog, schemaPattern, tableNamePattern, types, refs,
+                tabeDefinitions::add);
+        return List.copyOf(tabeDefinitions);
+    }
+
+    private void visitTableDefinitions(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern,
+            String tableNamePattern, String types[], ReferenceInterner refs, Consumer<TableDefinition> sink)
+            throws SQLException {
         try (ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, types)) {
             int columnCount = rs.getMetaData().getColumnCount();
             Set<String> columnNames = new HashSet<>();
@@ -493,19 +1107,15 @@ public class DatabaseServiceImpl implements DatabaseService {
                 final Optional<String> oSelfRefColName = getColumnValue(rs, columnNames, "SELF_REFERENCING_COL_NAME");
                 final Optional<String> oRefGen = getColumnValue(rs, columnNames, "REF_GENERATION");
 
-                Optional<CatalogReference> oCatRef = oCatalogName.map(cn -> new CatalogReference(cn));
-                Optional<SchemaReference> oSchemaRef = oSchemaName.map(sn -> new SchemaReference(oCatRef, sn));
-
-                TableReference tableReference = new TableReference(oSchemaRef, tableName, tableType);
+                TableReference tableReference = refs.table(oCatalogName.orElse(null), oSchemaName.orElse(null),
+                        tableName, tableType);
                 TableMetaData tableMetaData = new TableMetaDataRecord(oRemarks, oTypeCat, oTypeSchema, oTypeName,
                         oSelfRefColName, oRefGen);
 
                 TableDefinition tableDefinition = new TableDefinitionRecord(tableReference, tableMetaData);
-                tabeDefinitions.add(tableDefinition);
+                sink.accept(tableDefinition);
             }
         }
-
-        return List.copyOf(tabeDefinitions);
     }
 
     private Optional<String> getColumnValue(ResultSet rs, Set<String> columnNames, String columnName)
@@ -628,6 +1238,27 @@ public class DatabaseServiceImpl implements DatabaseService {
         return new IdentifierInfoRecord(quoteString, maxColumnNameLength, readOnly, supportedResultSetStyles);
     }
 
+    /**
+     * The cached identifier info with the read-only flag of this database and the
+     * quote string of this connection; MySQL Connector/J derives the latter from
+     * the session's {@code ANSI_QUOTES} sql_mode.
+     */
+    private static IdentifierInfo withSessionValues(IdentifierInfo identifierInfo,
+            DatabaseMetaData databaseMetaData) {
+        boolean readOnly = true;
+        String quoteString = identifierInfo.quoteString();
+        try {
+            readOnly = databaseMetaData.isReadOnly();
+            quoteString = databaseMetaData.getIdentifierQuoteString();
+        } catch (SQLException e) {
+            LOGGER.error("Exception while reading readOnly and quoteString", e);
+        }
+        return readOnly == identifierInfo.readOnly() && Objects.equals(quoteString, identifierInfo.quoteString())
+                ? identifierInfo
+                : new IdentifierInfoRecord(quoteString, identifierInfo.maxColumnNameLength(), readOnly,
+                        identifierInfo.supportedResultSetStyles());
+    }
+
     private List<ColumnDefinition> getColumnDefinitions(DatabaseMetaData databaseMetaData) throws SQLException {
         return getColumnDefinitions(databaseMetaData, null, null, null, null);
 
@@ -660,8 +1291,22 @@ public class DatabaseServiceImpl implements DatabaseService {
 
     private List<ColumnDefinition> getColumnDefinitions(DatabaseMetaData databaseMetaData, String catalog,
             String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        return getColumnDefinitions(databaseMetaData, catalog, schemaPattern, tableNamePattern, columnNamePattern,
+                new ReferenceInterner());
+    }
+
+    private List<ColumnDefinition> getColumnDefinitions(DatabaseMetaData databaseMetaData, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern, ReferenceInterner refs)
+            throws SQLException {
         List<ColumnDefinition> columnDefinitions = new ArrayList<>();
+        visitColumnDefinitions(databaseMetaData, catalog, schemaPattern, tableNamePattern, columnNamePattern, refs,
+                columnDefinitions::add);
+        return List.copyOf(columnDefinitions);
+    }
 
+    private void visitColumnDefinitions(DatabaseMetaData databaseMetaData, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, ReferenceInterner refs,
+            Consumer<ColumnDefinition> sink) throws SQLException {
         try (ResultSet rs = databaseMetaData.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);) {
             while (rs.next()) {
 
@@ -670,7 +1315,7 @@ public class DatabaseServiceImpl implements DatabaseService {
                 final String tableName = rs.getString("TABLE_NAME");
                 final String columName = rs.getString("COLUMN_NAME");
 
-                final String typeName = rs.getString("TYPE_NAME");
+                final String typeName = refs.name(rs.getString("TYPE_NAME"));
                 OptionalInt oColumnSize = OptionalInt.of(rs.getInt("COLUMN_SIZE"));
 
                 if (rs.wasNull()) {
@@ -702,7 +1347,7 @@ public class DatabaseServiceImpl implements DatabaseService {
                 final Optional<String> remarks = Optional.ofNullable(rs.getString("REMARKS"));
 
                 // Additional fields from JDBC spec
-                final Optional<String> columnDefault = Optional.ofNullable(rs.getString("COLUMN_DEF"));
+                final Optional<String> columnDefault = Optional.ofNullable(refs.name(rs.getString("COLUMN_DEF")));
                 final ColumnMetaData.Nullability nullability = oNullable.isPresent()
                         ? ColumnMetaData.Nullability.of(oNullable.getAsInt())
                         : ColumnMetaData.Nullability.UNKNOWN;
@@ -723,9 +1368,6 @@ public class DatabaseServiceImpl implements DatabaseService {
                     LOGGER.debug("IS_GENERATEDCOLUMN not available for column: {}.{}", tableName, columName);
                 }
 
-                Optional<CatalogReference> oCatRef = oCatalogName.map(cn -> new CatalogReference(cn));
-                Optional<SchemaReference> oSchemaRef = oSchemaName.map(sn -> new SchemaReference(oCatRef, sn));
-
                 JDBCType jdbcType;
                 try {
                     jdbcType = JDBCType.valueOf(dataType);
@@ -735,17 +1377,17 @@ public class DatabaseServiceImpl implements DatabaseService {
                             + " column: " + columName);
                 }
 
-                TableReference tableReference = new TableReference(oSchemaRef, tableName);
+                TableReference tableReference = refs.table(oCatalogName.orElse(null), oSchemaName.orElse(null),
+                        tableName);
 
-                ColumnReference columnReference = new ColumnReference(Optional.of(tableReference), columName);
+                ColumnReference columnReference = refs.column(tableReference, columName);
                 ColumnDefinition columnDefinition = new ColumnDefinitionRecord(columnReference, new ColumnMetaDataRecord(
                         jdbcType, typeName, oColumnSize, oDecimalDigits, oNumPrecRadix, nullability,
                         oCharOctetLength, remarks, columnDefault, autoIncrement, generatedColumn));
 
-                columnDefinitions.add(columnDefinition);
+                sink.accept(columnDefinition);
             }
         }
-        return List.copyOf(columnDefinitions);
     }
 
     private boolean columnExists(DatabaseMetaData databaseMetaData, ColumnReference column) throws SQLException {
@@ -768,18 +1410,23 @@ public class DatabaseServiceImpl implements DatabaseService {
         }
     }
 
-    private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, TableReference table)
-            throws SQLException {
+    private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, TableReference table,
+            ReferenceInterner refs) throws SQLException {
 
         Optional<SchemaReference> oSchema = table.schema();
         String schema = oSchema.map(SchemaReference::name).orElse(null);
         Optional<CatalogReference> oCatalog = oSchema.flatMap(SchemaReference::catalog);
         String catalog = oCatalog.map(CatalogReference::name).orElse(null);
-        return getImportedKeys(databaseMetaData, catalog, schema, table.name());
+        return getImportedKeys(databaseMetaData, catalog, schema, table.name(), refs);
     }
 
     private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
             String tableName) throws SQLException {
+        return getImportedKeys(databaseMetaData, catalog, schema, tableName, new ReferenceInterner());
+    }
+
+    private List<ImportedKey> getImportedKeys(DatabaseMetaData databaseMetaData, String catalog, String schema,
+            String tableName, ReferenceInterner refs) throws SQLException {
         List<ImportedKey> importedKeys = new ArrayList<>();
 
         try (ResultSet rs = databaseMetaData.getImportedKeys(catalog, schema, tableName);) {
@@ -804,16 +1451,14 @@ public class DatabaseServiceImpl implements DatabaseService {
                 final int deferrability = rs.getInt("DEFERRABILITY");
 
                 // PK
-                Optional<CatalogReference> oCatRefPk = oCatalogNamePK.map(cn -> new CatalogReference(cn));
-                Optional<SchemaReference> oSchemaRefPk = oSchemaNamePk.map(sn -> new SchemaReference(oCatRefPk, sn));
-                TableReference tableReferencePk = new TableReference(oSchemaRefPk, tableNamePk);
-                ColumnReference primaryKeyColumn = new ColumnReference(Optional.of(tableReferencePk), columNamePk);
+                TableReference tableReferencePk = refs.table(oCatalogNamePK.orElse(null), oSchemaNamePk.orElse(null),
+                        tableNamePk);
+                ColumnReference primaryKeyColumn = refs.column(tableReferencePk, columNamePk);
 
                 // FK
-                Optional<CatalogReference> oCatRefFk = oCatalogNameFK.map(cn -> new CatalogReference(cn));
-                Optional<SchemaReference> oSchemaRefFk = oSchemaNameFk.map(sn -> new SchemaReference(oCatRefFk, sn));
-                TableReference tableReferenceFk = new TableReference(oSchemaRefFk, tableNameFk);
-                ColumnReference foreignKeyColumn = new ColumnReference(Optional.of(tableReferenceFk), columNameFk);
+                TableReference tableReferenceFk = refs.table(oCatalogNameFK.orElse(null), oSchemaNameFk.orElse(null),
+                        tableNameFk);
+                ColumnReference foreignKeyColumn = refs.column(tableReferenceFk, columNameFk);
 
                 // Use FK_NAME from database if available, otherwise generate one
                 String constraintName;
@@ -848,37 +1493,69 @@ public class DatabaseServiceImpl implements DatabaseService {
      * @throws SQLException if a database access error occurs
      */
     public PrimaryKey getPrimaryKey(DatabaseMetaData databaseMetaData, TableReference table) throws SQLException {
+        return getPrimaryKey(databaseMetaData, table, new ReferenceInterner());
+    }
+
+    private PrimaryKey getPrimaryKey(DatabaseMetaData databaseMetaData, TableReference table, ReferenceInterner refs)
+            throws SQLException {
         Optional<SchemaReference> oSchema = table.schema();
         String schema = oSchema.map(SchemaReference::name).orElse(null);
         Optional<CatalogReference> oCatalog = oSchema.flatMap(SchemaReference::catalog);
         String catalog = oCatalog.map(CatalogReference::name).orElse(null);
 
-        List<ColumnReference> columns = new ArrayList<>();
-        String pkName = null;
-
-        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, table.name())) {
-            // Results are ordered by COLUMN_NAME, but we need to order by KEY_SEQ
-            // So we collect all columns first
-            java.util.TreeMap<Integer, ColumnReference> orderedColumns = new java.util.TreeMap<>();
+        return readPrimaryKeys(databaseMetaData, catalog, schema, table.name(), name -> table, refs).get(table);
+    }
 
+    /**
+     * @param tables resolves the TABLE_NAME of a row; rows of tables it does not know
+     *               are skipped
+     * @return the primary keys by table; tables without primary key are absent
+     */
+    private Map<TableReference, PrimaryKey> readPrimaryKeys(DatabaseMetaData databaseMetaData, String catalog,
+            String schema, String tableName, java.util.function.Function<String, TableReference> tables,
+            ReferenceInterner refs) throws SQLException {
+        // Results are ordered by COLUMN_NAME, but we need to order by KEY_SEQ
+        // So we collect all columns first
+        Map<TableReference, TreeMap<Integer, ColumnReference>> orderedColumns = new LinkedHashMap<>();
+        Map<TableReference, String> pkNames = new HashMap<>();
+
+        try (ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, tableName)) {
             while (rs.next()) {
+                TableReference table = tables.apply(rs.getString("TABLE_NAME"));
+                if (table == null) {
+                    continue;
+                }
                 final String columnName = rs.getString("COLUMN_NAME");
                 final int keySeq = rs.getInt("KEY_SEQ");
-                pkName = rs.getString("PK_NAME"); // Same for all rows
+                pkNames.put(table, rs.getString("PK_NAME")); // Same for all rows of a table
 
-                ColumnReference colRef = new ColumnReference(Optional.of(table), columnName);
-                orderedColumns.put(keySeq, colRef);
+                ColumnReference colRef = refs.column(table, columnName);
+                orderedColumns.computeIfAbsent(table, t -> new TreeMap<>()).put(keySeq, colRef);
             }
-
-            // Add columns in KEY_SEQ order
-            columns.addAll(orderedColumns.values());
         }
 
-        if (columns.isEmpty()) {
-            return null; // No primary key
+        Map<TableReference, PrimaryKey> result = new LinkedHashMap<>();
+        orderedColumns.forEach((table, columns) -> result.put(table, new PrimaryKeyRecord(table,
+                List.copyOf(columns.values()), Optional.ofNullable(pkNames.get(table)))));
+        return result;
+    }
+
+    /** Schema-wide foreign key read, grouped by the referencing table. */
+    private Map<TableReference, List<ImportedKey>> importedKeysByTable(DatabaseMetaData databaseMetaData,
+            String catalog, String schema, Map<String, TableReference> tables, ReferenceInterner refs)
+            throws SQLException {
+        Map<TableReference, List<ImportedKey>> result = new LinkedHashMap<>();
+        for (ImportedKey ik : getImportedKeys(databaseMetaData, catalog, schema, null, refs)) {
+            TableReference table = ik.foreignKeyColumn().table().map(t -> tables.get(t.name())).orElse(null);
+            if (table != null) {
+                result.computeIfAbsent(table, t -> new ArrayList<>()).add(ik);
+            }
         }
+        return result;
+    }
 
-        return new PrimaryKeyRecord(table, List.copyOf(columns), Optional.ofNullable(pkName));
+    private static <T> List<T> emptyToNull(List<T> list) {
+        return list.isEmpty() ? null : list;
     }
 
     private static Set<List<Integer>> supportedResultSetStyles(DatabaseMetaData databaseMetaData) throws SQLException {
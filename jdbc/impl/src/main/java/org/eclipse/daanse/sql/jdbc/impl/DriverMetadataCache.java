@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide cache of the snapshot sections that depend only on the driver and
+ * the database product: {@link DatabaseInfo}, {@link IdentifierInfo} and the
+ * {@link TypeInfo} list. Keyed by driver name, driver version, product name and
+ * product version, so many databases of the same server version — tenants of one
+ * deployment — read them once.
+ * <p>
+ * {@link IdentifierInfo#readOnly()} belongs to the database, not to the product,
+ * and {@link IdentifierInfo#quoteString()} may depend on the session (MySQL's
+ * {@code ANSI_QUOTES} sql_mode); both are read again for every snapshot. PostgreSQL's {@code getTypeInfo} lists the
+ * user-defined types of the current database from {@code pg_type}; its type list
+ * is therefore not shared.
+ */
+final class DriverMetadataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DriverMetadataCache.class);
+
+    /** Products whose {@code getTypeInfo} reflects the catalog of the database. */
+    private static final Set<String> PER_DATABASE_TYPE_INFO = Set.of("PostgreSQL");
+
+    private record Key(String driverName, String driverVersion, String productName, String productVersion) {
+    }
+
+    /**
+     * @param typeInfos {@code null} when the product's type list is per database
+     */
+    record Entry(DatabaseInfo databaseInfo, IdentifierInfo identifierInfo, List<TypeInfo> typeInfos) {
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Entry load(boolean withTypeInfo) throws SQLException;
+    }
+
+    private static final Map<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private DriverMetadataCache() {
+    }
+
+    /**
+     * @param loader reads the sections from {@code databaseMetaData} on a miss
+     * @return the cached entry, or the loader's entry when the driver cannot name
+     *         itself and the product
+     */
+    static Entry get(DatabaseMetaData databaseMetaData, Loader loader) throws SQLException {
+        Key key;
+        try {
+            key = new Key(databaseMetaData.getDriverName(), databaseMetaData.getDriverVersion(),
+                    databaseMetaData.getDatabaseProductName(), databaseMetaData.getDatabaseProductVersion());
+        } catch (SQLException e) {
+            LOGGER.debug("Driver and product not readable, metadata is not cached: {}", e.getMessage());
+            return loader.load(true);
+        }
+        Entry entry = ENTRIES.get(key);
+        if (entry == null) {
+            entry = loader.load(!PER_DATABASE_TYPE_INFO.contains(key.productName()));
+            Entry raced = ENTRIES.putIfAbsent(key, entry);
+            entry = raced != null ? raced : entry;
+        }
+        return entry;
+    }
+
+    /** Forgets all entries; the next snapshot of each product reads them again. */
+    static void clear() {
+        ENTRIES.clear();
+    }
+}
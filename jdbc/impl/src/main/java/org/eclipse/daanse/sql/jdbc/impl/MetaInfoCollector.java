@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataVisitor;
+import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
+import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.Function;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.MaterializedView;
+import org.eclipse.daanse.sql.jdbc.api.schema.ObjectPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.Partition;
+import org.eclipse.daanse.sql.jdbc.api.schema.Procedure;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TablePrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+
+/**
+ * The visitor behind {@code createMetaInfo}: collects every visited object into
+ * the lists of a {@link MetaInfo}.
+ */
+final class MetaInfoCollector implements MetadataVisitor {
+
+    private DatabaseInfo databaseInfo;
+    private IdentifierInfo identifierInfo;
+    private final List<TypeInfo> typeInfos = new ArrayList<>();
+    private final List<CatalogReference> catalogs = new ArrayList<>();
+    private final List<SchemaReference> schemas = new ArrayList<>();
+    private final List<TableDefinition> tables = new ArrayList<>();
+    private final List<ColumnDefinition> columns = new ArrayList<>();
+    private final List<IndexInfo> indexInfos = new ArrayList<>();
+    private final List<PrimaryKey> primaryKeys = new ArrayList<>();
+    private final List<ImportedKey> importedKeys = new ArrayList<>();
+    private final List<Trigger> triggers = new ArrayList<>();
+    private final List<Sequence> sequences = new ArrayList<>();
+    private final List<CheckConstraint> checkConstraints = new ArrayList<>();
+    private final List<UniqueConstraint> uniqueConstraints = new ArrayList<>();
+    private final List<UserDefinedType> userDefinedTypes = new ArrayList<>();
+    private final List<ViewDefinition> viewDefinitions = new ArrayList<>();
+    private final List<Procedure> procedures = new ArrayList<>();
+    private final List<Function> functions = new ArrayList<>();
+    private final List<MaterializedView> materializedViews = new ArrayList<>();
+    private final List<Partition> partitions = new ArrayList<>();
+    private final List<TablePrivilege> tablePrivileges = new ArrayList<>();
+    private final List<ColumnPrivilege> columnPrivileges = new ArrayList<>();
+    private final List<ObjectPrivilege> objectPrivileges = new ArrayList<>();
+    private final List<TableStatistics> tableStatistics = new ArrayList<>();
+    private final List<ColumnStatistics> columnStatistics = new ArrayList<>();
+    private final boolean recordsLoad;
+    private MetadataLoadReport loadReport;
+
+    /**
+     * @param recordsLoad whether the snapshot carries a load report
+     */
+    MetaInfoCollector(boolean recordsLoad) {
+        this.recordsLoad = recordsLoad;
+    }
+
+    @Override
+    public void onDatabaseInfo(DatabaseInfo databaseInfo) {
+        this.databaseInfo = databaseInfo;
+    }
+
+    @Override
+    public void onIdentifierInfo(IdentifierInfo identifierInfo) {
+        this.identifierInfo = identifierInfo;
+    }
+
+    @Override
+    public void onTypeInfo(TypeInfo typeInfo) {
+        typeInfos.add(typeInfo);
+    }
+
+    @Override
+    public void onCatalog(CatalogReference catalog) {
+        catalogs.add(catalog);
+    }
+
+    @Override
+    public void onSchema(SchemaReference schema) {
+        schemas.add(schema);
+    }
+
+    @Override
+    public void onTable(TableDefinition table) {
+        tables.add(table);
+    }
+
+    @Override
+    public void onColumn(ColumnDefinition column) {
+        columns.add(column);
+    }
+
+    @Override
+    public void onIndex(IndexInfo index) {
+        indexInfos.add(index);
+    }
+
+    @Override
+    public void onPrimaryKey(PrimaryKey primaryKey) {
+        primaryKeys.add(primaryKey);
+    }
+
+    @Override
+    public void onForeignKey(ImportedKey foreignKey) {
+        importedKeys.add(foreignKey);
+    }
+
+    @Override
+    public void onTrigger(Trigger trigger) {
+        triggers.add(trigger);
+    }
+
+    @Override
+    public void onSequence(Sequence sequence) {
+        sequences.add(sequence);
+    }
+
+    @Override
+    public void onCheckConstraint(CheckConstraint checkConstraint) {
+        checkConstraints.add(checkConstraint);
+    }
+
+    @Override
+    public void onUniqueConstraint(UniqueConstraint uniqueConstraint) {
+        uniqueConstraints.add(uniqueConstraint);
+    }
+
+    @Override
+    public void onUserDefinedType(UserDefinedType userDefinedType) {
+        userDefinedTypes.add(userDefinedType);
+    }
+
+    @Override
+    public void onViewDefinition(ViewDefinition viewDefinition) {
+        viewDefinitions.add(viewDefinition);
+    }
+
+    @Override
+    public void onProcedure(Procedure procedure) {
+        procedures.add(procedure);
+    }
+
+    @Override
+    public void onFunction(Function function) {
+        functions.add(function);
+    }
+
+    @Override
+    public void onMaterializedView(MaterializedView materializedView) {
+        materializedViews.add(materializedView);
+    }
+
+    @Override
+    public void onPartition(Partition partition) {
+        partitions.add(partition);
+    }
+
+    @Override
+    public void onTablePrivilege(TablePrivilege tablePrivilege) {
+        tablePrivileges.add(tablePrivilege);
+    }
+
+    @Override
+    public void onColumnPrivilege(ColumnPrivilege columnPrivilege) {
+        columnPrivileges.add(columnPrivilege);
+    }
+
+    @Override
+    public void onObjectPrivilege(ObjectPrivilege objectPrivilege) {
+        objectPrivileges.add(objectPrivilege);
+    }
+
+    @Override
+    public void onTableStatistics(TableStatistics tableStatistics) {
+        this.tableStatistics.add(tableStatistics);
+    }
+
+    @Override
+    public void onColumnStatistics(ColumnStatistics columnStatistics) {
+        this.columnStatistics.add(columnStatistics);
+    }
+
+    @Override
+    public boolean recordsLoad() {
+        return recordsLoad;
+    }
+
+    @Override
+    public void onLoadReport(MetadataLoadReport loadReport) {
+        this.loadReport = loadReport;
+    }
+
+    MetaInfo metaInfo() {
+        return new MetaInfoRecord(databaseInfo,
+                new StructureInfoRecord(List.copyOf(catalogs), List.copyOf(schemas), List.copyOf(tables),
+                        List.copyOf(columns), List.copyOf(importedKeys), List.copyOf(primaryKeys),
+                        List.copyOf(triggers), List.copyOf(sequences), List.copyOf(checkConstraints),
+                        List.copyOf(uniqueConstraints), List.copyOf(userDefinedTypes), List.copyOf(viewDefinitions),
+                        List.copyOf(procedures), List.copyOf(functions), List.copyOf(materializedViews),
+                        List.copyOf(partitions), List.copyOf(tablePrivileges), List.copyOf(columnPrivileges),
+                        List.copyOf(objectPrivileges)),
+                identifierInfo, List.copyOf(typeInfos), List.copyOf(indexInfos), List.copyOf(tableStatistics),
+                List.copyOf(columnStatistics), Optional.ofNullable(loadReport));
+    }
+}
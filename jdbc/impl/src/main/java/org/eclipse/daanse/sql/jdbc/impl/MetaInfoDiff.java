@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Structural difference between two {@link MetaInfo} snapshots of the same
+ * database: added, removed and altered tables, columns, primary and foreign keys,
+ * indexes and view definitions.
+ * <p>
+ * Each snapshot is indexed once into hash maps keyed by schema, table and member
+ * name, so a comparison is linear in the size of the snapshots. Catalog names are
+ * not part of the key. Index cardinality and page counts change with the data and
+ * are not compared.
+ */
+public final class MetaInfoDiff {
+
+    public enum Kind {
+        TABLE, COLUMN, PRIMARY_KEY, FOREIGN_KEY, INDEX, VIEW
+    }
+
+    public enum ChangeType {
+        ADDED, REMOVED, ALTERED
+    }
+
+    /**
+     * @param table the table the change belongs to, as the newer snapshot references
+     *              it when it still has the table
+     * @param name  the column, foreign key or index name; empty for table, primary
+     *              key and view changes
+     */
+    public record Change(Kind kind, ChangeType type, TableReference table, Optional<String> name) {
+    }
+
+    private record Key(Optional<String> schema, String table, Optional<String> member) {
+    }
+
+    private record Member(TableReference table, List<Object> state) {
+    }
+
+    private final List<Change> changes;
+
+    private MetaInfoDiff(List<Change> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * @param before the older snapshot
+     * @param after  the newer snapshot
+     * @return the changes from {@code before} to {@code after}, grouped by kind
+     */
+    public static MetaInfoDiff compare(MetaInfo before, MetaInfo after) {
+        List<Change> changes = new ArrayList<>();
+        diff(Kind.TABLE, tables(before.structureInfo()), tables(after.structureInfo()), changes);
+        diff(Kind.COLUMN, columns(before.structureInfo()), columns(after.structureInfo()), changes);
+        diff(Kind.PRIMARY_KEY, primaryKeys(before.structureInfo()), primaryKeys(after.structureInfo()), changes);
+        diff(Kind.FOREIGN_KEY, foreignKeys(before.structureInfo()), foreignKeys(after.structureInfo()), changes);
+        diff(Kind.INDEX, indexes(before.indexInfos()), indexes(after.indexInfos()), changes);
+        diff(Kind.VIEW, views(before.structureInfo()), views(after.structureInfo()), changes);
+        return new MetaInfoDiff(List.copyOf(changes));
+    }
+
+    public List<Change> changes() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * @return every table with at least one change, once per schema and table name,
+     *         in change order — what a cache keyed by table has to invalidate
+     */
+    public Set<TableReference> affectedTables() {
+        Map<Key, TableReference> tables = new LinkedHashMap<>();
+        for (Change change : changes) {
+            tables.putIfAbsent(key(change.table(), null), change.table());
+        }
+        return new LinkedHashSet<>(tables.values());
+    }
+
+    private static void diff(Kind kind, Map<Key, Member> before, Map<Key, Member> after, List<Change> changes) {
+        for (Map.Entry<Key, Member> entry : before.entrySet()) {
+            Member newer = after.get(entry.getKey());
+            if (newer == null) {
+                changes.add(new Change(kind, ChangeType.REMOVED, entry.getValue().table(), entry.getKey().member()));
+            } else if (!newer.state().equals(entry.getValue().state())) {
+                changes.add(new Change(kind, ChangeType.ALTERED, newer.table(), entry.getKey().member()));
+            }
+        }
+        for (Map.Entry<Key, Member> entry : after.entrySet()) {
+            if (!before.containsKey(entry.getKey())) {
+                changes.add(new Change(kind, ChangeType.ADDED, entry.getValue().table(), entry.getKey().member()));
+            }
+        }
+    }
+
+    private static Map<Key, Member> tables(StructureInfo si) {
+        Map<Key, Member> result = newMap(si.tables().size());
+        for (TableDefinition table : si.tables()) {
+            result.put(key(table.table(), null),
+                    new Member(table.table(), Arrays.asList(table.table().type(), table.tableMetaData())));
+        }
+        return result;
+    }
+
+    private static Map<Key, Member> columns(StructureInfo si) {
+        Map<Key, Member> result = newMap(si.columns().size());
+        for (ColumnDefinition column : si.columns()) {
+            column.column().table().ifPresent(table -> result.put(key(table, column.column().name()),
+                    new Member(table, List.of(column.columnMetaData()))));
+        }
+        return result;
+    }
+
+    private static Map<Key, Member> primaryKeys(StructureInfo si) {
+        Map<Key, Member> result = newMap(si.primaryKeys().size());
+        for (PrimaryKey pk : si.primaryKeys()) {
+            result.put(key(pk.table(), null),
+                    new Member(pk.table(), Arrays.asList(pk.constraintName(), names(pk.columns()))));
+        }
+        return result;
+    }
+
+    private static Map<Key, Member> foreignKeys(StructureInfo si) {
+        // one ImportedKey per column pair; the key's state is the list of its pairs
+        Map<Key, Member> result = newMap(si.importedKeys().size());
+        for (ImportedKey ik : si.importedKeys()) {
+            Optional<TableReference> table = ik.foreignKeyColumn().table();
+            if (table.isEmpty()) {
+                continue;
+            }
+            Optional<TableReference> referenced = ik.primaryKeyColumn().table();
+            result.computeIfAbsent(key(table.get(), ik.name()), k -> new Member(table.get(), new ArrayList<>()))
+                    .state().add(Arrays.asList(ik.keySequence(), ik.foreignKeyColumn().name(),
+                            referenced.flatMap(TableReference::schema).map(SchemaReference::name),
+                            referenced.map(TableReference::name), ik.primaryKeyColumn().name(), ik.updateRule(),
+                            ik.deleteRule(), ik.deferrability()));
+        }
+        return result;
+    }
+
+    private static Map<Key, Member> indexes(List<IndexInfo> indexInfos) {
+        Map<Key, Member> result = newMap(indexInfos.size());
+        for (IndexInfo info : indexInfos) {
+            TableReference table = info.tableReference();
+            for (IndexInfoItem item : info.indexInfoItems()) {
+                if (item.indexName().isEmpty()) {
+                    continue; // table statistic rows carry no index
+                }
+                result.computeIfAbsent(key(table, item.indexName().get()), k -> new Member(table, new ArrayList<>()))
+                        .state().add(Arrays.asList(item.type(), item.column().map(ColumnReference::name),
+                                item.ordinalPosition(), item.ascending(), item.filterCondition(), item.unique()));
+            }
+        }
+        return result;
+    }
+
+    private static Map<Key, Member> views(StructureInfo si) {
+        Map<Key, Member> result = newMap(si.viewDefinitions().size());
+        for (ViewDefinition view : si.viewDefinitions()) {
+            result.put(key(view.view(), null), new Member(view.view(), List.of(view.viewBody())));
+        }
+        return result;
+    }
+
+    private static Key key(TableReference table, String member) {
+        return new Key(table.schema().map(SchemaReference::name), table.name(), Optional.ofNullable(member));
+    }
+
+    private static List<String> names(List<ColumnReference> columns) {
+        List<String> names = new ArrayList<>(columns.size());
+        for (ColumnReference column : columns) {
+            names.add(column.name());
+        }
+        return names;
+    }
+
+    private static Map<Key, Member> newMap(int expected) {
+        return new LinkedHashMap<>(expected * 4 / 3 + 1);
+    }
+}
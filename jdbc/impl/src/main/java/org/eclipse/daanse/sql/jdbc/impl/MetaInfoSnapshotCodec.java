@@ -0,0 +1,586 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableMetaData;
+import org.eclipse.daanse.sql.jdbc.record.meta.DatabaseInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.IdentifierInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.TypeInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * Compact binary form of a plain-JDBC {@link MetaInfo} snapshot: database and
+ * identifier info, type infos, catalogs, schemas, tables, columns, imported and
+ * primary keys and index infos.
+ * <p>
+ * Every string is written once into a pool and referenced by a varint index
+ * afterwards; schema and table references are pooled the same way so a decoded
+ * snapshot shares one instance per table. The header carries the catalog
+ * fingerprint, which {@link #read(InputStream, String)} checks before decoding
+ * the body.
+ * <p>
+ * Provider-only lists (triggers, sequences, privileges, statistics, ...) are not
+ * part of the format; {@link #write} rejects snapshots that carry any.
+ */
+public final class MetaInfoSnapshotCodec {
+
+    private static final int MAGIC = 0x444D4953; // "DMIS"
+    private static final int VERSION = 1;
+
+    private MetaInfoSnapshotCodec() {
+    }
+
+    /**
+     * @param metaInfo    a snapshot produced by the plain JDBC path
+     * @param fingerprint the catalog fingerprint the snapshot was taken at
+     * @param out         the target, flushed but not closed
+     * @throws IllegalArgumentException when the snapshot carries provider-only lists
+     */
+    public static void write(MetaInfo metaInfo, String fingerprint, OutputStream out) throws IOException {
+        StructureInfo si = metaInfo.structureInfo();
+        if (!si.triggers().isEmpty() || !si.sequences().isEmpty() || !si.checkConstraints().isEmpty()
+                || !si.uniqueConstraints().isEmpty() || !si.userDefinedTypes().isEmpty()
+                || !si.viewDefinitions().isEmpty() || !si.procedures().isEmpty() || !si.functions().isEmpty()
+                || !si.materializedViews().isEmpty() || !si.partitions().isEmpty()
+                || !si.tablePrivileges().isEmpty() || !si.columnPrivileges().isEmpty()
+                || !si.objectPrivileges().isEmpty() || !metaInfo.tableStatistics().isEmpty()
+                || !metaInfo.columnStatistics().isEmpty()) {
+            throw new IllegalArgumentException("Only plain JDBC snapshots can be persisted");
+        }
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        Writer w = new Writer(data);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        w.rawString(fingerprint);
+
+        DatabaseInfo db = metaInfo.databaseInfo();
+        w.string(db.databaseProductName());
+        w.string(db.databaseProductVersion());
+        w.zigzag(db.databaseMajorVersion());
+        w.zigzag(db.databaseMinorVersion());
+
+        IdentifierInfo id = metaInfo.identifierInfo();
+        w.string(id.quoteString());
+        w.zigzag(id.maxColumnNameLength());
+        data.writeBoolean(id.readOnly());
+        w.varint(id.supportedResultSetStyles().size());
+        for (List<Integer> style : id.supportedResultSetStyles()) {
+            w.varint(style.size());
+            for (Integer v : style) {
+                w.zigzag(v);
+            }
+        }
+
+        w.varint(metaInfo.typeInfos().size());
+        for (TypeInfo t : metaInfo.typeInfos()) {
+            w.string(t.typeName());
+            w.zigzag(t.dataType().getVendorTypeNumber());
+            w.zigzag(t.precision());
+            w.optional(t.literalPrefix());
+            w.optional(t.literalSuffix());
+            w.optional(t.createParams());
+            w.string(t.nullable().name());
+            data.writeBoolean(t.caseSensitive());
+            w.string(t.searchable().name());
+            data.writeBoolean(t.unsignedAttribute());
+            data.writeBoolean(t.fixedPrecScale());
+            data.writeBoolean(t.autoIncrement());
+            w.optional(t.localTypeName());
+            w.zigzag(t.minimumScale());
+            w.zigzag(t.maximumScale());
+            w.zigzag(t.numPrecRadix());
+        }
+
+        w.varint(si.catalogs().size());
+        for (CatalogReference c : si.catalogs()) {
+            w.catalog(c);
+        }
+        w.varint(si.schemas().size());
+        for (SchemaReference s : si.schemas()) {
+            w.schema(s);
+        }
+        w.varint(si.tables().size());
+        for (TableDefinition t : si.tables()) {
+            w.table(t.table());
+            TableMetaData md = t.tableMetaData();
+            w.optional(md.remarks());
+            w.optional(md.typeCatalog());
+            w.optional(md.typeSchema());
+            w.optional(md.typeName());
+            w.optional(md.selfReferencingColumnName());
+            w.optional(md.refGeneration());
+        }
+        w.varint(si.columns().size());
+        for (ColumnDefinition c : si.columns()) {
+            w.column(c.column());
+            ColumnMetaData md = c.columnMetaData();
+            w.zigzag(md.dataType().getVendorTypeNumber());
+            w.string(md.typeName());
+            w.optionalInt(md.columnSize());
+            w.optionalInt(md.decimalDigits());
+            w.optionalInt(md.numPrecRadix());
+            w.string(md.nullability().name());
+            w.optionalInt(md.charOctetLength());
+            w.optional(md.remarks());
+            w.optional(md.columnDefault());
+            w.string(md.autoIncrement().name());
+            w.string(md.generatedColumn().name());
+        }
+        w.varint(si.importedKeys().size());
+        for (ImportedKey k : si.importedKeys()) {
+            w.column(k.primaryKeyColumn());
+            w.column(k.foreignKeyColumn());
+            w.string(k.name());
+            w.zigzag(k.keySequence());
+            w.string(k.updateRule().name());
+            w.string(k.deleteRule().name());
+            w.optional(k.primaryKeyName());
+            w.string(k.deferrability().name());
+        }
+        w.varint(si.primaryKeys().size());
+        for (PrimaryKey pk : si.primaryKeys()) {
+            w.table(pk.table());
+            w.varint(pk.columns().size());
+            for (ColumnReference c : pk.columns()) {
+                w.column(c);
+            }
+            w.optional(pk.constraintName());
+        }
+
+        w.varint(metaInfo.indexInfos().size());
+        for (IndexInfo ii : metaInfo.indexInfos()) {
+            w.table(ii.tableReference());
+            w.varint(ii.indexInfoItems().size());
+            for (IndexInfoItem item : ii.indexInfoItems()) {
+                w.optional(item.indexName());
+                w.string(item.type().name());
+                w.column(item.column().orElse(null));
+                w.zigzag(item.ordinalPosition());
+                data.writeByte(item.ascending().map(asc -> asc ? 1 : 0).orElse(2));
+                w.zigzag(item.cardinality());
+                w.zigzag(item.pages());
+                w.optional(item.filterCondition());
+                data.writeBoolean(item.unique());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * @return the fingerprint stored in the header
+     * @throws IOException when the stream is not a snapshot of this format version
+     */
+    public static String readFingerprint(InputStream in) throws IOException {
+        return header(new DataInputStream(in));
+    }
+
+    /**
+     * @param in                  the snapshot stream, not closed
+     * @param expectedFingerprint the current catalog fingerprint
+     * @return the decoded snapshot, or empty when the stored fingerprint differs
+     * @throws IOException when the stream is not a snapshot of this format version
+     */
+    public static Optional<MetaInfo> read(InputStream in, String expectedFingerprint) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        if (!expectedFingerprint.equals(header(data))) {
+            return Optional.empty();
+        }
+        Reader r = new Reader(data);
+
+        DatabaseInfo db = new DatabaseInfoRecord(r.string(), r.string(), r.zigzagInt(), r.zigzagInt());
+
+        String quoteString = r.string();
+        int maxColumnNameLength = r.zigzagInt();
+        boolean readOnly = data.readBoolean();
+        int styleCount = r.varint();
+        Set<List<Integer>> styles = new HashSet<>(styleCount * 2);
+        for (int i = 0; i < styleCount; i++) {
+            int n = r.varint();
+            List<Integer> style = new ArrayList<>(n);
+            for (int j = 0; j < n; j++) {
+                style.add(r.zigzagInt());
+            }
+            styles.add(List.copyOf(style));
+        }
+        IdentifierInfo id = new IdentifierInfoRecord(quoteString, maxColumnNameLength, readOnly, Set.copyOf(styles));
+
+        int n = r.varint();
+        List<TypeInfo> typeInfos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            typeInfos.add(new TypeInfoRecord(r.string(), JDBCType.valueOf(r.zigzagInt()), r.zigzagInt(),
+                    r.optional(), r.optional(), r.optional(), TypeInfo.Nullable.valueOf(r.string()),
+                    data.readBoolean(), TypeInfo.Searchable.valueOf(r.string()), data.readBoolean(),
+                    data.readBoolean(), data.readBoolean(), r.optional(), (short) r.zigzagInt(),
+                    (short) r.zigzagInt(), r.zigzagInt()));
+        }
+
+        n = r.varint();
+        List<CatalogReference> catalogs = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            catalogs.add(r.catalog());
+        }
+        n = r.varint();
+        List<SchemaReference> schemas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            schemas.add(r.schema());
+        }
+        n = r.varint();
+        List<TableDefinition> tables = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            tables.add(new TableDefinitionRecord(r.table(), new TableMetaDataRecord(r.optional(), r.optional(),
+                    r.optional(), r.optional(), r.optional(), r.optional())));
+        }
+        n = r.varint();
+        List<ColumnDefinition> columns = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ColumnReference column = r.column();
+            columns.add(new ColumnDefinitionRecord(column,
+                    new ColumnMetaDataRecord(JDBCType.valueOf(r.zigzagInt()), r.string(), r.optionalInt(),
+                            r.optionalInt(), r.optionalInt(), ColumnMetaData.Nullability.valueOf(r.string()),
+                            r.optionalInt(), r.optional(), r.optional(),
+                            ColumnMetaData.AutoIncrement.valueOf(r.string()),
+                            ColumnMetaData.GeneratedColumn.valueOf(r.string()))));
+        }
+        n = r.varint();
+        List<ImportedKey> importedKeys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            importedKeys.add(new ImportedKeyRecord(r.column(), r.column(), r.string(), r.zigzagInt(),
+                    ImportedKey.ReferentialAction.valueOf(r.string()),
+                    ImportedKey.ReferentialAction.valueOf(r.string()), r.optional(),
+                    ImportedKey.Deferrability.valueOf(r.string())));
+        }
+        n = r.varint();
+        List<PrimaryKey> primaryKeys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            TableReference table = r.table();
+            int cols = r.varint();
+            List<ColumnReference> pkColumns = new ArrayList<>(cols);
+            for (int j = 0; j < cols; j++) {
+                pkColumns.add(r.column());
+            }
+            primaryKeys.add(new PrimaryKeyRecord(table, List.copyOf(pkColumns), r.optional()));
+        }
+
+        n = r.varint();
+        List<IndexInfo> indexInfos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            TableReference table = r.table();
+            int items = r.varint();
+            List<IndexInfoItem> indexItems = new ArrayList<>(items);
+            for (int j = 0; j < items; j++) {
+                Optional<String> indexName = r.optional();
+                IndexInfoItem.IndexType type = IndexInfoItem.IndexType.valueOf(r.string());
+                Optional<ColumnReference> column = Optional.ofNullable(r.column());
+                int ordinal = r.zigzagInt();
+                int asc = data.readByte();
+                indexItems.add(new IndexInfoItemRecord(indexName, type, column, ordinal,
+                        asc == 2 ? Optional.empty() : Optional.of(asc == 1), r.zigzagLong(), r.zigzagLong(),
+                        r.optional(), data.readBoolean()));
+            }
+            indexInfos.add(new IndexInfoRecord(table, List.copyOf(indexItems)));
+        }
+
+        StructureInfo structureInfo = new StructureInfoRecord(List.copyOf(catalogs), List.copyOf(schemas),
+                List.copyOf(tables), List.copyOf(columns), List.copyOf(importedKeys), List.copyOf(primaryKeys),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of());
+        return Optional.of(
+                new MetaInfoRecord(db, structureInfo, id, List.copyOf(typeInfos), List.copyOf(indexInfos)));
+    }
+
+    private static String header(DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a MetaInfo snapshot");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported MetaInfo snapshot version " + version);
+        }
+        byte[] bytes = new byte[readVarint(data)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarint(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Pool tags: {@code 0} is null, {@code 1} introduces a new entry, {@code n >= 2}
+     * refers to pool entry {@code n - 2}.
+     */
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<CatalogReference, Integer> catalogs = new HashMap<>();
+        private final Map<SchemaReference, Integer> schemas = new HashMap<>();
+        private final Map<TableReference, Integer> tables = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void varint(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+
+        void zigzag(long value) throws IOException {
+            long v = (value << 1) ^ (value >> 63);
+            while ((v & ~0x7FL) != 0) {
+                out.writeByte((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            out.writeByte((int) v);
+        }
+
+        void rawString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            out.write(bytes);
+        }
+
+        void string(String value) throws IOException {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                varint(index + 2);
+                return;
+            }
+            strings.put(value, strings.size());
+            varint(1);
+            rawString(value);
+        }
+
+        void optional(Optional<String> value) throws IOException {
+            string(value.orElse(null));
+        }
+
+        void optionalInt(OptionalInt value) throws IOException {
+            out.writeBoolean(value.isPresent());
+            if (value.isPresent()) {
+                zigzag(value.getAsInt());
+            }
+        }
+
+        void catalog(CatalogReference catalog) throws IOException {
+            if (pooled(catalogs, catalog)) {
+                string(catalog.name());
+            }
+        }
+
+        void schema(SchemaReference schema) throws IOException {
+            if (pooled(schemas, schema)) {
+                catalog(schema.catalog().orElse(null));
+                string(schema.name());
+            }
+        }
+
+        void table(TableReference table) throws IOException {
+            if (pooled(tables, table)) {
+                schema(table.schema().orElse(null));
+                string(table.name());
+                string(table.type());
+            }
+        }
+
+        void column(ColumnReference column) throws IOException {
+            if (column == null) {
+                out.writeBoolean(false);
+                return;
+            }
+            out.writeBoolean(true);
+            table(column.table().orElse(null));
+            string(column.name());
+        }
+
+        /**
+         * @return {@code true} when the caller must write the entry body
+         */
+        private <T> boolean pooled(Map<T, Integer> pool, T value) throws IOException {
+            if (value == null) {
+                varint(0);
+                return false;
+            }
+            Integer index = pool.get(value);
+            if (index != null) {
+                varint(index + 2);
+                return false;
+            }
+            pool.put(value, pool.size());
+            varint(1);
+            return true;
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<CatalogReference> catalogs = new ArrayList<>();
+        private final List<SchemaReference> schemas = new ArrayList<>();
+        private final List<TableReference> tables = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        int varint() throws IOException {
+            return readVarint(in);
+        }
+
+        long zigzagLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = in.readUnsignedByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (v >>> 1) ^ -(v & 1);
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        int zigzagInt() throws IOException {
+            return (int) zigzagLong();
+        }
+
+        String string() throws IOException {
+            int tag = varint();
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return strings.get(tag - 2);
+            }
+            byte[] bytes = new byte[varint()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        Optional<String> optional() throws IOException {
+            return Optional.ofNullable(string());
+        }
+
+        OptionalInt optionalInt() throws IOException {
+            return in.readBoolean() ? OptionalInt.of(zigzagInt()) : OptionalInt.empty();
+        }
+
+        CatalogReference catalog() throws IOException {
+            int tag = varint();
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return catalogs.get(tag - 2);
+            }
+            CatalogReference catalog = new CatalogReference(string());
+            catalogs.add(catalog);
+            return catalog;
+        }
+
+        SchemaReference schema() throws IOException {
+            int tag = varint();
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return schemas.get(tag - 2);
+            }
+            int slot = schemas.size();
+            schemas.add(null);
+            SchemaReference schema = new SchemaReference(Optional.ofNullable(catalog()), string());
+            schemas.set(slot, schema);
+            return schema;
+        }
+
+        TableReference table() throws IOException {
+            int tag = varint();
+            if (tag == 0) {
+                return null;
+            }
+            if (tag > 1) {
+                return tables.get(tag - 2);
+            }
+            int slot = tables.size();
+            tables.add(null);
+            TableReference table = new TableReference(Optional.ofNullable(schema()), string(), string());
+            tables.set(slot, table);
+            return table;
+        }
+
+        ColumnReference column() throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return new ColumnReference(Optional.ofNullable(table()), string());
+        }
+    }
+}
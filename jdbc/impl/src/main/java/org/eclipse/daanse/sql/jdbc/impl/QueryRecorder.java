@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetadataLoadReportRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetadataLoadReportRecord.QueryRecord;
+
+/**
+ * Records the catalog queries of one metadata walk. The connection, its
+ * statements, {@link DatabaseMetaData} and result sets are wrapped in dynamic
+ * proxies: a query is timed from its execution to the close of its result set
+ * (or of its statement), and counts the rows fetched and the size of the values
+ * read. Providers keep their plain JDBC code and need no hooks of their own.
+ * <p>
+ * Thread-safe, so the parallel per-table reads can share one recorder.
+ */
+final class QueryRecorder {
+
+    private final long started = System.nanoTime();
+    private final Queue<MetadataLoadReport.Query> queries = new ConcurrentLinkedQueue<>();
+    private final Consumer<MetadataLoadReport.Query> listener;
+    private volatile String section = "";
+
+    /**
+     * @param listener receives each query as it completes
+     */
+    QueryRecorder(Consumer<MetadataLoadReport.Query> listener) {
+        this.listener = listener;
+    }
+
+    /** Labels the queries started from now on. */
+    void section(String section) {
+        this.section = section;
+    }
+
+    MetadataLoadReport report() {
+        return new MetadataLoadReportRecord(List.copyOf(queries), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    Connection wrap(Connection connection) {
+        return connection == null ? null : proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    /**
+     * @param connection what {@link DatabaseMetaData#getConnection()} of the wrapper
+     *                   returns, normally the wrapped connection
+     */
+    DatabaseMetaData wrap(DatabaseMetaData databaseMetaData, Connection connection) {
+        return databaseMetaData == null ? null
+                : proxy(DatabaseMetaData.class, new MetaDataHandler(databaseMetaData, connection));
+    }
+
+    DataSource wrap(DataSource dataSource) {
+        return dataSource == null ? null : proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(dataSource, proxy, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private void record(String section, String statement, long startedAt, long rows, long bytes) {
+        MetadataLoadReport.Query query = new QueryRecord(section, statement,
+                Duration.ofNanos(System.nanoTime() - startedAt), rows, bytes);
+        queries.add(query);
+        listener.accept(query);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryRecorder.invoke(target, proxy, method, args);
+            if (result instanceof DatabaseMetaData databaseMetaData) {
+                return wrap(databaseMetaData, (Connection) proxy);
+            }
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private String sql;
+        private long executedAt;
+        private ResultSetHandler open;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.sql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                executedAt = System.nanoTime();
+            } else if ("close".equals(name) && open != null) {
+                open.complete();
+            }
+            Object result = QueryRecorder.invoke(target, proxy, method, args);
+            if (result instanceof ResultSet resultSet) {
+                open = new ResultSetHandler(resultSet, sql, executedAt == 0 ? System.nanoTime() : executedAt);
+                return proxy(ResultSet.class, open);
+            }
+            return result;
+        }
+    }
+
+    private final class MetaDataHandler implements InvocationHandler {
+
+        private final DatabaseMetaData target;
+        private final Connection connection;
+
+        MetaDataHandler(DatabaseMetaData target, Connection connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("getConnection".equals(method.getName())) {
+                return connection;
+            }
+            long startedAt = System.nanoTime();
+            Object result = QueryRecorder.invoke(target, proxy, method, args);
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, describe(method, args), startedAt));
+            }
+            return result;
+        }
+
+        private static String describe(Method method, Object[] args) {
+            return method.getName() + (args == null ? "()"
+                    : Arrays.stream(args).map(a -> a instanceof Object[] array ? Arrays.toString(array)
+                            : String.valueOf(a)).collect(Collectors.joining(", ", "(", ")")));
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String statement;
+        private final long startedAt;
+        private final String section = QueryRecorder.this.section;
+        private long rows;
+        private long bytes;
+        private boolean completed;
+
+        ResultSetHandler(ResultSet target, String statement, long startedAt) {
+            this.target = target;
+            this.statement = statement;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryRecorder.invoke(target, proxy, method, args);
+            String name = method.getName();
+            if ("next".equals(name)) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                }
+            } else if ("close".equals(name)) {
+                complete();
+            } else if (name.startsWith("get") && args != null
+                    && (args[0] instanceof Integer || args[0] instanceof String)) {
+                bytes += size(result);
+            }
+            return result;
+        }
+
+        void complete() {
+            if (!completed) {
+                completed = true;
+                record(section, statement, startedAt, rows, bytes);
+            }
+        }
+
+        private static long size(Object value) {
+            if (value == null) {
+                return 0;
+            }
+            if (value instanceof String s) {
+                return s.length();
+            }
+            if (value instanceof byte[] b) {
+                return b.length;
+            }
+            if (value instanceof Boolean || value instanceof Byte) {
+                return 1;
+            }
+            if (value instanceof Short) {
+                return 2;
+            }
+            if (value instanceof Integer || value instanceof Float) {
+                return 4;
+            }
+            return 8;
+        }
+    }
+
+    private static Object invoke(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+        case "equals":
+            if (method.getParameterCount() == 1 && method.getDeclaringClass() == Object.class) {
+                return proxy == args[0];
+            }
+            break;
+        case "hashCode":
+            if (method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            break;
+        default:
+            break;
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryRecorder.class.getClassLoader(), new Class<?>[] { type },
+                handler));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers, per database product, product version and driver version, whether
+ * {@link DatabaseMetaData#getIndexInfo}, {@link DatabaseMetaData#getPrimaryKeys}
+ * and {@link DatabaseMetaData#getImportedKeys} accept a {@code null} table name
+ * and then answer for every table of the schema.
+ * <p>
+ * The JDBC specification requires a table name for these methods; drivers differ
+ * in whether they reject {@code null} (H2, Derby), fail with a runtime exception
+ * (SQLite) or silently return fewer rows (DuckDB's primary keys). An answer is
+ * therefore only recorded after the schema-wide rows were compared with the
+ * per-table rows of the same tables.
+ */
+final class SchemaWideSupport {
+
+    enum Read {
+        INDEX_INFO, PRIMARY_KEYS, IMPORTED_KEYS
+    }
+
+    private record Key(String product, String productVersion, String driverVersion, Read read) {
+    }
+
+    private static final Map<Key, Boolean> SUPPORTED = new ConcurrentHashMap<>();
+
+    private SchemaWideSupport() {
+    }
+
+    /**
+     * @return whether the read is known to work schema-wide; empty while no
+     *         conclusive probe ran for this database and driver version
+     */
+    static Optional<Boolean> supported(DatabaseMetaData databaseMetaData, Read read) throws SQLException {
+        return Optional.ofNullable(SUPPORTED.get(key(databaseMetaData, read)));
+    }
+
+    static void record(DatabaseMetaData databaseMetaData, Read read, boolean supported) throws SQLException {
+        SUPPORTED.put(key(databaseMetaData, read), supported);
+    }
+
+    /** Forgets all probe results; the next read of each kind probes again. */
+    static void clear() {
+        SUPPORTED.clear();
+    }
+
+    private static Key key(DatabaseMetaData databaseMetaData, Read read) throws SQLException {
+        return new Key(databaseMetaData.getDatabaseProductName(), databaseMetaData.getDatabaseProductVersion(),
+                databaseMetaData.getDriverName() + " " + databaseMetaData.getDriverVersion(), read);
+    }
+}
@@ -12,17 +12,24 @@ package org.eclipse.daanse.sql.jdbc.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.Statement;
 import java.time.Duration;
 import java.util.UUID;
 
 import javax.sql.DataSource;
 
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.MetadataProviders;
 import org.h2.jdbcx.JdbcDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class CachingDatabaseServiceTest {
 
@@ -108,6 +115,63 @@ class CachingDatabaseServiceTest {
                 .isZero();
     }
 
+    @Test
+    void codec_round_trips_plain_snapshot() throws Exception {
+        dataSource = freshH2();
+        createOrdersSchema();
+        MetaInfo info = new DatabaseServiceImpl().createMetaInfo(dataSource);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MetaInfoSnapshotCodec.write(info, "fp-1", out);
+        byte[] bytes = out.toByteArray();
+
+        assertThat(MetaInfoSnapshotCodec.read(new ByteArrayInputStream(bytes), "fp-1")).contains(info);
+        assertThat(MetaInfoSnapshotCodec.read(new ByteArrayInputStream(bytes), "fp-2"))
+                .as("a different fingerprint skips the body").isEmpty();
+        assertThat(MetaInfoSnapshotCodec.readFingerprint(new ByteArrayInputStream(bytes))).isEqualTo("fp-1");
+    }
+
+    @Test
+    void persisted_snapshot_is_reused_by_fresh_service(@TempDir Path dir) throws Exception {
+        dataSource = freshH2();
+        createOrdersSchema();
+
+        MetaInfo first = new CachingDatabaseService(Duration.ofMinutes(1), dir, MetadataProviders::forProductName)
+                .createMetaInfo(dataSource);
+        try (var files = Files.list(dir)) {
+            assertThat(files).hasSize(1);
+        }
+
+        MetaInfo second = new CachingDatabaseService(Duration.ofMinutes(1), dir, MetadataProviders::forProductName)
+                .createMetaInfo(dataSource);
+        assertThat(second).as("decoded from disk, not re-read").isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void persisted_snapshot_is_replaced_after_ddl(@TempDir Path dir) throws Exception {
+        dataSource = freshH2();
+        createOrdersSchema();
+        new CachingDatabaseService(Duration.ofMinutes(1), dir, MetadataProviders::forProductName)
+                .createMetaInfo(dataSource);
+
+        try (Statement stmt = h2KeepAlive.createStatement()) {
+            stmt.execute("ALTER TABLE ORDERS ADD COLUMN NOTE VARCHAR(200)");
+        }
+        MetaInfo after = new CachingDatabaseService(Duration.ofMinutes(1), dir, MetadataProviders::forProductName)
+                .createMetaInfo(dataSource);
+
+        assertThat(after.structureInfo().columns()).anyMatch(c -> "NOTE".equals(c.column().name()));
+    }
+
+    private void createOrdersSchema() throws Exception {
+        try (Statement stmt = h2KeepAlive.createStatement()) {
+            stmt.execute("CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY, NAME VARCHAR(50) NOT NULL)");
+            stmt.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT REFERENCES CUSTOMERS(ID),"
+                    + " TOTAL DECIMAL(10,2) DEFAULT 0)");
+            stmt.execute("CREATE INDEX IDX_ORDERS_TOTAL ON ORDERS(TOTAL DESC)");
+        }
+    }
+
     @Test
     void rejects_zero_or_negative_ttl() {
         assertThatThrownBy(() -> new CachingDatabaseService(Duration.ZERO))
@@ -21,6 +21,7 @@ import java.sql.Statement;
 
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.dialect.db.h2.H2Dialect;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -237,4 +238,13 @@ class DatabaseServiceImplProviderH2Test {
         StructureInfo si = metaInfo.structureInfo();
         assertThat(si.userDefinedTypes()).isEmpty();
     }
+
+    @Test
+    void statistics_areLookedUpByTable() {
+        TableReference departments = metaInfo.structureInfo().tables().stream().map(t -> t.table())
+                .filter(t -> "DEPARTMENTS".equals(t.name())).findFirst().orElseThrow();
+        assertThat(metaInfo.tableStatistics(departments)).get().satisfies(ts -> assertThat(ts.rowCount()).contains(0L));
+        assertThat(metaInfo.columnStatistics()).anyMatch(cs -> "DEPT_NAME".equals(cs.column().name()));
+        assertThat(metaInfo.tableStatistics()).noneMatch(ts -> "V_EMP_DEPT".equals(ts.table().name()));
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope.ObjectKind;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DatabaseServiceScopeH2Test {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:scopeTest;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY, NAME VARCHAR(50))");
+            stmt.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT REFERENCES CUSTOMERS(ID))");
+            stmt.execute("CREATE TABLE ORDER_ITEMS (ORDER_ID INT, SEQ INT, CONSTRAINT PK_OI PRIMARY KEY (ORDER_ID, SEQ),"
+                    + " CONSTRAINT FK_OI_ORDER FOREIGN KEY (ORDER_ID) REFERENCES ORDERS(ID))");
+            stmt.execute("CREATE TABLE ORDERS_TMP (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE INDEX IDX_CUSTOMERS_NAME ON CUSTOMERS(NAME)");
+            stmt.execute("CREATE TRIGGER TRG_ORDERS AFTER INSERT ON ORDERS"
+                    + " FOR EACH ROW CALL \"org.eclipse.daanse.sql.jdbc.impl.CoreTestAuditTrigger\"");
+            stmt.execute("CREATE SCHEMA STAGING");
+            stmt.execute("CREATE TABLE STAGING.ORDERS_RAW (ID INT PRIMARY KEY)");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP ALL OBJECTS");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void unrestrictedScope_matchesUnscopedSnapshot() throws Exception {
+        DatabaseServiceImpl service = new DatabaseServiceImpl();
+        MetaInfo plain = service.createMetaInfo(connection, new H2MetadataProvider());
+        MetaInfo scoped = service.createMetaInfo(connection, new H2MetadataProvider(), MetadataScope.ALL);
+        assertThat(scoped.structureInfo().tables()).hasSameSizeAs(plain.structureInfo().tables());
+        assertThat(scoped.structureInfo().primaryKeys()).hasSameSizeAs(plain.structureInfo().primaryKeys());
+        assertThat(scoped.structureInfo().triggers()).hasSameSizeAs(plain.structureInfo().triggers());
+    }
+
+    @Test
+    void tablePatterns_restrictEveryTableScopedList() throws Exception {
+        MetadataScope scope = MetadataScope.ALL.includeSchemas("PUBLIC").includeTables("ORDER%")
+                .excludeTables("%\\_TMP");
+        MetaInfo metaInfo = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(), scope);
+        StructureInfo si = metaInfo.structureInfo();
+
+        assertThat(si.tables()).extracting(td -> td.table().name()).containsExactlyInAnyOrder("ORDERS",
+                "ORDER_ITEMS");
+        assertThat(si.columns()).allMatch(c -> c.column().table().orElseThrow().name().startsWith("ORDER"));
+        assertThat(si.primaryKeys()).extracting(pk -> pk.table().name()).containsExactlyInAnyOrder("ORDERS",
+                "ORDER_ITEMS");
+        assertThat(si.importedKeys()).extracting(ik -> ik.foreignKeyColumn().table().orElseThrow().name())
+                .containsOnly("ORDERS", "ORDER_ITEMS");
+        assertThat(metaInfo.indexInfos()).noneMatch(ii -> "CUSTOMERS".equals(ii.tableReference().name()));
+        assertThat(si.triggers()).extracting(t -> t.name()).containsExactly("TRG_ORDERS");
+    }
+
+    @Test
+    void schemaIncludes_readOtherSchemas() throws Exception {
+        MetadataScope scope = MetadataScope.ALL.includeSchemas("STAGING");
+        StructureInfo si = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(), scope)
+                .structureInfo();
+
+        assertThat(si.schemas()).extracting(s -> s.name()).containsExactly("STAGING");
+        assertThat(si.tables()).extracting(td -> td.table().name()).containsExactly("ORDERS_RAW");
+        assertThat(si.primaryKeys()).extracting(pk -> pk.table().name()).containsExactly("ORDERS_RAW");
+    }
+
+    @Test
+    void skippedKinds_areNotRead() throws Exception {
+        MetadataScope scope = MetadataScope.ALL.skip(ObjectKind.TRIGGERS, ObjectKind.INDEXES,
+                ObjectKind.PRIVILEGES);
+        MetaInfo metaInfo = new DatabaseServiceImpl().createMetaInfo(connection, new H2MetadataProvider(), scope);
+
+        assertThat(metaInfo.structureInfo().triggers()).isEmpty();
+        assertThat(metaInfo.indexInfos()).isEmpty();
+        assertThat(metaInfo.structureInfo().primaryKeys()).isNotEmpty();
+    }
+
+    @Test
+    void provider_pushesTablePatternsIntoQuery() throws Exception {
+        MetadataProvider provider = new H2MetadataProvider().withScope(MetadataScope.ALL.excludeTables("ORDER%"));
+        assertThat(provider.getAllPrimaryKeys(connection, null, "PUBLIC").orElseThrow())
+                .extracting(PrimaryKey::table).extracting(t -> t.name()).containsExactly("CUSTOMERS");
+    }
+
+    @Test
+    void like_followsSqlSemantics() {
+        assertThat(MetadataScope.like("ORDER_ITEMS", "ORDER%")).isTrue();
+        assertThat(MetadataScope.like("ORDERS", "ORDER_")).isTrue();
+        assertThat(MetadataScope.like("ORDERS_TMP", "%\\_TMP")).isTrue();
+        assertThat(MetadataScope.like("ORDERSXTMP", "%\\_TMP")).isFalse();
+        assertThat(MetadataScope.like("A.B", "A.B")).isTrue();
+        assertThat(MetadataScope.like("AXB", "A.B")).isFalse();
+    }
+}
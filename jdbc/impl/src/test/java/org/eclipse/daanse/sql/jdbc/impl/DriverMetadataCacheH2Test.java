@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DriverMetadataCacheH2Test {
+
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        DriverMetadataCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DriverMetadataCache.clear();
+    }
+
+    @Test
+    void databasesOfOneProductVersion_shareProductSections() throws Exception {
+        try (Connection tenantA = DriverManager.getConnection("jdbc:h2:mem:tenantA", "sa", "");
+                Connection tenantB = DriverManager.getConnection("jdbc:h2:mem:tenantB", "sa", "")) {
+            MetaInfo a = service.createMetaInfo(tenantA, MetadataProvider.EMPTY);
+            MetaInfo b = service.createMetaInfo(tenantB, MetadataProvider.EMPTY);
+
+            assertThat(b.typeInfos()).isNotEmpty().isEqualTo(a.typeInfos());
+            assertThat(b.typeInfos().get(0)).isSameAs(a.typeInfos().get(0));
+            assertThat(b.databaseInfo()).isSameAs(a.databaseInfo());
+            assertThat(b.identifierInfo()).isSameAs(a.identifierInfo());
+        }
+    }
+
+    @Test
+    void readOnly_isReadPerDatabase(@TempDir Path dir) throws Exception {
+        String url = "jdbc:h2:" + dir.resolve("tenant").toAbsolutePath();
+        try (Connection writable = DriverManager.getConnection(url, "sa", "")) {
+            assertThat(service.createMetaInfo(writable, MetadataProvider.EMPTY).identifierInfo().readOnly())
+                    .isFalse();
+        }
+        try (Connection readOnly = DriverManager.getConnection(url + ";ACCESS_MODE_DATA=r", "sa", "")) {
+            MetaInfo info = service.createMetaInfo(readOnly, MetadataProvider.EMPTY);
+            assertThat(info.identifierInfo().readOnly()).isTrue();
+            assertThat(info.identifierInfo().quoteString()).isEqualTo("\"");
+        }
+    }
+
+    @Test
+    void quoteString_isReadPerConnection() throws Exception {
+        try (Connection ansi = DriverManager.getConnection("jdbc:h2:mem:tenantD", "sa", "")) {
+            // a session whose quote string differs, as MySQL's does without ANSI_QUOTES
+            Connection backtick = withQuoteString(DriverManager.getConnection("jdbc:h2:mem:tenantE", "sa", ""), "`");
+            try (backtick) {
+                MetaInfo a = service.createMetaInfo(ansi, MetadataProvider.EMPTY);
+                MetaInfo b = service.createMetaInfo(backtick, MetadataProvider.EMPTY);
+
+                assertThat(a.identifierInfo().quoteString()).isEqualTo("\"");
+                assertThat(b.identifierInfo().quoteString()).isEqualTo("`");
+                assertThat(b.databaseInfo()).isSameAs(a.databaseInfo());
+            }
+        }
+    }
+
+    @Test
+    void clear_readsProductSectionsAgain() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:tenantC", "sa", "")) {
+            MetaInfo before = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+            DriverMetadataCache.clear();
+            MetaInfo after = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+
+            assertThat(after.typeInfos()).isEqualTo(before.typeInfos());
+            assertThat(after.typeInfos().get(0)).isNotSameAs(before.typeInfos().get(0));
+        }
+    }
+
+    private static Connection withQuoteString(Connection connection, String quoteString) throws Exception {
+        ClassLoader loader = DriverMetadataCacheH2Test.class.getClassLoader();
+        DatabaseMetaData metaData = connection.getMetaData();
+        DatabaseMetaData quoting = (DatabaseMetaData) Proxy.newProxyInstance(loader,
+                new Class<?>[] { DatabaseMetaData.class }, (proxy, method, args) -> {
+                    if ("getIdentifierQuoteString".equals(method.getName())) {
+                        return quoteString;
+                    }
+                    return invoke(metaData, method, args);
+                });
+        return (Connection) Proxy.newProxyInstance(loader, new Class<?>[] { Connection.class },
+                (proxy, method, args) -> "getMetaData".equals(method.getName()) ? quoting
+                        : invoke(connection, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
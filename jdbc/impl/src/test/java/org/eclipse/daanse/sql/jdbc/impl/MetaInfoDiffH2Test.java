@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.impl.MetaInfoDiff.Change;
+import org.eclipse.daanse.sql.jdbc.impl.MetaInfoDiff.ChangeType;
+import org.eclipse.daanse.sql.jdbc.impl.MetaInfoDiff.Kind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetaInfoDiffH2Test {
+
+    private Connection connection;
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:diffTest;DB_CLOSE_DELAY=-1", "sa", "");
+        execute("CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY, NAME VARCHAR(50), CITY VARCHAR(50))");
+        execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT)");
+        execute("CREATE INDEX IDX_CUSTOMERS_NAME ON CUSTOMERS(NAME)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @Test
+    void unchangedSnapshots_haveNoChanges() throws Exception {
+        MetaInfoDiff diff = MetaInfoDiff.compare(service.createMetaInfo(connection),
+                service.createMetaInfo(connection));
+        assertThat(diff.isEmpty()).isTrue();
+        assertThat(diff.affectedTables()).isEmpty();
+    }
+
+    @Test
+    void reportsAddedRemovedAndAlteredObjects() throws Exception {
+        MetaInfo before = service.createMetaInfo(connection);
+        execute("CREATE TABLE INVOICES (ID INT PRIMARY KEY)");
+        execute("ALTER TABLE CUSTOMERS DROP COLUMN CITY");
+        execute("ALTER TABLE CUSTOMERS ALTER COLUMN NAME VARCHAR(200)");
+        execute("ALTER TABLE ORDERS ADD CONSTRAINT FK_ORDERS_CUSTOMER FOREIGN KEY (CUSTOMER_ID) "
+                + "REFERENCES CUSTOMERS(ID)");
+        execute("DROP INDEX IDX_CUSTOMERS_NAME");
+        MetaInfo after = service.createMetaInfo(connection);
+
+        MetaInfoDiff diff = MetaInfoDiff.compare(before, after);
+
+        assertThat(diff.changes()).anyMatch(c -> matches(c, Kind.TABLE, ChangeType.ADDED, "INVOICES", null));
+        assertThat(diff.changes()).anyMatch(c -> matches(c, Kind.COLUMN, ChangeType.REMOVED, "CUSTOMERS", "CITY"));
+        assertThat(diff.changes()).anyMatch(c -> matches(c, Kind.COLUMN, ChangeType.ALTERED, "CUSTOMERS", "NAME"));
+        assertThat(diff.changes())
+                .anyMatch(c -> matches(c, Kind.FOREIGN_KEY, ChangeType.ADDED, "ORDERS", "FK_ORDERS_CUSTOMER"));
+        assertThat(diff.changes())
+                .anyMatch(c -> matches(c, Kind.INDEX, ChangeType.REMOVED, "CUSTOMERS", "IDX_CUSTOMERS_NAME"));
+        assertThat(diff.changes()).filteredOn(c -> c.kind() == Kind.PRIMARY_KEY).singleElement()
+                .satisfies(c -> assertThat(c.table().name()).isEqualTo("INVOICES"));
+        assertThat(diff.affectedTables()).extracting(t -> t.name()).containsExactlyInAnyOrder("INVOICES",
+                "CUSTOMERS", "ORDERS");
+    }
+
+    @Test
+    void dataChanges_areNotStructuralChanges() throws Exception {
+        MetaInfo before = service.createMetaInfo(connection);
+        execute("INSERT INTO CUSTOMERS SELECT X, 'N' || X, 'C' FROM SYSTEM_RANGE(1, 100)");
+        execute("ANALYZE");
+        assertThat(MetaInfoDiff.compare(before, service.createMetaInfo(connection)).isEmpty()).isTrue();
+    }
+
+    private static boolean matches(Change change, Kind kind, ChangeType type, String table, String name) {
+        return change.kind() == kind && change.type() == type && table.equals(change.table().name())
+                && change.name().equals(Optional.ofNullable(name));
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.RecordComponent;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.record.meta.MetaInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.meta.StructureInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.model.schema.CatalogReference;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Retained size of the column part of a snapshot with shared references versus
+ * the unshared graph the JDBC builders produced before (one reference chain and
+ * one set of name strings per column row). Sizes are a deterministic estimate
+ * over the distinct reachable objects (compressed oops, 8-byte alignment).
+ */
+class MetaInfoRetainedHeapTest {
+
+    private static final int TABLES = 200;
+    private static final int COLUMNS_PER_TABLE = 40;
+
+    @Test
+    void sharedReferences_retainLessThanUnsharedGraph() throws Exception {
+        String url = "jdbc:h2:mem:heap_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            populate(connection);
+            MetaInfo shared = new DatabaseServiceImpl().createMetaInfo(connection);
+            MetaInfo unshared = unshared(shared);
+            assertThat(unshared).isEqualTo(shared);
+
+            long sharedBytes = retainedSize(shared.structureInfo().columns());
+            long unsharedBytes = retainedSize(unshared.structureInfo().columns());
+
+            assertThat(sharedBytes).as("shared %d vs unshared %d bytes of %d columns", sharedBytes, unsharedBytes,
+                    shared.structureInfo().columns().size()).isLessThan(unsharedBytes * 3 / 4);
+
+            List<ColumnDefinition> columns = shared.structureInfo().columns().stream()
+                    .filter(c -> "T_0".equals(c.column().table().orElseThrow().name())).toList();
+            assertThat(columns).hasSize(COLUMNS_PER_TABLE);
+            TableReference table = columns.get(0).column().table().orElseThrow();
+            assertThat(columns).allSatisfy(c -> {
+                assertThat(c.column().table().orElseThrow()).isSameAs(table);
+                assertThat(c.columnMetaData().typeName()).isSameAs(columns.get(0).columnMetaData().typeName());
+            });
+        }
+    }
+
+    private static void populate(Connection connection) throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            for (int t = 0; t < TABLES; t++) {
+                StringBuilder ddl = new StringBuilder("CREATE TABLE T_").append(t).append(" (C_0 INT PRIMARY KEY");
+                for (int c = 1; c < COLUMNS_PER_TABLE; c++) {
+                    ddl.append(", C_").append(c).append(" INT");
+                }
+                stmt.execute(ddl.append(')').toString());
+            }
+        }
+    }
+
+    /** Rebuilds the columns the way the builders did before interning. */
+    private static MetaInfo unshared(MetaInfo metaInfo) {
+        List<ColumnDefinition> columns = metaInfo.structureInfo().columns().stream().map(c -> {
+            TableReference t = c.column().table().orElseThrow();
+            Optional<SchemaReference> schema = t.schema().map(s -> new SchemaReference(
+                    s.catalog().map(cat -> new CatalogReference(copy(cat.name()))), copy(s.name())));
+            ColumnReference column = new ColumnReference(Optional.of(new TableReference(schema, copy(t.name()),
+                    t.type())), copy(c.column().name()));
+            ColumnMetaData md = c.columnMetaData();
+            return (ColumnDefinition) new ColumnDefinitionRecord(column, new ColumnMetaDataRecord(md.dataType(),
+                    copy(md.typeName()), md.columnSize(), md.decimalDigits(), md.numPrecRadix(), md.nullability(),
+                    md.charOctetLength(), md.remarks().map(MetaInfoRetainedHeapTest::copy),
+                    md.columnDefault().map(MetaInfoRetainedHeapTest::copy), md.autoIncrement(),
+                    md.generatedColumn()));
+        }).toList();
+        var si = metaInfo.structureInfo();
+        return new MetaInfoRecord(metaInfo.databaseInfo(),
+                new StructureInfoRecord(si.catalogs(), si.schemas(), si.tables(), columns, si.importedKeys(),
+                        si.primaryKeys(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                        List.of(), List.of(), List.of(), List.of()),
+                metaInfo.identifierInfo(), metaInfo.typeInfos(), metaInfo.indexInfos());
+    }
+
+    private static String copy(String s) {
+        return new String(s.toCharArray());
+    }
+
+    /** Sums estimated shallow sizes of every distinct object reachable from {@code root}. */
+    private static long retainedSize(Object root) throws Exception {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> todo = new ArrayDeque<>();
+        todo.push(root);
+        long bytes = 0;
+        while (!todo.isEmpty()) {
+            Object o = todo.pop();
+            if (o == null || o instanceof Enum<?> || !seen.add(o)) {
+                continue;
+            }
+            if (o instanceof String s) {
+                bytes += 24 + align(16 + s.length());
+            } else if (o instanceof Optional<?> opt) {
+                bytes += 16;
+                opt.ifPresent(todo::push);
+            } else if (o instanceof OptionalInt) {
+                bytes += 16;
+            } else if (o instanceof Collection<?> c) {
+                bytes += 24 + align(16 + 4L * c.size());
+                c.forEach(todo::push);
+            } else if (o instanceof Map<?, ?> m) {
+                bytes += 48 + 32L * m.size();
+                m.keySet().forEach(todo::push);
+                m.values().forEach(todo::push);
+            } else if (o.getClass().isRecord()) {
+                RecordComponent[] components = o.getClass().getRecordComponents();
+                bytes += align(12 + 4L * components.length);
+                for (RecordComponent rc : components) {
+                    if (!rc.getType().isPrimitive()) {
+                        todo.push(rc.getAccessor().invoke(o));
+                    }
+                }
+            } else {
+                bytes += 16;
+            }
+        }
+        return bytes;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.MetadataVisitor;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetadataLoadReportH2Test {
+
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl(true);
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:loadReport", "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE customer (id INT PRIMARY KEY, name VARCHAR(40))");
+            stmt.execute("CREATE TABLE orders (id INT PRIMARY KEY, customer_id INT REFERENCES customer(id))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void report_timesEveryQueryBySection() throws Exception {
+        MetaInfo info = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+
+        MetadataLoadReport report = info.loadReport().orElseThrow();
+        assertThat(report.queries()).extracting(MetadataLoadReport.Query::section)
+                .contains("schemas", "tables", "columns", "indexes", "primaryKeys", "importedKeys");
+        assertThat(report.queries()).filteredOn(q -> q.section().equals("columns")).first()
+                .satisfies(q -> {
+                    assertThat(q.statement()).startsWith("getColumns(");
+                    assertThat(q.rows()).isGreaterThan(0);
+                    assertThat(q.bytes()).isGreaterThan(0);
+                });
+        assertThat(report.elapsed()).isGreaterThanOrEqualTo(report.elapsed("columns"));
+        assertThat(report.slowest(3)).hasSize(3);
+    }
+
+    @Test
+    void visitor_receivesQueriesAsTheyComplete() throws Exception {
+        List<MetadataLoadReport.Query> seen = new ArrayList<>();
+        List<MetadataLoadReport> reports = new ArrayList<>();
+        service.visitMetaInfo(connection, MetadataProvider.EMPTY, MetadataScope.ALL, new MetadataVisitor() {
+            @Override
+            public boolean recordsLoad() {
+                return true;
+            }
+
+            @Override
+            public void onLoadQuery(MetadataLoadReport.Query query) {
+                seen.add(query);
+            }
+
+            @Override
+            public void onLoadReport(MetadataLoadReport report) {
+                reports.add(report);
+            }
+        });
+
+        assertThat(reports).hasSize(1);
+        assertThat(seen).isNotEmpty().containsExactlyInAnyOrderElementsOf(reports.get(0).queries());
+    }
+
+    @Test
+    void report_isOffUnlessAskedFor() throws Exception {
+        List<MetadataLoadReport.Query> seen = new ArrayList<>();
+        new DatabaseServiceImpl().visitMetaInfo(connection, MetadataProvider.EMPTY, MetadataScope.ALL,
+                new MetadataVisitor() {
+                    @Override
+                    public void onLoadQuery(MetadataLoadReport.Query query) {
+                        seen.add(query);
+                    }
+                });
+
+        assertThat(seen).isEmpty();
+        assertThat(new DatabaseServiceImpl().createMetaInfo(connection, MetadataProvider.EMPTY).loadReport())
+                .isEmpty();
+    }
+
+    @Test
+    void report_isNotPartOfSnapshotEquality() throws Exception {
+        MetaInfo first = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+        MetaInfo second = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+
+        assertThat(first.loadReport()).isPresent();
+        assertThat(second).isEqualTo(first).hasSameHashCodeAs(first);
+    }
+}
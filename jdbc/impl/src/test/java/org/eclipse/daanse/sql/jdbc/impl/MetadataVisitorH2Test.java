@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.MetadataVisitor;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.metadata.H2MetadataProvider;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class MetadataVisitorH2Test {
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:visitorTest;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE CUSTOMERS (ID INT PRIMARY KEY, NAME VARCHAR(50))");
+            stmt.execute("CREATE TABLE ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT REFERENCES CUSTOMERS(ID))");
+            stmt.execute("CREATE INDEX IDX_CUSTOMERS_NAME ON CUSTOMERS(NAME)");
+            stmt.execute("CREATE SEQUENCE SEQ_ORDERS");
+            stmt.execute("CREATE VIEW V_ORDERS AS SELECT ID FROM ORDERS");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP ALL OBJECTS");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void collectingVisitor_matchesCreateMetaInfo() throws Exception {
+        DatabaseServiceImpl service = new DatabaseServiceImpl();
+        MetaInfo snapshot = service.createMetaInfo(connection, new H2MetadataProvider(), MetadataScope.ALL);
+
+        MetaInfoCollector collector = new MetaInfoCollector(false);
+        service.visitMetaInfo(connection, new H2MetadataProvider(), MetadataScope.ALL, collector);
+
+        assertThat(collector.metaInfo()).isEqualTo(snapshot);
+    }
+
+    @Test
+    void plainJdbcWalk_matchesCreateMetaInfo() throws Exception {
+        DatabaseServiceImpl service = new DatabaseServiceImpl();
+        MetaInfo snapshot = service.createMetaInfo(connection);
+
+        MetaInfoCollector collector = new MetaInfoCollector(false);
+        service.visitMetaInfo(connection, collector);
+
+        assertThat(collector.metaInfo()).isEqualTo(snapshot);
+    }
+
+    @Test
+    void visitor_receivesEveryKindOnce() throws Exception {
+        RecordingVisitor visitor = new RecordingVisitor();
+        new DatabaseServiceImpl().visitMetaInfo(connection, new H2MetadataProvider(), MetadataScope.ALL, visitor);
+
+        assertThat(visitor.tables).extracting(td -> td.table().name()).contains("CUSTOMERS", "ORDERS", "V_ORDERS");
+        assertThat(visitor.columns).filteredOn(c -> "CUSTOMERS".equals(c.column().table().orElseThrow().name()))
+                .extracting(c -> c.column().name()).containsExactly("ID", "NAME");
+        assertThat(visitor.primaryKeys).extracting(pk -> pk.table().name()).contains("CUSTOMERS", "ORDERS");
+        assertThat(visitor.foreignKeys).extracting(ik -> ik.foreignKeyColumn().name()).contains("CUSTOMER_ID");
+        assertThat(visitor.indexes).flatExtracting(IndexInfo::indexInfoItems)
+                .anySatisfy(item -> assertThat(item.indexName()).contains("IDX_CUSTOMERS_NAME"));
+        assertThat(visitor.sequences).isEqualTo(1);
+    }
+
+    @Test
+    void scopedWalk_visitsOnlyTablesInScope() throws Exception {
+        MetadataScope scope = MetadataScope.ALL.includeSchemas("PUBLIC").includeTables("ORD%");
+        RecordingVisitor visitor = new RecordingVisitor();
+        new DatabaseServiceImpl().visitMetaInfo(connection, new H2MetadataProvider(), scope, visitor);
+
+        assertThat(visitor.tables).extracting(td -> td.table().name()).containsExactly("ORDERS");
+        assertThat(visitor.columns).allMatch(c -> "ORDERS".equals(c.column().table().orElseThrow().name()));
+        assertThat(visitor.primaryKeys).extracting(pk -> pk.table().name()).containsExactly("ORDERS");
+    }
+
+    private static final class RecordingVisitor implements MetadataVisitor {
+
+        private final List<TableDefinition> tables = new ArrayList<>();
+        private final List<ColumnDefinition> columns = new ArrayList<>();
+        private final List<IndexInfo> indexes = new ArrayList<>();
+        private final List<PrimaryKey> primaryKeys = new ArrayList<>();
+        private final List<ImportedKey> foreignKeys = new ArrayList<>();
+        private int sequences;
+
+        @Override
+        public void onTable(TableDefinition table) {
+            tables.add(table);
+        }
+
+        @Override
+        public void onColumn(ColumnDefinition column) {
+            columns.add(column);
+        }
+
+        @Override
+        public void onIndex(IndexInfo index) {
+            indexes.add(index);
+        }
+
+        @Override
+        public void onPrimaryKey(PrimaryKey primaryKey) {
+            primaryKeys.add(primaryKey);
+        }
+
+        @Override
+        public void onForeignKey(ImportedKey foreignKey) {
+            foreignKeys.add(foreignKey);
+        }
+
+        @Override
+        public void onSequence(org.eclipse.daanse.sql.jdbc.api.schema.Sequence sequence) {
+            sequences++;
+        }
+    }
+}
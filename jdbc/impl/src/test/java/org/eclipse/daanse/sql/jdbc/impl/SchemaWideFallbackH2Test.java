@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.impl.SchemaWideSupport.Read;
+import org.h2.jdbcx.JdbcDataSource;
+import org.h2.tools.SimpleResultSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaWideFallbackH2Test {
+
+    private static final int TABLES = 150;
+
+    private final DatabaseServiceImpl service = new DatabaseServiceImpl();
+    private JdbcDataSource dataSource;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SchemaWideSupport.clear();
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schemaWideTest;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        connection = dataSource.getConnection();
+        execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)");
+        for (int i = 0; i < TABLES; i++) {
+            execute("CREATE TABLE CHILD_" + i + " (ID INT, PARENT_ID INT REFERENCES PARENT(ID), "
+                    + "CONSTRAINT PK_CHILD_" + i + " PRIMARY KEY (ID))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+        SchemaWideSupport.clear();
+    }
+
+    @Test
+    void rejectedNullTable_isRecordedAndTablesAreReadOneByOne() throws Exception {
+        MetaInfo info = service.createMetaInfo(dataSource, MetadataProvider.EMPTY);
+
+        assertThat(info.structureInfo().primaryKeys()).hasSize(TABLES + 1);
+        assertThat(info.structureInfo().importedKeys()).hasSize(TABLES);
+        DatabaseMetaData md = connection.getMetaData();
+        for (Read read : Read.values()) {
+            assertThat(SchemaWideSupport.supported(md, read)).contains(false);
+        }
+    }
+
+    @Test
+    void parallelPerTableRead_matchesSequentialRead() throws Exception {
+        MetaInfo parallel = service.createMetaInfo(dataSource, MetadataProvider.EMPTY);
+        MetaInfo sequential = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+
+        assertThat(parallel.structureInfo().primaryKeys()).isEqualTo(sequential.structureInfo().primaryKeys());
+        assertThat(parallel.structureInfo().importedKeys()).isEqualTo(sequential.structureInfo().importedKeys());
+        assertThat(parallel.indexInfos()).isEqualTo(sequential.indexInfos());
+    }
+
+    @Test
+    void schemaWideDriver_isProbedOnceThenReadPerSchema() throws Exception {
+        MetaInfo perTable = service.createMetaInfo(connection, MetadataProvider.EMPTY);
+        SchemaWideSupport.clear();
+
+        AtomicInteger perTableCalls = new AtomicInteger();
+        Connection schemaWide = answeringSchemaWide(connection, perTableCalls);
+        service.createMetaInfo(schemaWide, MetadataProvider.EMPTY);
+        DatabaseMetaData md = connection.getMetaData();
+        for (Read read : Read.values()) {
+            assertThat(SchemaWideSupport.supported(md, read)).contains(true);
+        }
+
+        perTableCalls.set(0);
+        MetaInfo bySchema = service.createMetaInfo(schemaWide, MetadataProvider.EMPTY);
+        assertThat(perTableCalls).hasValue(0);
+        assertThat(bySchema.structureInfo().primaryKeys()).isEqualTo(perTable.structureInfo().primaryKeys());
+        assertThat(bySchema.structureInfo().importedKeys()).isEqualTo(perTable.structureInfo().importedKeys());
+        assertThat(bySchema.indexInfos()).isEqualTo(perTable.indexInfos());
+    }
+
+    @Test
+    void schemaWideReadWithMissingRows_isRecordedAsUnsupported() throws Exception {
+        Connection incomplete = answeringSchemaWide(connection, new AtomicInteger(), "CHILD_7");
+
+        MetaInfo info = service.createMetaInfo(incomplete, MetadataProvider.EMPTY);
+
+        assertThat(info.structureInfo().primaryKeys()).hasSize(TABLES + 1);
+        assertThat(SchemaWideSupport.supported(connection.getMetaData(), Read.PRIMARY_KEYS)).contains(false);
+    }
+
+    /**
+     * Wraps H2 so that index, primary and foreign key reads accept a {@code null}
+     * table and answer with the rows of every table of the schema but {@code skip}.
+     */
+    private static Connection answeringSchemaWide(Connection delegate, AtomicInteger perTableCalls, String... skip)
+            throws Exception {
+        DatabaseMetaData md = delegate.getMetaData();
+        DatabaseMetaData wrapped = proxy(DatabaseMetaData.class, (method, args) -> {
+            boolean keyRead = switch (method.getName()) {
+            case "getIndexInfo", "getPrimaryKeys", "getImportedKeys" -> true;
+            default -> false;
+            };
+            if (!keyRead) {
+                return method.invoke(md, args);
+            }
+            if (args[2] != null) {
+                perTableCalls.incrementAndGet();
+                return method.invoke(md, args);
+            }
+            SimpleResultSet union = null;
+            try (ResultSet tables = md.getTables((String) args[0], (String) args[1], null, new String[] { "TABLE" })) {
+                while (tables.next()) {
+                    String table = tables.getString("TABLE_NAME");
+                    if (List.of(skip).contains(table)) {
+                        continue;
+                    }
+                    Object[] tableArgs = args.clone();
+                    tableArgs[2] = table;
+                    try (ResultSet rows = (ResultSet) method.invoke(md, tableArgs)) {
+                        union = union == null ? columnsOf(rows.getMetaData()) : union;
+                        int count = rows.getMetaData().getColumnCount();
+                        while (rows.next()) {
+                            List<Object> row = new ArrayList<>(count);
+                            for (int i = 1; i <= count; i++) {
+                                row.add(rows.getObject(i));
+                            }
+                            union.addRow(row.toArray());
+                        }
+                    }
+                }
+            }
+            return Optional.ofNullable((ResultSet) union).orElseGet(SimpleResultSet::new);
+        });
+        return proxy(Connection.class, (method, args) -> "getMetaData".equals(method.getName()) ? wrapped
+                : method.invoke(delegate, args));
+    }
+
+    private static SimpleResultSet columnsOf(ResultSetMetaData metaData) throws Exception {
+        SimpleResultSet result = new SimpleResultSet();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            result.addColumn(metaData.getColumnLabel(i), metaData.getColumnType(i), metaData.getPrecision(i),
+                    metaData.getScale(i));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    try {
+                        return handler.invoke(method, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
+    private void execute(String sql) throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+}
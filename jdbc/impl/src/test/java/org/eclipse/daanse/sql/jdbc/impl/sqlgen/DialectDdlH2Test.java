@@ -22,10 +22,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.jdbc.impl.DatabaseServiceImpl;
 import org.eclipse.daanse.sql.dialect.db.h2.H2Dialect;
@@ -156,4 +158,28 @@ class DialectDdlH2Test {
             }
         }
     }
+
+    @Test
+    void deleteAbsent_keepsTheRowsWhoseCompositeKeyIsListed() throws SQLException {
+        TableReference items = new TableReference(Optional.empty(), "ITEMS", TableReference.TYPE_TABLE);
+        TableReference keys = new TableReference(Optional.empty(), "ITEMS__keys", TableReference.TYPE_TABLE);
+        try (Connection db = DriverManager.getConnection("jdbc:h2:mem:cwmToSqlDeleteAbsent", "sa", "");
+                Statement stmt = db.createStatement()) {
+            stmt.execute("CREATE TABLE \"ITEMS\" (\"A\" INT, \"B\" INT, \"V\" VARCHAR(10))");
+            stmt.execute("CREATE TABLE \"ITEMS__keys\" (\"A\" INT, \"B\" INT)");
+            stmt.execute("INSERT INTO \"ITEMS\" VALUES (1, 1, 'x'), (1, 2, 'y'), (2, 1, 'z')");
+            stmt.execute("INSERT INTO \"ITEMS__keys\" VALUES (1, 2), (2, 1)");
+
+            int deleted = stmt.executeUpdate(dialect.ddlGenerator().deleteAbsent(items, keys, List.of("A", "B")));
+
+            assertThat(deleted).isEqualTo(1);
+            try (ResultSet rs = stmt.executeQuery("SELECT \"V\" FROM \"ITEMS\" ORDER BY \"V\"")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo("y");
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo("z");
+                assertThat(rs.next()).isFalse();
+            }
+        }
+    }
 }
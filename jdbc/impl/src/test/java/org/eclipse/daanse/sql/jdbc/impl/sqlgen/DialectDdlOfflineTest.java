@@ -134,6 +134,16 @@ class DialectDdlOfflineTest {
         assertThat(sql).isEqualTo("DELETE FROM \"PUBLIC\".\"EMPLOYEES\"");
     }
 
+    @Test
+    void deleteAbsent_anti_joins_the_key_table() {
+        Dialect dialect = new AnsiDialect();
+        TableReference keys = new TableReference(Optional.of(PUBLIC), "EMPLOYEES__keys", TableReference.TYPE_TABLE);
+        String sql = dialect.ddlGenerator().deleteAbsent(EMPLOYEES, keys, List.of("EMP_ID"));
+        assertThat(sql).isEqualTo("DELETE FROM \"PUBLIC\".\"EMPLOYEES\" WHERE NOT EXISTS (SELECT 1 FROM "
+                + "\"PUBLIC\".\"EMPLOYEES__keys\" WHERE \"PUBLIC\".\"EMPLOYEES__keys\".\"EMP_ID\" = "
+                + "\"PUBLIC\".\"EMPLOYEES\".\"EMP_ID\")");
+    }
+
     @Test
     void dropTable_if_exists() {
         Dialect dialect = new AnsiDialect();
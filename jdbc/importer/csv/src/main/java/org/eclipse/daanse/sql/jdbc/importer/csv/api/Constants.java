@@ -26,7 +26,20 @@ public class Constants {
     public static final String PROPERETY_CSV_SKIP_EMPTY_LINES = "skipEmptyLines";
     public static final String PROPERETY_CSV_COMMENT_CHARACHTER = "commentCharacter";
     public static final String PROPERETY_CSV_IGNORE_DIFFERENT_FIELD_COUNT = "ignoreDifferentFieldCount";
+    public static final String PROPERETY_CSV_MAPPED_READER = "mappedReader";
+
+    public static final String PROPERETY_EVENT_QUIET_PERIOD = "eventQuietPeriod";
+    public static final String PROPERETY_IMPORT_THREADS = "importThreads";
+    public static final String PROPERETY_IMPORT_CONNECTIONS = "importConnections";
 
     public static final String PROPERETY_JDBC_BATCH = "batchSize";
+    public static final String PROPERETY_JDBC_STAGING_LOAD = "stagingLoad";
+    public static final String PROPERETY_JDBC_INCREMENTAL_LOAD = "incrementalLoad";
+    public static final String PROPERETY_JDBC_UPSERT_LOAD = "upsertLoad";
+    public static final String PROPERETY_JDBC_UPSERT_DELETE_MISSING = "upsertDeleteMissing";
+    public static final String PROPERETY_JDBC_BULK_LOAD = "bulkLoad";
+    public static final String PROPERETY_JDBC_BULK_LOAD_SESSION = "bulkLoadSession";
+    public static final String PROPERETY_JDBC_PARALLEL_LOAD_THREADS = "parallelLoadThreads";
+    public static final String PROPERETY_JDBC_PARALLEL_LOAD_MIN_FILE_SIZE = "parallelLoadMinFileSize";
 
 }
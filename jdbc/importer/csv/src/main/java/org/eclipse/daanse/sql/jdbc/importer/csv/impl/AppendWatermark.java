@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * How far a file has been loaded into its table: the bytes before
+ * {@code offset} are in the table, and {@code checksum} covers the first and the
+ * last {@value #BLOCK} of them. The first block holds the header and the type
+ * row, the last one the records loaded most recently; a file that was rewritten
+ * rather than appended to almost always differs in one of them.
+ *
+ * @param columns the columns the table was created with, in file order
+ */
+record AppendWatermark(long offset, long checksum, TableReference table, List<ColumnDefinition> columns) {
+
+    static final int BLOCK = 64 * 1024;
+
+    static AppendWatermark of(Path path, long offset, TableReference table, List<ColumnDefinition> columns)
+            throws IOException {
+        return new AppendWatermark(offset, checksum(path, offset), table, List.copyOf(columns));
+    }
+
+    /** @return whether the bytes before {@link #offset()} still checksum the same */
+    boolean prefixUnchanged(Path path) throws IOException {
+        return checksum(path, offset) == checksum;
+    }
+
+    /** @return this watermark moved to {@code newOffset} */
+    AppendWatermark advance(Path path, long newOffset) throws IOException {
+        return of(path, newOffset, table, columns);
+    }
+
+    private static long checksum(Path path, long offset) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                return -1;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK);
+            update(crc, channel, buffer, 0, Math.min(BLOCK, offset));
+            long tail = Math.max(BLOCK, offset - BLOCK);
+            update(crc, channel, buffer, tail, offset - tail);
+        }
+        return crc.getValue();
+    }
+
+    private static void update(CRC32C crc, FileChannel channel, ByteBuffer buffer, long position, long length)
+            throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        buffer.clear().limit((int) length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        crc.update(buffer.flip());
+    }
+}
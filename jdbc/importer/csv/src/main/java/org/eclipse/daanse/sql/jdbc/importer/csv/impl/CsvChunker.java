@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Splits a CSV file into byte ranges that start and end on record boundaries, so
+ * that each range can be parsed on its own. One sequential pass over the bytes
+ * follows the quoting the way the reader does — a quote opens a quoted field only
+ * at the start of a field, {@code ""} inside it is an escaped quote — so a line
+ * break within a quoted value never becomes a boundary. The pass neither decodes
+ * nor parses.
+ * <p>
+ * Works on the raw bytes: valid for UTF-8 and the other charsets in which quote,
+ * separator and line feed are single bytes that never occur inside a multi-byte
+ * sequence. Compressed files are not split; they are read as a stream, see
+ * {@link #openGzip(Path, Range)}.
+ */
+final class CsvChunker {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Bytes {@code [start, end)} of the file; whole records only. */
+    record Range(long start, long end) {
+
+        long length() {
+            return end - start;
+        }
+    }
+
+    private enum State {
+        FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED
+    }
+
+    private CsvChunker() {
+    }
+
+    /**
+     * @param headerRecords non-empty records at the start of the file that belong to
+     *                      no range, e.g. the header and the type row
+     * @param chunks        ranges wanted; fewer come back when the file has fewer
+     *                      records
+     * @return the ranges in file order, empty when the file has no record after the
+     *         header records
+     */
+    static List<Range> split(Path path, int headerRecords, int chunks, char fieldSeparator, char quoteCharacter)
+            throws IOException {
+        List<Range> ranges = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            State state = State.FIELD_START;
+            boolean empty = true;
+            int headersLeft = headerRecords;
+            long start = headerRecords == 0 ? 0 : -1;
+            long step = 0;
+            long next = 0;
+            long position = 0;
+
+            while ((start < 0 || ranges.size() < chunks - 1) && channel.read(buffer, position) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining() && (start < 0 || ranges.size() < chunks - 1)) {
+                    byte b = buffer.get();
+                    position++;
+                    if (b == '\n' && state != State.QUOTED) {
+                        state = State.FIELD_START;
+                        if (empty) {
+                            continue;
+                        }
+                        empty = true;
+                        if (start < 0) {
+                            if (--headersLeft == 0) {
+                                start = position;
+                                step = Math.max(1, (size - start) / chunks);
+                                next = start + step;
+                            }
+                        } else if (position >= next && position < size) {
+                            ranges.add(new Range(start, position));
+                            start = position;
+                            next = start + step;
+                        }
+                        continue;
+                    }
+                    if (b != '\r') {
+                        empty = false;
+                    }
+                    state = advance(state, b, fieldSeparator, quoteCharacter);
+                }
+                buffer.clear();
+            }
+            if (start >= 0 && start < size) {
+                ranges.add(new Range(start, size));
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * @param from a record boundary, e.g. the end of the records loaded so far
+     * @return the end of the last complete record after {@code from}, or
+     *         {@code from} if no record after it is complete yet
+     */
+    static long lastRecordEnd(Path path, long from, char fieldSeparator, char quoteCharacter) throws IOException {
+        long last = from;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            State state = State.FIELD_START;
+            long position = from;
+            while (channel.read(buffer, position) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    position++;
+                    if (b == '\n' && state != State.QUOTED) {
+                        state = State.FIELD_START;
+                        last = position;
+                        continue;
+                    }
+                    state = advance(state, b, fieldSeparator, quoteCharacter);
+                }
+                buffer.clear();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Reads past the first {@code records} non-empty records of {@code in}, the
+     * ones {@link #split} leaves out; for streams that cannot be split, such as
+     * decompressed ones. Reads byte by byte, so {@code in} should be buffered.
+     */
+    static void skipRecords(InputStream in, int records, char fieldSeparator, char quoteCharacter)
+            throws IOException {
+        State state = State.FIELD_START;
+        boolean empty = true;
+        int left = records;
+        while (left > 0) {
+            int b = in.read();
+            if (b < 0) {
+                return;
+            }
+            if (b == '\n' && state != State.QUOTED) {
+                state = State.FIELD_START;
+                if (!empty) {
+                    left--;
+                }
+                empty = true;
+                continue;
+            }
+            if (b != '\r') {
+                empty = false;
+            }
+            state = advance(state, (byte) b, fieldSeparator, quoteCharacter);
+        }
+    }
+
+    /** The state after {@code b}, which is no line feed. */
+    private static State advance(State state, byte b, char fieldSeparator, char quoteCharacter) {
+        return switch (state) {
+        case FIELD_START -> b == quoteCharacter ? State.QUOTED
+                : b == fieldSeparator ? State.FIELD_START : State.UNQUOTED;
+        case UNQUOTED -> b == fieldSeparator ? State.FIELD_START : State.UNQUOTED;
+        case QUOTED -> b == quoteCharacter ? State.QUOTE_IN_QUOTED : State.QUOTED;
+        case QUOTE_IN_QUOTED -> b == quoteCharacter ? State.QUOTED
+                : b == fieldSeparator ? State.FIELD_START : State.UNQUOTED;
+        };
+    }
+
+    /** @return the bytes of {@code range}; closing the stream closes the file */
+    static InputStream open(Path path, Range range) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new InputStream() {
+
+            private long position = range.start();
+
+            @Override
+            public int read() throws IOException {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                long left = range.end() - position;
+                if (left <= 0) {
+                    return -1;
+                }
+                int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, left)), position);
+                if (n > 0) {
+                    position += n;
+                }
+                return n;
+            }
+
+            @Override
+            public int available() {
+                // GZIPInputStream looks for a further member only if bytes are available
+                return (int) Math.min(Integer.MAX_VALUE, Math.max(0, range.end() - position));
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     * @param range starts with a gzip member and, unless the file is still being
+     *              written, ends with one
+     * @return the decompressed bytes of all members in {@code range}; closing the
+     *         stream closes the file
+     */
+    static InputStream openGzip(Path path, Range range) throws IOException {
+        InputStream in = open(path, range);
+        try {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
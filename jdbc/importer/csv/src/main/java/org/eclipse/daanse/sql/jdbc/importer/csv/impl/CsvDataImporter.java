@@ -13,7 +13,14 @@
  */
 package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
@@ -22,14 +29,28 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import javax.sql.DataSource;
 
@@ -41,14 +62,20 @@ import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
 import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
 import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
 import org.eclipse.daanse.sql.model.schema.SchemaReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
 import org.eclipse.daanse.sql.model.schema.TableReference;
 import org.eclipse.daanse.sql.dialect.api.Dialect;
 import org.eclipse.daanse.sql.dialect.api.DialectFactory;
+import org.eclipse.daanse.sql.dialect.api.DialectRegistry;
+import org.eclipse.daanse.sql.dialect.api.generator.BulkLoadGenerator;
+import org.eclipse.daanse.sql.dialect.api.generator.DdlGenerator;
+import org.eclipse.daanse.sql.dialect.api.generator.MergeGenerator;
 import org.eclipse.daanse.sql.jdbc.importer.csv.api.Constants;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -61,10 +88,11 @@ import org.slf4j.LoggerFactory;
 
 import de.siegmar.fastcsv.reader.CloseableIterator;
 import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
 import de.siegmar.fastcsv.reader.NamedCsvRecord;
 
 @Designate(ocd = CsvDataImporterConfig.class, factory = true)
-@FileSystemWatcherListenerProperties(kinds = EventKind.ENTRY_MODIFY, pattern = ".*.csv", recursive = true)
+@FileSystemWatcherListenerProperties(kinds = EventKind.ENTRY_MODIFY, pattern = ".*.csv(.gz)?", recursive = true)
 @Component(scope = ServiceScope.SINGLETON, service = FileSystemWatcherListener.class, configurationPid = Constants.PID_CSV_DATA_IMPORTER)
 public class CsvDataImporter implements FileSystemWatcherListener {
 
@@ -78,6 +106,23 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CsvDataImporter.class);
 
+    /** The header and the row of column types. */
+    private static final int HEADER_RECORDS = 2;
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    /** A gzip compressed CSV file, read as a stream. */
+    private static final String GZIP_EXTENSION = ".csv.gz";
+
+    private static final String STAGING_SUFFIX = "__loading";
+
+    private static final String OLD_SUFFIX = "__old";
+
+    private static final String KEYS_SUFFIX = "__keys_";
+
+    /** Marks a key column in the row of column types, as in {@code INTEGER PRIMARY KEY}. */
+    private static final String PRIMARY_KEY = " PRIMARY KEY";
+
     private DataSource dataSource;
 
     private DatabaseService databaseService;
@@ -112,6 +157,7 @@ public class CsvDataImporter implements FileSystemWatcherListener {
     }
 
     public void unsetDialectFactory(DialectFactory dialectFactory) {
+        DialectRegistry.invalidate(dialectFactory);
         if (this.dialectFactory == dialectFactory) {
             this.dialectFactory = null;
         }
@@ -119,22 +165,51 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     private CsvDataImporterConfig config;
     private Dialect dialect;
+    /** The charset of the files, see {@link CsvDataImporterConfig#encoding()}. */
+    private Charset charset;
+    /**
+     * Whether {@link #charset} encodes line breaks, field separator and quote as
+     * single ASCII bytes, so that {@link CsvChunker} and {@link MappedCsvReader}
+     * can find records in the bytes; otherwise files load sequentially through
+     * a decoding reader.
+     */
+    private boolean byteLevel;
 
     private Path basePath;
     MetaInfo metaInfo;
 
+    private ExecutorService importExecutor;
+    private ImportDebouncer debouncer;
+    /** Connections all imports hold at most, those of watcher events and of the files present at start. */
+    private Semaphore importConnections;
+
+    /** Files loaded with {@link CsvDataImporterConfig#incrementalLoad()}, by path. */
+    private final Map<Path, AppendWatermark> watermarks = new ConcurrentHashMap<>();
+
     @Activate
     public void activate(CsvDataImporterConfig config) throws SQLException {
         this.config = config;
+        charset = charset(config.encoding());
+        String probe = "\r\n" + config.fieldSeparator() + config.quoteCharacter();
+        byteLevel = Arrays.equals(probe.getBytes(charset), probe.getBytes(StandardCharsets.ISO_8859_1));
         metaInfo = databaseService.createMetaInfo(dataSource);
-        dialect = dialectFactory.createDialect(
-                org.eclipse.daanse.sql.dialect.api.DialectInitData.fromDataSource(dataSource));
+        dialect = DialectRegistry.dialect(dataSource, dialectFactory);
+        importExecutor = Executors.newFixedThreadPool(Math.max(1, config.importThreads()));
+        importConnections = new Semaphore(Math.max(1, config.importConnections()));
+        debouncer = new ImportDebouncer(config.eventQuietPeriod(), importExecutor);
     }
 
     @Deactivate
     public void deactivate() {
+        debouncer.close();
+        importExecutor.shutdownNow();
+        debouncer = null;
+        importExecutor = null;
+        importConnections = null;
         config = null;
         dialect = null;
+        charset = null;
+        watermarks.clear();
     }
 
     private void checkPathAndLoadCsv(Path path) {
@@ -142,7 +217,7 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         if (Files.isDirectory(path)) {
             return;
         }
-        if (!path.toString().endsWith(".csv")) {
+        if (!isCsv(path)) {
             return;
         }
 
@@ -177,48 +252,585 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         });
 
         TableReference tableRef = new TableReference(schema, fileName, "TABLE");
-        TableDefinition tableDefinition=new TableDefinitionRecord(tableRef);
-        dropTable(connection, tableRef);
+        if (config.incrementalLoad() && appendTable(connection, path)) {
+            return;
+        }
+        watermarks.remove(path);
+        if (config.upsertLoad() && upsertTable(connection, path, tableRef)) {
+            return;
+        }
+        // with stagingLoad the live table stays readable until the loaded one replaces it; not so with
+        // upsertLoad, as the key constraint of the staging table would keep the staging name
+        TableReference target = config.stagingLoad() && !config.upsertLoad() ? stagingTable(tableRef) : tableRef;
+        TableDefinition tableDefinition=new TableDefinitionRecord(target);
+        dropTable(connection, target);
 
         if (!path.toFile().exists()) {
-
+            if (target != tableRef) {
+                dropTable(connection, tableRef);
+            }
             LOGGER.warn("File does not exist - {} {}", fileName, path);
             return;
         }
 
-        CsvReader.CsvReaderBuilder builder = CsvReader.builder().fieldSeparator(config.fieldSeparator())
-                .quoteCharacter(config.quoteCharacter()).skipEmptyLines(config.skipEmptyLines())
-                .commentCharacter(config.commentCharacter())
-                .ignoreDifferentFieldCount(config.ignoreDifferentFieldCount());
+        try {
+            loadRecords(connection, path, tableRef, target, tableDefinition);
+        } catch (IOException e) {
+            throw new CsvDataImporterException("Exception while Loading csv", e);
+        }
+    }
 
-        try (CloseableIterator<NamedCsvRecord> it = builder.ofNamedCsvRecord(path).iterator()) {
+    /** Creates {@code target} and loads the records of {@code path} up to {@link #loadEnd(Path)}. */
+    private void loadRecords(Connection connection, Path path, TableReference tableRef, TableReference target,
+            TableDefinition tableDefinition) throws IOException, SQLException {
+        long end = loadEnd(path);
+        try (CloseableIterator<NamedCsvRecord> it = namedRecords(path, end)) {
             if (!it.hasNext()) {
                 throw new IllegalStateException("No header found");
             }
             NamedCsvRecord types = it.next();
             List<ColumnDefinition> headersTypeList = getHeadersTypeList(types);
             if (it.hasNext()) {
-                createTable(connection, headersTypeList, tableDefinition);
-                insertTable(connection, it, headersTypeList, tableRef);
+                createTable(connection, headersTypeList, tableDefinition, primaryKey(target, types));
+                inBulkLoadSession(connection, target, () -> {
+                    if (!bulkLoad(connection, path, headersTypeList, target)) {
+                        List<CsvChunker.Range> ranges = parallelRanges(path, end);
+                        if (ranges.size() > 1) {
+                            insertTableParallel(path, ranges, headersTypeList, target);
+                        } else {
+                            insertTable(connection, path, it, headersTypeList, target, end);
+                        }
+                    }
+                });
+                if (target != tableRef) {
+                    swapIn(connection, target, tableRef);
+                }
+                if (config.incrementalLoad()) {
+                    watermarks.put(path, AppendWatermark.of(path, end, tableRef, headersTypeList));
+                }
+            } else if (target != tableRef) {
+                dropTable(connection, tableRef);
             }
+        }
+    }
 
-        } catch (IOException e) {
-            throw new CsvDataImporterException("Exception while Loading csv", e);
+    /**
+     * Merges the records of {@code path} into the existing {@code table} by the
+     * key columns of the type row, in batches of the dialect's upsert statement.
+     * With upsertDeleteMissing the rows whose key the file no longer holds are
+     * deleted afterwards.
+     *
+     * @return {@code false} if the file has to be loaded in full, decided before
+     *         anything is written: the dialect cannot merge, the file or the
+     *         table does not exist, or the table was not created with the key
+     *         the file declares. A merge failing later is rethrown, as batches
+     *         may already be committed.
+     */
+    private boolean upsertTable(Connection connection, Path path, TableReference table) {
+        MergeGenerator merge = dialect.mergeGenerator();
+        if (!merge.supportsMerge() || !Files.exists(path) || !tableExists(connection, table)) {
+            return false;
+        }
+        try {
+            long end = loadEnd(path);
+            try (CloseableIterator<NamedCsvRecord> it = namedRecords(path, end)) {
+                if (!it.hasNext()) {
+                    return false;
+                }
+                NamedCsvRecord types = it.next();
+                List<String> keys = primaryKeyColumns(types);
+                if (keys.isEmpty() || !Set.copyOf(keys).equals(Set.copyOf(primaryKeyColumns(connection, table)))) {
+                    LOGGER.debug("{} has not the key {} declares, reloading", table.name(), path);
+                    return false;
+                }
+                List<ColumnDefinition> columns = getHeadersTypeList(types);
+                List<String> names = columns.stream().map(c -> c.column().name()).toList();
+                List<String> updates = names.stream().filter(name -> !keys.contains(name)).toList();
+                Optional<String> sql = merge.upsert(new MergeGenerator.UpsertSpec(table, keys, names, updates),
+                        Collections.nCopies(names.size(), "?"));
+                if (sql.isEmpty()) {
+                    return false;
+                }
+                insertRecords(connection, path, it, columns, sql.get(), end);
+                if (config.upsertDeleteMissing()) {
+                    deleteMissing(connection, path, end, table, columns, keys);
+                }
+                if (config.incrementalLoad()) {
+                    watermarks.put(path, AppendWatermark.of(path, end, table, columns));
+                }
+                return true;
+            }
+        } catch (SQLException | IOException e) {
+            throw new CsvDataImporterException("Exception while upserting", e);
+        }
+    }
+
+    /** @return the primary key columns of the existing {@code table}, empty if it has none */
+    private static List<String> primaryKeyColumns(Connection connection, TableReference table) throws SQLException {
+        List<String> keys = new ArrayList<>();
+        try (ResultSet rs = connection.getMetaData().getPrimaryKeys(null,
+                table.schema().map(SchemaReference::name).orElse(null), table.name())) {
+            while (rs.next()) {
+                keys.add(rs.getString("COLUMN_NAME"));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Deletes the rows of {@code table} whose key is not in {@code path} up to
+     * byte {@code end}. The keys of the file are loaded into a table of their own
+     * first, which the delete anti-joins. Its name is new for each run, so it
+     * cannot collide with an existing table, and it is dropped afterwards, also
+     * when the delete fails.
+     */
+    private void deleteMissing(Connection connection, Path path, long end, TableReference table,
+            List<ColumnDefinition> columns, List<String> keys) throws SQLException, IOException {
+        TableReference keyTable = new TableReference(table.schema(),
+                table.name() + KEYS_SUFFIX + UUID.randomUUID().toString().substring(0, 8), table.type());
+        List<ColumnDefinition> keyColumns = new ArrayList<>();
+        int[] fields = new int[keys.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            if (keys.contains(columns.get(i).column().name())) {
+                fields[keyColumns.size()] = i;
+                keyColumns.add(columns.get(i));
+            }
+        }
+        createTable(connection, keyColumns, new TableDefinitionRecord(keyTable));
+        try {
+            String sql = dialect.ddlGenerator().insertInto(keyTable, keyColumns);
+            try (CloseableIterator<NamedCsvRecord> it = namedRecords(path, end);
+                    PreparedStatement ps = connection.prepareStatement(sql)) {
+                if (it.hasNext()) {
+                    // the row of column types
+                    it.next();
+                }
+                batchExecute(connection, ps, rows(it, keyColumns, fields));
+            }
+            try (Statement stmt = connection.createStatement()) {
+                int deleted = stmt.executeUpdate(dialect.ddlGenerator().deleteAbsent(table, keyTable, keys));
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+                LOGGER.debug("Deleted {} rows of {} absent from {}", deleted, table.name(), path);
+            }
+        } finally {
+            if (!connection.getAutoCommit()) {
+                // a failed statement aborts the transaction on some databases, the drop would fail with it
+                connection.rollback();
+            }
+            dropTable(connection, keyTable);
+        }
+    }
+
+    /**
+     * Inserts the records appended to {@code path} since it was last loaded,
+     * complete records only; a record still being written is left for the next
+     * event.
+     *
+     * @return {@code false} if the file has to be loaded in full: it was not
+     *         loaded before, it shrank, the part loaded so far changed, or the
+     *         insert failed
+     */
+    private boolean appendTable(Connection connection, Path path) {
+        AppendWatermark watermark = watermarks.get(path);
+        if (watermark == null) {
+            return false;
+        }
+        try {
+            if (!watermark.prefixUnchanged(path)) {
+                LOGGER.debug("Loaded part of {} changed, reloading", path);
+                return false;
+            }
+            if (isGzip(path)) {
+                appendGzip(connection, path, watermark);
+                return true;
+            }
+            if (!byteLevel) {
+                // the end of the last complete record cannot be found in the bytes
+                return false;
+            }
+            long end = CsvChunker.lastRecordEnd(path, watermark.offset(), config.fieldSeparator(),
+                    config.quoteCharacter());
+            if (end > watermark.offset()) {
+                String sql = dialect.ddlGenerator().insertInto(watermark.table(), watermark.columns());
+                insertRange(connection, path, new CsvChunker.Range(watermark.offset(), end), sql,
+                        watermark.columns());
+                watermarks.put(path, watermark.advance(path, end));
+            }
+            return true;
+        } catch (SQLException | IOException | CsvDataImporterException e) {
+            LOGGER.warn("Append to {} failed, reloading: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Inserts the gzip members appended to {@code path} since it was last loaded.
+     * Each member is expected to hold whole records, as when compressed parts are
+     * concatenated; a member still being written fails the append.
+     */
+    private void appendGzip(Connection connection, Path path, AppendWatermark watermark)
+            throws SQLException, IOException {
+        long end = Files.size(path);
+        if (end <= watermark.offset()) {
+            return;
+        }
+        String sql = dialect.ddlGenerator().insertInto(watermark.table(), watermark.columns());
+        try (Reader reader = new InputStreamReader(
+                CsvChunker.openGzip(path, new CsvChunker.Range(watermark.offset(), end)), charset);
+                CloseableIterator<CsvRecord> it = readerBuilder().ofCsvRecord(reader).iterator();
+                PreparedStatement ps = connection.prepareStatement(sql)) {
+            batchExecute(connection, ps, rows(it, watermark.columns()));
+        }
+        watermarks.put(path, watermark.advance(path, end));
+    }
+
+    /**
+     * @return where a full load of {@code path} stops: with incrementalLoad the end
+     *         of its last complete record, so a record still being written is left
+     *         to the next append; the end of the file otherwise. Gzip members are
+     *         expected to hold whole records.
+     */
+    private long loadEnd(Path path) throws IOException {
+        if (!config.incrementalLoad() || isGzip(path) || !byteLevel) {
+            return Files.size(path);
+        }
+        return CsvChunker.lastRecordEnd(path, 0, config.fieldSeparator(), config.quoteCharacter());
+    }
+
+    /** As {@link #namedRecords(Path)}, up to byte {@code end} of a file that is not compressed. */
+    private CloseableIterator<NamedCsvRecord> namedRecords(Path path, long end) throws IOException {
+        if (isGzip(path)) {
+            return namedRecords(path);
+        }
+        Reader reader = new InputStreamReader(CsvChunker.open(path, new CsvChunker.Range(0, end)), charset);
+        return readerBuilder().ofNamedCsvRecord(reader).iterator();
+    }
+
+    /** @return the records of {@code path} from the header on, decompressed if it is gzip compressed */
+    private CloseableIterator<NamedCsvRecord> namedRecords(Path path) throws IOException {
+        if (!isGzip(path)) {
+            return readerBuilder().ofNamedCsvRecord(path, charset).iterator();
+        }
+        Reader reader = new InputStreamReader(CsvChunker.openGzip(path, new CsvChunker.Range(0, Files.size(path))),
+                charset);
+        return readerBuilder().ofNamedCsvRecord(reader).iterator();
+    }
+
+    private static boolean isCsv(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(CSV_EXTENSION) || name.endsWith(GZIP_EXTENSION);
+    }
+
+    /** @return the charset named {@code encoding}, also in the form of the {@link StandardCharsets} constants */
+    static Charset charset(String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            // US_ASCII is no alias of US-ASCII
+            return Charset.forName(encoding.replace('_', '-'));
+        }
+    }
+
+    private static boolean isGzip(Path path) {
+        return path.getFileName().toString().endsWith(GZIP_EXTENSION);
+    }
+
+    private CsvReader.CsvReaderBuilder readerBuilder() {
+        return CsvReader.builder().fieldSeparator(config.fieldSeparator()).quoteCharacter(config.quoteCharacter())
+                .skipEmptyLines(config.skipEmptyLines()).commentCharacter(config.commentCharacter())
+                .ignoreDifferentFieldCount(config.ignoreDifferentFieldCount());
+    }
+
+    /**
+     * Loads {@code path} with the database's own loader, if the dialect has one.
+     * The load is a single statement; when it fails nothing is loaded and the
+     * caller inserts in batches instead, e.g. when the database server cannot read
+     * the file.
+     *
+     * @return {@code false} if the rows still have to be inserted
+     */
+    private boolean bulkLoad(Connection connection, Path path, List<ColumnDefinition> headersTypeList,
+            TableReference table) throws IOException {
+        // the database reads the file to its end, past a record still being written
+        if (!config.bulkLoad() || config.incrementalLoad() && !isGzip(path)) {
+            return false;
+        }
+        BulkLoadGenerator.CsvFormat format = new BulkLoadGenerator.CsvFormat(config.fieldSeparator(),
+                config.quoteCharacter(), config.nullValue(), HEADER_RECORDS, charset.name(),
+                byteLevel ? lineSeparator(path) : "\n");
+        List<String> columns = headersTypeList.stream().map(c -> c.column().name()).toList();
+        Optional<BulkLoadGenerator.BulkLoad> load = dialect.bulkLoadGenerator().bulkLoad(table, columns,
+                path.toAbsolutePath().toString(), format);
+        // the server cannot read a compressed file, but COPY gets its rows streamed, past the header records
+        // found in the bytes
+        if (load.isEmpty() || isGzip(path) && load.get().transfer() != BulkLoadGenerator.Transfer.COPY_IN
+                || !byteLevel && load.get().transfer() == BulkLoadGenerator.Transfer.COPY_IN) {
+            return false;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            switch (load.get().transfer()) {
+            case STATEMENT -> {
+                try (Statement stmt = connection.createStatement()) {
+                    stmt.execute(load.get().sql());
+                }
+            }
+            case COPY_IN -> copyIn(connection, path, load.get().sql());
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            LOGGER.debug("bulk load time {}", (System.currentTimeMillis() - start));
+            return true;
+        } catch (SQLException | IOException e) {
+            LOGGER.warn("Bulk load of {} failed, inserting in batches: {}", path, e.getMessage());
+            try {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+            } catch (SQLException rollback) {
+                e.addSuppressed(rollback);
+            }
+            return false;
+        }
+    }
+
+    /** @return what ends the first record of {@code path}: {@code \n}, {@code \r\n} or {@code \r} */
+    private String lineSeparator(Path path) throws IOException {
+        try (InputStream in = isGzip(path) ? CsvChunker.openGzip(path, new CsvChunker.Range(0, Files.size(path)))
+                : Files.newInputStream(path)) {
+            byte[] head = in.readNBytes(1 << 16);
+            for (int i = 0; i < head.length; i++) {
+                if (head[i] == '\n') {
+                    return "\n";
+                }
+                if (head[i] == '\r') {
+                    return i + 1 < head.length && head[i + 1] == '\n' ? "\r\n" : "\r";
+                }
+            }
+        }
+        return "\n";
+    }
+
+    /**
+     * Streams the data records of {@code path} into {@code COPY ... FROM STDIN}
+     * through the PostgreSQL driver's {@code CopyManager}. The driver is looked up
+     * reflectively; the importer does not depend on it.
+     */
+    private void copyIn(Connection connection, Path path, String sql) throws SQLException, IOException {
+        try (InputStream in = openData(path)) {
+            Class<?> pgConnection = Class.forName("org.postgresql.PGConnection", false,
+                    connection.getClass().getClassLoader());
+            Object copyManager = pgConnection.getMethod("getCopyAPI").invoke(connection.unwrap(pgConnection));
+            copyManager.getClass().getMethod("copyIn", String.class, InputStream.class).invoke(copyManager, sql, in);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException cause) {
+                throw cause;
+            }
+            throw new SQLException("COPY failed", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("PostgreSQL copy API not available", e);
+        }
+    }
+
+    /** @return the bytes of the data records of {@code path}, decompressed if it is gzip compressed */
+    private InputStream openData(Path path) throws IOException {
+        if (isGzip(path)) {
+            InputStream in = new BufferedInputStream(
+                    CsvChunker.openGzip(path, new CsvChunker.Range(0, Files.size(path))), 1 << 16);
+            CsvChunker.skipRecords(in, HEADER_RECORDS, config.fieldSeparator(), config.quoteCharacter());
+            return in;
+        }
+        List<CsvChunker.Range> data = CsvChunker.split(path, HEADER_RECORDS, 1, config.fieldSeparator(),
+                config.quoteCharacter());
+        return data.isEmpty() ? InputStream.nullInputStream() : CsvChunker.open(path, data.get(0));
+    }
+
+    /**
+     * @return the ranges of {@code path} to load in parallel, or an empty list to
+     *         load it sequentially
+     */
+    private List<CsvChunker.Range> parallelRanges(Path path, long end) throws IOException {
+        if (connections(path, end) == 1) {
+            return List.of();
+        }
+        int threads = parallelLoadThreads();
+        // more ranges than threads, so that a thread done early takes another
+        return bounded(CsvChunker.split(path, HEADER_RECORDS, threads * 4, config.fieldSeparator(),
+                config.quoteCharacter()), end);
+    }
+
+    /** @return {@code ranges} cut off at the record boundary {@code end} */
+    private static List<CsvChunker.Range> bounded(List<CsvChunker.Range> ranges, long end) {
+        List<CsvChunker.Range> result = new ArrayList<>(ranges.size());
+        for (CsvChunker.Range range : ranges) {
+            if (range.start() < end) {
+                result.add(new CsvChunker.Range(range.start(), Math.min(range.end(), end)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the ranges of {@code path} concurrently, each range on its own pooled
+     * connection with its own batches and commits. Rows of different ranges reach
+     * the table in no particular order.
+     */
+    private void insertTableParallel(Path path, List<CsvChunker.Range> ranges, List<ColumnDefinition> headersTypeList,
+            TableReference table) {
+        String sql = dialect.ddlGenerator().insertInto(table, headersTypeList);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelLoadThreads(), ranges.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (CsvChunker.Range range : ranges) {
+                futures.add(executor.submit(() -> {
+                    insertRange(path, range, sql, headersTypeList);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CsvDataImporterException(EXCEPTION_WHILE_WRITING_DATA, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CsvDataImporterException cause) {
+                throw cause;
+            }
+            throw new CsvDataImporterException(EXCEPTION_WHILE_WRITING_DATA, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insertRange(Path path, CsvChunker.Range range, String sql, List<ColumnDefinition> headersTypeList)
+            throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            inBulkLoadSession(connection, null, () -> insertRange(connection, path, range, sql, headersTypeList));
         }
     }
 
-    private void insertTable(Connection connection, CloseableIterator<NamedCsvRecord> it,
-            List<ColumnDefinition> headersTypeList, TableReference table) throws SQLException {
+    private void insertRange(Connection connection, Path path, CsvChunker.Range range, String sql,
+            List<ColumnDefinition> headersTypeList) throws SQLException, IOException {
+        LOGGER.debug("Load range {}-{} of {}", range.start(), range.end(), path);
+        if (mapped(path)) {
+            try (MappedCsvReader reader = openMapped(path, range);
+                    PreparedStatement ps = connection.prepareStatement(sql)) {
+                batchExecute(connection, ps, rows(reader, headersTypeList));
+            }
+            return;
+        }
+        try (Reader reader = new InputStreamReader(CsvChunker.open(path, range), charset);
+                CloseableIterator<CsvRecord> it = readerBuilder().ofCsvRecord(reader).iterator();
+                PreparedStatement ps = connection.prepareStatement(sql)) {
+            batchExecute(connection, ps, rows(it, headersTypeList));
+        }
+    }
+
+    /**
+     * @param it positioned after the header records; read only where
+     *           {@link #mapped(Path)} does not hold
+     */
+    private void insertTable(Connection connection, Path path, CloseableIterator<NamedCsvRecord> it,
+            List<ColumnDefinition> headersTypeList, TableReference table, long end) throws SQLException, IOException {
 
         String sql = dialect.ddlGenerator().insertInto(table, headersTypeList);
+        insertRecords(connection, path, it, headersTypeList, sql, end);
+    }
+
+    /**
+     * Runs {@code sql} for each remaining record of {@code it}, in batches; read
+     * through the mapped reader instead where configured, up to byte {@code end}.
+     */
+    private void insertRecords(Connection connection, Path path, CloseableIterator<NamedCsvRecord> it,
+            List<ColumnDefinition> headersTypeList, String sql, long end) throws SQLException, IOException {
 
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            batchExecute(connection, ps, it, headersTypeList);
+            if (mapped(path)) {
+                List<CsvChunker.Range> data = bounded(CsvChunker.split(path, HEADER_RECORDS, 1,
+                        config.fieldSeparator(), config.quoteCharacter()), end);
+                if (data.isEmpty()) {
+                    return;
+                }
+                try (MappedCsvReader reader = openMapped(path, data.get(0))) {
+                    batchExecute(connection, ps, rows(reader, headersTypeList));
+                }
+            } else {
+                batchExecute(connection, ps, rows(it, headersTypeList));
+            }
         } catch (SQLException e) {
             throw new CsvDataImporterException(EXCEPTION_WHILE_WRITING_DATA, e);
         }
     }
 
+    /** @return whether {@code path} is read through the {@link MappedCsvReader} */
+    private boolean mapped(Path path) {
+        return config.mappedReader() && !isGzip(path) && byteLevel;
+    }
+
+    private MappedCsvReader openMapped(Path path, CsvChunker.Range range) throws IOException {
+        return MappedCsvReader.open(path, range, config.fieldSeparator(), config.quoteCharacter(),
+                config.skipEmptyLines(), charset);
+    }
+
+    private static TableReference stagingTable(TableReference table) {
+        return new TableReference(table.schema(), table.name() + STAGING_SUFFIX, table.type());
+    }
+
+    /**
+     * Replaces {@code table} with the loaded {@code staging} table by renaming
+     * both. Where the dialect has transactional DDL the renames commit together
+     * and readers see the old or the new table; elsewhere {@code table} is missing
+     * between the two renames, and only then.
+     */
+    private void swapIn(Connection connection, TableReference staging, TableReference table) throws SQLException {
+        TableReference old = new TableReference(table.schema(), table.name() + OLD_SUFFIX, table.type());
+        // probed before the transaction: a failed statement would abort it on some databases
+        if (tableExists(connection, old)) {
+            dropTable(connection, old);
+        }
+        boolean replace = tableExists(connection, table);
+        boolean transactional = dialect.supportsTransactionalDdl();
+        boolean autoCommit = connection.getAutoCommit();
+        try (Statement stmt = connection.createStatement()) {
+            connection.setAutoCommit(!transactional);
+            if (replace) {
+                stmt.execute(dialect.ddlGenerator().renameTable(table, old.name()));
+            }
+            stmt.execute(dialect.ddlGenerator().renameTable(staging, table.name()));
+            if (replace) {
+                stmt.execute(dialect.ddlGenerator().dropTable(old, true));
+            }
+            if (transactional) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            if (transactional) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+            }
+            throw new CsvDataImporterException("Exception while swapping in table", e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean tableExists(Connection connection, TableReference table) {
+        try (Statement stmt = connection.createStatement();
+                ResultSet rs = stmt.executeQuery(
+                        "SELECT 1 FROM " + dialect.ddlGenerator().qualified(table) + " WHERE 1 = 0")) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
     private void dropTable(Connection connection, TableReference table) throws SQLException {
         try {
 
@@ -234,9 +846,16 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     public void createTable(Connection connection, List<ColumnDefinition> headersTypeList, TableDefinition table)
             throws SQLException {
+        createTable(connection, headersTypeList, table, null);
+    }
+
+    private void createTable(Connection connection, List<ColumnDefinition> headersTypeList, TableDefinition table,
+            PrimaryKey primaryKey) throws SQLException {
         try (Statement stmt = connection.createStatement();) {
 
-            String sql = dialect.ddlGenerator().createTable(table.table(), headersTypeList, null, true);
+            String sql = config.bulkLoadSession()
+                    ? dialect.ddlGenerator().createTableForBulkLoad(table.table(), headersTypeList, primaryKey, true)
+                    : dialect.ddlGenerator().createTable(table.table(), headersTypeList, primaryKey, true);
 
             LOGGER.debug("Created table in given database. {}", sql);
 
@@ -248,6 +867,69 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     }
 
+    /** A load step run by {@link #inBulkLoadSession(Connection, TableReference, Load)}. */
+    private interface Load {
+        void run() throws SQLException, IOException;
+    }
+
+    /**
+     * Runs {@code load} on {@code connection}, with bulkLoadSession between the
+     * dialect's session hooks: the connection's settings are read, changed and
+     * restored afterwards, and the constraint checks of {@code table} are set
+     * aside meanwhile. {@code table} is {@code null} on the worker connections of
+     * a parallel load, the loading connection covers it. A failure of the closing
+     * hooks after a failed load is suppressed into the load's failure.
+     */
+    private void inBulkLoadSession(Connection connection, TableReference table, Load load)
+            throws SQLException, IOException {
+        if (!config.bulkLoadSession()) {
+            load.run();
+            return;
+        }
+        DdlGenerator ddl = dialect.ddlGenerator();
+        List<String> settings = new ArrayList<>();
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : ddl.bulkLoadSettings()) {
+                try (ResultSet rs = stmt.executeQuery(sql)) {
+                    settings.add(rs.next() ? rs.getString(1) : null);
+                }
+            }
+        }
+        execute(connection, ddl.beginBulkLoadSession());
+        List<String> end = new ArrayList<>(ddl.endBulkLoadSession(settings));
+        if (table != null) {
+            execute(connection, ddl.beginBulkLoad(table));
+            end.addAll(ddl.endBulkLoad(table));
+        }
+        try {
+            load.run();
+        } catch (SQLException | IOException | RuntimeException e) {
+            try {
+                execute(connection, end);
+            } catch (SQLException | RuntimeException endFailure) {
+                e.addSuppressed(endFailure);
+            }
+            throw e;
+        }
+        execute(connection, end);
+    }
+
+    /** Runs the statements of a bulk load session hook and commits them. */
+    private void execute(Connection connection, List<String> statements) throws SQLException {
+        if (statements.isEmpty()) {
+            return;
+        }
+        try (Statement stmt = connection.createStatement()) {
+            for (String sql : statements) {
+                LOGGER.debug("Bulk load session: {}", sql);
+                stmt.execute(sql);
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
     private Optional<SchemaReference> getSchemaFromPath(Path path) {
         Path parent = path.getParent();
         if (basePath.equals(parent)) {
@@ -257,19 +939,80 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         return Optional.of(new SchemaReference(fileName));
     }
 
-    private void batchExecute(Connection connection, PreparedStatement ps, CloseableIterator<NamedCsvRecord> it,
-            List<ColumnDefinition> columns) throws SQLException {
+    /** Sets the parameters of the insert from the next record of a file. */
+    @FunctionalInterface
+    private interface Rows {
 
-        connection.setAutoCommit(false);
-        long start = System.currentTimeMillis();
-        int count = 0;
-        while (it.hasNext()) {
-            NamedCsvRecord r = it.next();
+        /** @return {@code false}, with no parameter set, after the last record */
+        boolean bindNext(PreparedStatement ps) throws SQLException, IOException;
+    }
 
+    private Rows rows(Iterator<? extends CsvRecord> it, List<ColumnDefinition> columns) {
+        return ps -> {
+            if (!it.hasNext()) {
+                return false;
+            }
+            CsvRecord r = it.next();
             int colIndex = 1;
             for (ColumnDefinition columnDefinition : columns) {
                 processingTypeValues(ps, columnDefinition, colIndex++, r);
             }
+            return true;
+        };
+    }
+
+    /** Binds the given fields of each record, {@code fields[i]} to {@code columns.get(i)}. */
+    private Rows rows(Iterator<? extends CsvRecord> it, List<ColumnDefinition> columns, int[] fields) {
+        return ps -> {
+            if (!it.hasNext()) {
+                return false;
+            }
+            CsvRecord r = it.next();
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    setPrepareStatement(ps, i + 1, columns.get(i), r.getField(fields[i]));
+                }
+            } catch (SQLException e) {
+                throw new CsvDataImporterException(EXCEPTION_WHILE_SETTING_VALUE_TO_PREPARED_STATEMENT, e);
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Binds the fields of {@code reader} by position. The column types and the
+     * null value are resolved here, once, not per field.
+     */
+    private Rows rows(MappedCsvReader reader, List<ColumnDefinition> columns) {
+        JDBCType[] types = columns.stream().map(c -> c.columnMetaData().dataType()).toArray(JDBCType[]::new);
+        byte[] nullValue = config.nullValue().getBytes(charset);
+        boolean ignoreDifferentFieldCount = config.ignoreDifferentFieldCount();
+        return ps -> {
+            if (!reader.next()) {
+                return false;
+            }
+            if (!ignoreDifferentFieldCount && reader.fieldCount() != types.length) {
+                throw new CsvDataImporterException(
+                        "Record has " + reader.fieldCount() + " fields, expected " + types.length);
+            }
+            try {
+                for (int i = 0; i < types.length; i++) {
+                    setPrepareStatement(ps, i + 1, types[i], reader, i, nullValue);
+                }
+            } catch (SQLException e) {
+                throw new CsvDataImporterException(EXCEPTION_WHILE_SETTING_VALUE_TO_PREPARED_STATEMENT, e);
+            }
+            return true;
+        };
+    }
+
+    private void batchExecute(Connection connection, PreparedStatement ps, Rows rows)
+            throws SQLException, IOException {
+
+        connection.setAutoCommit(false);
+        long start = System.currentTimeMillis();
+        int count = 0;
+        while (rows.bindNext(ps)) {
             ps.addBatch();
             ps.clearParameters();
             if (count % config.batchSize() == 0) {
@@ -291,10 +1034,10 @@ public class CsvDataImporter implements FileSystemWatcherListener {
     }
 
     private void processingTypeValues(PreparedStatement ps, ColumnDefinition columnDefinition, int index,
-            NamedCsvRecord r) throws SQLException {
+            CsvRecord r) throws SQLException {
 
-        ColumnReference column = columnDefinition.column();
-        String field = r.getField(column.name());
+        // columns are in header order; ranges of a parallel load have no header
+        String field = r.getField(index - 1);
 
         try {
             setPrepareStatement(ps, index, columnDefinition, field);
@@ -363,11 +1106,38 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         }
     }
 
+    /** As {@link #setPrepareStatement(PreparedStatement, int, ColumnDefinition, String)}, from the mapped bytes. */
+    private static void setPrepareStatement(PreparedStatement ps, int index, JDBCType type, MappedCsvReader r,
+            int field, byte[] nullValue) throws SQLException {
+
+        if (field >= r.fieldCount() || r.matches(field, nullValue)) {
+            ps.setObject(index, null);
+            return;
+        }
+        boolean empty = r.isEmpty(field);
+        switch (type) {
+        case BOOLEAN -> ps.setBoolean(index, !empty && r.getBoolean(field));
+        case BIGINT -> ps.setLong(index, empty ? 0L : r.getLong(field));
+        case DATE -> ps.setDate(index, r.getDate(field));
+        case INTEGER -> ps.setInt(index, empty ? 0 : r.getInt(field));
+        case DECIMAL, NUMERIC, REAL -> ps.setDouble(index, empty ? 0.0 : r.getDouble(field));
+        case SMALLINT -> ps.setShort(index, empty ? 0 : r.getShort(field));
+        case TIMESTAMP -> ps.setTimestamp(index, Timestamp.valueOf(r.getString(field)));
+        case TIME -> ps.setTime(index, Time.valueOf(r.getString(field)));
+        default -> ps.setString(index, r.getString(field));
+        }
+    }
+
     private List<ColumnDefinition> getHeadersTypeList(NamedCsvRecord types) {
         List<ColumnDefinition> result = new ArrayList<>();
         if (types != null) {
             for (String header : types.getHeader()) {
-                ColumnMetaDataRecord sqlType = parseColumnDataType(types.getField(header));
+                String type = types.getField(header);
+                if (isPrimaryKey(type)) {
+                    type = type.strip();
+                    type = type.substring(0, type.length() - PRIMARY_KEY.length()).strip();
+                }
+                ColumnMetaDataRecord sqlType = parseColumnDataType(type);
                 ColumnDefinition dbc = new ColumnDefinitionRecord(new ColumnReference(header), sqlType);
                 result.add(dbc);
             }
@@ -375,6 +1145,31 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         return result;
     }
 
+    private static boolean isPrimaryKey(String type) {
+        return type.strip().toUpperCase(Locale.ROOT).endsWith(PRIMARY_KEY);
+    }
+
+    /** @return the columns the row of column types marks as key, in header order */
+    private static List<String> primaryKeyColumns(NamedCsvRecord types) {
+        List<String> keys = new ArrayList<>();
+        for (String header : types.getHeader()) {
+            if (isPrimaryKey(types.getField(header))) {
+                keys.add(header);
+            }
+        }
+        return keys;
+    }
+
+    /** @return the key of {@code table} with upsertLoad, if the row of column types marks any, else {@code null} */
+    private PrimaryKey primaryKey(TableReference table, NamedCsvRecord types) {
+        if (!config.upsertLoad()) {
+            return null;
+        }
+        List<ColumnReference> keys = primaryKeyColumns(types).stream()
+                .map(name -> new ColumnReference(Optional.of(table), name)).toList();
+        return keys.isEmpty() ? null : new PrimaryKeyRecord(table, keys, Optional.empty());
+    }
+
     private ColumnMetaDataRecord parseColumnDataType(String stringType) {
         int indexStart = stringType.indexOf("(");
         int indexEnd = stringType.indexOf(")");
@@ -413,6 +1208,9 @@ public class CsvDataImporter implements FileSystemWatcherListener {
     }
 
     private String getFileNameWithoutExtension(String fileName) {
+        if (fileName.endsWith(GZIP_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - ".gz".length());
+        }
         if (fileName.contains(".")) {
             return fileName.substring(0, fileName.lastIndexOf("."));
         } else {
@@ -421,6 +1219,7 @@ public class CsvDataImporter implements FileSystemWatcherListener {
     }
 
     private void delete(Path path) {
+        watermarks.remove(path);
 
         String tableName = getFileNameWithoutExtension(path.getFileName().toString());
         LOGGER.debug("Drop table {}", tableName);
@@ -443,7 +1242,79 @@ public class CsvDataImporter implements FileSystemWatcherListener {
 
     @Override
     public void handleInitialPaths(List<Path> initialPaths) {
-        initialPaths.parallelStream().forEach(this::checkPathAndLoadCsv);
+        List<ImportScheduler.Job> jobs = new ArrayList<>();
+        for (Path path : initialPaths) {
+            if (!Files.isRegularFile(path) || !isCsv(path)) {
+                continue;
+            }
+            try {
+                long size = Files.size(path);
+                jobs.add(new ImportScheduler.Job(path, tableKey(path), size, connections(path, size)));
+            } catch (IOException e) {
+                LOGGER.warn("Skip {}", path, e);
+            }
+        }
+        Map<String, Set<String>> parents = metaInfo == null ? Map.of()
+                : ImportScheduler.dependencies(metaInfo.structureInfo().importedKeys());
+        new ImportScheduler(config.importConnections()).run(jobs, parents,
+                path -> withinBudget(path, () -> checkPathAndLoadCsv(path)));
+    }
+
+    /** @return the key of the table {@code path} loads, see {@link ImportScheduler#key(TableReference)} */
+    private String tableKey(Path path) {
+        return ImportScheduler.key(new TableReference(getSchemaFromPath(path),
+                getFileNameWithoutExtension(path.getFileName().toString()), "TABLE"));
+    }
+
+    /**
+     * Runs the import of {@code path} once the connections it holds are free in
+     * the budget of importConnections; an import needing more than the whole
+     * budget waits for all of it.
+     */
+    private void withinBudget(Path path, Runnable action) {
+        Semaphore budget = importConnections;
+        long size;
+        try {
+            size = Files.size(path);
+        } catch (IOException e) {
+            size = 0;
+        }
+        int permits = Math.min(connections(path, size), Math.max(1, config.importConnections()));
+        try {
+            budget.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            action.run();
+        } finally {
+            budget.release(permits);
+        }
+    }
+
+    /**
+     * @return the connections the import of {@code path} of {@code size} bytes
+     *         holds at once; 1 unless it is loaded in parallel
+     */
+    private int connections(Path path, long size) {
+        int threads = parallelLoadThreads();
+        // a compressed stream, or one in a charset CsvChunker cannot read, has no known record boundaries
+        if (threads < 2 || !dialect.supportsParallelLoading() || size < config.parallelLoadMinFileSize()
+                || isGzip(path) || !byteLevel) {
+            return 1;
+        }
+        // the connection creating the table stays open while the ranges load
+        return 1 + threads;
+    }
+
+    /**
+     * @return the threads loading one file in parallel: parallelLoadThreads, but
+     *         at most one less than importConnections, as the connection creating
+     *         the table counts too
+     */
+    private int parallelLoadThreads() {
+        return Math.min(config.parallelLoadThreads(), Math.max(1, config.importConnections()) - 1);
     }
 
     @Override
@@ -451,12 +1322,13 @@ public class CsvDataImporter implements FileSystemWatcherListener {
         if (Files.isDirectory(path)) {
             return;
         }
+        // a burst of events for one table becomes one import, after the file settles
         if (kind.name().equals(StandardWatchEventKinds.ENTRY_MODIFY.name())
                 || kind.name().equals(StandardWatchEventKinds.ENTRY_CREATE.name())) {
-            checkPathAndLoadCsv(path);
+            debouncer.submit(tableKey(path), path, () -> withinBudget(path, () -> checkPathAndLoadCsv(path)));
         }
         if (kind.name().equals(StandardWatchEventKinds.ENTRY_DELETE.name())) {
-            delete(path);
+            debouncer.submit(tableKey(path), path, () -> withinBudget(path, () -> delete(path)));
         }
     }
 
@@ -41,7 +41,8 @@ public @interface CsvDataImporterConfig {
     char fieldSeparator() default ',';
 
     /**
-     * @return Encoding default UTF-8
+     * @return Encoding default UTF-8. Applies to every way of loading; files in a
+     *         UTF-16 encoding load sequentially and are not appended to
      */
     @AttributeDefinition(description = "encoding", options = { @Option(value = "UTF-8"), @Option(value = "US_ASCII"),
             @Option(value = "ISO_8859_1"), @Option(value = "UTF_16BE"), @Option(value = "UTF_16LE"),
@@ -77,4 +78,99 @@ public @interface CsvDataImporterConfig {
      */
     @AttributeDefinition(description = "batchSize", defaultValue = "5000")
     int batchSize() default 1000;
+
+    /**
+     * @return Event Quiet Period. Milliseconds without events, and without change
+     *         of size and modification time, before a changed file is imported
+     */
+    @AttributeDefinition(description = "eventQuietPeriod", defaultValue = "200")
+    long eventQuietPeriod() default 200;
+
+    /**
+     * @return Import Threads. Files imported at the same time, each on its own
+     *         connection
+     */
+    @AttributeDefinition(description = "importThreads", defaultValue = "2")
+    int importThreads() default 2;
+
+    /**
+     * @return Import Connections. Connections held at most by all imports, of the
+     *         files present at start and of changed files alike; a file loaded in
+     *         parallel holds one per parallel load thread and one more, so it
+     *         loads on at most one less thread than this
+     */
+    @AttributeDefinition(description = "importConnections", defaultValue = "4")
+    int importConnections() default 4;
+
+    /**
+     * @return Mapped Reader. Reads UTF-8 files from a memory mapping and decodes
+     *         numbers and dates from the bytes; false reads them with FastCSV
+     */
+    @AttributeDefinition(description = "mappedReader", defaultValue = "true")
+    boolean mappedReader() default true;
+
+    /**
+     * @return Staging Load. Loads into {@code <table>__loading} and renames it to
+     *         the table when done, so that readers never see a missing or partly
+     *         loaded table
+     */
+    @AttributeDefinition(description = "stagingLoad", defaultValue = "false")
+    boolean stagingLoad() default false;
+
+    /**
+     * @return Incremental Load. On modification, inserts only the records appended
+     *         since the last load, and reloads in full if the loaded part changed
+     */
+    @AttributeDefinition(description = "incrementalLoad", defaultValue = "false")
+    boolean incrementalLoad() default false;
+
+    /**
+     * @return Upsert Load. Merges a modified file into its table by the columns its
+     *         row of column types marks as key, as in {@code INTEGER PRIMARY KEY},
+     *         and reloads in full where the dialect cannot merge
+     */
+    @AttributeDefinition(description = "upsertLoad", defaultValue = "false")
+    boolean upsertLoad() default false;
+
+    /**
+     * @return Upsert Delete Missing. With upsertLoad, deletes the rows whose key
+     *         the file no longer holds
+     */
+    @AttributeDefinition(description = "upsertDeleteMissing", defaultValue = "false")
+    boolean upsertDeleteMissing() default false;
+
+    /**
+     * @return Bulk Load. Use the database's own CSV loader if the dialect has one,
+     *         batched inserts otherwise. Off by default: the native loaders read an
+     *         empty field by the database's rules, mostly as {@code NULL} or an
+     *         error, where batched inserts store {@code 0} in numeric and
+     *         {@code false} in boolean columns
+     */
+    @AttributeDefinition(description = "bulkLoad", defaultValue = "false")
+    boolean bulkLoad() default false;
+
+    /**
+     * @return Bulk Load Session. Loads a full import with what the dialect lets
+     *         set aside for the duration: logging of the new table, constraint
+     *         checks, synchronous commits on every loading connection; the
+     *         constraints are validated and the connection settings restored
+     *         once the rows are in
+     */
+    @AttributeDefinition(description = "bulkLoadSession", defaultValue = "false")
+    boolean bulkLoadSession() default false;
+
+    /**
+     * @return Parallel Load Threads. Loads one file on this many connections if the
+     *         dialect supports parallel loading, at most on importConnections
+     *         less one; 1 loads sequentially
+     */
+    @AttributeDefinition(description = "parallelLoadThreads", defaultValue = "4")
+    int parallelLoadThreads() default 4;
+
+    /**
+     * @return Parallel Load Min File Size. Smaller files, in bytes, are loaded
+     *         sequentially
+     */
+    @AttributeDefinition(description = "parallelLoadMinFileSize", defaultValue = "67108864")
+    long parallelLoadMinFileSize() default 64L * 1024 * 1024;
 }
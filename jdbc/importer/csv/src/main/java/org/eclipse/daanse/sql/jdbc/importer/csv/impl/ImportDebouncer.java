@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Turns the bursts of watcher events that one write produces into one import
+ * per table. Events are grouped by a key, the table the file loads: {@code x.csv}
+ * and {@code x.csv.gz} both load table {@code x}. Each event replaces the action
+ * waiting for its key and restarts the key's quiet period; when the period ends
+ * the action runs, provided the size and modification time of the event's file
+ * are still what they were at the last event, otherwise another period is
+ * awaited. At most one action per key runs at a time: an event that arrives
+ * meanwhile waits for it to finish, and only the newest such event runs
+ * afterwards.
+ */
+final class ImportDebouncer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportDebouncer.class);
+
+    /** Size and modification time; {@code -1} for a file that does not exist. */
+    private record Stamp(long size, long modified) {
+
+        static Stamp of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new Stamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return new Stamp(-1, -1);
+            }
+        }
+    }
+
+    /** The state of one key; guarded by the debouncer. */
+    private static final class Entry {
+
+        private Path path;
+        private Runnable action;
+        private Stamp stamp;
+        private ScheduledFuture<?> timer;
+        private boolean running;
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ScheduledExecutorService timers = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "csv-import-debouncer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor workers;
+    private final long quietPeriodMillis;
+
+    /**
+     * @param workers runs the actions; keys run in parallel as far as it allows
+     */
+    ImportDebouncer(long quietPeriodMillis, Executor workers) {
+        this.quietPeriodMillis = Math.max(0, quietPeriodMillis);
+        this.workers = workers;
+    }
+
+    /**
+     * Runs {@code action} once {@code key} has been quiet and {@code path} stable,
+     * in place of any action for {@code key} still waiting.
+     *
+     * @param key  the table {@code path} loads, see {@link ImportScheduler#key}
+     * @param path the file of the event
+     */
+    synchronized void submit(String key, Path path, Runnable action) {
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        entry.path = path;
+        entry.action = action;
+        entry.stamp = Stamp.of(path);
+        if (!entry.running) {
+            schedule(key, entry);
+        }
+    }
+
+    /** @return whether an action for {@code key} waits or runs */
+    synchronized boolean isPending(String key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public synchronized void close() {
+        timers.shutdownNow();
+        entries.clear();
+    }
+
+    private void schedule(String key, Entry entry) {
+        if (entry.timer != null) {
+            entry.timer.cancel(false);
+        }
+        entry.timer = timers.schedule(() -> quiet(key), quietPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void quiet(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.running || entry.action == null) {
+            return;
+        }
+        Path path = entry.path;
+        Stamp now = Stamp.of(path);
+        if (!now.equals(entry.stamp)) {
+            LOGGER.debug("{} still changing, waiting", path);
+            entry.stamp = now;
+            schedule(key, entry);
+            return;
+        }
+        Runnable action = entry.action;
+        entry.action = null;
+        entry.timer = null;
+        entry.running = true;
+        workers.execute(() -> run(key, path, action));
+    }
+
+    private void run(String key, Path path, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Import of {} failed", path, e);
+        } finally {
+            finished(key);
+        }
+    }
+
+    private synchronized void finished(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.running = false;
+        if (entry.action != null) {
+            schedule(key, entry);
+        } else {
+            entries.remove(key);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports a set of files within a budget of connections. Of the files that may
+ * start, the largest starts first, so that the long imports do not end up last;
+ * a file whose table references another file's table by foreign key starts only
+ * after that one is done. Each finished file is logged with the overall progress
+ * and throughput.
+ */
+final class ImportScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportScheduler.class);
+
+    /**
+     * @param table       the table the file loads, see {@link #key(TableReference)}
+     * @param size        bytes of the file
+     * @param connections connections the import holds at once, at least 1
+     */
+    record Job(Path path, String table, long size, int connections) {
+    }
+
+    private final int budget;
+
+    /** @param budget connections all running imports hold at most */
+    ImportScheduler(int budget) {
+        this.budget = Math.max(1, budget);
+    }
+
+    /** @return the key of {@code table} in {@link Job#table()} and in dependencies */
+    static String key(TableReference table) {
+        String name = table.schema().map(s -> s.name() + "." + table.name()).orElse(table.name());
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** @return the keys of the tables each table references, by table key */
+    static Map<String, Set<String>> dependencies(List<? extends ImportedKey> importedKeys) {
+        Map<String, Set<String>> parents = new HashMap<>();
+        for (ImportedKey fk : importedKeys) {
+            fk.foreignKeyColumn().table().ifPresent(child -> fk.primaryKeyColumn().table().ifPresent(
+                    parent -> parents.computeIfAbsent(key(child), k -> new HashSet<>()).add(key(parent))));
+        }
+        return parents;
+    }
+
+    /**
+     * Runs {@code action} for every job and returns when all are done. A failed
+     * job is logged and counts as done. Jobs in a reference cycle start largest
+     * first once nothing else can.
+     *
+     * @param parents table keys each table waits for; keys without a job are
+     *                ignored
+     */
+    void run(List<Job> jobs, Map<String, Set<String>> parents, Consumer<Path> action) {
+        Map<String, List<Job>> byTable = new HashMap<>();
+        jobs.forEach(job -> byTable.computeIfAbsent(job.table(), k -> new ArrayList<>()).add(job));
+
+        Map<Job, Set<Job>> waitingFor = new HashMap<>();
+        Map<Job, List<Job>> children = new HashMap<>();
+        Comparator<Job> largestFirst = Comparator.comparingLong(Job::size).reversed();
+        PriorityQueue<Job> ready = new PriorityQueue<>(largestFirst);
+        Set<Job> blocked = new LinkedHashSet<>();
+        for (Job job : jobs) {
+            Set<Job> waiting = new HashSet<>();
+            for (String parent : parents.getOrDefault(job.table(), Set.of())) {
+                if (!parent.equals(job.table())) {
+                    waiting.addAll(byTable.getOrDefault(parent, List.of()));
+                }
+            }
+            waiting.forEach(p -> children.computeIfAbsent(p, k -> new ArrayList<>()).add(job));
+            waitingFor.put(job, waiting);
+            if (waiting.isEmpty()) {
+                ready.add(job);
+            } else {
+                blocked.add(job);
+            }
+        }
+
+        long totalBytes = jobs.stream().mapToLong(Job::size).sum();
+        long doneBytes = 0;
+        int done = 0;
+        int running = 0;
+        int free = budget;
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(budget, Math.max(1, jobs.size())));
+        CompletionService<Job> completion = new ExecutorCompletionService<>(executor);
+        try {
+            while (done < jobs.size()) {
+                // a job larger than the budget runs alone
+                while (!ready.isEmpty() && (ready.peek().connections() <= free || running == 0)) {
+                    Job job = ready.poll();
+                    free -= job.connections();
+                    running++;
+                    completion.submit(() -> {
+                        try {
+                            action.accept(job.path());
+                        } catch (RuntimeException e) {
+                            LOGGER.error("Import of {} failed", job.path(), e);
+                        }
+                        return job;
+                    });
+                }
+                if (running == 0) {
+                    Job job = blocked.stream().min(largestFirst).orElseThrow();
+                    LOGGER.warn("Foreign keys of {} form a cycle, importing it before its parents", job.table());
+                    blocked.remove(job);
+                    ready.add(job);
+                    continue;
+                }
+                Job finished = completion.take().get();
+                running--;
+                free += finished.connections();
+                done++;
+                doneBytes += finished.size();
+                for (Job child : children.getOrDefault(finished, List.of())) {
+                    Set<Job> waiting = waitingFor.get(child);
+                    waiting.remove(finished);
+                    if (waiting.isEmpty() && blocked.remove(child)) {
+                        ready.add(child);
+                    }
+                }
+                double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+                String rate = String.format(Locale.ROOT, "%.1f", doneBytes / 1048576.0 / seconds);
+                LOGGER.info("Imported {} ({}/{} files, {}/{} MiB, {} MiB/s)", finished.path(), done, jobs.size(),
+                        mib(doneBytes), mib(totalBytes), rate);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // the task catches what the action throws
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long mib(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
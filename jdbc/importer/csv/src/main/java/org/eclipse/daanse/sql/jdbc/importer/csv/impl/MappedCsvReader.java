@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.util.Arrays;
+
+/**
+ * Reads the records of a byte range of a CSV file from a memory mapping of the
+ * file. The charset has to encode line breaks, the field separator and the quote
+ * as the single ASCII bytes, as UTF-8 and ISO-8859-1 do. A record is kept as the
+ * start and end offsets of its fields in the mapped buffer; nothing is copied or
+ * decoded until a field is read, and
+ * {@link #getLong(int)}, {@link #getInt(int)}, {@link #getDouble(int)} and
+ * {@link #getDate(int)} decode straight from the bytes. Fields are addressed by
+ * position.
+ * <p>
+ * Quoting follows {@link CsvChunker}: a quote opens a quoted field only at the
+ * start of a field and {@code ""} inside it is an escaped quote. Records end at
+ * {@code \n}, {@code \r\n} or {@code \r}. The file is mapped in windows of
+ * {@value #WINDOW} bytes by default, and no record may be longer than a window.
+ * <p>
+ * Not thread-safe; one reader per range.
+ */
+final class MappedCsvReader implements Closeable {
+
+    static final int WINDOW = 1 << 28;
+
+    /** Digits of the largest power of ten below {@code 2^53}. */
+    private static final int EXACT_DOUBLE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+
+    private final FileChannel channel;
+    private final int window;
+    private final long end;
+    private final byte fieldSeparator;
+    private final byte quoteCharacter;
+    private final boolean skipEmptyLines;
+    private final Charset charset;
+
+    private MappedByteBuffer buffer;
+    /** File position of {@code buffer.get(0)}. */
+    private long bufferStart;
+    private int position;
+
+    private int fields;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    /** Whether the field is quoted and holds {@code ""}. */
+    private boolean[] escaped = new boolean[16];
+
+    private MappedCsvReader(FileChannel channel, int window, CsvChunker.Range range, char fieldSeparator,
+            char quoteCharacter, boolean skipEmptyLines, Charset charset) throws IOException {
+        this.channel = channel;
+        this.window = window;
+        this.end = range.end();
+        this.fieldSeparator = (byte) fieldSeparator;
+        this.quoteCharacter = (byte) quoteCharacter;
+        this.skipEmptyLines = skipEmptyLines;
+        this.charset = charset;
+        map(range.start());
+    }
+
+    /** @param range whole records, e.g. from {@link CsvChunker#split} */
+    static MappedCsvReader open(Path path, CsvChunker.Range range, char fieldSeparator, char quoteCharacter,
+            boolean skipEmptyLines, Charset charset) throws IOException {
+        return open(path, WINDOW, range, fieldSeparator, quoteCharacter, skipEmptyLines, charset);
+    }
+
+    /** @param window bytes mapped at a time */
+    static MappedCsvReader open(Path path, int window, CsvChunker.Range range, char fieldSeparator,
+            char quoteCharacter, boolean skipEmptyLines, Charset charset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedCsvReader(channel, window, range, fieldSeparator, quoteCharacter, skipEmptyLines,
+                    charset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return {@code false} at the end of the range
+     * @throws IOException if a record does not fit into one window
+     */
+    boolean next() throws IOException {
+        while (bufferStart + position < end) {
+            int next = tokenize(position);
+            if (next < 0) {
+                if (position == 0) {
+                    throw new IOException("CSV record at byte " + bufferStart + " is longer than " + window + " bytes");
+                }
+                map(bufferStart + position);
+                continue;
+            }
+            // an unquoted empty field ends where the record starts; "" ends one later
+            boolean empty = fields == 1 && ends[0] == position;
+            position = next;
+            if (!(empty && skipEmptyLines)) {
+                return true;
+            }
+        }
+        fields = 0;
+        return false;
+    }
+
+    /** @return the fields of the current record */
+    int fieldCount() {
+        return fields;
+    }
+
+    boolean isEmpty(int field) {
+        return starts[field] == ends[field];
+    }
+
+    /** @return whether the unescaped field is {@code value}, compared as bytes */
+    boolean matches(int field, byte[] value) {
+        if (escaped[field]) {
+            return getString(field).equals(new String(value, charset));
+        }
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (length != value.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(start + i) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String getString(int field) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes, 0, length);
+        if (!escaped[field]) {
+            return new String(bytes, charset);
+        }
+        int j = 0;
+        for (int i = 0; i < length; i++, j++) {
+            bytes[j] = bytes[i];
+            if (bytes[i] == quoteCharacter && i + 1 < length && bytes[i + 1] == quoteCharacter) {
+                i++;
+            }
+        }
+        return new String(bytes, 0, j, charset);
+    }
+
+    /** As {@link Boolean#parseBoolean(String)}. */
+    boolean getBoolean(int field) {
+        int start = starts[field];
+        if (ends[field] - start != TRUE.length) {
+            return false;
+        }
+        for (int i = 0; i < TRUE.length; i++) {
+            if ((buffer.get(start + i) | 0x20) != TRUE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** As {@link Long#parseLong(String)}. */
+    long getLong(int field) {
+        int p = starts[field];
+        int e = ends[field];
+        boolean negative = p < e && buffer.get(p) == '-';
+        if (p < e && (negative || buffer.get(p) == '+')) {
+            p++;
+        }
+        // 18 digits cannot overflow
+        if (escaped[field] || p == e || e - p > 18) {
+            return Long.parseLong(getString(field));
+        }
+        long value = 0;
+        for (; p < e; p++) {
+            int digit = buffer.get(p) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /** As {@link Integer#parseInt(String)}. */
+    int getInt(int field) {
+        long value = getLong(field);
+        if (value != (int) value) {
+            throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+        }
+        return (int) value;
+    }
+
+    /** As {@link Short#parseShort(String)}. */
+    short getShort(int field) {
+        long value = getLong(field);
+        if (value != (short) value) {
+            throw new NumberFormatException("Value out of range. Value:\"" + getString(field) + "\"");
+        }
+        return (short) value;
+    }
+
+    /**
+     * As {@link Double#parseDouble(String)}. Plain decimals of up to
+     * {@value #EXACT_DOUBLE_DIGITS} digits are decoded from the bytes; dividing
+     * their exact integer value by an exact power of ten rounds correctly. Other
+     * forms, e.g. exponents, go through {@link Double#parseDouble(String)}.
+     */
+    double getDouble(int field) {
+        int p = starts[field];
+        int e = ends[field];
+        boolean negative = p < e && buffer.get(p) == '-';
+        if (p < e && (negative || buffer.get(p) == '+')) {
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fraction = -1;
+        for (; p < e && !escaped[field]; p++) {
+            byte b = buffer.get(p);
+            if (b == '.' && fraction < 0) {
+                fraction = 0;
+            } else if (b >= '0' && b <= '9' && digits < EXACT_DOUBLE_DIGITS) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fraction >= 0) {
+                    fraction++;
+                }
+            } else {
+                break;
+            }
+        }
+        if (p < e || escaped[field] || digits == 0) {
+            return Double.parseDouble(getString(field));
+        }
+        double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /** As {@link Date#valueOf(String)}: {@code yyyy-[m]m-[d]d}. */
+    @SuppressWarnings("deprecation")
+    Date getDate(int field) {
+        int p = starts[field];
+        int e = ends[field];
+        int length = e - p;
+        if (!escaped[field] && length >= 8 && length <= 10 && buffer.get(p + 4) == '-') {
+            int year = digits(p, p + 4);
+            int secondDash = buffer.get(p + 6) == '-' ? p + 6 : p + 7;
+            int month = buffer.get(secondDash) == '-' ? digits(p + 5, secondDash) : -1;
+            int day = digits(secondDash + 1, e);
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= 31 && e - secondDash <= 3) {
+                return new Date(year - 1900, month - 1, day);
+            }
+        }
+        return Date.valueOf(getString(field));
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    /** @return the value of the digits in {@code [from, to)}, or -1 */
+    private int digits(int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int value = 0;
+        for (int p = from; p < to; p++) {
+            int digit = buffer.get(p) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void map(long start) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(window, end - start));
+        bufferStart = start;
+        position = 0;
+    }
+
+    /**
+     * Splits the record at {@code p} into fields.
+     *
+     * @return the position after the record, or -1 if the window ends within the
+     *         record and the range does not
+     */
+    private int tokenize(int p) {
+        int limit = buffer.limit();
+        boolean last = bufferStart + limit >= end;
+        fields = 0;
+        while (true) {
+            if (p < limit && buffer.get(p) == quoteCharacter) {
+                int start = ++p;
+                boolean doubled = false;
+                while (true) {
+                    if (p >= limit) {
+                        if (!last) {
+                            return -1;
+                        }
+                        break;
+                    }
+                    if (buffer.get(p) == quoteCharacter) {
+                        if (p + 1 < limit && buffer.get(p + 1) == quoteCharacter) {
+                            doubled = true;
+                            p += 2;
+                            continue;
+                        }
+                        if (p + 1 >= limit && !last) {
+                            return -1;
+                        }
+                        break;
+                    }
+                    p++;
+                }
+                add(start, Math.min(p, limit), doubled);
+                // text between the closing quote and the separator is dropped
+                while (p < limit && !isDelimiter(buffer.get(p))) {
+                    p++;
+                }
+            } else {
+                int start = p;
+                while (p < limit && !isDelimiter(buffer.get(p))) {
+                    p++;
+                }
+                add(start, p, false);
+            }
+            if (p >= limit) {
+                return last ? p : -1;
+            }
+            byte b = buffer.get(p++);
+            if (b == fieldSeparator) {
+                continue;
+            }
+            if (b == '\r') {
+                if (p < limit && buffer.get(p) == '\n') {
+                    p++;
+                } else if (p >= limit && !last) {
+                    return -1;
+                }
+            }
+            return p;
+        }
+    }
+
+    private boolean isDelimiter(byte b) {
+        return b == fieldSeparator || b == '\n' || b == '\r';
+    }
+
+    private void add(int start, int end, boolean doubled) {
+        if (fields == starts.length) {
+            starts = Arrays.copyOf(starts, fields * 2);
+            ends = Arrays.copyOf(ends, fields * 2);
+            escaped = Arrays.copyOf(escaped, fields * 2);
+        }
+        starts[fields] = start;
+        ends[fields] = end;
+        escaped[fields] = doubled;
+        fields++;
+    }
+}
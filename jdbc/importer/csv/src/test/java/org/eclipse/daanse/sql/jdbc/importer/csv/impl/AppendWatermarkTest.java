@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AppendWatermarkTest {
+
+    private static final String HEAD = "id,name\nINTEGER,VARCHAR\n";
+    private static final TableReference TABLE = new TableReference(Optional.empty(), "log", "TABLE");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void lastRecordEnd_stopsBeforeAnIncompleteRecord() throws IOException {
+        Path file = dir.resolve("log.csv");
+        String loaded = HEAD + "1,a\n";
+        Files.writeString(file, loaded + "2,\"b\nstill b\"\n3,\"c", StandardCharsets.UTF_8);
+
+        long end = CsvChunker.lastRecordEnd(file, loaded.length(), ',', '"');
+
+        assertThat(end).isEqualTo(loaded.length() + "2,\"b\nstill b\"\n".length());
+        assertThat(CsvChunker.lastRecordEnd(file, end, ',', '"')).isEqualTo(end);
+    }
+
+    @Test
+    void prefixUnchanged_holdsForAppendsOnly() throws IOException {
+        Path file = dir.resolve("log.csv");
+        Files.writeString(file, HEAD + "1,a\n", StandardCharsets.UTF_8);
+        AppendWatermark watermark = AppendWatermark.of(file, Files.size(file), TABLE, List.of());
+
+        Files.writeString(file, "2,b\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThat(watermark.prefixUnchanged(file)).isTrue();
+
+        Files.writeString(file, HEAD + "1,x\n2,b\n", StandardCharsets.UTF_8);
+        assertThat(watermark.prefixUnchanged(file)).isFalse();
+
+        Files.writeString(file, HEAD, StandardCharsets.UTF_8);
+        assertThat(watermark.prefixUnchanged(file)).isFalse();
+    }
+
+    @Test
+    void prefixUnchanged_checksTheHeaderOfLargeFiles() throws IOException {
+        Path file = dir.resolve("log.csv");
+        String rows = "1,a\n".repeat(AppendWatermark.BLOCK);
+        Files.writeString(file, HEAD + rows, StandardCharsets.UTF_8);
+        AppendWatermark watermark = AppendWatermark.of(file, Files.size(file), TABLE, List.of());
+
+        Files.writeString(file, HEAD.replace("VARCHAR", "VARCHAZ") + rows, StandardCharsets.UTF_8);
+
+        assertThat(watermark.prefixUnchanged(file)).isFalse();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvChunkerTest {
+
+    private static final String HEAD = "id,name\nINTEGER,VARCHAR\n";
+
+    @TempDir
+    Path dir;
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** The text of each range, checking that together they cover the file from the first range on. */
+    private static List<String> texts(Path file, List<CsvChunker.Range> ranges) throws IOException {
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i).start()).isEqualTo(ranges.get(i - 1).end());
+        }
+        assertThat(ranges.get(ranges.size() - 1).end()).isEqualTo(Files.size(file));
+        List<String> texts = new ArrayList<>();
+        for (CsvChunker.Range range : ranges) {
+            texts.add(read(CsvChunker.open(file, range)));
+        }
+        return texts;
+    }
+
+    @Test
+    void split_neverBreaksInsideQuotedLineBreaks() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            body.append(i).append(",\"line\n\"\"break\"\"\n").append(i).append("\"\n");
+        }
+        Path file = dir.resolve("quoted.csv");
+        Files.writeString(file, HEAD + body);
+
+        List<CsvChunker.Range> ranges = CsvChunker.split(file, 2, 8, ',', '"');
+
+        assertThat(ranges).hasSizeGreaterThan(1).hasSizeLessThanOrEqualTo(8);
+        assertThat(ranges.get(0).start()).isEqualTo(HEAD.length());
+        List<String> texts = texts(file, ranges);
+        assertThat(String.join("", texts)).isEqualTo(body.toString());
+        for (String text : texts) {
+            assertThat(text).matches("(?s)\\d+,\".*\"\n");
+            assertThat(text.chars().filter(c -> c == '"').count() % 2).isZero();
+        }
+    }
+
+    @Test
+    void split_crlfAndEmptyLines_areNoRecords() throws IOException {
+        String head = "\r\n\nid,name\r\n\r\nINTEGER,VARCHAR\r\n";
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            body.append(i).append(",a\r\n").append(i % 7 == 0 ? "\r\n" : "");
+        }
+        Path file = dir.resolve("crlf.csv");
+        Files.writeString(file, head + body);
+
+        List<CsvChunker.Range> ranges = CsvChunker.split(file, 2, 4, ',', '"');
+
+        assertThat(ranges.get(0).start()).isEqualTo(head.length());
+        List<String> texts = texts(file, ranges);
+        assertThat(String.join("", texts)).isEqualTo(body.toString());
+        // a range may open with the empty line after the record that closed the one before
+        assertThat(texts).allSatisfy(text -> assertThat(text).matches("(?s)[\r\n]*\\d+,a\r\n.*").endsWith("\r\n"));
+    }
+
+    @Test
+    void split_fewerRecordsThanChunks() throws IOException {
+        Path file = dir.resolve("small.csv");
+        Files.writeString(file, HEAD + "1,a\n2,b");
+
+        List<CsvChunker.Range> ranges = CsvChunker.split(file, 2, 8, ',', '"');
+
+        assertThat(ranges).hasSizeLessThanOrEqualTo(2);
+        assertThat(String.join("", texts(file, ranges))).isEqualTo("1,a\n2,b");
+        Files.writeString(file, HEAD);
+        assertThat(CsvChunker.split(file, 2, 8, ',', '"')).isEmpty();
+    }
+
+    @Test
+    void lastRecordEnd_stopsBeforeAPartialRecord() throws IOException {
+        Path file = dir.resolve("growing.csv");
+        String complete = HEAD + "1,\"a\nb\"\r\n";
+        Files.writeString(file, complete + "2,\"still\nopen");
+
+        assertThat(CsvChunker.lastRecordEnd(file, HEAD.length(), ',', '"')).isEqualTo(complete.length());
+        assertThat(CsvChunker.lastRecordEnd(file, complete.length(), ',', '"')).isEqualTo(complete.length());
+    }
+
+    @Test
+    void skipRecords_skipsQuotedLineBreaksAndEmptyLines() throws IOException {
+        InputStream in = new BufferedInputStream(new ByteArrayInputStream(
+                "\n\"id\nof the row\",name\r\nINTEGER,VARCHAR\n1,a\n".getBytes(StandardCharsets.UTF_8)));
+
+        CsvChunker.skipRecords(in, 2, ',', '"');
+
+        assertThat(read(in)).isEqualTo("1,a\n");
+    }
+
+    @Test
+    void openGzip_readsAllMembersOfTheRange() throws IOException {
+        Path file = dir.resolve("log.csv.gz");
+        byte[] first = gzip(HEAD + "1,a\n");
+        Files.write(file, first);
+        // a tiny member, shorter than the trailer lookahead of GZIPInputStream
+        Files.write(file, gzip("2,b\n"), StandardOpenOption.APPEND);
+        Files.write(file, gzip("3,c\n"), StandardOpenOption.APPEND);
+        long size = Files.size(file);
+
+        assertThat(read(CsvChunker.openGzip(file, new CsvChunker.Range(0, size))))
+                .isEqualTo(HEAD + "1,a\n2,b\n3,c\n");
+        assertThat(read(CsvChunker.openGzip(file, new CsvChunker.Range(first.length, size))))
+                .isEqualTo("2,b\n3,c\n");
+    }
+}
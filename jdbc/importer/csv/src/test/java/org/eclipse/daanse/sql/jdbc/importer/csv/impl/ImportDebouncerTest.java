@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportDebouncerTest {
+
+    private static final long QUIET = 200;
+
+    @TempDir
+    Path dir;
+
+    private final ExecutorService workers = Executors.newCachedThreadPool();
+    private final ImportDebouncer debouncer = new ImportDebouncer(QUIET, workers);
+    private final List<String> runs = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        debouncer.close();
+        workers.shutdownNow();
+    }
+
+    private void awaitIdle(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (debouncer.isPending(key) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(debouncer.isPending(key)).isFalse();
+    }
+
+    @Test
+    void burst_runsTheNewestActionOnce() throws Exception {
+        Path file = Files.writeString(dir.resolve("a.csv"), "x\n");
+
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            debouncer.submit("a", file, () -> runs.add("event " + n));
+        }
+        awaitIdle("a");
+
+        assertThat(runs).containsExactly("event 4");
+    }
+
+    @Test
+    void changingFile_waitsUntilStable() throws Exception {
+        Path file = Files.writeString(dir.resolve("a.csv"), "x\n");
+        debouncer.submit("a", file, () -> runs.add("import"));
+
+        // keep writing without raising events, as a copy still in progress does
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(QUIET / 5);
+            Files.writeString(file, "x\n", StandardOpenOption.APPEND);
+            assertThat(runs).isEmpty();
+        }
+        awaitIdle("a");
+
+        assertThat(runs).containsExactly("import");
+    }
+
+    @Test
+    void eventsDuringAnImport_runOnceAfterIt() throws Exception {
+        Path file = Files.writeString(dir.resolve("a.csv"), "x\n");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        debouncer.submit("a", file, () -> {
+            started.countDown();
+            await(release);
+            runs.add("first");
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        debouncer.submit("a", file, () -> runs.add("superseded"));
+        debouncer.submit("a", file, () -> runs.add("newest"));
+        Thread.sleep(QUIET * 2);
+        assertThat(runs).isEmpty();
+        release.countDown();
+        awaitIdle("a");
+
+        assertThat(runs).containsExactly("first", "newest");
+    }
+
+    @Test
+    void filesOfOneTable_runOnce() throws Exception {
+        Path plain = Files.writeString(dir.resolve("x.csv"), "x\n");
+        Path gzip = Files.writeString(dir.resolve("x.csv.gz"), "x\n");
+
+        debouncer.submit("x", plain, () -> runs.add("x.csv"));
+        debouncer.submit("x", gzip, () -> runs.add("x.csv.gz"));
+        awaitIdle("x");
+
+        assertThat(runs).containsExactly("x.csv.gz");
+    }
+
+    @Test
+    void deletedFile_isStable() throws IOException, InterruptedException {
+        Path file = dir.resolve("gone.csv");
+        debouncer.submit("gone", file, () -> runs.add("delete"));
+        awaitIdle("gone");
+
+        assertThat(runs).containsExactly("delete");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey.Deferrability;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey.ReferentialAction;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.junit.jupiter.api.Test;
+
+class ImportSchedulerTest {
+
+    private final List<String> order = new CopyOnWriteArrayList<>();
+
+    private static ImportScheduler.Job job(String table, long size, int connections) {
+        return new ImportScheduler.Job(Path.of(table + ".csv"), table, size, connections);
+    }
+
+    private void record(Path path) {
+        order.add(path.getFileName().toString().replace(".csv", ""));
+    }
+
+    @Test
+    void largestFileStartsFirst() {
+        new ImportScheduler(1).run(List.of(job("small", 10, 1), job("large", 1000, 1), job("medium", 100, 1)),
+                Map.of(), this::record);
+
+        assertThat(order).containsExactly("large", "medium", "small");
+    }
+
+    @Test
+    void referencedTableIsImportedFirst() {
+        TableReference customer = new TableReference(Optional.of(new SchemaReference("Shop")), "Customer", "TABLE");
+        TableReference orders = new TableReference(Optional.of(new SchemaReference("Shop")), "Orders", "TABLE");
+        ImportedKeyRecord fk = new ImportedKeyRecord(new ColumnReference(Optional.of(customer), "id"),
+                new ColumnReference(Optional.of(orders), "customer_id"), "fk_customer", 1,
+                ReferentialAction.NO_ACTION, ReferentialAction.NO_ACTION, Optional.empty(),
+                Deferrability.NOT_DEFERRABLE);
+
+        Map<String, Set<String>> parents = ImportScheduler.dependencies(List.of(fk));
+        assertThat(parents).containsExactly(Map.entry("shop.orders", Set.of("shop.customer")));
+
+        new ImportScheduler(4).run(List.of(job("shop.orders", 1000, 1), job("shop.customer", 10, 1)), parents,
+                this::record);
+
+        assertThat(order).containsExactly("shop.customer", "shop.orders");
+    }
+
+    @Test
+    void connectionsStayWithinTheBudget() {
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger heldWithHuge = new AtomicInteger();
+        List<ImportScheduler.Job> jobs = List.of(job("a", 50, 3), job("b", 40, 2), job("c", 30, 1), job("d", 20, 2),
+                job("e", 10, 1), job("huge", 5, 9));
+        Map<Path, Integer> weights = new HashMap<>();
+        jobs.forEach(j -> weights.put(j.path(), j.connections()));
+
+        new ImportScheduler(4).run(jobs, Map.of(), path -> {
+            int weight = weights.get(path);
+            int now = held.addAndGet(weight);
+            if (weight > 4) {
+                heldWithHuge.set(now);
+            } else {
+                peak.accumulateAndGet(now, Math::max);
+            }
+            sleep(20);
+            held.addAndGet(-weight);
+            record(path);
+        });
+
+        assertThat(order).hasSize(jobs.size());
+        assertThat(peak.get()).isLessThanOrEqualTo(4);
+        // the job heavier than the budget runs, but alone
+        assertThat(heldWithHuge.get()).isEqualTo(9);
+    }
+
+    @Test
+    void cycleAndFailuresDoNotStopTheRun() {
+        Map<String, Set<String>> parents = Map.of("a", Set.of("b"), "b", Set.of("a"), "c", Set.of("c"));
+
+        new ImportScheduler(2).run(List.of(job("a", 10, 1), job("b", 20, 1), job("c", 5, 1)), parents, path -> {
+            record(path);
+            if (path.toString().startsWith("c")) {
+                throw new IllegalStateException("broken file");
+            }
+        });
+
+        assertThat(order).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(order.indexOf("b")).isLessThan(order.indexOf("a"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
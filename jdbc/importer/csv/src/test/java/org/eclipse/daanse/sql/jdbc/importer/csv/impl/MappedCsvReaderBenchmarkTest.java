@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+
+/**
+ * Parse throughput of {@link MappedCsvReader} vs the FastCSV path it replaces:
+ * named records, lookup by header name and {@code valueOf} per field. No
+ * database; both sides only decode.
+ * <p>
+ * Excluded from the default build; run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups= -Dtest=MappedCsvReaderBenchmarkTest}.
+ * The throughput of both readers is published through the {@link TestReporter}.
+ */
+@Tag("benchmark")
+class MappedCsvReaderBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP = 2;
+    private static final int RUNS = 5;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parseThroughput(TestReporter reporter) throws IOException {
+        Path file = dir.resolve("bench.csv");
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("id,amount,qty,day,name\nBIGINT,DECIMAL,INTEGER,DATE,VARCHAR\n");
+            for (int i = 0; i < ROWS; i++) {
+                w.write(i + "," + (i % 10_000) / 100.0 + "," + (i % 977) + ",2024-" + (1 + i % 12) + "-"
+                        + (1 + i % 28) + ",\"name " + i + "\"\n");
+            }
+        }
+        double mib = Files.size(file) / 1048576.0;
+
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(mapped(file)).isEqualTo(fastCsv(file));
+        }
+        long fast = bestOf(() -> fastCsv(file));
+        long mapped = bestOf(() -> mapped(file));
+
+        reporter.publishEntry("rows", String.valueOf(ROWS));
+        reporter.publishEntry("FastCSV MiB/s", String.format("%.1f", mib / (fast / 1e9)));
+        reporter.publishEntry("mapped MiB/s", String.format("%.1f", mib / (mapped / 1e9)));
+    }
+
+    private static long fastCsv(Path file) throws IOException {
+        long checksum = 0;
+        try (CsvReader<NamedCsvRecord> reader = CsvReader.builder().ofNamedCsvRecord(file)) {
+            Iterator<NamedCsvRecord> it = reader.iterator();
+            it.next();
+            while (it.hasNext()) {
+                NamedCsvRecord r = it.next();
+                checksum += Long.valueOf(r.getField("id"));
+                checksum += Double.valueOf(r.getField("amount")).longValue();
+                checksum += Integer.valueOf(r.getField("qty"));
+                checksum += Date.valueOf(r.getField("day")).toLocalDate().getDayOfMonth();
+                checksum += r.getField("name").length();
+            }
+        }
+        return checksum;
+    }
+
+    private static long mapped(Path file) throws IOException {
+        long checksum = 0;
+        CsvChunker.Range data = CsvChunker.split(file, 2, 1, ',', '"').get(0);
+        try (MappedCsvReader r = MappedCsvReader.open(file, data, ',', '"', true, StandardCharsets.UTF_8)) {
+            while (r.next()) {
+                checksum += r.getLong(0);
+                checksum += (long) r.getDouble(1);
+                checksum += r.getInt(2);
+                checksum += r.getDate(3).toLocalDate().getDayOfMonth();
+                checksum += r.getString(4).length();
+            }
+        }
+        return checksum;
+    }
+
+    @FunctionalInterface
+    private interface Parse {
+        long run() throws IOException;
+    }
+
+    /** Wall time of the fastest of {@link #RUNS} runs, in nanoseconds. */
+    private static long bestOf(Parse parse) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            parse.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
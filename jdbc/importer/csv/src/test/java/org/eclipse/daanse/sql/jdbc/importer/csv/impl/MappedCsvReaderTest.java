@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.importer.csv.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.NamedCsvRecord;
+
+class MappedCsvReaderTest {
+
+    private static final String CSV = """
+            id,name,amount,day
+            INTEGER,VARCHAR,DOUBLE,DATE
+            1,plain,1.5,2024-01-31
+            -2,"with, comma",-0.001,2024-2-9
+            3,"two
+            lines",1e3,1999-12-01\r
+            4,"say ""hi""\",12345678901234567,2000-01-01
+
+            5,ä€,,NULL
+            """;
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<List<String>> fastCsv(Path file) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader<CsvRecord> reader = CsvReader.builder().skipEmptyLines(true).ofCsvRecord(file)) {
+            reader.stream().skip(2).forEach(r -> records.add(r.getFields()));
+        }
+        return records;
+    }
+
+    private static List<List<String>> mapped(Path file, int window, int chunks) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        for (CsvChunker.Range range : CsvChunker.split(file, 2, chunks, ',', '"')) {
+            try (MappedCsvReader reader = MappedCsvReader.open(file, window, range, ',', '"', true,
+                    StandardCharsets.UTF_8)) {
+                while (reader.next()) {
+                    List<String> fields = new ArrayList<>();
+                    for (int i = 0; i < reader.fieldCount(); i++) {
+                        fields.add(reader.getString(i));
+                    }
+                    records.add(fields);
+                }
+            }
+        }
+        return records;
+    }
+
+    @Test
+    void records_matchFastCsv_acrossWindowsAndRanges() throws IOException {
+        Path file = write(CSV);
+        List<List<String>> expected = fastCsv(file);
+
+        assertThat(expected).hasSize(5);
+        for (int window : new int[] { 48, 64, 100, MappedCsvReader.WINDOW }) {
+            for (int chunks = 1; chunks <= 4; chunks++) {
+                assertThat(mapped(file, window, chunks)).as("window %d, chunks %d", window, chunks)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void typedGetters_decodeLikeTheValueOfMethods() throws IOException {
+        Path file = write(CSV);
+        CsvChunker.Range data = CsvChunker.split(file, 2, 1, ',', '"').get(0);
+
+        try (MappedCsvReader r = MappedCsvReader.open(file, data, ',', '"', true, StandardCharsets.UTF_8)) {
+            List<Object[]> rows = new ArrayList<>();
+            while (r.next()) {
+                rows.add(new Object[] { r.getLong(0), r.getInt(0), r.isEmpty(2) ? null : r.getDouble(2),
+                        r.matches(3, "NULL".getBytes(StandardCharsets.UTF_8)) ? null : r.getDate(3) });
+            }
+            assertThat(rows).extracting(row -> row[0]).containsExactly(1L, -2L, 3L, 4L, 5L);
+            assertThat(rows).extracting(row -> row[2]).containsExactly(1.5, -0.001, 1e3, 12345678901234567.0,
+                    null);
+            assertThat(rows).extracting(row -> row[3]).containsExactly(Date.valueOf("2024-01-31"),
+                    Date.valueOf("2024-2-9"), Date.valueOf("1999-12-01"), Date.valueOf("2000-01-01"), null);
+        }
+    }
+
+    @Test
+    void typedGetters_matchFastCsvAndValueOf_acrossWindowsAndRanges() throws IOException {
+        StringBuilder csv = new StringBuilder("id,amount,qty,day,flag,name\n")
+                .append("BIGINT,DECIMAL,INTEGER,DATE,BOOLEAN,VARCHAR\n");
+        for (int i = 0; i < 2000; i++) {
+            csv.append(i - 1000).append(',').append((i % 10_000) / 100.0).append(',').append(i % 977).append(",2024-")
+                    .append(1 + i % 12).append('-').append(1 + i % 28).append(',').append(i % 3 == 0 ? "TRUE" : "no")
+                    .append(',').append(i % 5 == 0 ? "\"n, \"\"" + i + "\"\"\nx\"" : "name " + i).append('\n');
+        }
+        Path file = write(csv.toString());
+
+        List<List<Object>> expected = new ArrayList<>();
+        try (CsvReader<NamedCsvRecord> reader = CsvReader.builder().ofNamedCsvRecord(file)) {
+            reader.stream().skip(1).forEach(r -> expected.add(List.of(Long.valueOf(r.getField("id")),
+                    Double.valueOf(r.getField("amount")), Integer.valueOf(r.getField("qty")),
+                    Date.valueOf(r.getField("day")), Boolean.valueOf(r.getField("flag")), r.getField("name"))));
+        }
+        assertThat(expected).hasSize(2000);
+
+        for (int window : new int[] { 64, 100, MappedCsvReader.WINDOW }) {
+            for (int chunks : new int[] { 1, 3 }) {
+                List<List<Object>> actual = new ArrayList<>();
+                for (CsvChunker.Range range : CsvChunker.split(file, 2, chunks, ',', '"')) {
+                    try (MappedCsvReader r = MappedCsvReader.open(file, window, range, ',', '"', true,
+                            StandardCharsets.UTF_8)) {
+                        while (r.next()) {
+                            actual.add(List.of(r.getLong(0), r.getDouble(1), r.getInt(2), r.getDate(3),
+                                    r.getBoolean(4), r.getString(5)));
+                        }
+                    }
+                }
+                assertThat(actual).as("window %d, chunks %d", window, chunks).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void typedGetters_rejectWhatTheValueOfMethodsReject() throws IOException {
+        Path file = write("a,b\nx,y\n12x,3000000000,2024-13-01\n");
+        CsvChunker.Range data = CsvChunker.split(file, 2, 1, ',', '"').get(0);
+
+        try (MappedCsvReader r = MappedCsvReader.open(file, data, ',', '"', true, StandardCharsets.UTF_8)) {
+            assertThat(r.next()).isTrue();
+            assertThatThrownBy(() -> r.getLong(0)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> r.getInt(1)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> r.getDate(2)).isInstanceOf(IllegalArgumentException.class);
+            assertThat(r.next()).isFalse();
+        }
+    }
+
+    @Test
+    void getString_decodesInTheGivenCharset() throws IOException {
+        Path file = dir.resolve("latin1.csv");
+        Files.writeString(file, "name\nVARCHAR\nCaf\u00e9,\"Gr\u00fc\"\"n\"\n", StandardCharsets.ISO_8859_1);
+        CsvChunker.Range data = CsvChunker.split(file, 2, 1, ',', '"').get(0);
+
+        try (MappedCsvReader r = MappedCsvReader.open(file, data, ',', '"', true, StandardCharsets.ISO_8859_1)) {
+            assertThat(r.next()).isTrue();
+            assertThat(r.getString(0)).isEqualTo("Caf\u00e9");
+            assertThat(r.getString(1)).isEqualTo("Gr\u00fc\"n");
+            assertThat(r.matches(0, "Caf\u00e9".getBytes(StandardCharsets.ISO_8859_1))).isTrue();
+        }
+    }
+
+    @Test
+    void next_failsOnRecordLongerThanWindow() throws IOException {
+        Path file = write("a\nx\n" + "y".repeat(100) + "\nz\n");
+        CsvChunker.Range data = CsvChunker.split(file, 2, 1, ',', '"').get(0);
+
+        try (MappedCsvReader r = MappedCsvReader.open(file, 64, data, ',', '"', true, StandardCharsets.UTF_8)) {
+            assertThatThrownBy(r::next).isInstanceOf(IOException.class).hasMessageContaining("longer than 64");
+        }
+    }
+}
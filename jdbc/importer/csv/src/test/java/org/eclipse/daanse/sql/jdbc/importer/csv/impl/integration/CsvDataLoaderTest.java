@@ -18,17 +18,29 @@ import static org.osgi.test.common.dictionary.Dictionaries.dictionaryOf;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
 
 import javax.sql.DataSource;
 
@@ -78,13 +90,14 @@ class CscDataLoaderTest {
     DatabaseService databaseService;
 
     private Configuration conf;
+    private JdbcDataSource dataSource;
     private Connection connection = null;
     private DatabaseMetaData metaData;
 
     @BeforeEach
     void beforeEach() throws SQLException, IOException {
 
-        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource = new JdbcDataSource();
         dataSource.setUrl("jdbc:h2:memFS:" + UUID.randomUUID().toString());
         connection = dataSource.getConnection();
         metaData = connection.getMetaData();
@@ -101,6 +114,17 @@ class CscDataLoaderTest {
 
     }
 
+    private Path copyGzip(String file) throws IOException {
+
+        Path target = path.resolve(file + ".gz");
+        InputStream is = bc.getBundle().getResource(file).openConnection().getInputStream();
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+            out.write(is.readAllBytes());
+        }
+        return target;
+
+    }
+
     @AfterEach
     void afterEach() throws IOException {
         if (conf != null) {
@@ -110,6 +134,12 @@ class CscDataLoaderTest {
 
     private void setupCsvDataLoadServiceImpl(String nullValue, Character quote, Character fieldSeparator,
             String encoding, String stringPath) throws IOException {
+        setupCsvDataLoadServiceImpl(nullValue, quote, fieldSeparator, encoding, stringPath, Map.of());
+    }
+
+    /** @param properties further configuration; with them the importer also follows modifications */
+    private void setupCsvDataLoadServiceImpl(String nullValue, Character quote, Character fieldSeparator,
+            String encoding, String stringPath, Map<String, Object> properties) throws IOException {
         conf = ca.getFactoryConfiguration(Constants.PID_CSV_DATA_IMPORTER, "1", "?");
         Dictionary<String, Object> dict = new Hashtable<>();
         if (nullValue != null) {
@@ -130,10 +160,56 @@ class CscDataLoaderTest {
                 stringPath != null ? path.resolve(stringPath).toAbsolutePath().toString()
                         : path.toAbsolutePath().toString());
         dict.put(FileSystemWatcherWhiteboardConstants.FILESYSTEM_WATCHER_RECURSIVE, true);
-        dict.put(FileSystemWatcherWhiteboardConstants.FILESYSTEM_WATCHER_KINDS, new String[] { "ENTRY_CREATE" });
+        dict.put(FileSystemWatcherWhiteboardConstants.FILESYSTEM_WATCHER_KINDS, properties.isEmpty()
+                ? new String[] { "ENTRY_CREATE" }
+                : new String[] { "ENTRY_CREATE", "ENTRY_MODIFY" });
+        properties.forEach(dict::put);
         conf.update(dict);
     }
 
+    /**
+     * @return {@code dataSource} counting its open connections in {@code open}
+     *         and their most at once in {@code peak}
+     */
+    private static DataSource counting(DataSource dataSource, AtomicInteger open, AtomicInteger peak) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    Object result = invoke(dataSource, method, args);
+                    if (!(result instanceof Connection target)) {
+                        return result;
+                    }
+                    peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                    AtomicBoolean closed = new AtomicBoolean();
+                    return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                            new Class<?>[] { Connection.class }, (c, m, a) -> {
+                                if (m.getName().equals("close") && closed.compareAndSet(false, true)) {
+                                    open.decrementAndGet();
+                                }
+                                return invoke(target, m, a);
+                            });
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** @return the names of the rows of {@code table}, by id */
+    private List<String> names(String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement stmt = connection.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT \"name\" FROM \"" + table + "\" ORDER BY \"id\"")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
     @Test
     void testinsertParamStatement() throws IOException, URISyntaxException, SQLException, InterruptedException {
 
@@ -181,4 +257,138 @@ class CscDataLoaderTest {
 
     }
 
+    @Test
+    void testGzip() throws IOException, URISyntaxException, SQLException, InterruptedException {
+
+        Path p = path.resolve("csv");
+        Files.createDirectories(p);
+        Thread.sleep(200);
+
+        setupCsvDataLoadServiceImpl("NULL", '\"', ',', "UTF-8", "csv");
+
+        Thread.sleep(500);
+        copyGzip("csv/test.csv");
+        Thread.sleep(1000);
+
+        TableReference table = new TableReference("test");
+
+        List<TableDefinition> tableDefinitions = databaseService.getTableDefinitions(connection,
+                MetadataProvider.EMPTY, table);
+        assertThat(tableDefinitions).hasSize(1);
+
+        List<ColumnDefinition> columnDefinitions = databaseService.getColumnDefinitions(connection,
+                MetadataProvider.EMPTY, table);
+        assertThat(columnDefinitions).hasSize(10);
+    }
+
+    @Test
+    void testIncrementalLoad_leavesPartialRecordToTheAppend() throws IOException, SQLException, InterruptedException {
+
+        Path p = path.resolve("csv");
+        Files.createDirectories(p);
+        Thread.sleep(200);
+
+        setupCsvDataLoadServiceImpl("NULL", '\"', ',', "UTF-8", "csv",
+                Map.of(Constants.PROPERETY_JDBC_INCREMENTAL_LOAD, true));
+
+        Thread.sleep(500);
+        Path file = p.resolve("log.csv");
+        // the last record is still being written
+        Files.writeString(file, "id,name\nINTEGER,VARCHAR\n1,a\n2,b\n3,c");
+        Thread.sleep(1000);
+
+        assertThat(names("log")).containsExactly("a", "b");
+
+        Files.writeString(file, "cc\n4,d\n", StandardOpenOption.APPEND);
+        Thread.sleep(1000);
+
+        assertThat(names("log")).containsExactly("a", "b", "ccc", "d");
+    }
+
+    @Test
+    void testStagingLoad_replacesTheTableOnlyOnceLoaded() throws IOException, SQLException, InterruptedException {
+
+        Path p = path.resolve("csv");
+        Files.createDirectories(p);
+        Thread.sleep(200);
+
+        setupCsvDataLoadServiceImpl("NULL", '\"', ',', "UTF-8", "csv",
+                Map.of(Constants.PROPERETY_JDBC_STAGING_LOAD, true));
+
+        Thread.sleep(500);
+        Path file = p.resolve("stage.csv");
+        Files.writeString(file, "id,name\nINTEGER,VARCHAR\n1,a\n2,b\n");
+        Thread.sleep(1000);
+
+        assertThat(names("stage")).containsExactly("a", "b");
+
+        // the load fails after the first record went into the staging table
+        Files.writeString(file, "id,name\nINTEGER,VARCHAR\n3,c\nfour,d\n");
+        Thread.sleep(1000);
+
+        assertThat(names("stage")).containsExactly("a", "b");
+
+        Files.writeString(file, "id,name\nINTEGER,VARCHAR\n3,c\n4,d\n5,e\n");
+        Thread.sleep(1000);
+
+        assertThat(names("stage")).containsExactly("c", "d", "e");
+        assertThat(databaseService.getTableDefinitions(connection, MetadataProvider.EMPTY,
+                new TableReference("stage__old"))).isEmpty();
+    }
+
+    @Test
+    void testParallelLoad_staysWithinImportConnections() throws IOException, SQLException, InterruptedException {
+
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        bc.registerService(DataSource.class, counting(dataSource, open, peak),
+                dictionaryOf("ds", "counting", org.osgi.framework.Constants.SERVICE_RANKING, Integer.MAX_VALUE));
+
+        Path p = path.resolve("csv");
+        Files.createDirectories(p);
+        Thread.sleep(200);
+
+        setupCsvDataLoadServiceImpl("NULL", '\"', ',', "UTF-8", "csv",
+                Map.of(Constants.PROPERETY_IMPORT_CONNECTIONS, 3, Constants.PROPERETY_JDBC_PARALLEL_LOAD_THREADS, 4,
+                        Constants.PROPERETY_JDBC_PARALLEL_LOAD_MIN_FILE_SIZE, 0L));
+
+        Thread.sleep(500);
+        StringBuilder csv = new StringBuilder("id,name\nINTEGER,VARCHAR\n");
+        for (int i = 0; i < 5000; i++) {
+            csv.append(i).append(",n").append(i).append('\n');
+        }
+        Files.writeString(p.resolve("wide.csv"), csv);
+        Thread.sleep(2000);
+
+        assertThat(names("wide")).hasSize(5000);
+        // the connection creating the table and two range loaders, not four
+        assertThat(peak.get()).as("connections open at once").isBetween(2, 3);
+    }
+
+    @Test
+    void testUpsertLoad_mergesByKeyAndDeletesMissingRows() throws IOException, SQLException, InterruptedException {
+
+        Path p = path.resolve("csv");
+        Files.createDirectories(p);
+        Thread.sleep(200);
+
+        setupCsvDataLoadServiceImpl("NULL", '\"', ',', "UTF-8", "csv",
+                Map.of(Constants.PROPERETY_JDBC_UPSERT_LOAD, true, Constants.PROPERETY_JDBC_UPSERT_DELETE_MISSING,
+                        true));
+
+        Thread.sleep(500);
+        Path file = p.resolve("upsert.csv");
+        Files.writeString(file, "id,name\nINTEGER PRIMARY KEY,VARCHAR\n1,a\n2,b\n3,c\n");
+        Thread.sleep(1000);
+
+        assertThat(names("upsert")).containsExactly("a", "b", "c");
+
+        // 1 is gone, 2 changes, 3 stays, 4 is new
+        Files.writeString(file, "id,name\nINTEGER PRIMARY KEY,VARCHAR\n2,bb\n3,c\n4,d\n");
+        Thread.sleep(1000);
+
+        assertThat(names("upsert")).containsExactly("bb", "c", "d");
+        assertThat(databaseService.getTableDefinitions(connection, MetadataProvider.EMPTY))
+                .noneMatch(t -> t.table().name().startsWith("upsert__keys_"));
+    }
 }
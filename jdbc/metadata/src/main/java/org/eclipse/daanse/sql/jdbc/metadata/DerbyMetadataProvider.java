@@ -0,0 +1,753 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * The Derby catalog reader over the {@code SYS} tables. Each bulk read is one
+ * query per schema, where Derby's {@code DatabaseMetaData} compiles and runs its
+ * internal metadata queries once per table.
+ * <p>
+ * Key and index columns are not stored relationally in Derby: a constraint points
+ * through {@code SYS.SYSKEYS} to a conglomerate whose {@code DESCRIPTOR} holds
+ * the column positions. Descriptors and column types are Java objects; they are
+ * read through {@code CAST(... AS VARCHAR)}, decoded here and resolved against the
+ * schema's {@code SYS.SYSCOLUMNS}, so no Derby classes are needed on the class path.
+ */
+public class DerbyMetadataProvider implements MetadataProvider {
+
+    private static final String DEFAULT_SCHEMA = "APP";
+
+    private static final Pattern VIEW_BODY = Pattern.compile("(?is)^\\s*CREATE\\s.*?\\sAS\\s(.*?);?\\s*$");
+    private static final Pattern DESCRIPTOR = Pattern.compile("(?i)^\\s*(UNIQUE\\b.*?)?\\s*BTREE\\s*\\(([^)]*)\\)\\s*$");
+    private static final Pattern COLUMN_TYPE = Pattern.compile(
+            "(?i)^\\s*(.*?)\\s*(?:\\(\\s*(\\d+)\\s*(?:,\\s*(\\d+)\\s*)?\\))?\\s*(FOR\\s+BIT\\s+DATA)?\\s*(NOT\\s+NULL)?\\s*$");
+
+    private final MetadataScope scope;
+
+    public DerbyMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public DerbyMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new DerbyMetadataProvider(scope);
+    }
+
+
+    /**
+     * Derby has no DDL change counter and uses random UUIDs as ids; object counts
+     * plus name and column-number sums catch creates, drops and renames.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT (SELECT COUNT(*) FROM SYS.SYSTABLES) AS table_count,
+                       (SELECT SUM(LENGTH(TABLENAME)) FROM SYS.SYSTABLES) AS table_names,
+                       (SELECT COUNT(*) FROM SYS.SYSCOLUMNS) AS column_count,
+                       (SELECT SUM(LENGTH(COLUMNNAME) + COLUMNNUMBER) FROM SYS.SYSCOLUMNS) AS column_names,
+                       (SELECT COUNT(*) FROM SYS.SYSCONGLOMERATES) AS conglomerate_count,
+                       (SELECT COUNT(*) FROM SYS.SYSCONSTRAINTS) AS constraint_count,
+                       (SELECT COUNT(*) FROM SYS.SYSTRIGGERS) AS trigger_count,
+                       (SELECT COUNT(*) FROM SYS.SYSSEQUENCES) AS sequence_count
+                FROM SYSIBM.SYSDUMMY1
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        String sql = """
+                SELECT s.SCHEMANAME, t.TABLENAME, t.TABLETYPE
+                FROM SYS.SYSTABLES t
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME LIKE ?
+                  AND t.TABLENAME LIKE ?
+                ORDER BY t.TABLETYPE, s.SCHEMANAME, t.TABLENAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        List<String> typeFilter = types == null ? List.of() : List.of(types);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableDefinition> tables = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaPattern == null ? "%" : schemaPattern);
+            ps.setString(2, tableNamePattern == null ? "%" : tableNamePattern);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = mapTableType(rs.getString("TABLETYPE"));
+                    if (typeFilter.isEmpty() || typeFilter.contains(tableType)) {
+                        tables.add(new TableDefinitionRecord(refs.table(null, rs.getString("SCHEMANAME"),
+                                rs.getString("TABLENAME"), tableType)));
+                    }
+                }
+            }
+        }
+        return Optional.of(List.copyOf(tables));
+    }
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        visitAllColumnDefinitions(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern,
+                columns::add);
+        return Optional.of(List.copyOf(columns));
+    }
+
+    @Override
+    public boolean visitAllColumnDefinitions(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, Consumer<? super ColumnDefinition> sink)
+            throws SQLException {
+        String sql = """
+                SELECT t.TABLENAME, t.TABLETYPE, c.COLUMNNAME,
+                       CAST(c.COLUMNDATATYPE AS VARCHAR(1024)) AS COLUMN_TYPE,
+                       CAST(c.COLUMNDEFAULT AS VARCHAR(32672)) AS COLUMN_DEFAULT,
+                       c.AUTOINCREMENTINC
+                FROM SYS.SYSCOLUMNS c
+                JOIN SYS.SYSTABLES t ON t.TABLEID = c.REFERENCEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                  AND t.TABLETYPE IN ('T', 'V')
+                  AND t.TABLENAME LIKE ?
+                  AND c.COLUMNNAME LIKE ?
+                ORDER BY t.TABLENAME, c.COLUMNNUMBER
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        String schemaName = resolveSchema(schemaPattern, connection);
+        ReferenceInterner names = new ReferenceInterner();
+        Optional<TableReference> currentTable = Optional.empty();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, tableNamePattern == null ? "%" : tableNamePattern);
+            ps.setString(3, columnNamePattern == null ? "%" : columnNamePattern);
+            ScopeFilter.bind(ps, 4, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLENAME");
+                    if (currentTable.isEmpty() || !tableName.equals(currentTable.get().name())) {
+                        currentTable = Optional.of(new TableReference(names.schema(null, schemaName), tableName,
+                                "V".equals(rs.getString("TABLETYPE")) ? "VIEW" : TableReference.TYPE_TABLE));
+                    }
+                    sink.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(currentTable, rs.getString("COLUMNNAME")),
+                            readColumnMetaData(rs, names)));
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        ColumnNames columnNames = new ColumnNames(connection);
+        List<PrimaryKey> result = new ArrayList<>();
+        for (KeyRow key : readKeys(connection, schemaName, "P")) {
+            TableReference table = refs.table(null, schemaName, key.tableName());
+            result.add(new PrimaryKeyRecord(table,
+                    key.descriptor().columns(table, columnNames.of(schemaName, key.tableId()), refs),
+                    Optional.of(key.constraintName())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        ColumnNames columnNames = new ColumnNames(connection);
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (KeyRow key : readKeys(connection, schemaName, "U")) {
+            TableReference table = refs.table(null, schemaName, key.tableName());
+            result.add(new UniqueConstraintRecord(key.constraintName(), table,
+                    key.descriptor().columns(table, columnNames.of(schemaName, key.tableId()), refs)));
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), true));
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, resolveSchema(schema, connection), false));
+    }
+
+    @Override
+    public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT t.TABLENAME, co.CONSTRAINTNAME, ch.CHECKDEFINITION
+                FROM SYS.SYSCHECKS ch
+                JOIN SYS.SYSCONSTRAINTS co ON co.CONSTRAINTID = ch.CONSTRAINTID
+                JOIN SYS.SYSTABLES t ON t.TABLEID = co.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY t.TABLENAME, co.CONSTRAINTNAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<CheckConstraint> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new CheckConstraintRecord(rs.getString("CONSTRAINTNAME"),
+                            refs.table(null, schemaName, rs.getString("TABLENAME")),
+                            rs.getString("CHECKDEFINITION")));
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Every index conglomerate of the schema's tables, including the ones backing
+     * primary key, unique and foreign key constraints (named {@code SQL...} by
+     * Derby). Conglomerates shared by several constraints are reported once.
+     */
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT t.TABLEID, t.TABLENAME, g.CONGLOMERATENUMBER, g.CONGLOMERATENAME,
+                       CAST(g.DESCRIPTOR AS VARCHAR(1024)) AS INDEX_DESCRIPTOR
+                FROM SYS.SYSCONGLOMERATES g
+                JOIN SYS.SYSTABLES t ON t.TABLEID = g.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                  AND g.ISINDEX
+                ORDER BY t.TABLENAME, g.CONGLOMERATENAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        ColumnNames columnNames = new ColumnNames(connection);
+        Map<TableReference, List<IndexInfoItem>> items = new LinkedHashMap<>();
+        Map<Long, Boolean> seen = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (seen.put(rs.getLong("CONGLOMERATENUMBER"), Boolean.TRUE) != null) {
+                        continue;
+                    }
+                    Optional<IndexDescriptor> descriptor = IndexDescriptor.parse(rs.getString("INDEX_DESCRIPTOR"));
+                    if (descriptor.isEmpty()) {
+                        continue;
+                    }
+                    TableReference table = refs.table(null, schemaName, rs.getString("TABLENAME"));
+                    String[] tableColumns = columnNames.of(schemaName, rs.getString("TABLEID"));
+                    List<IndexInfoItem> tableItems = items.computeIfAbsent(table, t -> new ArrayList<>());
+                    String indexName = refs.name(rs.getString("CONGLOMERATENAME"));
+                    IndexDescriptor d = descriptor.get();
+                    for (int i = 0; i < d.positions().length; i++) {
+                        tableItems.add(new IndexInfoItemRecord(Optional.of(indexName),
+                                IndexInfoItem.IndexType.TABLE_INDEX_OTHER,
+                                Optional.of(refs.column(table, tableColumns[d.positions()[i] - 1])), i + 1,
+                                Optional.of(!d.descending()[i]), 0L, 0L, Optional.empty(), d.unique()));
+                    }
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<TableReference, List<IndexInfoItem>> entry : items.entrySet()) {
+            result.add(new IndexInfoRecord(entry.getKey(), List.copyOf(entry.getValue())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT t.TABLENAME, v.VIEWDEFINITION
+                FROM SYS.SYSVIEWS v
+                JOIN SYS.SYSTABLES t ON t.TABLEID = v.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY t.TABLENAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String ddl = rs.getString("VIEWDEFINITION");
+                    Optional<String> body = Optional.ofNullable(ddl).map(d -> {
+                        Matcher m = VIEW_BODY.matcher(d);
+                        return m.matches() ? m.group(1).strip() : d;
+                    });
+                    views.add(new ViewDefinitionRecord(refs.table(null, schemaName, rs.getString("TABLENAME"), "VIEW"),
+                            body, Optional.ofNullable(ddl)));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        String sql = """
+                SELECT t.TABLENAME, tr.TRIGGERNAME, tr.EVENT, tr.FIRINGTIME, tr.TYPE,
+                       tr.TRIGGERDEFINITION, tr.WHENCLAUSETEXT
+                FROM SYS.SYSTRIGGERS tr
+                JOIN SYS.SYSTABLES t ON t.TABLEID = tr.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = tr.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY t.TABLENAME, tr.TRIGGERNAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(null, schemaName, rs.getString("TABLENAME"));
+                    TriggerEvent event = switch (rs.getString("EVENT")) {
+                    case "I" -> TriggerEvent.INSERT;
+                    case "D" -> TriggerEvent.DELETE;
+                    default -> TriggerEvent.UPDATE;
+                    };
+                    // Derby keeps no CREATE TRIGGER text, only the action and WHEN condition
+                    triggers.add(new TriggerRecord(new TriggerReference(table, rs.getString("TRIGGERNAME")),
+                            "B".equals(rs.getString("FIRINGTIME")) ? TriggerTiming.BEFORE : TriggerTiming.AFTER,
+                            List.of(event), Optional.ofNullable(rs.getString("WHENCLAUSETEXT")).map(String::strip),
+                            Optional.ofNullable(rs.getString("TRIGGERDEFINITION")), Optional.empty(),
+                            Optional.of("R".equals(rs.getString("TYPE")) ? "ROW" : "STATEMENT")));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+    @Override
+    public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
+        String sql = """
+                SELECT q.SEQUENCENAME, CAST(q.SEQUENCEDATATYPE AS VARCHAR(128)) AS DATA_TYPE,
+                       q.STARTVALUE, q.MINIMUMVALUE, q.MAXIMUMVALUE, q.INCREMENT, q.CYCLEOPTION
+                FROM SYS.SYSSEQUENCES q
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = q.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                ORDER BY q.SEQUENCENAME
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<Sequence> sequences = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Matcher type = COLUMN_TYPE.matcher(rs.getString("DATA_TYPE"));
+                    Optional<String> dataType = type.matches() ? Optional.of(type.group(1).toUpperCase(Locale.ROOT))
+                            : Optional.empty();
+                    // Derby sequences always carry both bounds and preallocate without a declared cache
+                    sequences.add(new SequenceRecord(
+                            new SequenceReference(refs.schema(null, schemaName), rs.getString("SEQUENCENAME")),
+                            rs.getLong("STARTVALUE"), rs.getLong("INCREMENT"), Optional.of(rs.getLong("MINIMUMVALUE")),
+                            Optional.of(rs.getLong("MAXIMUMVALUE")), "Y".equals(rs.getString("CYCLEOPTION")),
+                            Optional.empty(), dataType));
+                }
+            }
+        }
+        return List.copyOf(sequences);
+    }
+
+
+    private record KeyRow(String tableId, String tableName, String constraintName, IndexDescriptor descriptor) {
+    }
+
+    /**
+     * Primary key ({@code P}) or unique ({@code U}) constraints of the schema with
+     * the descriptor of their backing conglomerate.
+     */
+    private List<KeyRow> readKeys(Connection connection, String schemaName, String type) throws SQLException {
+        String sql = """
+                SELECT t.TABLEID, t.TABLENAME, co.CONSTRAINTNAME,
+                       CAST(g.DESCRIPTOR AS VARCHAR(1024)) AS INDEX_DESCRIPTOR
+                FROM SYS.SYSCONSTRAINTS co
+                JOIN SYS.SYSKEYS k ON k.CONSTRAINTID = co.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES g ON g.CONGLOMERATEID = k.CONGLOMERATEID
+                JOIN SYS.SYSTABLES t ON t.TABLEID = co.TABLEID
+                JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                WHERE s.SCHEMANAME = ?
+                  AND co.TYPE = ?
+                ORDER BY t.TABLENAME, co.CONSTRAINTNAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLENAME");
+        List<KeyRow> keys = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, type);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Optional<IndexDescriptor> descriptor = IndexDescriptor.parse(rs.getString("INDEX_DESCRIPTOR"));
+                    if (descriptor.isPresent()) {
+                        keys.add(new KeyRow(rs.getString("TABLEID"), rs.getString("TABLENAME"),
+                                rs.getString("CONSTRAINTNAME"), descriptor.get()));
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @param imported {@code true} to read the foreign keys of the schema's tables,
+     *                 {@code false} for the foreign keys referencing them
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schemaName, boolean imported)
+            throws SQLException {
+        // The foreign key's own conglomerate lists the referencing columns, the
+        // referenced constraint's conglomerate the referenced ones, position by position.
+        String sql = """
+                SELECT fkc.CONSTRAINTNAME AS FK_NAME, fks.SCHEMANAME AS FK_SCHEMA,
+                       fkt.TABLEID AS FK_TABLE_ID, fkt.TABLENAME AS FK_TABLE,
+                       CAST(fkg.DESCRIPTOR AS VARCHAR(1024)) AS FK_DESCRIPTOR,
+                       pkc.CONSTRAINTNAME AS PK_NAME, pks.SCHEMANAME AS PK_SCHEMA,
+                       pkt.TABLEID AS PK_TABLE_ID, pkt.TABLENAME AS PK_TABLE,
+                       CAST(pkg.DESCRIPTOR AS VARCHAR(1024)) AS PK_DESCRIPTOR,
+                       f.UPDATERULE, f.DELETERULE
+                FROM SYS.SYSFOREIGNKEYS f
+                JOIN SYS.SYSCONSTRAINTS fkc ON fkc.CONSTRAINTID = f.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES fkg ON fkg.CONGLOMERATEID = f.CONGLOMERATEID
+                JOIN SYS.SYSTABLES fkt ON fkt.TABLEID = fkc.TABLEID
+                JOIN SYS.SYSSCHEMAS fks ON fks.SCHEMAID = fkt.SCHEMAID
+                JOIN SYS.SYSCONSTRAINTS pkc ON pkc.CONSTRAINTID = f.KEYCONSTRAINTID
+                JOIN SYS.SYSKEYS pk ON pk.CONSTRAINTID = pkc.CONSTRAINTID
+                JOIN SYS.SYSCONGLOMERATES pkg ON pkg.CONGLOMERATEID = pk.CONGLOMERATEID
+                JOIN SYS.SYSTABLES pkt ON pkt.TABLEID = pkc.TABLEID
+                JOIN SYS.SYSSCHEMAS pks ON pks.SCHEMAID = pkt.SCHEMAID
+                WHERE %1$s.SCHEMANAME = ?
+                ORDER BY %2$s.TABLENAME, fkt.TABLENAME, fkc.CONSTRAINTNAME
+                """.formatted(imported ? "fks" : "pks", imported ? "fkt" : "pkt");
+        sql = ScopeFilter.restrict(sql, scope, imported ? "fkt.TABLENAME" : "pkt.TABLENAME");
+        ReferenceInterner refs = new ReferenceInterner();
+        ColumnNames columnNames = new ColumnNames(connection);
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Optional<IndexDescriptor> fkDescriptor = IndexDescriptor.parse(rs.getString("FK_DESCRIPTOR"));
+                    Optional<IndexDescriptor> pkDescriptor = IndexDescriptor.parse(rs.getString("PK_DESCRIPTOR"));
+                    if (fkDescriptor.isEmpty() || pkDescriptor.isEmpty()) {
+                        continue;
+                    }
+                    String fkSchema = rs.getString("FK_SCHEMA");
+                    String pkSchema = rs.getString("PK_SCHEMA");
+                    TableReference fkTable = refs.table(null, fkSchema, rs.getString("FK_TABLE"));
+                    TableReference pkTable = refs.table(null, pkSchema, rs.getString("PK_TABLE"));
+                    List<ColumnReference> fkColumns = fkDescriptor.get().columns(fkTable,
+                            columnNames.of(fkSchema, rs.getString("FK_TABLE_ID")), refs);
+                    List<ColumnReference> pkColumns = pkDescriptor.get().columns(pkTable,
+                            columnNames.of(pkSchema, rs.getString("PK_TABLE_ID")), refs);
+                    String fkName = rs.getString("FK_NAME");
+                    Optional<String> pkName = Optional.ofNullable(rs.getString("PK_NAME"));
+                    ImportedKey.ReferentialAction updateRule = mapReferentialAction(rs.getString("UPDATERULE"));
+                    ImportedKey.ReferentialAction deleteRule = mapReferentialAction(rs.getString("DELETERULE"));
+                    for (int i = 0; i < fkColumns.size() && i < pkColumns.size(); i++) {
+                        keys.add(new ImportedKeyRecord(pkColumns.get(i), fkColumns.get(i), fkName, i + 1,
+                                updateRule, deleteRule, pkName, ImportedKey.Deferrability.NOT_DEFERRABLE));
+                    }
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * A decoded {@code SYS.SYSCONGLOMERATES.DESCRIPTOR}, rendered by Derby as
+     * {@code [UNIQUE [WITH DUPLICATE NULLS]] BTREE (4 DESC, 1)}: 1-based
+     * {@code SYS.SYSCOLUMNS.COLUMNNUMBER}s in key order.
+     */
+    private record IndexDescriptor(boolean unique, int[] positions, boolean[] descending) {
+
+        static Optional<IndexDescriptor> parse(String descriptor) {
+            if (descriptor == null) {
+                return Optional.empty();
+            }
+            Matcher m = DESCRIPTOR.matcher(descriptor);
+            if (!m.matches()) {
+                return Optional.empty();
+            }
+            String[] keys = m.group(2).split(",");
+            int[] positions = new int[keys.length];
+            boolean[] descending = new boolean[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i].strip();
+                int space = key.indexOf(' ');
+                positions[i] = Integer.parseInt(space < 0 ? key : key.substring(0, space));
+                descending[i] = space >= 0 && key.substring(space).strip().equalsIgnoreCase("DESC");
+            }
+            // UNIQUE WITH DUPLICATE NULLS backs a unique constraint over nullable columns
+            return Optional.of(new IndexDescriptor(m.group(1) != null, positions, descending));
+        }
+
+        List<ColumnReference> columns(TableReference table, String[] tableColumns, ReferenceInterner refs) {
+            List<ColumnReference> columns = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                columns.add(refs.column(table, tableColumns[position - 1]));
+            }
+            return List.copyOf(columns);
+        }
+    }
+
+    /**
+     * Column names by table id and column number, loaded once per schema and call.
+     */
+    private static final class ColumnNames {
+
+        private final Connection connection;
+        private final Map<String, Map<String, String[]>> bySchema = new HashMap<>();
+
+        ColumnNames(Connection connection) {
+            this.connection = connection;
+        }
+
+        String[] of(String schemaName, String tableId) throws SQLException {
+            Map<String, String[]> tables = bySchema.get(schemaName);
+            if (tables == null) {
+                tables = load(schemaName);
+                bySchema.put(schemaName, tables);
+            }
+            return tables.getOrDefault(tableId, new String[0]);
+        }
+
+        private Map<String, String[]> load(String schemaName) throws SQLException {
+            String sql = """
+                    SELECT c.REFERENCEID, c.COLUMNNUMBER, c.COLUMNNAME
+                    FROM SYS.SYSCOLUMNS c
+                    JOIN SYS.SYSTABLES t ON t.TABLEID = c.REFERENCEID
+                    JOIN SYS.SYSSCHEMAS s ON s.SCHEMAID = t.SCHEMAID
+                    WHERE s.SCHEMANAME = ?
+                      AND t.TABLETYPE = 'T'
+                    ORDER BY c.REFERENCEID, c.COLUMNNUMBER
+                    """;
+            Map<String, List<String>> names = new HashMap<>();
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, schemaName);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        List<String> columns = names.computeIfAbsent(rs.getString("REFERENCEID"),
+                                id -> new ArrayList<>());
+                        int number = rs.getInt("COLUMNNUMBER");
+                        while (columns.size() < number) {
+                            columns.add(null);
+                        }
+                        columns.set(number - 1, rs.getString("COLUMNNAME"));
+                    }
+                }
+            }
+            Map<String, String[]> tables = new HashMap<>();
+            names.forEach((id, columns) -> tables.put(id, columns.toArray(String[]::new)));
+            return tables;
+        }
+    }
+
+    private static ColumnMetaData readColumnMetaData(ResultSet rs, ReferenceInterner names) throws SQLException {
+        String columnType = rs.getString("COLUMN_TYPE");
+        Matcher m = COLUMN_TYPE.matcher(columnType == null ? "" : columnType);
+        String typeName = "";
+        OptionalInt size = OptionalInt.empty();
+        OptionalInt digits = OptionalInt.empty();
+        boolean notNull = false;
+        if (m.matches()) {
+            typeName = m.group(1).toUpperCase(Locale.ROOT);
+            if (m.group(4) != null) {
+                typeName = typeName + " FOR BIT DATA";
+            }
+            if (m.group(2) != null) {
+                size = OptionalInt.of(Integer.parseInt(m.group(2)));
+            }
+            if (m.group(3) != null) {
+                digits = OptionalInt.of(Integer.parseInt(m.group(3)));
+            }
+            notNull = m.group(5) != null;
+        }
+        JDBCType jdbcType = mapDerbyType(typeName);
+        if (size.isEmpty()) {
+            size = defaultPrecision(jdbcType);
+            if (size.isPresent() && digits.isEmpty() && isExactNumeric(jdbcType)) {
+                digits = OptionalInt.of(0);
+            }
+        }
+        String defaultText = rs.getString("COLUMN_DEFAULT");
+        boolean generated = defaultText != null
+                && defaultText.toUpperCase(Locale.ROOT).startsWith("GENERATED ALWAYS AS");
+        rs.getLong("AUTOINCREMENTINC");
+        boolean autoIncrement = !rs.wasNull();
+        return new ColumnMetaDataRecord(jdbcType, names.name(typeName), size, digits,
+                isExactNumeric(jdbcType) ? OptionalInt.of(10)
+                        : jdbcType == JDBCType.DOUBLE || jdbcType == JDBCType.REAL ? OptionalInt.of(2)
+                                : OptionalInt.empty(),
+                notNull ? ColumnMetaData.Nullability.NO_NULLS : ColumnMetaData.Nullability.NULLABLE,
+                OptionalInt.empty(), Optional.empty(), Optional.ofNullable(generated ? null : names.name(defaultText)),
+                autoIncrement ? ColumnMetaData.AutoIncrement.YES : ColumnMetaData.AutoIncrement.NO,
+                generated ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+    }
+
+    private String resolveSchema(String schema, Connection connection) throws SQLException {
+        if (schema != null) {
+            return schema;
+        }
+        // Derby's default schema is the user name, APP without authentication
+        return connection.getSchema() != null ? connection.getSchema() : DEFAULT_SCHEMA;
+    }
+
+    private static String mapTableType(String type) {
+        return switch (type) {
+        case "V" -> "VIEW";
+        case "S" -> "SYSTEM TABLE";
+        case "A" -> "SYNONYM";
+        default -> "TABLE";
+        };
+    }
+
+    /** {@code SYS.SYSFOREIGNKEYS} rules: R = NO ACTION, S = RESTRICT, C = CASCADE, U = SET NULL. */
+    private static ImportedKey.ReferentialAction mapReferentialAction(String rule) {
+        if (rule == null) {
+            return ImportedKey.ReferentialAction.NO_ACTION;
+        }
+        return switch (rule) {
+        case "S" -> ImportedKey.ReferentialAction.RESTRICT;
+        case "C" -> ImportedKey.ReferentialAction.CASCADE;
+        case "U" -> ImportedKey.ReferentialAction.SET_NULL;
+        default -> ImportedKey.ReferentialAction.NO_ACTION;
+        };
+    }
+
+    private static boolean isExactNumeric(JDBCType type) {
+        return type == JDBCType.SMALLINT || type == JDBCType.INTEGER || type == JDBCType.BIGINT
+                || type == JDBCType.DECIMAL || type == JDBCType.NUMERIC;
+    }
+
+    /** The {@code COLUMN_SIZE} Derby's driver reports for types declared without length. */
+    private static OptionalInt defaultPrecision(JDBCType type) {
+        return switch (type) {
+        case SMALLINT -> OptionalInt.of(5);
+        case INTEGER -> OptionalInt.of(10);
+        case BIGINT -> OptionalInt.of(19);
+        case REAL -> OptionalInt.of(23);
+        case DOUBLE -> OptionalInt.of(52);
+        case BOOLEAN -> OptionalInt.of(1);
+        case DATE -> OptionalInt.of(10);
+        case TIME -> OptionalInt.of(8);
+        case TIMESTAMP -> OptionalInt.of(29);
+        default -> OptionalInt.empty();
+        };
+    }
+
+    private static JDBCType mapDerbyType(String typeName) {
+        return switch (typeName) {
+        case "SMALLINT" -> JDBCType.SMALLINT;
+        case "INTEGER", "INT" -> JDBCType.INTEGER;
+        case "BIGINT" -> JDBCType.BIGINT;
+        case "DECIMAL" -> JDBCType.DECIMAL;
+        case "NUMERIC" -> JDBCType.NUMERIC;
+        case "REAL" -> JDBCType.REAL;
+        case "DOUBLE", "DOUBLE PRECISION", "FLOAT" -> JDBCType.DOUBLE;
+        case "BOOLEAN" -> JDBCType.BOOLEAN;
+        case "CHAR", "CHARACTER" -> JDBCType.CHAR;
+        case "VARCHAR" -> JDBCType.VARCHAR;
+        case "LONG VARCHAR" -> JDBCType.LONGVARCHAR;
+        case "CHAR FOR BIT DATA" -> JDBCType.BINARY;
+        case "VARCHAR FOR BIT DATA" -> JDBCType.VARBINARY;
+        case "LONG VARCHAR FOR BIT DATA" -> JDBCType.LONGVARBINARY;
+        case "CLOB" -> JDBCType.CLOB;
+        case "BLOB" -> JDBCType.BLOB;
+        case "DATE" -> JDBCType.DATE;
+        case "TIME" -> JDBCType.TIME;
+        case "TIMESTAMP" -> JDBCType.TIMESTAMP;
+        case "XML" -> JDBCType.SQLXML;
+        default -> JDBCType.JAVA_OBJECT;
+        };
+    }
+}
@@ -0,0 +1,619 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.SequenceReference;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+/**
+ * The DuckDB catalog reader. Every bulk query is a single scan over one of the
+ * {@code duckdb_*()} table functions, restricted to one database (the catalog,
+ * default {@code current_database()}) and one schema. Table references carry the
+ * database name as catalog, as DuckDB's JDBC driver reports it.
+ * <p>
+ * The driver does not implement {@code getImportedKeys} and returns no columns from
+ * {@code getIndexInfo}, so without this provider a snapshot has neither foreign keys
+ * nor usable index information.
+ */
+public class DuckDbMetadataProvider implements MetadataProvider {
+
+    private static final Pattern PLAIN_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*|\"((?:[^\"]|\"\")+)\"");
+    private static final Pattern VIEW_BODY = Pattern.compile("(?is)^\\s*CREATE\\s.*?\\sAS\\s(.*?);?\\s*$");
+
+    private final MetadataScope scope;
+
+    public DuckDbMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public DuckDbMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new DuckDbMetadataProvider(scope);
+    }
+
+
+    /**
+     * DuckDB assigns fresh oids to every created object and keeps the DDL text, so
+     * counts, the highest oid and a hash over the DDL detect any schema change.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT (SELECT COUNT(*) FROM duckdb_tables() WHERE NOT internal) AS table_count,
+                       (SELECT COUNT(*) FROM duckdb_columns() WHERE NOT internal) AS column_count,
+                       (SELECT COUNT(*) FROM duckdb_constraints()) AS constraint_count,
+                       (SELECT COUNT(*) FROM duckdb_indexes()) AS index_count,
+                       (SELECT COUNT(*) FROM duckdb_views() WHERE NOT internal) AS view_count,
+                       (SELECT COUNT(*) FROM duckdb_sequences()) AS sequence_count,
+                       (SELECT MAX(table_oid) FROM duckdb_tables()) AS max_table_oid,
+                       (SELECT COALESCE(SUM(hash(sql)), 0) FROM duckdb_tables() WHERE NOT internal)
+                           + (SELECT COALESCE(SUM(hash(sql)), 0) FROM duckdb_views() WHERE NOT internal)
+                           + (SELECT COALESCE(SUM(hash(sql)), 0) FROM duckdb_indexes()) AS ddl_hash
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        String sql = """
+                SELECT database_name, schema_name, table_name, table_type, comment
+                FROM (
+                    SELECT database_name, schema_name, table_name,
+                           CASE WHEN temporary THEN 'LOCAL TEMPORARY' ELSE 'BASE TABLE' END AS table_type, comment
+                    FROM duckdb_tables()
+                    WHERE NOT internal
+                    UNION ALL
+                    SELECT database_name, schema_name, view_name, 'VIEW', comment
+                    FROM duckdb_views()
+                    WHERE NOT internal
+                ) t
+                WHERE database_name = COALESCE(?, current_database())
+                  AND schema_name LIKE COALESCE(?, '%')
+                  AND table_name LIKE COALESCE(?, '%')
+                ORDER BY table_type, schema_name, table_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        List<String> typeFilter = types == null ? List.of() : List.of(types);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableDefinition> tables = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaPattern);
+            ps.setString(3, tableNamePattern);
+            ScopeFilter.bind(ps, 4, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("table_type");
+                    if (!typeFilter.isEmpty() && !typeFilter.contains(tableType)) {
+                        continue;
+                    }
+                    TableReference table = refs.table(rs.getString("database_name"), rs.getString("schema_name"),
+                            rs.getString("table_name"), tableType);
+                    tables.add(new TableDefinitionRecord(table,
+                            new TableMetaDataRecord(Optional.ofNullable(rs.getString("comment")), Optional.empty(),
+                                    Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(tables));
+    }
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        visitAllColumnDefinitions(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern,
+                columns::add);
+        return Optional.of(List.copyOf(columns));
+    }
+
+    @Override
+    public boolean visitAllColumnDefinitions(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, Consumer<? super ColumnDefinition> sink)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, schema_name, table_name, column_name, comment, column_default,
+                       is_nullable, data_type, character_maximum_length, numeric_precision,
+                       numeric_precision_radix, numeric_scale
+                FROM duckdb_columns()
+                WHERE NOT internal
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                  AND table_name LIKE COALESCE(?, '%')
+                  AND column_name LIKE COALESCE(?, '%')
+                ORDER BY table_name, column_index
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schemaPattern, connection);
+        // Rows arrive ordered by table: consecutive columns share one table reference
+        // without keeping every table of the schema reachable.
+        ReferenceInterner names = new ReferenceInterner();
+        Optional<TableReference> currentTable = Optional.empty();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ps.setString(3, tableNamePattern);
+            ps.setString(4, columnNamePattern);
+            ScopeFilter.bind(ps, 5, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String database = rs.getString("database_name");
+                    String tableName = rs.getString("table_name");
+                    if (currentTable.isEmpty() || !tableName.equals(currentTable.get().name())) {
+                        currentTable = Optional.of(new TableReference(names.schema(database, schemaName), tableName));
+                    }
+                    String dataType = names.name(rs.getString("data_type"));
+                    OptionalInt size = optInt(rs, "character_maximum_length");
+                    if (size.isEmpty()) {
+                        size = optInt(rs, "numeric_precision");
+                    }
+                    ColumnMetaData metaData = new ColumnMetaDataRecord(mapDuckDbType(dataType), dataType, size,
+                            optInt(rs, "numeric_scale"), optInt(rs, "numeric_precision_radix"),
+                            rs.getBoolean("is_nullable") ? ColumnMetaData.Nullability.NULLABLE
+                                    : ColumnMetaData.Nullability.NO_NULLS,
+                            OptionalInt.empty(), Optional.ofNullable(rs.getString("comment")),
+                            Optional.ofNullable(names.name(rs.getString("column_default"))),
+                            ColumnMetaData.AutoIncrement.UNKNOWN, ColumnMetaData.GeneratedColumn.UNKNOWN);
+                    sink.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(currentTable, rs.getString("column_name")), metaData));
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, table_name, constraint_name,
+                       UNNEST(constraint_column_names) AS column_name
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'PRIMARY KEY'
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY table_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<TableReference, List<ColumnReference>> columns = new LinkedHashMap<>();
+        Map<TableReference, String> names = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(rs.getString("database_name"), schemaName,
+                            rs.getString("table_name"));
+                    names.putIfAbsent(table, rs.getString("constraint_name"));
+                    columns.computeIfAbsent(table, t -> new ArrayList<>())
+                            .add(refs.column(table, rs.getString("column_name")));
+                }
+            }
+        }
+        List<PrimaryKey> result = new ArrayList<>();
+        for (Map.Entry<TableReference, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new PrimaryKeyRecord(entry.getKey(), List.copyOf(entry.getValue()),
+                    Optional.ofNullable(names.get(entry.getKey()))));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, catalog, schema, "c.table_name"));
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, catalog, schema, "c.referenced_table"));
+    }
+
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, table_name, constraint_name,
+                       UNNEST(constraint_column_names) AS column_name
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'UNIQUE'
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY table_name, constraint_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<String, TableReference> tables = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(rs.getString("database_name"), schemaName,
+                            rs.getString("table_name"));
+                    String name = rs.getString("constraint_name");
+                    tables.putIfAbsent(name, table);
+                    columns.computeIfAbsent(name, n -> new ArrayList<>())
+                            .add(refs.column(table, rs.getString("column_name")));
+                }
+            }
+        }
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new UniqueConstraintRecord(entry.getKey(), tables.get(entry.getKey()),
+                    List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, table_name, constraint_name, expression
+                FROM duckdb_constraints()
+                WHERE constraint_type = 'CHECK'
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY table_name, constraint_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<CheckConstraint> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(rs.getString("database_name"), schemaName,
+                            rs.getString("table_name"));
+                    result.add(new CheckConstraintRecord(rs.getString("constraint_name"), table,
+                            rs.getString("expression")));
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Explicit indexes from {@code duckdb_indexes()} plus the ART indexes DuckDB builds
+     * behind every primary key and unique constraint. Expression index keys that are
+     * not a plain column name are reported without a column.
+     */
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, table_name, index_name, is_unique, key_expression, ordinal_position
+                FROM (
+                    SELECT database_name, schema_name, table_name, index_name, is_unique,
+                           UNNEST(CAST(expressions AS VARCHAR[])) AS key_expression,
+                           generate_subscripts(CAST(expressions AS VARCHAR[]), 1) AS ordinal_position
+                    FROM duckdb_indexes()
+                    UNION ALL
+                    SELECT database_name, schema_name, table_name, constraint_name, TRUE,
+                           UNNEST(constraint_column_names),
+                           generate_subscripts(constraint_column_names, 1)
+                    FROM duckdb_constraints()
+                    WHERE constraint_type IN ('PRIMARY KEY', 'UNIQUE')
+                ) i
+                WHERE database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY table_name, index_name, ordinal_position
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<TableReference, List<IndexInfoItem>> items = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(rs.getString("database_name"), schemaName,
+                            rs.getString("table_name"));
+                    Optional<ColumnReference> column = plainColumnName(rs.getString("key_expression"))
+                            .map(name -> refs.column(table, name));
+                    items.computeIfAbsent(table, t -> new ArrayList<>())
+                            .add(new IndexInfoItemRecord(Optional.ofNullable(refs.name(rs.getString("index_name"))),
+                                    IndexInfoItem.IndexType.TABLE_INDEX_OTHER, column,
+                                    rs.getInt("ordinal_position"), Optional.empty(), 0L, 0L, Optional.empty(),
+                                    rs.getBoolean("is_unique")));
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<TableReference, List<IndexInfoItem>> entry : items.entrySet()) {
+            result.add(new IndexInfoRecord(entry.getKey(), List.copyOf(entry.getValue())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT database_name, view_name, sql
+                FROM duckdb_views()
+                WHERE NOT internal
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY view_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "view_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String ddl = rs.getString("sql");
+                    TableReference view = new TableReference(refs.schema(rs.getString("database_name"), schemaName),
+                            rs.getString("view_name"), "VIEW");
+                    views.add(new ViewDefinitionRecord(view, viewBody(ddl), Optional.ofNullable(ddl)));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+    @Override
+    public List<Sequence> getAllSequences(Connection connection, String catalog, String schema) throws SQLException {
+        String sql = """
+                SELECT database_name, sequence_name, start_value, increment_by, min_value, max_value, cycle
+                FROM duckdb_sequences()
+                WHERE database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY sequence_name
+                """;
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<Sequence> sequences = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Optional<SchemaReference> oSchema = refs.schema(rs.getString("database_name"), schemaName);
+                    long minValue = rs.getLong("min_value");
+                    Optional<Long> oMinValue = rs.wasNull() ? Optional.empty() : Optional.of(minValue);
+                    long maxValue = rs.getLong("max_value");
+                    Optional<Long> oMaxValue = rs.wasNull() ? Optional.empty() : Optional.of(maxValue);
+                    // DuckDB sequences are always BIGINT and have no cache
+                    sequences.add(new SequenceRecord(new SequenceReference(oSchema, rs.getString("sequence_name")),
+                            rs.getLong("start_value"), rs.getLong("increment_by"), oMinValue, oMaxValue,
+                            rs.getBoolean("cycle"), Optional.empty(), Optional.of("BIGINT")));
+                }
+            }
+        }
+        return List.copyOf(sequences);
+    }
+
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // estimated_size is the row count DuckDB tracks per table; it keeps neither a
+        // per-table byte size nor column statistics in its catalog.
+        String sql = """
+                SELECT database_name, table_name, estimated_size
+                FROM duckdb_tables()
+                WHERE NOT internal
+                  AND database_name = COALESCE(?, current_database())
+                  AND schema_name = ?
+                ORDER BY table_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("estimated_size");
+                    Optional<Long> rowCount = rs.wasNull() ? Optional.empty() : Optional.of(rows);
+                    statistics.add(new TableStatisticsRecord(
+                            refs.table(rs.getString("database_name"), schemaName, rs.getString("table_name")),
+                            rowCount, Optional.empty(), Optional.empty()));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+
+    /**
+     * @param tableColumn {@code c.table_name} for the referencing side (imported
+     *                    keys), {@code c.referenced_table} for the referenced side
+     *                    (exported keys)
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String catalog, String schema,
+            String tableColumn) throws SQLException {
+        // DuckDB foreign keys always reference a table of the same schema; the
+        // referenced key's name comes from the matching PRIMARY KEY/UNIQUE row.
+        String sql = """
+                SELECT c.database_name, c.table_name, c.constraint_name, c.referenced_table,
+                       UNNEST(c.constraint_column_names) AS fk_column,
+                       UNNEST(c.referenced_column_names) AS pk_column,
+                       generate_subscripts(c.constraint_column_names, 1) AS key_seq,
+                       p.constraint_name AS pk_name
+                FROM duckdb_constraints() c
+                LEFT JOIN duckdb_constraints() p
+                  ON p.database_oid = c.database_oid
+                  AND p.schema_name = c.schema_name
+                  AND p.table_name = c.referenced_table
+                  AND p.constraint_type IN ('PRIMARY KEY', 'UNIQUE')
+                  AND p.constraint_column_names = c.referenced_column_names
+                WHERE c.constraint_type = 'FOREIGN KEY'
+                  AND c.database_name = COALESCE(?, current_database())
+                  AND c.schema_name = ?
+                ORDER BY %s, c.constraint_name, key_seq
+                """.formatted(tableColumn);
+        sql = ScopeFilter.restrict(sql, scope, tableColumn);
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, catalog);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String database = rs.getString("database_name");
+                    TableReference fkTable = refs.table(database, schemaName, rs.getString("table_name"));
+                    TableReference pkTable = refs.table(database, schemaName, rs.getString("referenced_table"));
+                    // DuckDB supports neither ON UPDATE nor ON DELETE actions
+                    keys.add(new ImportedKeyRecord(refs.column(pkTable, rs.getString("pk_column")),
+                            refs.column(fkTable, rs.getString("fk_column")), rs.getString("constraint_name"),
+                            rs.getInt("key_seq"), ImportedKey.ReferentialAction.NO_ACTION,
+                            ImportedKey.ReferentialAction.NO_ACTION, Optional.ofNullable(rs.getString("pk_name")),
+                            ImportedKey.Deferrability.NOT_DEFERRABLE));
+                }
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private String resolveSchema(String schema, Connection connection) throws SQLException {
+        if (schema != null) {
+            return schema;
+        }
+        // DuckDB default schema is main
+        return connection.getSchema() != null ? connection.getSchema() : "main";
+    }
+
+    private static OptionalInt optInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+
+    private static Optional<String> plainColumnName(String expression) {
+        if (expression == null) {
+            return Optional.empty();
+        }
+        Matcher m = PLAIN_IDENTIFIER.matcher(expression.strip());
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(m.group(1) != null ? m.group(1).replace("\"\"", "\"") : m.group());
+    }
+
+    private static Optional<String> viewBody(String ddl) {
+        if (ddl == null) {
+            return Optional.empty();
+        }
+        Matcher m = VIEW_BODY.matcher(ddl);
+        return m.matches() ? Optional.of(m.group(1).strip()) : Optional.of(ddl);
+    }
+
+    private static JDBCType mapDuckDbType(String dataType) {
+        if (dataType == null) {
+            return JDBCType.OTHER;
+        }
+        String type = dataType.toUpperCase(Locale.ROOT);
+        if (type.endsWith("]")) {
+            return JDBCType.ARRAY;
+        }
+        int paren = type.indexOf('(');
+        if (paren > 0) {
+            type = type.substring(0, paren);
+        }
+        return switch (type) {
+        case "BOOLEAN" -> JDBCType.BOOLEAN;
+        case "TINYINT", "UTINYINT" -> JDBCType.TINYINT;
+        case "SMALLINT", "USMALLINT" -> JDBCType.SMALLINT;
+        case "INTEGER", "UINTEGER" -> JDBCType.INTEGER;
+        case "BIGINT", "UBIGINT", "HUGEINT", "UHUGEINT" -> JDBCType.BIGINT;
+        case "FLOAT" -> JDBCType.FLOAT;
+        case "DOUBLE" -> JDBCType.DOUBLE;
+        case "DECIMAL" -> JDBCType.DECIMAL;
+        case "VARCHAR" -> JDBCType.VARCHAR;
+        case "BLOB", "BIT" -> JDBCType.BLOB;
+        case "DATE" -> JDBCType.DATE;
+        case "TIME" -> JDBCType.TIME;
+        case "TIME WITH TIME ZONE" -> JDBCType.TIME_WITH_TIMEZONE;
+        case "TIMESTAMP", "TIMESTAMP_S", "TIMESTAMP_MS", "TIMESTAMP_NS" -> JDBCType.TIMESTAMP;
+        case "TIMESTAMP WITH TIME ZONE" -> JDBCType.TIMESTAMP_WITH_TIMEZONE;
+        case "STRUCT" -> JDBCType.STRUCT;
+        default -> JDBCType.OTHER;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Runs a single-row catalog summary query and renders it as
+ * {@code label=value;label=value} for
+ * {@link org.eclipse.daanse.sql.jdbc.api.MetadataProvider#getCatalogFingerprint}.
+ */
+final class Fingerprints {
+
+    private Fingerprints() {
+    }
+
+    static Optional<String> query(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            if (!rs.next()) {
+                return Optional.empty();
+            }
+            ResultSetMetaData md = rs.getMetaData();
+            StringBuilder sb = new StringBuilder();
+            for (int i = 1; i <= md.getColumnCount(); i++) {
+                if (i > 1) {
+                    sb.append(';');
+                }
+                sb.append(md.getColumnLabel(i).toLowerCase(Locale.ROOT)).append('=').append(rs.getString(i));
+            }
+            return Optional.of(sb.toString());
+        }
+    }
+}
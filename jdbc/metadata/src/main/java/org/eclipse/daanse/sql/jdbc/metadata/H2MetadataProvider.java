@@ -24,7 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.model.schema.CatalogReference;
@@ -48,6 +51,9 @@ import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.model.schema.TriggerReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
@@ -61,6 +67,9 @@ import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 
 /**
  * The H2 system-catalog/{@code information_schema} reader — the
@@ -69,6 +78,26 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class H2MetadataProvider implements MetadataProvider {
 
+    private final MetadataScope scope;
+
+    public H2MetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public H2MetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new H2MetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -80,10 +109,12 @@ public class H2MetadataProvider implements MetadataProvider {
                 WHERE TRIGGER_SCHEMA = ?
                 ORDER BY EVENT_OBJECT_TABLE, TRIGGER_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "EVENT_OBJECT_TABLE");
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs));
@@ -172,10 +203,12 @@ public class H2MetadataProvider implements MetadataProvider {
                   AND tc.CONSTRAINT_TYPE = 'CHECK'
                 ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String checkClause = rs.getString("CHECK_CLAUSE");
@@ -243,6 +276,7 @@ public class H2MetadataProvider implements MetadataProvider {
                   AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME");
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -282,11 +316,13 @@ public class H2MetadataProvider implements MetadataProvider {
                   AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         // Group by table+constraint to build composite PKs
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("CONSTRAINT_NAME");
@@ -299,9 +335,10 @@ public class H2MetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -338,13 +375,16 @@ public class H2MetadataProvider implements MetadataProvider {
                   AND fk_tc.TABLE_SCHEMA = ?
                 ORDER BY fk_kcu.TABLE_NAME, fk_tc.CONSTRAINT_NAME, fk_kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "fk_kcu.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs));
+                    importedKeys.add(readImportedKey(rs, refs));
                 }
             }
         }
@@ -386,12 +426,13 @@ public class H2MetadataProvider implements MetadataProvider {
                 ORDER BY pk_kcu.TABLE_NAME, fk_tc.CONSTRAINT_NAME, fk_kcu.ORDINAL_POSITION
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs));
+                    exportedKeys.add(readImportedKey(rs, refs));
                 }
             }
         }
@@ -399,6 +440,37 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * H2 keeps no DDL timestamp, so object counts and checksums stand in for it: one over
+     * the table names, one over every column's name, position, type, length, precision,
+     * scale and nullability, so that renames and type changes register as well.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT (SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS TABLE_COUNT,
+                       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS COLUMN_COUNT,
+                       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS INDEX_COUNT,
+                       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS CONSTRAINT_COUNT,
+                       (SELECT COALESCE(SUM(CAST(ORA_HASH(CONCAT(TABLE_SCHEMA, '.', TABLE_NAME, ':', TABLE_TYPE))
+                                AS BIGINT)), 0)
+                        FROM INFORMATION_SCHEMA.TABLES
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS TABLE_NAMES,
+                       (SELECT COALESCE(SUM(CAST(ORA_HASH(CONCAT(TABLE_SCHEMA, '.', TABLE_NAME, '.', COLUMN_NAME,
+                                ':', ORDINAL_POSITION, ':', DATA_TYPE,
+                                ':', COALESCE(CHARACTER_MAXIMUM_LENGTH, -1),
+                                ':', COALESCE(NUMERIC_PRECISION, -1), ':', COALESCE(NUMERIC_SCALE, -1),
+                                ':', IS_NULLABLE)) AS BIGINT)), 0)
+                        FROM INFORMATION_SCHEMA.COLUMNS
+                        WHERE TABLE_SCHEMA <> 'INFORMATION_SCHEMA') AS COLUMN_SHAPE
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -415,12 +487,14 @@ public class H2MetadataProvider implements MetadataProvider {
                 WHERE i.TABLE_SCHEMA = ?
                 ORDER BY i.TABLE_NAME, i.INDEX_NAME, ic.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "i.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         // Group index items by table
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -470,10 +544,12 @@ public class H2MetadataProvider implements MetadataProvider {
                 WHERE TABLE_SCHEMA = ?
                 ORDER BY TABLE_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -560,6 +636,38 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME, GRANTOR, GRANTEE, PRIVILEGE_TYPE, IS_GRANTABLE
+                FROM INFORMATION_SCHEMA.COLUMN_PRIVILEGES
+                WHERE TABLE_SCHEMA = ?
+                ORDER BY TABLE_NAME, COLUMN_NAME, PRIVILEGE_TYPE, GRANTEE
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("TABLE_NAME"),
+                            t -> new TableReference(oSchema, t));
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("GRANTOR")),
+                            rs.getString("GRANTEE"), rs.getString("PRIVILEGE_TYPE"),
+                            Optional.ofNullable(rs.getString("IS_GRANTABLE"))));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     private Map<String, List<ProcedureColumn>> loadProcedureColumns(Connection connection, String schemaName)
             throws SQLException {
         String sql = """
@@ -726,7 +834,7 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, ReferenceInterner refs) throws SQLException {
         String fkName = rs.getString("FK_NAME");
         String fkTable = rs.getString("FK_TABLE");
         String fkColumn = rs.getString("FK_COLUMN");
@@ -742,18 +850,12 @@ public class H2MetadataProvider implements MetadataProvider {
         String pkName = rs.getString("PK_NAME");
 
         // FK side
-        Optional<CatalogReference> fkCatRef = Optional.ofNullable(fkCatalog).map(CatalogReference::new);
-        Optional<SchemaReference> fkSchemaRef = Optional.ofNullable(fkSchema)
-                .map(s -> new SchemaReference(fkCatRef, s));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(fkCatalog, fkSchema, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side
-        Optional<CatalogReference> pkCatRef = Optional.ofNullable(pkCatalog).map(CatalogReference::new);
-        Optional<SchemaReference> pkSchemaRef = Optional.ofNullable(pkSchema)
-                .map(s -> new SchemaReference(pkCatRef, s));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(pkCatalog, pkSchema, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, mapReferentialAction(updateRule),
                 mapReferentialAction(deleteRule), Optional.ofNullable(pkName),
@@ -770,6 +872,8 @@ public class H2MetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -791,6 +895,71 @@ public class H2MetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT TABLE_NAME, ROW_COUNT_ESTIMATE
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'
+                ORDER BY TABLE_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("ROW_COUNT_ESTIMATE");
+                    Optional<Long> rowCount = rs.wasNull() ? Optional.empty() : Optional.of(rows);
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("TABLE_NAME")),
+                            rowCount, Optional.empty(), Optional.empty()));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    @Override
+    public List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // SELECTIVITY is the distinct share in percent (0..100) as of the last ANALYZE;
+        // H2 keeps no null counts or widths.
+        String sql = """
+                SELECT c.TABLE_NAME, c.COLUMN_NAME, c.SELECTIVITY, t.ROW_COUNT_ESTIMATE
+                FROM INFORMATION_SCHEMA.COLUMNS c
+                JOIN INFORMATION_SCHEMA.TABLES t
+                  ON t.TABLE_SCHEMA = c.TABLE_SCHEMA AND t.TABLE_NAME = c.TABLE_NAME
+                WHERE c.TABLE_SCHEMA = ? AND t.TABLE_TYPE = 'BASE TABLE'
+                ORDER BY c.TABLE_NAME, c.ORDINAL_POSITION
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "c.TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ColumnStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    int selectivity = rs.getInt("SELECTIVITY");
+                    boolean known = !rs.wasNull();
+                    long rows = rs.getLong("ROW_COUNT_ESTIMATE");
+                    Optional<Long> distinct = known && !rs.wasNull()
+                            ? Optional.of(rows == 0 ? 0L : Math.max(1L, rows * selectivity / 100))
+                            : Optional.empty();
+                    TableReference table = refs.table(null, schemaName, rs.getString("TABLE_NAME"));
+                    statistics.add(new ColumnStatisticsRecord(refs.column(table, rs.getString("COLUMN_NAME")),
+                            distinct, Optional.empty(), Optional.empty()));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
     private String resolveSchema(String schema, Connection connection) throws SQLException {
         if (schema != null) {
             return schema;
@@ -866,11 +1035,9 @@ public class H2MetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
@@ -24,7 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.model.schema.CatalogReference;
@@ -50,6 +53,9 @@ import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.model.schema.TriggerReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
@@ -64,6 +70,9 @@ import org.eclipse.daanse.sql.jdbc.record.schema.SequenceRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +86,29 @@ public class MariaDbMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MariaDbMetadataProvider.class);
 
+    /** SELECT command denied to user for table. */
+    private static final int ER_TABLEACCESS_DENIED_ERROR = 1142;
+
+    private final MetadataScope scope;
+
+    public MariaDbMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public MariaDbMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new MariaDbMetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -86,10 +118,12 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = ?
                 ORDER BY EVENT_OBJECT_TABLE, TRIGGER_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "EVENT_OBJECT_TABLE", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -205,11 +239,13 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 WHERE TABLE_SCHEMA = ? AND PARTITION_NAME IS NOT NULL
                 ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION, SUBPARTITION_ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -241,6 +277,87 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         return List.copyOf(partitions);
     }
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // TABLE_ROWS is exact for MyISAM and an estimate for InnoDB; the byte sizes
+        // cover data and indexes.
+        String sql = """
+                SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH AS TOTAL_BYTES, AVG_ROW_LENGTH
+                FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'
+                ORDER BY TABLE_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("TABLE_ROWS");
+                    Optional<Long> rowCount = rs.wasNull() ? Optional.empty() : Optional.of(rows);
+                    long bytes = rs.getLong("TOTAL_BYTES");
+                    Optional<Long> totalBytes = rs.wasNull() ? Optional.empty() : Optional.of(bytes);
+                    long rowLength = rs.getLong("AVG_ROW_LENGTH");
+                    Optional<Long> averageRowLength = rs.wasNull() ? Optional.empty() : Optional.of(rowLength);
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("TABLE_NAME")),
+                            rowCount, totalBytes, averageRowLength));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    @Override
+    public List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // Engine-independent statistics (ANALYZE TABLE ... PERSISTENT FOR ALL);
+        // avg_frequency is the average number of rows per distinct non-null value.
+        String sql = """
+                SELECT cs.table_name, cs.column_name, cs.nulls_ratio, cs.avg_length, cs.avg_frequency,
+                       ts.cardinality
+                FROM mysql.column_stats cs
+                LEFT JOIN mysql.table_stats ts ON ts.db_name = cs.db_name AND ts.table_name = cs.table_name
+                WHERE cs.db_name = ?
+                ORDER BY cs.table_name, cs.column_name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "cs.table_name", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ColumnStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    double nulls = rs.getDouble("nulls_ratio");
+                    Optional<Double> nullFraction = rs.wasNull() ? Optional.empty() : Optional.of(nulls);
+                    double width = rs.getDouble("avg_length");
+                    Optional<Integer> averageWidth = rs.wasNull() ? Optional.empty()
+                            : Optional.of((int) Math.round(width));
+                    double frequency = rs.getDouble("avg_frequency");
+                    long rows = rs.getLong("cardinality");
+                    Optional<Long> distinctValues = !rs.wasNull() && frequency > 0
+                            ? Optional.of(Math.round(rows * (1 - nullFraction.orElse(0.0)) / frequency))
+                            : Optional.empty();
+                    TableReference table = refs.table(null, schemaName, rs.getString("table_name"));
+                    statistics.add(new ColumnStatisticsRecord(refs.column(table, rs.getString("column_name")),
+                            distinctValues, nullFraction, averageWidth));
+                }
+            }
+        } catch (SQLException e) {
+            // the mysql schema needs its own SELECT grant; other errors are real
+            if (e.getErrorCode() != ER_TABLEACCESS_DENIED_ERROR) {
+                throw e;
+            }
+            return List.of();
+        }
+        return List.copyOf(statistics);
+    }
+
 
     private static PartitionMethod mapPartitionMethod(String raw) {
         if (raw == null) {
@@ -269,10 +386,12 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 WHERE cc.CONSTRAINT_SCHEMA = ? AND tc.CONSTRAINT_TYPE = 'CHECK'
                 ORDER BY tc.TABLE_NAME, cc.CONSTRAINT_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("CONSTRAINT_NAME");
@@ -333,6 +452,7 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'UNIQUE' AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -363,10 +483,12 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'PRIMARY KEY' AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -379,9 +501,10 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -402,13 +525,16 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'FOREIGN KEY' AND tc.TABLE_SCHEMA = ?
                 ORDER BY kcu.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "kcu.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
+                    importedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -433,12 +559,13 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 ORDER BY kcu.REFERENCED_TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    exportedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -446,6 +573,31 @@ public class MariaDbMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * MariaDB tracks only CREATE_TIME per table, and an ALTER TABLE done in place, such as
+     * an ALGORITHM=INSTANT rename, leaves it alone. Column and index counts and a
+     * checksum over every column's name, position, type, nullability and default are
+     * added to catch those.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT COUNT(*) AS TABLE_COUNT,
+                       (SELECT COUNT(*) FROM information_schema.COLUMNS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS COLUMN_COUNT,
+                       (SELECT COALESCE(SUM(CRC32(CONCAT_WS('|', TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION,
+                                COLUMN_TYPE, IS_NULLABLE, COALESCE(COLUMN_DEFAULT, '<null>')))), 0)
+                        FROM information_schema.COLUMNS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS COLUMN_SHAPE,
+                       (SELECT COUNT(*) FROM information_schema.STATISTICS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS INDEX_COUNT,
+                       MAX(CREATE_TIME) AS LAST_DDL
+                FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -454,11 +606,13 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ?
                 ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -505,10 +659,12 @@ public class MariaDbMetadataProvider implements MetadataProvider {
                 SELECT TABLE_NAME, VIEW_DEFINITION FROM information_schema.VIEWS WHERE TABLE_SCHEMA = ?
                 ORDER BY TABLE_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -597,6 +753,38 @@ public class MariaDbMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME, GRANTOR, GRANTEE, PRIVILEGE_TYPE, IS_GRANTABLE
+                FROM information_schema.COLUMN_PRIVILEGES
+                WHERE TABLE_SCHEMA = ?
+                ORDER BY TABLE_NAME, COLUMN_NAME, PRIVILEGE_TYPE, GRANTEE
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("TABLE_NAME"),
+                            t -> new TableReference(oSchema, t));
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("GRANTOR")),
+                            rs.getString("GRANTEE"), rs.getString("PRIVILEGE_TYPE"),
+                            Optional.ofNullable(rs.getString("IS_GRANTABLE"))));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     private Optional<String> showCreateRoutine(Connection connection, String kind, String schemaName, String name) {
         // SHOW CREATE PROCEDURE / FUNCTION returns the full DDL. Silently skip if
         // permissions are missing.
@@ -764,7 +952,8 @@ public class MariaDbMetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, String schemaName, ReferenceInterner refs)
+            throws SQLException {
         String fkName = rs.getString("FK_NAME");
         String fkTable = rs.getString("FK_TABLE");
         String fkColumn = rs.getString("FK_COLUMN");
@@ -775,16 +964,12 @@ public class MariaDbMetadataProvider implements MetadataProvider {
         String updateRule = rs.getString("UPDATE_RULE");
 
         // FK side - MariaDB uses catalog as database name, schema is same
-        Optional<CatalogReference> fkCatRef = Optional.empty();
-        Optional<SchemaReference> fkSchemaRef = Optional.of(new SchemaReference(fkCatRef, schemaName));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(null, schemaName, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side - referenced table is in the same schema context
-        Optional<CatalogReference> pkCatRef = Optional.empty();
-        Optional<SchemaReference> pkSchemaRef = Optional.of(new SchemaReference(pkCatRef, schemaName));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(null, schemaName, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, mapReferentialAction(updateRule),
                 mapReferentialAction(deleteRule), Optional.empty(), ImportedKey.Deferrability.NOT_DEFERRABLE);
@@ -799,6 +984,8 @@ public class MariaDbMetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -897,11 +1084,9 @@ public class MariaDbMetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
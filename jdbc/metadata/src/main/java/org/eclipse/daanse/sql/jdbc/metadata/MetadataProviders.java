@@ -35,7 +35,10 @@ public final class MetadataProviders {
         new PostgreSqlMetadataProviderFactory(),
         new MicrosoftSqlServerMetadataProviderFactory(),
         new OracleMetadataProviderFactory(),
-        new H2MetadataProviderFactory());
+        new H2MetadataProviderFactory(),
+        new DuckDbMetadataProviderFactory(),
+        new SqliteMetadataProviderFactory(),
+        new DerbyMetadataProviderFactory());
 
     private MetadataProviders() {
     }
@@ -26,7 +26,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
@@ -56,6 +59,7 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
@@ -74,6 +78,7 @@ import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UserDefinedTypeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 
 /**
  * The MicrosoftSqlServer system-catalog/{@code information_schema} reader — the
@@ -82,6 +87,26 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
 
+    private final MetadataScope scope;
+
+    public MicrosoftSqlServerMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public MicrosoftSqlServerMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new MicrosoftSqlServerMetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -92,10 +117,12 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE t.parent_id > 0 AND OBJECT_SCHEMA_NAME(t.parent_id) = ?
                 ORDER BY OBJECT_NAME(t.parent_id), t.name
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(t.parent_id)");
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -201,11 +228,13 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE SCHEMA_NAME(t.schema_id) = ? AND i.index_id IN (0, 1)
                 ORDER BY OBJECT_NAME(p.object_id), p.partition_number
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(p.object_id)");
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("table_name");
@@ -228,6 +257,46 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
         return List.copyOf(partitions);
     }
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // Rows come from the heap or clustered index (index_id 0/1) only; pages of
+        // every index count towards the size. Column-level statistics live in
+        // per-statistics-object histograms (DBCC SHOW_STATISTICS) and are not read.
+        String sql = """
+                SELECT t.name AS table_name,
+                       SUM(CASE WHEN ps.index_id IN (0, 1) THEN ps.row_count ELSE 0 END) AS row_count,
+                       SUM(ps.used_page_count) * 8192 AS total_bytes
+                FROM sys.tables t
+                JOIN sys.schemas s ON s.schema_id = t.schema_id
+                JOIN sys.dm_db_partition_stats ps ON ps.object_id = t.object_id
+                WHERE s.name = ?
+                GROUP BY t.name
+                ORDER BY t.name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "t.name");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("row_count");
+                    long bytes = rs.getLong("total_bytes");
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("table_name")),
+                            Optional.of(rows), Optional.of(bytes),
+                            rows > 0 ? Optional.of(bytes / rows) : Optional.empty()));
+                }
+            }
+        } catch (SQLException e) {
+            // sys.dm_db_partition_stats needs VIEW DATABASE STATE
+            return List.of();
+        }
+        return List.copyOf(statistics);
+    }
+
 
     @Override
     public List<CheckConstraint> getAllCheckConstraints(Connection connection, String catalog, String schema)
@@ -238,10 +307,12 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE OBJECT_SCHEMA_NAME(cc.parent_object_id) = ?
                 ORDER BY OBJECT_NAME(cc.parent_object_id), cc.name
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(cc.parent_object_id)");
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("constraint_name");
@@ -302,6 +373,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE i.is_unique_constraint = 1 AND OBJECT_SCHEMA_NAME(i.object_id) = ?
                 ORDER BY OBJECT_NAME(i.object_id), i.name, ic.key_ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(i.object_id)");
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -335,10 +407,12 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE i.is_primary_key = 1 AND OBJECT_SCHEMA_NAME(i.object_id) = ?
                 ORDER BY OBJECT_NAME(i.object_id), ic.key_ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(i.object_id)");
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("constraint_name");
@@ -351,9 +425,10 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -375,13 +450,16 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 WHERE OBJECT_SCHEMA_NAME(fk.parent_object_id) = ?
                 ORDER BY OBJECT_NAME(fk.parent_object_id), fk.name, fkc.constraint_column_id
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(fk.parent_object_id)");
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
+                    importedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -408,12 +486,13 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 ORDER BY OBJECT_NAME(fk.referenced_object_id), fk.name, fkc.constraint_column_id
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    exportedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -421,13 +500,32 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * sys.objects.modify_date moves on every ALTER of the object or its columns and indexes.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT COUNT(*) AS object_count,
+                       (SELECT COUNT(*) FROM sys.columns col
+                        JOIN sys.objects co ON co.object_id = col.object_id
+                        WHERE co.is_ms_shipped = 0) AS column_count,
+                       CONVERT(varchar(33), MAX(modify_date), 126) AS last_ddl
+                FROM sys.objects
+                WHERE is_ms_shipped = 0
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
         String sql = """
                 SELECT i.name AS index_name, i.type_desc AS index_type, i.is_unique,
                         OBJECT_NAME(i.object_id) AS table_name, c.name AS column_name,
-                        ic.key_ordinal, ic.is_descending_key
+                        ic.key_ordinal, ic.is_descending_key,
+                        (SELECT SUM(p.rows) FROM sys.partitions p
+                         WHERE p.object_id = i.object_id AND p.index_id = i.index_id) AS row_count
                 FROM sys.indexes i
                 JOIN sys.index_columns ic ON ic.object_id = i.object_id AND ic.index_id = i.index_id
                 JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
@@ -435,11 +533,13 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                     AND i.is_primary_key = 0 AND i.is_unique_constraint = 0
                 ORDER BY OBJECT_NAME(i.object_id), i.name, ic.key_ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "OBJECT_NAME(i.object_id)");
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("table_name");
@@ -449,6 +549,8 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                     String columnName = rs.getString("column_name");
                     int ordinalPosition = rs.getInt("key_ordinal");
                     boolean isDescending = rs.getBoolean("is_descending_key");
+                    // sys.partitions counts the rows of the index, as the driver's getIndexInfo does
+                    long cardinality = rs.getLong("row_count");
 
                     IndexInfoItem.IndexType mappedType = mapMssqlIndexType(indexType);
 
@@ -462,7 +564,7 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                             .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
 
                     IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
-                            ordinalPosition, Optional.of(!isDescending), 0L, 0L, Optional.empty(), isUnique);
+                            ordinalPosition, Optional.of(!isDescending), cardinality, 0L, Optional.empty(), isUnique);
 
                     tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
                 }
@@ -484,10 +586,12 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
                 FROM sys.views v JOIN sys.sql_modules m ON m.object_id = v.object_id
                 WHERE OBJECT_SCHEMA_NAME(v.object_id) = ? ORDER BY v.name
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "v.name");
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String viewName = rs.getString("view_name");
@@ -730,7 +834,8 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, String schemaName, ReferenceInterner refs)
+            throws SQLException {
         String fkName = rs.getString("fk_name");
         String fkTable = rs.getString("fk_table");
         String fkColumn = rs.getString("fk_column");
@@ -741,14 +846,12 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
         String updateRule = rs.getString("update_rule");
 
         // FK side
-        Optional<SchemaReference> fkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(null, schemaName, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side
-        Optional<SchemaReference> pkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(null, schemaName, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, mapReferentialAction(updateRule),
                 mapReferentialAction(deleteRule), Optional.empty(), ImportedKey.Deferrability.NOT_DEFERRABLE);
@@ -763,6 +866,8 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -963,6 +1068,50 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        // Same join as getColumnPrivileges, scoped to the schema instead of one table.
+        String sql = """
+                SELECT o.name AS table_name, c.name AS column_name,
+                        USER_NAME(p.grantor_principal_id) AS grantor,
+                        pp.name AS grantee, p.permission_name, p.state_desc
+                FROM sys.database_permissions p
+                JOIN sys.objects o ON o.object_id = p.major_id
+                JOIN sys.schemas s ON s.schema_id = o.schema_id
+                JOIN sys.columns c ON c.object_id = p.major_id AND c.column_id = p.minor_id
+                JOIN sys.database_principals pp ON pp.principal_id = p.grantee_principal_id
+                WHERE p.class = 1 AND p.minor_id > 0 AND s.name = ?
+                ORDER BY o.name, c.name, p.permission_name, pp.name
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "o.name");
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("table_name"),
+                            t -> new TableReference(oSchema, t));
+                    String permission = rs.getString("permission_name");
+                    String state = rs.getString("state_desc");
+
+                    String privilege = "DENY".equalsIgnoreCase(state) ? "DENY " + permission : permission;
+                    String isGrantable = "GRANT_WITH_GRANT_OPTION".equalsIgnoreCase(state) ? "YES" : "NO";
+
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("column_name"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("grantor")),
+                            rs.getString("grantee"), privilege, Optional.of(isGrantable)));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     @Override
     public Optional<List<PseudoColumn>> getAllPseudoColumns(Connection connection, String catalog, String schemaPattern,
             String tableNamePattern, String columnNamePattern) throws SQLException {
@@ -1052,11 +1201,9 @@ public class MicrosoftSqlServerMetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
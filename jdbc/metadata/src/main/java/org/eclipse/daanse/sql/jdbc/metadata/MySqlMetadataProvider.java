@@ -24,7 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
@@ -48,6 +51,9 @@ import org.eclipse.daanse.sql.model.schema.Trigger;
 import org.eclipse.daanse.sql.model.schema.TriggerReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
@@ -61,6 +67,9 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ProcedureRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +83,26 @@ public class MySqlMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MySqlMetadataProvider.class);
 
+    private final MetadataScope scope;
+
+    public MySqlMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public MySqlMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new MySqlMetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -83,10 +112,12 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 FROM information_schema.TRIGGERS WHERE TRIGGER_SCHEMA = ?
                 ORDER BY EVENT_OBJECT_TABLE, TRIGGER_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "EVENT_OBJECT_TABLE", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -145,11 +176,13 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 WHERE TABLE_SCHEMA = ? AND PARTITION_NAME IS NOT NULL
                 ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION, SUBPARTITION_ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -181,6 +214,121 @@ public class MySqlMetadataProvider implements MetadataProvider {
         return List.copyOf(partitions);
     }
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // TABLE_ROWS is exact for MyISAM and an estimate for InnoDB; the byte sizes
+        // cover data and indexes.
+        String sql = """
+                SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH AS TOTAL_BYTES, AVG_ROW_LENGTH
+                FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'
+                ORDER BY TABLE_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("TABLE_ROWS");
+                    Optional<Long> rowCount = rs.wasNull() ? Optional.empty() : Optional.of(rows);
+                    long bytes = rs.getLong("TOTAL_BYTES");
+                    Optional<Long> totalBytes = rs.wasNull() ? Optional.empty() : Optional.of(bytes);
+                    long rowLength = rs.getLong("AVG_ROW_LENGTH");
+                    Optional<Long> averageRowLength = rs.wasNull() ? Optional.empty() : Optional.of(rowLength);
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("TABLE_NAME")),
+                            rowCount, totalBytes, averageRowLength));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    @Override
+    public List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // MySQL 8.0 keeps column statistics only as histograms (ANALYZE TABLE ... UPDATE
+        // HISTOGRAM). A singleton histogram has one bucket per value; an equi-height
+        // bucket carries its distinct count at index 3.
+        if (connection.getMetaData().getDatabaseMajorVersion() < 8) {
+            // COLUMN_STATISTICS exists from MySQL 8.0
+            return List.of();
+        }
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME,
+                       JSON_EXTRACT(HISTOGRAM, '$."null-values"') AS NULL_FRACTION,
+                       CASE JSON_UNQUOTE(JSON_EXTRACT(HISTOGRAM, '$."histogram-type"'))
+                            WHEN 'singleton' THEN JSON_LENGTH(HISTOGRAM, '$.buckets')
+                            ELSE (SELECT SUM(b.DISTINCT_VALUES)
+                                  FROM JSON_TABLE(HISTOGRAM, '$.buckets[*]'
+                                       COLUMNS (DISTINCT_VALUES BIGINT PATH '$[3]')) b)
+                       END AS DISTINCT_VALUES
+                FROM information_schema.COLUMN_STATISTICS
+                WHERE SCHEMA_NAME = ?
+                ORDER BY TABLE_NAME, COLUMN_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, List<String>> bounds = histogramBounds(connection, schemaName);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ColumnStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("TABLE_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    long distinct = rs.getLong("DISTINCT_VALUES");
+                    Optional<Long> distinctValues = rs.wasNull() ? Optional.empty() : Optional.of(distinct);
+                    double nulls = rs.getDouble("NULL_FRACTION");
+                    Optional<Double> nullFraction = rs.wasNull() ? Optional.empty() : Optional.of(nulls);
+                    TableReference table = refs.table(null, schemaName, tableName);
+                    statistics.add(new ColumnStatisticsRecord(refs.column(table, columnName), distinctValues,
+                            nullFraction, Optional.empty(),
+                            bounds.getOrDefault(tableName + '.' + columnName, List.of())));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    /**
+     * @return the bucket bounds of each histogram by {@code table.column}: the value
+     *         of a singleton bucket, the upper bound of an equi-height one
+     */
+    private Map<String, List<String>> histogramBounds(Connection connection, String schemaName)
+            throws SQLException {
+        String sql = """
+                SELECT cs.TABLE_NAME, cs.COLUMN_NAME,
+                       CASE JSON_UNQUOTE(JSON_EXTRACT(cs.HISTOGRAM, '$."histogram-type"'))
+                            WHEN 'singleton' THEN b.BUCKET_VALUE ELSE b.UPPER_BOUND
+                       END AS BOUND
+                FROM information_schema.COLUMN_STATISTICS cs,
+                     JSON_TABLE(cs.HISTOGRAM, '$.buckets[*]' COLUMNS (BUCKET FOR ORDINALITY,
+                         BUCKET_VALUE VARCHAR(1024) PATH '$[0]', UPPER_BOUND VARCHAR(1024) PATH '$[1]')) b
+                WHERE cs.SCHEMA_NAME = ?
+                ORDER BY cs.TABLE_NAME, cs.COLUMN_NAME, b.BUCKET
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "cs.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        Map<String, List<String>> bounds = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    bounds.computeIfAbsent(rs.getString("TABLE_NAME") + '.' + rs.getString("COLUMN_NAME"),
+                            k -> new ArrayList<>()).add(rs.getString("BOUND"));
+                }
+            }
+        }
+        return bounds;
+    }
+
 
     private static PartitionMethod mapPartitionMethod(String raw) {
         if (raw == null) {
@@ -209,10 +357,12 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 WHERE cc.CONSTRAINT_SCHEMA = ? AND tc.CONSTRAINT_TYPE = 'CHECK'
                 ORDER BY tc.TABLE_NAME, cc.CONSTRAINT_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("CONSTRAINT_NAME");
@@ -279,6 +429,7 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'UNIQUE' AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -309,10 +460,12 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'PRIMARY KEY' AND tc.TABLE_SCHEMA = ?
                 ORDER BY tc.TABLE_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "tc.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("CONSTRAINT_NAME");
@@ -325,9 +478,10 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -348,13 +502,16 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 WHERE tc.CONSTRAINT_TYPE = 'FOREIGN KEY' AND tc.TABLE_SCHEMA = ?
                 ORDER BY kcu.TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "kcu.TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
+                    importedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -380,12 +537,13 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 ORDER BY kcu.REFERENCED_TABLE_NAME, tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    exportedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -393,6 +551,31 @@ public class MySqlMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * MySQL tracks only CREATE_TIME per table, and an ALTER TABLE done in place, such as
+     * an ALGORITHM=INSTANT rename, leaves it alone. Column and index counts and a
+     * checksum over every column's name, position, type, nullability and default are
+     * added to catch those.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT COUNT(*) AS TABLE_COUNT,
+                       (SELECT COUNT(*) FROM information_schema.COLUMNS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS COLUMN_COUNT,
+                       (SELECT COALESCE(SUM(CRC32(CONCAT_WS('|', TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION,
+                                COLUMN_TYPE, IS_NULLABLE, COALESCE(COLUMN_DEFAULT, '<null>')))), 0)
+                        FROM information_schema.COLUMNS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS COLUMN_SHAPE,
+                       (SELECT COUNT(*) FROM information_schema.STATISTICS
+                        WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')) AS INDEX_COUNT,
+                       MAX(CREATE_TIME) AS LAST_DDL
+                FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA NOT IN ('mysql', 'information_schema', 'performance_schema', 'sys')
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -401,12 +584,14 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ?
                 ORDER BY TABLE_NAME, INDEX_NAME, SEQ_IN_INDEX
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         // Group by TABLE_NAME then by INDEX_NAME
         Map<String, Map<String, List<IndexInfoItem>>> tableIndexMap = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -458,10 +643,12 @@ public class MySqlMetadataProvider implements MetadataProvider {
                 SELECT TABLE_NAME, VIEW_DEFINITION FROM information_schema.VIEWS WHERE TABLE_SCHEMA = ?
                 ORDER BY TABLE_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -550,6 +737,38 @@ public class MySqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME, GRANTOR, GRANTEE, PRIVILEGE_TYPE, IS_GRANTABLE
+                FROM information_schema.COLUMN_PRIVILEGES
+                WHERE TABLE_SCHEMA = ?
+                ORDER BY TABLE_NAME, COLUMN_NAME, PRIVILEGE_TYPE, GRANTEE
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME", ScopeFilter.DEFAULT_ESCAPE);
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("TABLE_NAME"),
+                            t -> new TableReference(oSchema, t));
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("GRANTOR")),
+                            rs.getString("GRANTEE"), rs.getString("PRIVILEGE_TYPE"),
+                            Optional.ofNullable(rs.getString("IS_GRANTABLE"))));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     private Optional<String> showCreateRoutine(Connection connection, String kind, String schemaName, String name) {
         String quotedSchema = "`" + schemaName.replace("`", "``") + "`";
         String quotedName = "`" + name.replace("`", "``") + "`";
@@ -715,7 +934,8 @@ public class MySqlMetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, String schemaName, ReferenceInterner refs)
+            throws SQLException {
         String fkName = rs.getString("FK_NAME");
         String fkTable = rs.getString("FK_TABLE");
         String fkColumn = rs.getString("FK_COLUMN");
@@ -726,14 +946,12 @@ public class MySqlMetadataProvider implements MetadataProvider {
         String updateRule = rs.getString("UPDATE_RULE");
 
         // FK side
-        Optional<SchemaReference> fkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(null, schemaName, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side
-        Optional<SchemaReference> pkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(null, schemaName, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, mapReferentialAction(updateRule),
                 mapReferentialAction(deleteRule), Optional.empty(), ImportedKey.Deferrability.NOT_DEFERRABLE);
@@ -748,6 +966,8 @@ public class MySqlMetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -848,11 +1068,9 @@ public class MySqlMetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
@@ -26,7 +26,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
@@ -58,6 +61,8 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionColumnRecord;
@@ -77,6 +82,8 @@ import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UserDefinedTypeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +97,26 @@ public class OracleMetadataProvider implements MetadataProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OracleMetadataProvider.class);
 
+    private final MetadataScope scope;
+
+    public OracleMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public OracleMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new OracleMetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -97,10 +124,12 @@ public class OracleMetadataProvider implements MetadataProvider {
                 SELECT TRIGGER_NAME, TABLE_NAME, TRIGGER_TYPE, TRIGGERING_EVENT, WHEN_CLAUSE, TRIGGER_BODY
                 FROM ALL_TRIGGERS WHERE OWNER = ? ORDER BY TABLE_NAME, TRIGGER_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -269,6 +298,109 @@ public class OracleMetadataProvider implements MetadataProvider {
         return List.copyOf(partitions);
     }
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // Table-level rows only; NUM_ROWS stays NULL until DBMS_STATS has run.
+        String sql = """
+                SELECT TABLE_NAME, NUM_ROWS, AVG_ROW_LEN
+                FROM ALL_TAB_STATISTICS
+                WHERE OWNER = ? AND OBJECT_TYPE = 'TABLE'
+                ORDER BY TABLE_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("NUM_ROWS");
+                    Optional<Long> rowCount = rs.wasNull() ? Optional.empty() : Optional.of(rows);
+                    long rowLength = rs.getLong("AVG_ROW_LEN");
+                    Optional<Long> averageRowLength = rs.wasNull() ? Optional.empty() : Optional.of(rowLength);
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("TABLE_NAME")),
+                            rowCount, Optional.empty(), averageRowLength));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    @Override
+    public List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String sql = """
+                SELECT cs.TABLE_NAME, cs.COLUMN_NAME, cs.NUM_DISTINCT, cs.NUM_NULLS, cs.AVG_COL_LEN, ts.NUM_ROWS
+                FROM ALL_TAB_COL_STATISTICS cs
+                LEFT JOIN ALL_TAB_STATISTICS ts
+                  ON ts.OWNER = cs.OWNER AND ts.TABLE_NAME = cs.TABLE_NAME AND ts.OBJECT_TYPE = 'TABLE'
+                WHERE cs.OWNER = ?
+                ORDER BY cs.TABLE_NAME, cs.COLUMN_NAME
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "cs.TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        Map<String, List<String>> bounds = histogramBounds(connection, schemaName);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ColumnStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long distinct = rs.getLong("NUM_DISTINCT");
+                    Optional<Long> distinctValues = rs.wasNull() ? Optional.empty() : Optional.of(distinct);
+                    long nulls = rs.getLong("NUM_NULLS");
+                    boolean nullsKnown = !rs.wasNull();
+                    int width = rs.getInt("AVG_COL_LEN");
+                    Optional<Integer> averageWidth = rs.wasNull() ? Optional.empty() : Optional.of(width);
+                    long rows = rs.getLong("NUM_ROWS");
+                    Optional<Double> nullFraction = nullsKnown && rows > 0 ? Optional.of((double) nulls / rows)
+                            : Optional.empty();
+                    String tableName = rs.getString("TABLE_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    TableReference table = refs.table(null, schemaName, tableName);
+                    statistics.add(new ColumnStatisticsRecord(refs.column(table, columnName), distinctValues,
+                            nullFraction, averageWidth, bounds.getOrDefault(tableName + '.' + columnName, List.of())));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    /**
+     * @return the bucket endpoints of each histogram by {@code table.column}. Columns
+     *         without a histogram keep only their minimum and maximum in
+     *         ALL_TAB_HISTOGRAMS and are left out.
+     */
+    private Map<String, List<String>> histogramBounds(Connection connection, String schemaName)
+            throws SQLException {
+        String sql = """
+                SELECT h.TABLE_NAME, h.COLUMN_NAME,
+                       COALESCE(h.ENDPOINT_ACTUAL_VALUE, TO_CHAR(h.ENDPOINT_VALUE)) AS BOUND
+                FROM ALL_TAB_HISTOGRAMS h
+                JOIN ALL_TAB_COL_STATISTICS cs
+                  ON cs.OWNER = h.OWNER AND cs.TABLE_NAME = h.TABLE_NAME AND cs.COLUMN_NAME = h.COLUMN_NAME
+                WHERE h.OWNER = ? AND cs.HISTOGRAM <> 'NONE'
+                ORDER BY h.TABLE_NAME, h.COLUMN_NAME, h.ENDPOINT_NUMBER
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "h.TABLE_NAME");
+        Map<String, List<String>> bounds = new HashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    bounds.computeIfAbsent(rs.getString("TABLE_NAME") + '.' + rs.getString("COLUMN_NAME"),
+                            k -> new ArrayList<>()).add(rs.getString("BOUND"));
+                }
+            }
+        }
+        return bounds;
+    }
+
 
     private static PartitionMethod mapOraclePartitioningType(String type) {
         if (type == null) {
@@ -309,6 +441,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'U'
                 ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME, cc.POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.TABLE_NAME");
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -337,10 +470,12 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE c.OWNER = ? AND c.CONSTRAINT_TYPE = 'P'
                 ORDER BY c.TABLE_NAME, cc.POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("CONSTRAINT_NAME");
@@ -353,9 +488,10 @@ public class OracleMetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -377,13 +513,16 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE fk.OWNER = ? AND fk.CONSTRAINT_TYPE = 'R'
                 ORDER BY fk.TABLE_NAME, fk.CONSTRAINT_NAME, fk_col.POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "fk.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
+                    importedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -410,12 +549,13 @@ public class OracleMetadataProvider implements MetadataProvider {
                 ORDER BY pk.TABLE_NAME, fk.CONSTRAINT_NAME, fk_col.POSITION
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    exportedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -423,21 +563,37 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * ALL_OBJECTS.LAST_DDL_TIME moves on every DDL statement touching the object.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT COUNT(*) AS OBJECT_COUNT,
+                       TO_CHAR(MAX(LAST_DDL_TIME), 'YYYY-MM-DD HH24:MI:SS') AS LAST_DDL
+                FROM ALL_OBJECTS
+                WHERE OWNER NOT IN (SELECT USERNAME FROM ALL_USERS WHERE ORACLE_MAINTAINED = 'Y')
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
         String sql = """
                 SELECT i.INDEX_NAME, i.INDEX_TYPE, i.TABLE_NAME, i.UNIQUENESS,
-                        ic.COLUMN_NAME, ic.COLUMN_POSITION, ic.DESCEND
+                        ic.COLUMN_NAME, ic.COLUMN_POSITION, ic.DESCEND, i.DISTINCT_KEYS, i.LEAF_BLOCKS
                 FROM ALL_INDEXES i
                 JOIN ALL_IND_COLUMNS ic ON i.OWNER = ic.INDEX_OWNER AND i.INDEX_NAME = ic.INDEX_NAME
                 WHERE i.TABLE_OWNER = ? ORDER BY i.TABLE_NAME, i.INDEX_NAME, ic.COLUMN_POSITION
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "i.TABLE_NAME");
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("TABLE_NAME");
@@ -447,6 +603,9 @@ public class OracleMetadataProvider implements MetadataProvider {
                     String columnName = rs.getString("COLUMN_NAME");
                     int columnPosition = rs.getInt("COLUMN_POSITION");
                     String descend = rs.getString("DESCEND");
+                    // null until the index is analyzed
+                    long cardinality = rs.getLong("DISTINCT_KEYS");
+                    long pages = rs.getLong("LEAF_BLOCKS");
 
                     IndexInfoItem.IndexType mappedType = mapOracleIndexType(indexType);
                     boolean isUnique = "UNIQUE".equalsIgnoreCase(uniqueness);
@@ -463,7 +622,7 @@ public class OracleMetadataProvider implements MetadataProvider {
                             .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
 
                     IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
-                            columnPosition, ascending, 0L, 0L, Optional.empty(), isUnique);
+                            columnPosition, ascending, cardinality, pages, Optional.empty(), isUnique);
 
                     tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
                 }
@@ -555,10 +714,12 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE OWNER = ?
                 ORDER BY MVIEW_NAME
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "MVIEW_NAME");
         String schemaName = resolveSchema(schema, connection);
         List<MaterializedView> result = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("MVIEW_NAME");
@@ -900,7 +1061,8 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, String schemaName, ReferenceInterner refs)
+            throws SQLException {
         String fkName = rs.getString("FK_NAME");
         String fkTable = rs.getString("FK_TABLE");
         String fkColumn = rs.getString("FK_COLUMN");
@@ -911,14 +1073,12 @@ public class OracleMetadataProvider implements MetadataProvider {
         String pkName = rs.getString("PK_NAME");
 
         // FK side
-        Optional<SchemaReference> fkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(null, schemaName, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side
-        Optional<SchemaReference> pkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(null, schemaName, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, ImportedKey.ReferentialAction.NO_ACTION,   // Oracle
                                                                                                                     // doesn't
@@ -966,6 +1126,8 @@ public class OracleMetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -1323,6 +1485,42 @@ public class OracleMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        // One ALL_COL_PRIVS scan per owner instead of one query per table.
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME, GRANTOR, GRANTEE, PRIVILEGE, GRANTABLE
+                FROM ALL_COL_PRIVS
+                WHERE OWNER = ?
+                ORDER BY TABLE_NAME, COLUMN_NAME, PRIVILEGE, GRANTEE
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "TABLE_NAME");
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("TABLE_NAME"),
+                            t -> new TableReference(oSchema, t));
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("COLUMN_NAME"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("GRANTOR")),
+                            rs.getString("GRANTEE"), rs.getString("PRIVILEGE"),
+                            Optional.ofNullable(rs.getString("GRANTABLE"))));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.debug("Could not read column privileges from ALL_COL_PRIVS: {}", e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     @Override
     public Optional<List<PseudoColumn>> getAllPseudoColumns(Connection connection, String catalog, String schemaPattern,
             String tableNamePattern, String columnNamePattern) throws SQLException {
@@ -1412,11 +1610,9 @@ public class OracleMetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
@@ -1453,6 +1649,16 @@ public class OracleMetadataProvider implements MetadataProvider {
     public Optional<List<org.eclipse.daanse.sql.model.schema.ColumnDefinition>> getAllColumnDefinitions(
             Connection connection, String catalog, String schemaPattern, String tableNamePattern,
             String columnNamePattern) throws SQLException {
+        List<org.eclipse.daanse.sql.model.schema.ColumnDefinition> out = new ArrayList<>();
+        visitAllColumnDefinitions(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern, out::add);
+        return Optional.of(List.copyOf(out));
+    }
+
+    @Override
+    public boolean visitAllColumnDefinitions(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern,
+            java.util.function.Consumer<? super org.eclipse.daanse.sql.model.schema.ColumnDefinition> sink)
+            throws SQLException {
         String sql = """
                 SELECT t.OWNER, t.TABLE_NAME, t.COLUMN_NAME, t.DATA_TYPE, t.DATA_LENGTH, t.DATA_PRECISION,
                         t.DATA_SCALE, t.NULLABLE, t.DATA_DEFAULT, t.COLUMN_ID, c.COMMENTS
@@ -1462,16 +1668,21 @@ public class OracleMetadataProvider implements MetadataProvider {
                 WHERE t.OWNER = ? AND t.HIDDEN_COLUMN = 'NO'
                 ORDER BY t.OWNER, t.TABLE_NAME, t.COLUMN_ID
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "t.TABLE_NAME");
         String schemaName = resolveSchema(schemaPattern, connection);
-        List<org.eclipse.daanse.sql.model.schema.ColumnDefinition> out = new ArrayList<>();
+        // Rows arrive ordered by table: consecutive columns share one table reference
+        // without keeping every table of the schema reachable.
+        ReferenceInterner names = new ReferenceInterner();
+        Optional<TableReference> currentTable = Optional.empty();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String owner = rs.getString("OWNER");
                     String tableName = rs.getString("TABLE_NAME");
                     String columnName = rs.getString("COLUMN_NAME");
-                    String dataType = rs.getString("DATA_TYPE");
+                    String dataType = names.name(rs.getString("DATA_TYPE"));
                     long dataLength = rs.getLong("DATA_LENGTH");
                     long dataPrecision = rs.getLong("DATA_PRECISION");
                     boolean precNull = rs.wasNull();
@@ -1496,24 +1707,26 @@ public class OracleMetadataProvider implements MetadataProvider {
                             ? org.eclipse.daanse.sql.model.schema.ColumnMetaData.Nullability.NULLABLE
                             : org.eclipse.daanse.sql.model.schema.ColumnMetaData.Nullability.NO_NULLS;
 
-                    Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), owner));
-                    org.eclipse.daanse.sql.model.schema.TableReference tableRef = new TableReference(oSchema,
-                            tableName);
-                    org.eclipse.daanse.sql.model.schema.ColumnReference colRef = new ColumnReference(
-                            Optional.of(tableRef), columnName);
+                    if (currentTable.isEmpty() || !tableName.equals(currentTable.get().name())
+                            || !owner.equals(currentTable.get().schema().map(SchemaReference::name).orElse(null))) {
+                        currentTable = Optional.of(new TableReference(
+                                Optional.of(new SchemaReference(Optional.empty(), owner)), tableName));
+                    }
+                    ColumnReference colRef = new ColumnReference(currentTable, columnName);
 
                     org.eclipse.daanse.sql.model.schema.ColumnMetaData meta = new org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord(
                             jdbcType, dataType, size, scale, java.util.OptionalInt.empty(), n,
                             java.util.OptionalInt.empty(), Optional.ofNullable(comments),
-                            Optional.ofNullable(columnDefault).map(String::trim).filter(s -> !s.isEmpty()),
+                            Optional.ofNullable(columnDefault).map(String::trim).filter(s -> !s.isEmpty())
+                                    .map(names::name),
                             org.eclipse.daanse.sql.model.schema.ColumnMetaData.AutoIncrement.UNKNOWN,
                             org.eclipse.daanse.sql.model.schema.ColumnMetaData.GeneratedColumn.UNKNOWN);
 
-                    out.add(new org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord(colRef, meta));
+                    sink.accept(new org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord(colRef, meta));
                 }
             }
         }
-        return Optional.of(List.copyOf(out));
+        return true;
     }
 
 
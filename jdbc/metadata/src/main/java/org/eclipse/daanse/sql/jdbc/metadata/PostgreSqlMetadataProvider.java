@@ -23,7 +23,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.HashMap;
 import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
@@ -51,6 +54,8 @@ import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedTypeReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.eclipse.daanse.sql.jdbc.record.schema.CheckConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ColumnPrivilegeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.FunctionRecord;
@@ -67,6 +72,8 @@ import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.UserDefinedTypeRecord;
 import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnStatisticsRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableStatisticsRecord;
 
 /**
  * The PostgreSql system-catalog/{@code information_schema} reader — the
@@ -75,6 +82,26 @@ import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
  */
 public class PostgreSqlMetadataProvider implements MetadataProvider {
 
+    private final MetadataScope scope;
+
+    public PostgreSqlMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public PostgreSqlMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new PostgreSqlMetadataProvider(scope);
+    }
+
 
     @Override
     public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
@@ -90,10 +117,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE NOT t.tgisinternal AND n.nspname = ?
                 ORDER BY c.relname, t.tgname
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         List<Trigger> triggers = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     triggers.add(readTrigger(rs, schemaName));
@@ -196,11 +225,13 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE np.nspname = ?
                 ORDER BY p.relname, c.relname
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "p.relname");
         String schemaName = resolveSchema(schema, connection);
         List<Partition> partitions = new ArrayList<>();
         Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String parentTable = rs.getString("parent_table");
@@ -232,6 +263,108 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
         return List.copyOf(partitions);
     }
 
+    @Override
+    public List<TableStatistics> getAllTableStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // reltuples is -1 until the first VACUUM/ANALYZE (PostgreSQL 14+; 0 before);
+        // pg_total_relation_size includes TOAST and indexes, so the row length is taken
+        // from the main fork alone.
+        String sql = """
+                SELECT c.relname, c.reltuples::bigint AS row_count,
+                       pg_total_relation_size(c.oid) AS total_bytes,
+                       pg_relation_size(c.oid) AS heap_bytes
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relkind IN ('r', 'p', 'm')
+                ORDER BY c.relname
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long rows = rs.getLong("row_count");
+                    Optional<Long> rowCount = rows < 0 ? Optional.empty() : Optional.of(rows);
+                    long bytes = rs.getLong("total_bytes");
+                    Optional<Long> totalBytes = rs.wasNull() ? Optional.empty() : Optional.of(bytes);
+                    long heap = rs.getLong("heap_bytes");
+                    Optional<Long> heapBytes = rs.wasNull() ? Optional.empty() : Optional.of(heap);
+                    statistics.add(new TableStatisticsRecord(refs.table(null, schemaName, rs.getString("relname")),
+                            rowCount, totalBytes, rowCount.filter(r -> r > 0).flatMap(r -> heapBytes.map(b -> b / r))));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+    @Override
+    public List<ColumnStatistics> getAllColumnStatistics(Connection connection, String catalog, String schema)
+            throws SQLException {
+        // A negative n_distinct is the distinct share of the row count (-1 = unique).
+        String sql = """
+                SELECT s.tablename, s.attname, s.null_frac, s.avg_width, s.n_distinct, c.reltuples,
+                       s.histogram_bounds::text AS histogram_bounds
+                FROM pg_stats s
+                JOIN pg_namespace n ON n.nspname = s.schemaname
+                JOIN pg_class c ON c.relnamespace = n.oid AND c.relname = s.tablename
+                WHERE s.schemaname = ? AND NOT s.inherited
+                ORDER BY s.tablename, s.attname
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "s.tablename");
+        String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ColumnStatistics> statistics = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    double nDistinct = rs.getDouble("n_distinct");
+                    double rows = rs.getDouble("reltuples");
+                    Optional<Long> distinct = nDistinct >= 0 ? Optional.of(Math.round(nDistinct))
+                            : rows > 0 ? Optional.of(Math.round(-nDistinct * rows)) : Optional.empty();
+                    TableReference table = refs.table(null, schemaName, rs.getString("tablename"));
+                    statistics.add(new ColumnStatisticsRecord(refs.column(table, rs.getString("attname")), distinct,
+                            Optional.of(rs.getDouble("null_frac")), Optional.of(rs.getInt("avg_width")),
+                            arrayElements(rs.getString("histogram_bounds"))));
+                }
+            }
+        }
+        return List.copyOf(statistics);
+    }
+
+
+    /**
+     * Splits the text form of a one-dimensional array, {@code {a,"b c"}}, into its
+     * elements; quotes and backslash escapes are removed.
+     */
+    static List<String> arrayElements(String literal) {
+        if (literal == null || literal.length() <= 2) {
+            return List.of();
+        }
+        List<String> elements = new ArrayList<>();
+        StringBuilder element = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 1; i < literal.length() - 1; i++) {
+            char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < literal.length() - 1) {
+                element.append(literal.charAt(++i));
+            } else if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                elements.add(element.toString());
+                element.setLength(0);
+            } else {
+                element.append(c);
+            }
+        }
+        elements.add(element.toString());
+        return List.copyOf(elements);
+    }
 
     private static PartitionMethod mapPartitionStrategy(String partstrat) {
         if (partstrat == null || partstrat.isEmpty()) {
@@ -269,10 +402,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE con.contype = 'c' AND n.nspname = ?
                 ORDER BY c.relname, con.conname
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         List<CheckConstraint> constraints = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("conname");
@@ -334,6 +469,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE con.contype = 'u' AND n.nspname = ?
                 ORDER BY c.relname, con.conname, ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         return readUniqueConstraints(connection, sql, schema, null);
     }
 
@@ -366,10 +502,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE con.contype = 'p' AND n.nspname = ?
                 ORDER BY c.relname, ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         Map<String, PkBuilder> pkMap = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String constraintName = rs.getString("conname");
@@ -382,9 +520,10 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 }
             }
         }
+        ReferenceInterner refs = new ReferenceInterner();
         List<PrimaryKey> result = new ArrayList<>();
         for (PkBuilder builder : pkMap.values()) {
-            result.add(builder.build());
+            result.add(builder.build(refs));
         }
         return Optional.of(List.copyOf(result));
     }
@@ -407,13 +546,16 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE con.contype = 'f' AND n.nspname = ?
                 ORDER BY fk_class.relname, con.conname, cols.ord
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "fk_class.relname");
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> importedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    importedKeys.add(readImportedKey(rs, schemaName));
+                    importedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -441,12 +583,13 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 ORDER BY pk_class.relname, con.conname, cols.ord
                 """;
         String schemaName = resolveSchema(schema, connection);
+        ReferenceInterner refs = new ReferenceInterner();
         List<ImportedKey> exportedKeys = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    exportedKeys.add(readImportedKey(rs, schemaName));
+                    exportedKeys.add(readImportedKey(rs, schemaName, refs));
                 }
             }
         }
@@ -454,6 +597,43 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    /**
+     * A DDL statement writes new versions of the catalog rows it changes, so the newest
+     * xmin of those catalogs is the change marker. Tables, keys and constraints live in
+     * pg_class/pg_constraint, but RENAME COLUMN, SET/DROP NOT NULL, ALTER TYPE and
+     * SET DEFAULT touch only pg_attribute and pg_attrdef, so those are read as well.
+     * ANALYZE and VACUUM update in place and leave the xmin alone.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT count(*) AS relations,
+                       coalesce(sum(c.relnatts), 0) AS attributes,
+                       coalesce(max(c.xmin::text::bigint), 0) AS relation_xmin,
+                       (SELECT coalesce(max(k.xmin::text::bigint), 0) || ':' || count(*)
+                        FROM pg_catalog.pg_constraint k
+                        JOIN pg_catalog.pg_namespace kn ON kn.oid = k.connamespace
+                        WHERE kn.nspname NOT IN ('pg_catalog', 'information_schema')) AS constraints,
+                       (SELECT coalesce(max(a.xmin::text::bigint), 0)
+                        FROM pg_catalog.pg_attribute a
+                        JOIN pg_catalog.pg_class ac ON ac.oid = a.attrelid
+                        JOIN pg_catalog.pg_namespace an ON an.oid = ac.relnamespace
+                        WHERE a.attnum > 0
+                          AND an.nspname NOT IN ('pg_catalog', 'information_schema')
+                          AND an.nspname NOT LIKE 'pg\\_toast%') AS attribute_xmin,
+                       (SELECT coalesce(max(d.xmin::text::bigint), 0) || ':' || count(*)
+                        FROM pg_catalog.pg_attrdef d
+                        JOIN pg_catalog.pg_class dc ON dc.oid = d.adrelid
+                        JOIN pg_catalog.pg_namespace dn ON dn.oid = dc.relnamespace
+                        WHERE dn.nspname NOT IN ('pg_catalog', 'information_schema')) AS defaults
+                FROM pg_catalog.pg_class c
+                JOIN pg_catalog.pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname NOT IN ('pg_catalog', 'information_schema')
+                  AND n.nspname NOT LIKE 'pg\\_toast%'
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
     @Override
     public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
             throws SQLException {
@@ -463,7 +643,8 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                         ix.indisunique AS is_unique,
                         am.amname AS index_type,
                         (ix.indoption[array_position(ix.indkey, a.attnum)] & 1) = 1 AS is_desc,
-                        pg_get_expr(ix.indpred, ix.indrelid) AS filter_condition
+                        pg_get_expr(ix.indpred, ix.indrelid) AS filter_condition,
+                        i_class.reltuples::bigint AS cardinality, i_class.relpages AS pages
                 FROM pg_index ix
                 JOIN pg_class c ON c.oid = ix.indrelid
                 JOIN pg_class i_class ON i_class.oid = ix.indexrelid
@@ -473,11 +654,13 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE n.nspname = ? AND NOT ix.indisprimary
                 ORDER BY c.relname, i_class.relname, ordinal
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         Map<String, List<IndexInfoItem>> tableIndexes = new LinkedHashMap<>();
         Map<String, TableReference> tableRefs = new LinkedHashMap<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String tableName = rs.getString("table_name");
@@ -489,6 +672,9 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                     boolean isDesc = rs.getBoolean("is_desc");
                     boolean noSortOrder = rs.wasNull();
                     String filterCondition = rs.getString("filter_condition");
+                    // -1 until the first VACUUM/ANALYZE, as in pg_class of the table
+                    long cardinality = Math.max(0, rs.getLong("cardinality"));
+                    long pages = rs.getLong("pages");
 
                     IndexInfoItem.IndexType mappedType = mapPgIndexType(indexType);
                     // Only ordered access methods (btree) have a sort direction.
@@ -505,7 +691,7 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                             .map(cn -> new ColumnReference(Optional.of(tableRef), cn));
 
                     IndexInfoItem item = new IndexInfoItemRecord(Optional.ofNullable(indexName), mappedType, colRef,
-                            ordinal, ascending, 0L, 0L, Optional.ofNullable(filterCondition), isUnique);
+                            ordinal, ascending, cardinality, pages, Optional.ofNullable(filterCondition), isUnique);
 
                     tableIndexes.computeIfAbsent(tableName, k -> new ArrayList<>()).add(item);
                 }
@@ -540,10 +726,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE c.relkind = 'v' AND n.nspname = ?
                 ORDER BY c.relname
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         List<ViewDefinition> views = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String viewName = rs.getString("relname");
@@ -574,10 +762,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
                 WHERE c.relkind = 'm' AND n.nspname = ?
                 ORDER BY c.relname
                 """;
+        sql = ScopeFilter.restrict(sql, scope, "c.relname");
         String schemaName = resolveSchema(schema, connection);
         List<MaterializedView> mviews = new ArrayList<>();
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
             ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
                     String name = rs.getString("relname");
@@ -807,7 +997,8 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
-    private ImportedKey readImportedKey(ResultSet rs, String schemaName) throws SQLException {
+    private ImportedKey readImportedKey(ResultSet rs, String schemaName, ReferenceInterner refs)
+            throws SQLException {
         String fkName = rs.getString("fk_name");
         String fkTable = rs.getString("fk_table");
         String fkColumn = rs.getString("fk_column");
@@ -818,14 +1009,12 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
         String updateRule = rs.getString("update_rule");
 
         // FK side
-        Optional<SchemaReference> fkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference fkTableRef = new TableReference(fkSchemaRef, fkTable);
-        ColumnReference fkColRef = new ColumnReference(Optional.of(fkTableRef), fkColumn);
+        TableReference fkTableRef = refs.table(null, schemaName, fkTable);
+        ColumnReference fkColRef = refs.column(fkTableRef, fkColumn);
 
         // PK side
-        Optional<SchemaReference> pkSchemaRef = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-        TableReference pkTableRef = new TableReference(pkSchemaRef, pkTable);
-        ColumnReference pkColRef = new ColumnReference(Optional.of(pkTableRef), pkColumn);
+        TableReference pkTableRef = refs.table(null, schemaName, pkTable);
+        ColumnReference pkColRef = refs.column(pkTableRef, pkColumn);
 
         return new ImportedKeyRecord(pkColRef, fkColRef, fkName, keySeq, mapPgReferentialAction(updateRule),
                 mapPgReferentialAction(deleteRule), Optional.empty(), ImportedKey.Deferrability.NOT_DEFERRABLE);
@@ -840,6 +1029,8 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
             ps.setString(1, schemaName);
             if (tableName != null) {
                 ps.setString(2, tableName);
+            } else {
+                ScopeFilter.bind(ps, 2, scope);
             }
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
@@ -1093,6 +1284,38 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
     }
 
 
+    @Override
+    public Optional<List<ColumnPrivilege>> getAllColumnPrivileges(Connection connection, String catalog,
+            String schema) throws SQLException {
+        String sql = """
+                SELECT table_name, column_name, grantor, grantee, privilege_type, is_grantable
+                FROM information_schema.column_privileges
+                WHERE table_schema = ?
+                ORDER BY table_name, column_name, privilege_type, grantee
+                """;
+        sql = ScopeFilter.restrict(sql, scope, "table_name");
+        String schemaName = resolveSchema(schema, connection);
+        List<ColumnPrivilege> result = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
+                Map<String, TableReference> tableRefs = new HashMap<>();
+                while (rs.next()) {
+                    TableReference tableRef = tableRefs.computeIfAbsent(rs.getString("table_name"),
+                            t -> new TableReference(oSchema, t));
+                    ColumnReference colRef = new ColumnReference(Optional.of(tableRef), rs.getString("column_name"));
+                    result.add(new ColumnPrivilegeRecord(colRef, Optional.ofNullable(rs.getString("grantor")),
+                            rs.getString("grantee"), rs.getString("privilege_type"),
+                            Optional.ofNullable(rs.getString("is_grantable"))));
+                }
+            }
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+
     // Builder for aggregating composite primary key columns
     private static class PkBuilder {
         private final String tableName;
@@ -1110,11 +1333,9 @@ public class PostgreSqlMetadataProvider implements MetadataProvider {
             columns.add(columnName);
         }
 
-        PrimaryKey build() {
-            Optional<SchemaReference> oSchema = Optional.of(new SchemaReference(Optional.empty(), schemaName));
-            TableReference tableRef = new TableReference(oSchema, tableName);
-            List<ColumnReference> colRefs = columns.stream()
-                    .map(col -> (ColumnReference) new ColumnReference(Optional.of(tableRef), col)).toList();
+        PrimaryKey build(ReferenceInterner refs) {
+            TableReference tableRef = refs.table(null, schemaName, tableName);
+            List<ColumnReference> colRefs = columns.stream().map(col -> refs.column(tableRef, col)).toList();
             return new PrimaryKeyRecord(tableRef, colRefs, Optional.of(constraintName));
         }
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+
+/**
+ * Renders the table-name part of a {@link MetadataScope} into the {@code WHERE}
+ * clause of a provider catalog query. The fragment is inserted in front of the
+ * trailing {@code GROUP BY}/{@code ORDER BY}, so its placeholders always follow
+ * the query's own parameters.
+ * <p>
+ * The patterns escape with {@code \}, as {@link MetadataScope#like} does.
+ * Oracle, SQL Server, SQLite, Derby and DuckDB have no default escape character,
+ * so the fragment names it; whether the names compare case-sensitively is up to
+ * the collation of the catalog column.
+ */
+final class ScopeFilter {
+
+    /** Names {@code \} as the escape character of the {@code LIKE}. */
+    static final String BACKSLASH_ESCAPE = " ESCAPE '\\'";
+
+    /**
+     * No escape clause, for MySQL and MariaDB: {@code \} is their default escape,
+     * and {@code '\'} would be an unterminated literal unless the
+     * {@code NO_BACKSLASH_ESCAPES} mode is set.
+     */
+    static final String DEFAULT_ESCAPE = "";
+
+    private ScopeFilter() {
+    }
+
+    /**
+     * Restricts {@code sql} with {@link #BACKSLASH_ESCAPE}.
+     *
+     * @see #restrict(String, MetadataScope, String, String)
+     */
+    static String restrict(String sql, MetadataScope scope, String tableColumn) {
+        return restrict(sql, scope, tableColumn, BACKSLASH_ESCAPE);
+    }
+
+    /**
+     * @param sql         catalog query with a top-level {@code WHERE} clause
+     * @param scope       the scope, {@link MetadataScope#ALL} leaves the query untouched
+     * @param tableColumn qualified column holding the table name
+     * @param escape      escape clause appended to each {@code LIKE}
+     * @return the restricted query
+     */
+    static String restrict(String sql, MetadataScope scope, String tableColumn, String escape) {
+        if (scope.allTables()) {
+            return sql;
+        }
+        StringBuilder fragment = new StringBuilder();
+        if (!scope.tableIncludes().isEmpty()) {
+            fragment.append("  AND (");
+            for (int i = 0; i < scope.tableIncludes().size(); i++) {
+                if (i > 0) {
+                    fragment.append(" OR ");
+                }
+                fragment.append(tableColumn).append(" LIKE ?").append(escape);
+            }
+            fragment.append(")\n");
+        }
+        for (int i = 0; i < scope.tableExcludes().size(); i++) {
+            fragment.append("  AND ").append(tableColumn).append(" NOT LIKE ?").append(escape).append('\n');
+        }
+        int at = sql.lastIndexOf("ORDER BY");
+        int group = sql.lastIndexOf("GROUP BY");
+        if (group >= 0 && (at < 0 || group < at)) {
+            at = group;
+        }
+        if (at < 0) {
+            return sql.stripTrailing() + "\n" + fragment;
+        }
+        return sql.substring(0, at).stripTrailing() + "\n" + fragment + sql.substring(at);
+    }
+
+    /**
+     * Binds the placeholders added by {@link #restrict}.
+     *
+     * @param index the first parameter index after the query's own parameters
+     * @return the next free parameter index
+     */
+    static int bind(PreparedStatement ps, int index, MetadataScope scope) throws SQLException {
+        if (scope.allTables()) {
+            return index;
+        }
+        for (String pattern : scope.tableIncludes()) {
+            ps.setString(index++, pattern);
+        }
+        for (String pattern : scope.tableExcludes()) {
+            ps.setString(index++, pattern);
+        }
+        return index;
+    }
+}
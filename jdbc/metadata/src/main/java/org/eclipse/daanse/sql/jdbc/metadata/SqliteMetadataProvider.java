@@ -0,0 +1,647 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataProvider;
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.ReferenceInterner;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ColumnMetaDataRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoItemRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.IndexInfoRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TableDefinitionRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.TriggerRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.UniqueConstraintRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.ViewDefinitionRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.eclipse.daanse.sql.model.schema.TriggerReference;
+
+/**
+ * The SQLite catalog reader. Each bulk read is one query joining the schema table
+ * with the {@code pragma_table_xinfo}, {@code pragma_foreign_key_list},
+ * {@code pragma_index_list} and {@code pragma_index_xinfo} table-valued functions,
+ * where the driver's {@code DatabaseMetaData} runs several {@code PRAGMA}
+ * statements per table.
+ * <p>
+ * The schema argument names the attached database, default {@code main}. Tables of
+ * {@code main} are referenced without schema, as the driver reports them; internal
+ * {@code sqlite_*} tables are skipped.
+ */
+public class SqliteMetadataProvider implements MetadataProvider {
+
+    private static final String MAIN = "main";
+
+    private static final Pattern VIEW_BODY = Pattern.compile("(?is)^\\s*CREATE\\s.*?\\sAS\\s(.*?);?\\s*$");
+    private static final Pattern TRIGGER = Pattern.compile("(?is)^\\s*CREATE\\s+(?:TEMP(?:ORARY)?\\s+)?TRIGGER\\s+"
+            + "(?:IF\\s+NOT\\s+EXISTS\\s+)?\\S+\\s+(BEFORE\\s+|AFTER\\s+|INSTEAD\\s+OF\\s+)?(DELETE|INSERT|UPDATE)\\b"
+            + ".*?\\sON\\s+\\S+\\s+(?:FOR\\s+EACH\\s+ROW\\s+)?(?:WHEN\\s+(.*?)\\s+)?BEGIN\\s(.*)\\bEND\\s*;?\\s*$");
+    private static final Pattern NAMED_FOREIGN_KEY = Pattern
+            .compile("(?is)CONSTRAINT\\s+(\"(?:[^\"]|\"\")+\"|`[^`]+`|\\[[^]]+]|\\S+)\\s+FOREIGN\\s+KEY\\s*\\(([^)]*)\\)");
+    private static final Pattern DEFERRED = Pattern.compile("(?is)\\bDEFERRABLE\\s+INITIALLY\\s+DEFERRED\\b");
+    private static final Pattern PARTIAL_INDEX = Pattern.compile("(?is)\\)\\s*WHERE\\s+(.*?);?\\s*$");
+    private static final Pattern TYPE_ARGS = Pattern.compile("^([^(]*?)\\s*\\(\\s*(\\d+)\\s*(?:,\\s*(\\d+)\\s*)?\\)\\s*$");
+
+    private final MetadataScope scope;
+
+    public SqliteMetadataProvider() {
+        this(MetadataScope.ALL);
+    }
+
+    public SqliteMetadataProvider(MetadataScope scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public MetadataScope scope() {
+        return scope;
+    }
+
+    @Override
+    public MetadataProvider withScope(MetadataScope scope) {
+        return new SqliteMetadataProvider(scope);
+    }
+
+
+    /**
+     * {@code schema_version} is incremented by every schema change of the main
+     * database; the object count covers a database file replaced underneath.
+     */
+    @Override
+    public Optional<String> getCatalogFingerprint(Connection connection) throws SQLException {
+        String sql = """
+                SELECT (SELECT schema_version FROM pragma_schema_version()) AS schema_version,
+                       (SELECT COUNT(*) FROM main.sqlite_schema) AS object_count
+                """;
+        return Fingerprints.query(connection, sql);
+    }
+
+    @Override
+    public Optional<List<TableDefinition>> getAllTableDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String[] types) throws SQLException {
+        String schemaName = resolveSchema(schemaPattern);
+        String sql = """
+                SELECT name, CASE type WHEN 'view' THEN 'VIEW' ELSE 'TABLE' END AS table_type
+                FROM %s.sqlite_schema
+                WHERE type IN ('table', 'view')
+                  AND name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                  AND name LIKE COALESCE(?, '%%')
+                ORDER BY table_type, name
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "name");
+        List<String> typeFilter = types == null ? List.of() : List.of(types);
+        ReferenceInterner refs = new ReferenceInterner();
+        List<TableDefinition> tables = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, tableNamePattern);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableType = rs.getString("table_type");
+                    if (typeFilter.isEmpty() || typeFilter.contains(tableType)) {
+                        tables.add(new TableDefinitionRecord(
+                                refs.table(null, schemaRef(schemaName), rs.getString("name"), tableType)));
+                    }
+                }
+            }
+        }
+        return Optional.of(List.copyOf(tables));
+    }
+
+    @Override
+    public Optional<List<ColumnDefinition>> getAllColumnDefinitions(Connection connection, String catalog,
+            String schemaPattern, String tableNamePattern, String columnNamePattern) throws SQLException {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        visitAllColumnDefinitions(connection, catalog, schemaPattern, tableNamePattern, columnNamePattern,
+                columns::add);
+        return Optional.of(List.copyOf(columns));
+    }
+
+    @Override
+    public boolean visitAllColumnDefinitions(Connection connection, String catalog, String schemaPattern,
+            String tableNamePattern, String columnNamePattern, Consumer<? super ColumnDefinition> sink)
+            throws SQLException {
+        String schemaName = resolveSchema(schemaPattern);
+        // hidden: 0 plain, 1 virtual-table hidden, 2 virtual generated, 3 stored generated
+        String sql = """
+                SELECT m.name AS table_name, m.type AS object_type, m.sql AS table_sql,
+                       c.name AS column_name, c.type, c."notnull", c.dflt_value, c.pk, c.hidden
+                FROM %s.sqlite_schema m
+                JOIN pragma_table_xinfo(m.name, ?) c
+                WHERE m.type IN ('table', 'view')
+                  AND m.name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                  AND m.name LIKE COALESCE(?, '%%')
+                  AND c.name LIKE COALESCE(?, '%%')
+                  AND c.hidden <> 1
+                ORDER BY m.name, c.cid
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "m.name");
+        ReferenceInterner names = new ReferenceInterner();
+        Optional<TableReference> currentTable = Optional.empty();
+        boolean autoIncrementTable = false;
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, tableNamePattern);
+            ps.setString(3, columnNamePattern);
+            ScopeFilter.bind(ps, 4, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String tableName = rs.getString("table_name");
+                    if (currentTable.isEmpty() || !tableName.equals(currentTable.get().name())) {
+                        String type = "view".equals(rs.getString("object_type")) ? "VIEW"
+                                : TableReference.TYPE_TABLE;
+                        currentTable = Optional.of(
+                                new TableReference(names.schema(null, schemaRef(schemaName)), tableName, type));
+                        String tableSql = rs.getString("table_sql");
+                        autoIncrementTable = tableSql != null
+                                && tableSql.toUpperCase(Locale.ROOT).contains("AUTOINCREMENT");
+                    }
+                    String declared = rs.getString("type");
+                    String typeName = declared == null ? "" : declared.strip();
+                    OptionalInt size = OptionalInt.empty();
+                    OptionalInt digits = OptionalInt.empty();
+                    Matcher args = TYPE_ARGS.matcher(typeName);
+                    if (args.matches()) {
+                        typeName = args.group(1);
+                        size = OptionalInt.of(Integer.parseInt(args.group(2)));
+                        if (args.group(3) != null) {
+                            digits = OptionalInt.of(Integer.parseInt(args.group(3)));
+                        }
+                    }
+                    typeName = names.name(typeName.toUpperCase(Locale.ROOT));
+                    JDBCType jdbcType = mapSqliteType(typeName);
+                    // only an INTEGER PRIMARY KEY (the rowid alias) can be AUTOINCREMENT
+                    boolean rowid = rs.getInt("pk") == 1 && "INTEGER".equals(typeName);
+                    int hidden = rs.getInt("hidden");
+                    ColumnMetaData metaData = new ColumnMetaDataRecord(jdbcType, typeName, size, digits,
+                            OptionalInt.of(10),
+                            rs.getInt("notnull") != 0 ? ColumnMetaData.Nullability.NO_NULLS
+                                    : ColumnMetaData.Nullability.NULLABLE,
+                            OptionalInt.empty(), Optional.empty(),
+                            Optional.ofNullable(names.name(rs.getString("dflt_value"))),
+                            rowid && autoIncrementTable ? ColumnMetaData.AutoIncrement.YES
+                                    : ColumnMetaData.AutoIncrement.NO,
+                            hidden >= 2 ? ColumnMetaData.GeneratedColumn.YES : ColumnMetaData.GeneratedColumn.NO);
+                    sink.accept(new ColumnDefinitionRecord(
+                            new ColumnReference(currentTable, rs.getString("column_name")), metaData));
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<List<PrimaryKey>> getAllPrimaryKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema);
+        // SQLite keeps no name for a primary key constraint
+        String sql = """
+                SELECT m.name AS table_name, c.name AS column_name
+                FROM %s.sqlite_schema m
+                JOIN pragma_table_info(m.name, ?) c
+                WHERE m.type = 'table'
+                  AND m.name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                  AND c.pk > 0
+                ORDER BY m.name, c.pk
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "m.name");
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<TableReference, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ScopeFilter.bind(ps, 2, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(null, schemaRef(schemaName), rs.getString("table_name"));
+                    columns.computeIfAbsent(table, t -> new ArrayList<>())
+                            .add(refs.column(table, rs.getString("column_name")));
+                }
+            }
+        }
+        List<PrimaryKey> result = new ArrayList<>();
+        for (Map.Entry<TableReference, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new PrimaryKeyRecord(entry.getKey(), List.copyOf(entry.getValue()), Optional.empty()));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllImportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, schema, "m.name"));
+    }
+
+    @Override
+    public Optional<List<ImportedKey>> getAllExportedKeys(Connection connection, String catalog, String schema)
+            throws SQLException {
+        return Optional.of(readForeignKeys(connection, schema, "f.\"table\""));
+    }
+
+    /**
+     * Unique constraints are the indexes SQLite creates for them
+     * ({@code origin = 'u'}); the constraint name is not kept, so the index name
+     * ({@code sqlite_autoindex_<table>_<n>}) stands in.
+     */
+    @Override
+    public List<UniqueConstraint> getAllUniqueConstraints(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema);
+        String sql = """
+                SELECT m.name AS table_name, l.name AS index_name, x.name AS column_name
+                FROM %s.sqlite_schema m
+                JOIN pragma_index_list(m.name, ?) l
+                JOIN pragma_index_xinfo(l.name, ?) x
+                WHERE m.type = 'table'
+                  AND m.name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                  AND l.origin = 'u'
+                  AND x.key = 1
+                ORDER BY m.name, l.name, x.seqno
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "m.name");
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<String, TableReference> tables = new LinkedHashMap<>();
+        Map<String, List<ColumnReference>> columns = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(null, schemaRef(schemaName), rs.getString("table_name"));
+                    String name = rs.getString("index_name");
+                    tables.putIfAbsent(name, table);
+                    columns.computeIfAbsent(name, n -> new ArrayList<>())
+                            .add(refs.column(table, rs.getString("column_name")));
+                }
+            }
+        }
+        List<UniqueConstraint> result = new ArrayList<>();
+        for (Map.Entry<String, List<ColumnReference>> entry : columns.entrySet()) {
+            result.add(new UniqueConstraintRecord(entry.getKey(), tables.get(entry.getKey()),
+                    List.copyOf(entry.getValue())));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Every index of every table, including the automatic ones behind
+     * {@code PRIMARY KEY} and {@code UNIQUE}. Expression keys are reported without a
+     * column; a partial index carries its {@code WHERE} clause as filter condition.
+     */
+    @Override
+    public Optional<List<IndexInfo>> getAllIndexInfo(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema);
+        String sql = """
+                SELECT m.name AS table_name, l.name AS index_name, l."unique", l.partial,
+                       x.seqno, x.name AS column_name, x."desc", i.sql AS index_sql
+                FROM %1$s.sqlite_schema m
+                JOIN pragma_index_list(m.name, ?) l
+                JOIN pragma_index_xinfo(l.name, ?) x
+                LEFT JOIN %1$s.sqlite_schema i ON i.type = 'index' AND i.name = l.name
+                WHERE m.type = 'table'
+                  AND m.name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                  AND x.key = 1
+                ORDER BY m.name, l.name, x.seqno
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "m.name");
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<TableReference, List<IndexInfoItem>> items = new LinkedHashMap<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    TableReference table = refs.table(null, schemaRef(schemaName), rs.getString("table_name"));
+                    Optional<ColumnReference> column = Optional.ofNullable(rs.getString("column_name"))
+                            .map(name -> refs.column(table, name));
+                    Optional<String> filter = Optional.empty();
+                    if (rs.getInt("partial") != 0 && rs.getString("index_sql") != null) {
+                        Matcher m = PARTIAL_INDEX.matcher(rs.getString("index_sql"));
+                        filter = m.find() ? Optional.of(m.group(1).strip()) : Optional.empty();
+                    }
+                    items.computeIfAbsent(table, t -> new ArrayList<>())
+                            .add(new IndexInfoItemRecord(Optional.of(refs.name(rs.getString("index_name"))),
+                                    IndexInfoItem.IndexType.TABLE_INDEX_OTHER, column, rs.getInt("seqno") + 1,
+                                    Optional.of(rs.getInt("desc") == 0), 0L, 0L, filter,
+                                    rs.getInt("unique") != 0));
+                }
+            }
+        }
+        List<IndexInfo> result = new ArrayList<>();
+        for (Map.Entry<TableReference, List<IndexInfoItem>> entry : items.entrySet()) {
+            result.add(new IndexInfoRecord(entry.getKey(), List.copyOf(entry.getValue())));
+        }
+        return Optional.of(List.copyOf(result));
+    }
+
+    @Override
+    public List<ViewDefinition> getAllViewDefinitions(Connection connection, String catalog, String schema)
+            throws SQLException {
+        String schemaName = resolveSchema(schema);
+        String sql = """
+                SELECT name, sql
+                FROM %s.sqlite_schema
+                WHERE type = 'view'
+                ORDER BY name
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "name");
+        ReferenceInterner refs = new ReferenceInterner();
+        List<ViewDefinition> views = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ScopeFilter.bind(ps, 1, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String ddl = rs.getString("sql");
+                    TableReference view = refs.table(null, schemaRef(schemaName), rs.getString("name"), "VIEW");
+                    Optional<String> body = Optional.ofNullable(ddl).map(d -> {
+                        Matcher m = VIEW_BODY.matcher(d);
+                        return m.matches() ? m.group(1).strip() : d;
+                    });
+                    views.add(new ViewDefinitionRecord(view, body, Optional.ofNullable(ddl)));
+                }
+            }
+        }
+        return List.copyOf(views);
+    }
+
+    /**
+     * SQLite keeps only the {@code CREATE TRIGGER} text; timing, event, {@code WHEN}
+     * condition and body are parsed from it. Triggers always fire per row.
+     */
+    @Override
+    public List<Trigger> getAllTriggers(Connection connection, String catalog, String schema) throws SQLException {
+        String schemaName = resolveSchema(schema);
+        String sql = """
+                SELECT name, tbl_name, sql
+                FROM %s.sqlite_schema
+                WHERE type = 'trigger'
+                ORDER BY tbl_name, name
+                """.formatted(quote(schemaName));
+        sql = ScopeFilter.restrict(sql, scope, "tbl_name");
+        ReferenceInterner refs = new ReferenceInterner();
+        List<Trigger> triggers = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ScopeFilter.bind(ps, 1, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String ddl = rs.getString("sql");
+                    Matcher m = TRIGGER.matcher(ddl == null ? "" : ddl);
+                    if (!m.matches()) {
+                        continue;
+                    }
+                    TableReference table = refs.table(null, schemaRef(schemaName), rs.getString("tbl_name"));
+                    triggers.add(new TriggerRecord(new TriggerReference(table, rs.getString("name")),
+                            mapTriggerTiming(m.group(1)),
+                            List.of(TriggerEvent.valueOf(m.group(2).toUpperCase(Locale.ROOT))),
+                            Optional.ofNullable(m.group(3)).map(SqliteMetadataProvider::stripParentheses),
+                            Optional.of(m.group(4).strip()),
+                            Optional.of(ddl), Optional.of("ROW")));
+                }
+            }
+        }
+        return List.copyOf(triggers);
+    }
+
+
+    /**
+     * @param tableColumn {@code m.name} for the referencing side (imported keys),
+     *                    {@code f."table"} for the referenced side (exported keys)
+     */
+    private List<ImportedKey> readForeignKeys(Connection connection, String schema, String tableColumn)
+            throws SQLException {
+        String schemaName = resolveSchema(schema);
+        // A reference to the parent's primary key may leave the column list out
+        // ("to" is NULL); the parent's pk position supplies it.
+        String sql = """
+                SELECT m.name AS fk_table, m.sql AS fk_table_sql, f.id, f.seq, f."table" AS pk_table,
+                       f."from" AS fk_column, COALESCE(f."to", p.name) AS pk_column,
+                       f.on_update, f.on_delete
+                FROM %s.sqlite_schema m
+                JOIN pragma_foreign_key_list(m.name, ?) f
+                LEFT JOIN pragma_table_info(f."table", ?) p ON f."to" IS NULL AND p.pk = f.seq + 1
+                WHERE m.type = 'table'
+                  AND m.name NOT LIKE 'sqlite\\_%%' ESCAPE '\\'
+                ORDER BY %s, m.name, f.id, f.seq
+                """.formatted(quote(schemaName), tableColumn);
+        sql = ScopeFilter.restrict(sql, scope, tableColumn);
+        ReferenceInterner refs = new ReferenceInterner();
+        Map<String, Map<String, String>> namesByTable = new HashMap<>();
+        List<ImportedKey> keys = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, schemaName);
+            ps.setString(2, schemaName);
+            ScopeFilter.bind(ps, 3, scope);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<String> fkColumns = new ArrayList<>();
+                List<ImportedKeyRow> pending = new ArrayList<>();
+                int currentId = -1;
+                String currentTable = null;
+                while (rs.next()) {
+                    String fkTableName = rs.getString("fk_table");
+                    int id = rs.getInt("id");
+                    if (!fkTableName.equals(currentTable) || id != currentId) {
+                        flushForeignKey(pending, fkColumns, namesByTable, keys);
+                        currentTable = fkTableName;
+                        currentId = id;
+                    }
+                    String tableSql = rs.getString("fk_table_sql");
+                    namesByTable.computeIfAbsent(fkTableName, t -> foreignKeyNames(tableSql));
+                    TableReference fkTable = refs.table(null, schemaRef(schemaName), fkTableName);
+                    TableReference pkTable = refs.table(null, schemaRef(schemaName), rs.getString("pk_table"));
+                    String fkColumn = rs.getString("fk_column");
+                    fkColumns.add(fkColumn.toLowerCase(Locale.ROOT));
+                    pending.add(new ImportedKeyRow(fkTableName, refs.column(pkTable, rs.getString("pk_column")),
+                            refs.column(fkTable, fkColumn), rs.getInt("seq") + 1,
+                            mapReferentialAction(rs.getString("on_update")),
+                            mapReferentialAction(rs.getString("on_delete")),
+                            tableSql != null && DEFERRED.matcher(tableSql).find()
+                                    ? ImportedKey.Deferrability.INITIALLY_DEFERRED
+                                    : ImportedKey.Deferrability.NOT_DEFERRABLE));
+                }
+                flushForeignKey(pending, fkColumns, namesByTable, keys);
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private record ImportedKeyRow(String fkTable, ColumnReference pkColumn, ColumnReference fkColumn, int keySeq,
+            ImportedKey.ReferentialAction updateRule, ImportedKey.ReferentialAction deleteRule,
+            ImportedKey.Deferrability deferrability) {
+    }
+
+    private static void flushForeignKey(List<ImportedKeyRow> pending, List<String> fkColumns,
+            Map<String, Map<String, String>> namesByTable, List<ImportedKey> keys) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // SQLite keeps no constraint names; named table constraints are matched by
+        // their column list, unnamed ones stay empty as in the driver's FK_NAME.
+        String name = namesByTable.getOrDefault(pending.get(0).fkTable(), Map.of())
+                .getOrDefault(String.join(",", fkColumns), "");
+        for (ImportedKeyRow row : pending) {
+            keys.add(new ImportedKeyRecord(row.pkColumn(), row.fkColumn(), name, row.keySeq(), row.updateRule(),
+                    row.deleteRule(), Optional.empty(), row.deferrability()));
+        }
+        pending.clear();
+        fkColumns.clear();
+    }
+
+    private static Map<String, String> foreignKeyNames(String tableSql) {
+        if (tableSql == null) {
+            return Map.of();
+        }
+        Map<String, String> names = new HashMap<>();
+        Matcher m = NAMED_FOREIGN_KEY.matcher(tableSql);
+        while (m.find()) {
+            List<String> columns = new ArrayList<>();
+            for (String column : m.group(2).split(",")) {
+                columns.add(unquote(column.strip()).toLowerCase(Locale.ROOT));
+            }
+            names.put(String.join(",", columns), unquote(m.group(1)));
+        }
+        return names;
+    }
+
+    private static String unquote(String identifier) {
+        if (identifier.length() >= 2) {
+            char first = identifier.charAt(0);
+            char last = identifier.charAt(identifier.length() - 1);
+            if ((first == '"' && last == '"') || (first == '`' && last == '`') || (first == '[' && last == ']')) {
+                return identifier.substring(1, identifier.length() - 1).replace("\"\"", "\"");
+            }
+        }
+        return identifier;
+    }
+
+    private static String stripParentheses(String condition) {
+        String c = condition.strip();
+        return c.startsWith("(") && c.endsWith(")") ? c.substring(1, c.length() - 1).strip() : c;
+    }
+
+    private static String resolveSchema(String schema) {
+        return schema != null ? schema : MAIN;
+    }
+
+    /** The schema name used in references: none for {@code main}. */
+    private static String schemaRef(String schemaName) {
+        return MAIN.equalsIgnoreCase(schemaName) ? null : schemaName;
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private static TriggerTiming mapTriggerTiming(String timing) {
+        if (timing == null) {
+            // SQLite's default when no timing is given
+            return TriggerTiming.BEFORE;
+        }
+        String upper = timing.strip().toUpperCase(Locale.ROOT);
+        if (upper.startsWith("INSTEAD")) {
+            return TriggerTiming.INSTEAD_OF;
+        }
+        return "AFTER".equals(upper) ? TriggerTiming.AFTER : TriggerTiming.BEFORE;
+    }
+
+    private static ImportedKey.ReferentialAction mapReferentialAction(String action) {
+        if (action == null) {
+            return ImportedKey.ReferentialAction.NO_ACTION;
+        }
+        return switch (action.toUpperCase(Locale.ROOT)) {
+        case "CASCADE" -> ImportedKey.ReferentialAction.CASCADE;
+        case "SET NULL" -> ImportedKey.ReferentialAction.SET_NULL;
+        case "SET DEFAULT" -> ImportedKey.ReferentialAction.SET_DEFAULT;
+        case "RESTRICT" -> ImportedKey.ReferentialAction.RESTRICT;
+        default -> ImportedKey.ReferentialAction.NO_ACTION;
+        };
+    }
+
+    /**
+     * Maps a declared column type to a JDBC type: well-known names first, then
+     * SQLite's type-affinity rules (section 3.1 of the datatype documentation).
+     */
+    private static JDBCType mapSqliteType(String typeName) {
+        switch (typeName) {
+        case "INTEGER", "INT", "MEDIUMINT":
+            return JDBCType.INTEGER;
+        case "BIGINT", "INT8", "UNSIGNED BIG INT":
+            return JDBCType.BIGINT;
+        case "SMALLINT", "INT2":
+            return JDBCType.SMALLINT;
+        case "TINYINT":
+            return JDBCType.TINYINT;
+        case "BOOLEAN":
+            return JDBCType.BOOLEAN;
+        case "REAL":
+            return JDBCType.REAL;
+        case "FLOAT":
+            return JDBCType.FLOAT;
+        case "DOUBLE", "DOUBLE PRECISION":
+            return JDBCType.DOUBLE;
+        case "DECIMAL":
+            return JDBCType.DECIMAL;
+        case "NUMERIC":
+            return JDBCType.NUMERIC;
+        case "DATE":
+            return JDBCType.DATE;
+        case "DATETIME", "TIMESTAMP":
+            return JDBCType.TIMESTAMP;
+        case "CHAR", "CHARACTER", "NCHAR":
+            return JDBCType.CHAR;
+        case "", "BLOB":
+            return JDBCType.BLOB;
+        default:
+            break;
+        }
+        if (typeName.contains("INT")) {
+            return JDBCType.INTEGER;
+        }
+        if (typeName.contains("CHAR") || typeName.contains("CLOB") || typeName.contains("TEXT")) {
+            return JDBCType.VARCHAR;
+        }
+        if (typeName.contains("REAL") || typeName.contains("FLOA") || typeName.contains("DOUB")) {
+            return JDBCType.DOUBLE;
+        }
+        return JDBCType.NUMERIC;
+    }
+}
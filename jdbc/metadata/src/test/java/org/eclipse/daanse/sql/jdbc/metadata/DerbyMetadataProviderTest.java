@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DerbyMetadataProviderTest {
+
+    private static final String URL = "jdbc:derby:memory:derbyMetadataTest";
+
+    private static Connection connection;
+    private static DerbyMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection(URL + ";create=true");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE CUSTOMERS (
+                        ID INT GENERATED ALWAYS AS IDENTITY (START WITH 10, INCREMENT BY 2) PRIMARY KEY,
+                        EMAIL VARCHAR(100) NOT NULL CONSTRAINT UQ_EMAIL UNIQUE,
+                        NAME VARCHAR(50) DEFAULT 'x',
+                        SCORE DECIMAL(10,2)
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE ORDERS (
+                        ID INT NOT NULL,
+                        LINE INT NOT NULL,
+                        CUSTOMER_ID INT CONSTRAINT FK_CUST REFERENCES CUSTOMERS(ID) ON DELETE CASCADE,
+                        AMOUNT DECIMAL(10,2) CONSTRAINT CK_AMOUNT CHECK (AMOUNT > 0),
+                        DOUBLED INT GENERATED ALWAYS AS (LINE * 2),
+                        CONSTRAINT PK_ORDERS PRIMARY KEY (ID, LINE)
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE SHIPMENTS (
+                        ID INT NOT NULL PRIMARY KEY,
+                        ORDER_LINE INT,
+                        ORDER_ID INT,
+                        CONSTRAINT FK_SHIP FOREIGN KEY (ORDER_ID, ORDER_LINE) REFERENCES ORDERS(ID, LINE)
+                    )
+                    """);
+            stmt.execute("CREATE INDEX IDX_ORDERS_AMOUNT ON ORDERS(AMOUNT DESC, ID)");
+            stmt.execute("CREATE VIEW V_ORDERS AS SELECT ID, AMOUNT FROM ORDERS");
+            stmt.execute("CREATE SEQUENCE SEQ_ORDERS AS BIGINT START WITH 100 INCREMENT BY 5 MAXVALUE 100000 CYCLE");
+            stmt.execute("""
+                    CREATE TRIGGER TRG_ORDERS AFTER INSERT ON ORDERS
+                    REFERENCING NEW AS N FOR EACH ROW WHEN (N.AMOUNT > 100)
+                    UPDATE CUSTOMERS SET NAME = 'vip' WHERE ID = N.CUSTOMER_ID
+                    """);
+        }
+        provider = new DerbyMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+        try {
+            DriverManager.getConnection(URL + ";drop=true");
+        } catch (SQLException expected) {
+            // Derby reports a successful drop as SQLState 08006
+        }
+    }
+
+    @Test
+    void factory_isResolvedFromConnection() throws Exception {
+        assertThat(MetadataProviders.forConnection(connection)).get().isInstanceOf(DerbyMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_mapsTableTypes() throws Exception {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, "APP", null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("CUSTOMERS", "ORDERS", "SHIPMENTS",
+                "V_ORDERS");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("TABLE", "TABLE", "TABLE", "VIEW");
+        assertThat(tables.get(0).table().schema().orElseThrow().name()).isEqualTo("APP");
+    }
+
+    @Test
+    void getAllColumnDefinitions_decodesTypeDescriptors() throws Exception {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, "CUSTOMERS", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("ID", "EMAIL", "NAME", "SCORE");
+
+        ColumnMetaData id = columns.get(0).columnMetaData();
+        assertThat(id.dataType()).isEqualTo(JDBCType.INTEGER);
+        assertThat(id.columnSize()).hasValue(10);
+        assertThat(id.nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+        assertThat(id.autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+
+        ColumnMetaData email = columns.get(1).columnMetaData();
+        assertThat(email.dataType()).isEqualTo(JDBCType.VARCHAR);
+        assertThat(email.typeName()).isEqualTo("VARCHAR");
+        assertThat(email.columnSize()).hasValue(100);
+
+        assertThat(columns.get(2).columnMetaData().columnDefault()).contains("'x'");
+        assertThat(columns.get(2).columnMetaData().nullability()).isEqualTo(ColumnMetaData.Nullability.NULLABLE);
+
+        ColumnMetaData score = columns.get(3).columnMetaData();
+        assertThat(score.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(score.columnSize()).hasValue(10);
+        assertThat(score.decimalDigits()).hasValue(2);
+    }
+
+    @Test
+    void getAllColumnDefinitions_flagsGeneratedColumns() throws Exception {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, "ORDERS", "DOUBLED")
+                .orElseThrow();
+        assertThat(columns).hasSize(1);
+        assertThat(columns.get(0).columnMetaData().generatedColumn()).isEqualTo(ColumnMetaData.GeneratedColumn.YES);
+        assertThat(columns.get(0).columnMetaData().columnDefault()).isEmpty();
+    }
+
+    @Test
+    void getAllPrimaryKeys_resolvesDescriptorColumns() throws Exception {
+        List<PrimaryKey> pks = provider.getAllPrimaryKeys(connection, null, null).orElseThrow();
+        assertThat(pks).extracting(pk -> pk.table().name()).containsExactly("CUSTOMERS", "ORDERS", "SHIPMENTS");
+        PrimaryKey orders = pks.get(1);
+        assertThat(orders.constraintName()).contains("PK_ORDERS");
+        assertThat(orders.columns()).extracting(c -> c.name()).containsExactly("ID", "LINE");
+    }
+
+    @Test
+    void getAllUniqueConstraints_resolvesDescriptorColumns() throws Exception {
+        List<UniqueConstraint> ucs = provider.getAllUniqueConstraints(connection, null, null);
+        assertThat(ucs).hasSize(1);
+        assertThat(ucs.get(0).name()).isEqualTo("UQ_EMAIL");
+        assertThat(ucs.get(0).columns()).extracting(c -> c.name()).containsExactly("EMAIL");
+    }
+
+    @Test
+    void getAllImportedKeys_pairsColumnsByKeyPosition() throws Exception {
+        List<ImportedKey> fks = provider.getAllImportedKeys(connection, null, null).orElseThrow();
+        assertThat(fks).hasSize(3);
+
+        ImportedKey cust = fks.get(0);
+        assertThat(cust.name()).isEqualTo("FK_CUST");
+        assertThat(cust.primaryKeyColumn().table().orElseThrow().name()).isEqualTo("CUSTOMERS");
+        assertThat(cust.deleteRule()).isEqualTo(ImportedKey.ReferentialAction.CASCADE);
+        assertThat(cust.updateRule()).isEqualTo(ImportedKey.ReferentialAction.NO_ACTION);
+
+        // declared in a different column order than the table's
+        List<ImportedKey> ship = fks.subList(1, 3);
+        assertThat(ship).extracting(fk -> fk.foreignKeyColumn().name()).containsExactly("ORDER_ID", "ORDER_LINE");
+        assertThat(ship).extracting(fk -> fk.primaryKeyColumn().name()).containsExactly("ID", "LINE");
+        assertThat(ship).extracting(ImportedKey::keySequence).containsExactly(1, 2);
+        assertThat(ship.get(0).primaryKeyName()).contains("PK_ORDERS");
+    }
+
+    @Test
+    void getAllExportedKeys_groupsByReferencedTable() throws Exception {
+        List<ImportedKey> exported = provider.getAllExportedKeys(connection, null, null).orElseThrow();
+        assertThat(exported).extracting(fk -> fk.primaryKeyColumn().table().orElseThrow().name())
+                .containsExactly("CUSTOMERS", "ORDERS", "ORDERS");
+    }
+
+    @Test
+    void getAllCheckConstraints_readsDefinition() throws Exception {
+        List<CheckConstraint> checks = provider.getAllCheckConstraints(connection, null, null);
+        assertThat(checks).hasSize(1);
+        assertThat(checks.get(0).name()).isEqualTo("CK_AMOUNT");
+        assertThat(checks.get(0).checkClause()).contains("AMOUNT > 0");
+    }
+
+    @Test
+    void getAllIndexInfo_decodesOrderAndUniqueness() throws Exception {
+        List<IndexInfo> indexes = provider.getAllIndexInfo(connection, null, null).orElseThrow();
+        IndexInfo orders = indexes.stream().filter(i -> "ORDERS".equals(i.tableReference().name())).findFirst()
+                .orElseThrow();
+        List<IndexInfoItem> amount = orders.indexInfoItems().stream()
+                .filter(i -> i.indexName().equals(Optional.of("IDX_ORDERS_AMOUNT"))).toList();
+        assertThat(amount).extracting(i -> i.column().orElseThrow().name()).containsExactly("AMOUNT", "ID");
+        assertThat(amount).extracting(i -> i.ascending().orElseThrow()).containsExactly(false, true);
+        assertThat(amount).noneMatch(IndexInfoItem::unique);
+        assertThat(orders.indexInfoItems()).filteredOn(IndexInfoItem::unique)
+                .extracting(i -> i.column().orElseThrow().name()).containsExactly("ID", "LINE");
+        assertThat(orders.indexInfoItems()).anyMatch(i -> "CUSTOMER_ID".equals(i.column().orElseThrow().name()));
+    }
+
+    @Test
+    void getAllViewDefinitions_splitsBody() throws Exception {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, null);
+        assertThat(views).hasSize(1);
+        assertThat(views.get(0).view().name()).isEqualTo("V_ORDERS");
+        assertThat(views.get(0).viewBody()).contains("SELECT ID, AMOUNT FROM ORDERS");
+        assertThat(views.get(0).fullDefinition()).get().asString().startsWith("CREATE VIEW");
+    }
+
+    @Test
+    void getAllTriggers_readsTimingEventAndCondition() throws Exception {
+        List<Trigger> triggers = provider.getAllTriggers(connection, null, null);
+        assertThat(triggers).hasSize(1);
+        Trigger trigger = triggers.get(0);
+        assertThat(trigger.reference().name()).isEqualTo("TRG_ORDERS");
+        assertThat(trigger.timing()).isEqualTo(TriggerTiming.AFTER);
+        assertThat(trigger.event()).isEqualTo(TriggerEvent.INSERT);
+        assertThat(trigger.whenCondition()).contains("N.AMOUNT > 100");
+        assertThat(trigger.orientation()).contains("ROW");
+        assertThat(trigger.body()).get().asString().contains("UPDATE");
+    }
+
+    @Test
+    void getAllSequences_skipsIdentitySequences() throws Exception {
+        List<Sequence> sequences = provider.getAllSequences(connection, null, null);
+        assertThat(sequences).hasSize(1);
+        Sequence seq = sequences.get(0);
+        assertThat(seq.reference().name()).isEqualTo("SEQ_ORDERS");
+        assertThat(seq.startValue()).isEqualTo(100L);
+        assertThat(seq.incrementBy()).isEqualTo(5L);
+        assertThat(seq.maxValue()).contains(100000L);
+        assertThat(seq.cycle()).isTrue();
+        assertThat(seq.dataType()).contains("BIGINT");
+    }
+
+    @Test
+    void scope_restrictsTables() throws Exception {
+        DerbyMetadataProvider scoped = (DerbyMetadataProvider) provider
+                .withScope(MetadataScope.ALL.includeTables("SHIP%"));
+        assertThat(scoped.getAllPrimaryKeys(connection, null, null).orElseThrow()).extracting(pk -> pk.table().name())
+                .containsExactly("SHIPMENTS");
+        assertThat(scoped.getAllColumnDefinitions(connection, null, null, null, null).orElseThrow())
+                .allMatch(c -> "SHIPMENTS".equals(c.column().table().orElseThrow().name()));
+    }
+
+    @Test
+    void scope_escapesWildcards() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE LOG_2026 (ID INT NOT NULL PRIMARY KEY)");
+            stmt.execute("CREATE TABLE LOGX2026 (ID INT NOT NULL PRIMARY KEY)");
+        }
+        try {
+            // Derby has no default escape character; the scope names it
+            DerbyMetadataProvider scoped = (DerbyMetadataProvider) provider
+                    .withScope(MetadataScope.ALL.includeTables("LOG\\_%"));
+            assertThat(scoped.getAllPrimaryKeys(connection, null, null).orElseThrow())
+                    .extracting(pk -> pk.table().name()).containsExactly("LOG_2026");
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE LOG_2026");
+                stmt.execute("DROP TABLE LOGX2026");
+            }
+        }
+    }
+
+    @Test
+    void getCatalogFingerprint_changesWithSchema() throws Exception {
+        String before = provider.getCatalogFingerprint(connection).orElseThrow();
+        assertThat(provider.getCatalogFingerprint(connection)).contains(before);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE TMP_FINGERPRINT (X INT)");
+        }
+        try {
+            assertThat(provider.getCatalogFingerprint(connection)).isPresent().get().isNotEqualTo(before);
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE TMP_FINGERPRINT");
+            }
+        }
+    }
+}
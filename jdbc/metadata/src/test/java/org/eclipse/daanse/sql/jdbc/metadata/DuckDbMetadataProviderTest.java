@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.Sequence;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class DuckDbMetadataProviderTest {
+
+    private static Connection connection;
+    private static DuckDbMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:duckdb:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE SEQUENCE seq_orders START 100 INCREMENT BY 5 MAXVALUE 100000 CYCLE");
+            stmt.execute("""
+                    CREATE TABLE customers (
+                        id INTEGER PRIMARY KEY,
+                        email VARCHAR NOT NULL UNIQUE,
+                        name VARCHAR
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE orders (
+                        id INTEGER,
+                        line INTEGER,
+                        customer_id INTEGER REFERENCES customers(id),
+                        amount DECIMAL(10,2) CHECK (amount > 0),
+                        PRIMARY KEY (id, line)
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE shipments (
+                        id INTEGER PRIMARY KEY,
+                        order_id INTEGER,
+                        order_line INTEGER,
+                        FOREIGN KEY (order_id, order_line) REFERENCES orders(id, line)
+                    )
+                    """);
+            stmt.execute("CREATE INDEX idx_orders_amount ON orders(amount)");
+            stmt.execute("CREATE VIEW v_orders AS SELECT id, amount FROM orders");
+            stmt.execute("COMMENT ON TABLE customers IS 'all customers'");
+        }
+        provider = new DuckDbMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void factory_isResolvedFromConnection() throws Exception {
+        assertThat(MetadataProviders.forConnection(connection)).get().isInstanceOf(DuckDbMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_returnsTablesAndViews() throws Exception {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, "main", null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactlyInAnyOrder("customers", "orders",
+                "shipments", "v_orders");
+        TableDefinition customers = tables.stream().filter(t -> "customers".equals(t.table().name())).findFirst()
+                .orElseThrow();
+        assertThat(customers.table().type()).isEqualTo("BASE TABLE");
+        assertThat(customers.table().schema().orElseThrow().catalog().orElseThrow().name()).isEqualTo("memory");
+        assertThat(customers.tableMetaData().remarks()).contains("all customers");
+        assertThat(tables).filteredOn(t -> "v_orders".equals(t.table().name())).extracting(t -> t.table().type())
+                .containsExactly("VIEW");
+    }
+
+    @Test
+    void getAllTableDefinitions_filtersTypes() throws Exception {
+        List<TableDefinition> views = provider
+                .getAllTableDefinitions(connection, null, "main", null, new String[] { "VIEW" }).orElseThrow();
+        assertThat(views).extracting(t -> t.table().name()).containsExactly("v_orders");
+    }
+
+    @Test
+    void getAllColumnDefinitions_returnsColumnsInOrder() throws Exception {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, "orders", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("id", "line", "customer_id",
+                "amount");
+        ColumnMetaData amount = columns.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.typeName()).isEqualTo("DECIMAL(10,2)");
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        assertThat(columns.get(0).columnMetaData().nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+        assertThat(columns.get(0).column().table()).isSameAs(columns.get(1).column().table());
+    }
+
+    @Test
+    void visitAllColumnDefinitions_streamsSameRows() throws Exception {
+        List<ColumnDefinition> streamed = new ArrayList<>();
+        assertThat(provider.visitAllColumnDefinitions(connection, null, null, null, null, streamed::add)).isTrue();
+        assertThat(streamed).isEqualTo(provider.getAllColumnDefinitions(connection, null, null, null, null)
+                .orElseThrow());
+        assertThat(streamed).anyMatch(c -> "v_orders".equals(c.column().table().orElseThrow().name()));
+    }
+
+    @Test
+    void getAllPrimaryKeys_returnsCompositeKeysInOrder() throws Exception {
+        List<PrimaryKey> pks = provider.getAllPrimaryKeys(connection, null, null).orElseThrow();
+        assertThat(pks).extracting(pk -> pk.table().name()).containsExactlyInAnyOrder("customers", "orders",
+                "shipments");
+        PrimaryKey orders = pks.stream().filter(pk -> "orders".equals(pk.table().name())).findFirst().orElseThrow();
+        assertThat(orders.columns()).extracting(c -> c.name()).containsExactly("id", "line");
+        assertThat(orders.constraintName()).isPresent();
+    }
+
+    @Test
+    void getAllImportedKeys_returnsForeignKeysWithKeySeq() throws Exception {
+        List<ImportedKey> fks = provider.getAllImportedKeys(connection, null, null).orElseThrow();
+        assertThat(fks).hasSize(3);
+        List<ImportedKey> shipments = fks.stream()
+                .filter(fk -> "shipments".equals(fk.foreignKeyColumn().table().orElseThrow().name())).toList();
+        assertThat(shipments).extracting(fk -> fk.foreignKeyColumn().name()).containsExactly("order_id",
+                "order_line");
+        assertThat(shipments).extracting(fk -> fk.primaryKeyColumn().name()).containsExactly("id", "line");
+        assertThat(shipments).extracting(ImportedKey::keySequence).containsExactly(1, 2);
+        assertThat(shipments.get(0).primaryKeyName()).isPresent();
+        assertThat(shipments.get(0).deleteRule()).isEqualTo(ImportedKey.ReferentialAction.NO_ACTION);
+    }
+
+    @Test
+    void getAllExportedKeys_groupsByReferencedTable() throws Exception {
+        List<ImportedKey> exported = provider.getAllExportedKeys(connection, null, null).orElseThrow();
+        assertThat(exported).extracting(fk -> fk.primaryKeyColumn().table().orElseThrow().name())
+                .containsExactly("customers", "orders", "orders");
+    }
+
+    @Test
+    void getAllUniqueConstraints_returnsUniqueColumns() throws Exception {
+        List<UniqueConstraint> ucs = provider.getAllUniqueConstraints(connection, null, null);
+        assertThat(ucs).hasSize(1);
+        assertThat(ucs.get(0).table().name()).isEqualTo("customers");
+        assertThat(ucs.get(0).columns()).extracting(c -> c.name()).containsExactly("email");
+    }
+
+    @Test
+    void getAllCheckConstraints_returnsExpression() throws Exception {
+        List<CheckConstraint> checks = provider.getAllCheckConstraints(connection, null, null);
+        assertThat(checks).hasSize(1);
+        assertThat(checks.get(0).table().name()).isEqualTo("orders");
+        assertThat(checks.get(0).checkClause()).contains("amount").contains("0");
+    }
+
+    @Test
+    void getAllIndexInfo_includesExplicitAndConstraintIndexes() throws Exception {
+        List<IndexInfo> indexes = provider.getAllIndexInfo(connection, null, null).orElseThrow();
+        IndexInfo orders = indexes.stream().filter(i -> "orders".equals(i.tableReference().name())).findFirst()
+                .orElseThrow();
+        IndexInfoItem amount = orders.indexInfoItems().stream()
+                .filter(i -> i.indexName().equals(Optional.of("idx_orders_amount"))).findFirst().orElseThrow();
+        assertThat(amount.column()).get().extracting(c -> c.name()).isEqualTo("amount");
+        assertThat(amount.unique()).isFalse();
+        assertThat(orders.indexInfoItems()).filteredOn(IndexInfoItem::unique).extracting(i -> i.column()
+                .orElseThrow().name()).containsExactly("id", "line");
+        assertThat(indexes).extracting(i -> i.tableReference().name()).contains("customers", "shipments");
+    }
+
+    @Test
+    void getAllViewDefinitions_splitsBody() throws Exception {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, null);
+        assertThat(views).hasSize(1);
+        assertThat(views.get(0).view().name()).isEqualTo("v_orders");
+        assertThat(views.get(0).viewBody()).get().asString().startsWith("SELECT").doesNotEndWith(";");
+        assertThat(views.get(0).fullDefinition()).get().asString().startsWith("CREATE VIEW");
+    }
+
+    @Test
+    void getAllSequences_returnsBounds() throws Exception {
+        List<Sequence> sequences = provider.getAllSequences(connection, null, null);
+        assertThat(sequences).hasSize(1);
+        Sequence seq = sequences.get(0);
+        assertThat(seq.reference().name()).isEqualTo("seq_orders");
+        assertThat(seq.startValue()).isEqualTo(100L);
+        assertThat(seq.incrementBy()).isEqualTo(5L);
+        assertThat(seq.maxValue()).contains(100000L);
+        assertThat(seq.cycle()).isTrue();
+    }
+
+    @Test
+    void getAllTableStatistics_reportsEstimatedRows() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE stats_probe AS SELECT range AS id FROM range(250)");
+        }
+        try {
+            List<TableStatistics> statistics = provider.getAllTableStatistics(connection, null, null);
+            assertThat(statistics).extracting(ts -> ts.table().name()).contains("customers", "stats_probe")
+                    .doesNotContain("v_orders");
+            assertThat(statistics).filteredOn(ts -> "stats_probe".equals(ts.table().name())).singleElement()
+                    .satisfies(ts -> assertThat(ts.rowCount()).contains(250L));
+            assertThat(provider.getAllColumnStatistics(connection, null, null)).isEmpty();
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE stats_probe");
+            }
+        }
+    }
+
+    @Test
+    void scope_restrictsTables() throws Exception {
+        DuckDbMetadataProvider scoped = (DuckDbMetadataProvider) provider
+                .withScope(MetadataScope.ALL.includeTables("ord%"));
+        assertThat(scoped.getAllPrimaryKeys(connection, null, null).orElseThrow()).extracting(pk -> pk.table().name())
+                .containsExactly("orders");
+        assertThat(scoped.getAllColumnDefinitions(connection, null, null, null, null).orElseThrow())
+                .allMatch(c -> "orders".equals(c.column().table().orElseThrow().name()));
+    }
+
+    @Test
+    void getCatalogFingerprint_changesWithSchema() throws Exception {
+        String before = provider.getCatalogFingerprint(connection).orElseThrow();
+        assertThat(provider.getCatalogFingerprint(connection)).contains(before);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE tmp_fingerprint (x INTEGER)");
+        }
+        try {
+            assertThat(provider.getCatalogFingerprint(connection)).isPresent().get().isNotEqualTo(before);
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE tmp_fingerprint");
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Optional;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
 import org.eclipse.daanse.sql.jdbc.api.schema.CheckConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnPrivilege;
 import org.eclipse.daanse.sql.model.schema.ColumnReference;
 import org.eclipse.daanse.sql.jdbc.api.schema.Function;
 import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
@@ -37,6 +38,8 @@ import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
 import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
 import org.eclipse.daanse.sql.jdbc.api.schema.UserDefinedType;
 import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -167,6 +170,10 @@ class H2MetadataProviderTest {
                     }
                     $$
                     """);
+
+            // Grants (H2 reports table grants per column in COLUMN_PRIVILEGES)
+            stmt.execute("CREATE USER REPORTER PASSWORD 'reporter'");
+            stmt.execute("GRANT SELECT ON DEPARTMENTS TO REPORTER");
         }
         provider = new H2MetadataProvider();
     }
@@ -631,6 +638,76 @@ class H2MetadataProviderTest {
         assertThat(udts).isEmpty();
     }
 
+    @Test
+    void getAllColumnPrivileges_readsEveryTableInOneQuery() throws SQLException {
+        Optional<List<ColumnPrivilege>> privileges = provider.getAllColumnPrivileges(connection, null, SCHEMA);
+        assertThat(privileges).isPresent();
+        assertThat(privileges.get()).filteredOn(cp -> "REPORTER".equals(cp.grantee()))
+                .extracting(cp -> cp.column().name())
+                .containsExactlyInAnyOrder("DEPT_ID", "DEPT_NAME", "LOCATION");
+        assertThat(privileges.get()).filteredOn(cp -> "REPORTER".equals(cp.grantee()))
+                .allMatch(cp -> "DEPARTMENTS".equals(cp.column().table().orElseThrow().name()))
+                .allMatch(cp -> "SELECT".equals(cp.privilege()));
+    }
+
+    @Test
+    void getAllTableAndColumnStatistics_followAnalyze() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    INSERT INTO DEPARTMENTS (DEPT_ID, DEPT_NAME, LOCATION)
+                    SELECT X, 'Dept ' || X, CASE WHEN MOD(X, 2) = 0 THEN 'North' ELSE 'South' END
+                    FROM SYSTEM_RANGE(1, 200)
+                    """);
+            stmt.execute("ANALYZE TABLE DEPARTMENTS");
+        }
+        try {
+            List<TableStatistics> tables = provider.getAllTableStatistics(connection, null, SCHEMA);
+            assertThat(tables).extracting(ts -> ts.table().name()).contains("DEPARTMENTS", "EMPLOYEES")
+                    .doesNotContain("V_EMP_DEPT");
+            TableStatistics departments = tables.stream().filter(ts -> "DEPARTMENTS".equals(ts.table().name()))
+                    .findFirst().orElseThrow();
+            assertThat(departments.rowCount()).contains(200L);
+
+            List<ColumnStatistics> columns = provider.getAllColumnStatistics(connection, null, SCHEMA);
+            assertThat(columns).filteredOn(cs -> "DEPT_ID".equals(cs.column().name())
+                    && "DEPARTMENTS".equals(cs.column().table().orElseThrow().name()))
+                    .singleElement().satisfies(cs -> assertThat(cs.distinctValues()).contains(200L));
+            assertThat(columns).filteredOn(cs -> "LOCATION".equals(cs.column().name()))
+                    .singleElement().satisfies(cs -> assertThat(cs.distinctValues().orElseThrow()).isLessThan(10L));
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DELETE FROM DEPARTMENTS");
+            }
+        }
+    }
+
+    @Test
+    void getCatalogFingerprint_changesWithColumnTypeAndRename() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE FP_ABC (ID INT, NAME VARCHAR(10))");
+        }
+        try {
+            String created = provider.getCatalogFingerprint(connection).orElseThrow();
+            assertThat(provider.getCatalogFingerprint(connection)).contains(created);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("ALTER TABLE FP_ABC ALTER COLUMN NAME VARCHAR(200)");
+            }
+            String widened = provider.getCatalogFingerprint(connection).orElseThrow();
+            assertThat(widened).isNotEqualTo(created);
+
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("ALTER TABLE FP_ABC RENAME TO FP_XYZ");
+            }
+            assertThat(provider.getCatalogFingerprint(connection)).isPresent().get().isNotEqualTo(widened);
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE IF EXISTS FP_ABC");
+                stmt.execute("DROP TABLE IF EXISTS FP_XYZ");
+            }
+        }
+    }
+
     private static Trigger findTrigger(List<Trigger> triggers, String name) {
         return triggers.stream().filter(t -> name.equals(t.name())).findFirst()
                 .orElseThrow(() -> new AssertionError("Trigger not found: " + name));
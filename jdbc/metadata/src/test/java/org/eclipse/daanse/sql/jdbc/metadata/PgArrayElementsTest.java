@@ -0,0 +1,30 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*/
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PgArrayElementsTest {
+
+    @Test
+    void histogramBounds_areSplitAndUnquoted() {
+        assertThat(PostgreSqlMetadataProvider.arrayElements("{1,5,42}")).containsExactly("1", "5", "42");
+        assertThat(PostgreSqlMetadataProvider.arrayElements("{\"a, b\",\"say \\\"hi\\\"\",c\\\\d}"))
+                .containsExactly("a, b", "say \"hi\"", "c\\d");
+    }
+
+    @Test
+    void noHistogram_isEmpty() {
+        assertThat(PostgreSqlMetadataProvider.arrayElements(null)).isEmpty();
+        assertThat(PostgreSqlMetadataProvider.arrayElements("{}")).isEmpty();
+    }
+}
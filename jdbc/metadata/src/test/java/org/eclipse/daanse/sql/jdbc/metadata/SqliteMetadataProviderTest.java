@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.MetadataScope;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfoItem;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableDefinition;
+import org.eclipse.daanse.sql.jdbc.api.schema.UniqueConstraint;
+import org.eclipse.daanse.sql.jdbc.api.schema.ViewDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnDefinition;
+import org.eclipse.daanse.sql.model.schema.ColumnMetaData;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.Trigger;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerEvent;
+import org.eclipse.daanse.sql.model.schema.Trigger.TriggerTiming;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SqliteMetadataProviderTest {
+
+    private static Connection connection;
+    private static SqliteMetadataProvider provider;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                    CREATE TABLE customers (
+                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                        email TEXT NOT NULL UNIQUE,
+                        name VARCHAR(50) DEFAULT 'x'
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE orders (
+                        id INTEGER,
+                        line INTEGER,
+                        customer_id INTEGER REFERENCES customers(id) ON DELETE CASCADE,
+                        amount DECIMAL(10,2) CHECK (amount > 0),
+                        PRIMARY KEY (id, line)
+                    )
+                    """);
+            stmt.execute("""
+                    CREATE TABLE shipments (
+                        id INTEGER PRIMARY KEY,
+                        order_id INTEGER,
+                        order_line INTEGER,
+                        CONSTRAINT fk_ship FOREIGN KEY (order_id, order_line) REFERENCES orders(id, line)
+                            DEFERRABLE INITIALLY DEFERRED
+                    )
+                    """);
+            stmt.execute("CREATE INDEX idx_orders_amount ON orders(amount DESC) WHERE amount > 10");
+            stmt.execute("CREATE INDEX idx_orders_expr ON orders(lower(customer_id))");
+            stmt.execute("CREATE VIEW v_orders AS SELECT id, amount FROM orders");
+            stmt.execute("""
+                    CREATE TRIGGER trg_orders AFTER INSERT ON orders
+                    WHEN NEW.amount > 100
+                    BEGIN
+                        UPDATE customers SET name = 'vip' WHERE id = NEW.customer_id;
+                    END
+                    """);
+            stmt.execute("CREATE TRIGGER trg_customers_upd UPDATE OF name ON customers BEGIN SELECT 1; END");
+        }
+        provider = new SqliteMetadataProvider();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void factory_isResolvedFromConnection() throws Exception {
+        assertThat(MetadataProviders.forConnection(connection)).get().isInstanceOf(SqliteMetadataProvider.class);
+    }
+
+    @Test
+    void getAllTableDefinitions_skipsInternalTables() throws Exception {
+        List<TableDefinition> tables = provider.getAllTableDefinitions(connection, null, null, null, null)
+                .orElseThrow();
+        assertThat(tables).extracting(t -> t.table().name()).containsExactly("customers", "orders", "shipments",
+                "v_orders");
+        assertThat(tables).extracting(t -> t.table().type()).containsExactly("TABLE", "TABLE", "TABLE", "VIEW");
+        assertThat(tables.get(0).table().schema()).isEmpty();
+    }
+
+    @Test
+    void getAllColumnDefinitions_matchesDriverReferences() throws Exception {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, "orders", null)
+                .orElseThrow();
+        assertThat(columns).extracting(c -> c.column().name()).containsExactly("id", "line", "customer_id",
+                "amount");
+        ColumnMetaData amount = columns.get(3).columnMetaData();
+        assertThat(amount.dataType()).isEqualTo(JDBCType.DECIMAL);
+        assertThat(amount.typeName()).isEqualTo("DECIMAL");
+        assertThat(amount.columnSize()).hasValue(10);
+        assertThat(amount.decimalDigits()).hasValue(2);
+        try (ResultSet rs = connection.getMetaData().getColumns(null, null, "orders", "id")) {
+            assertThat(rs.next()).isTrue();
+            assertThat(columns.get(0).column().table().orElseThrow().name()).isEqualTo(rs.getString("TABLE_NAME"));
+            assertThat(rs.getString("TABLE_SCHEM")).isNull();
+        }
+    }
+
+    @Test
+    void getAllColumnDefinitions_readsDefaultsAndAutoIncrement() throws Exception {
+        List<ColumnDefinition> columns = provider.getAllColumnDefinitions(connection, null, null, "customers", null)
+                .orElseThrow();
+        assertThat(columns.get(0).columnMetaData().autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.YES);
+        assertThat(columns.get(1).columnMetaData().nullability()).isEqualTo(ColumnMetaData.Nullability.NO_NULLS);
+        assertThat(columns.get(1).columnMetaData().dataType()).isEqualTo(JDBCType.VARCHAR);
+        assertThat(columns.get(2).columnMetaData().columnDefault()).contains("'x'");
+        assertThat(columns.get(2).columnMetaData().autoIncrement()).isEqualTo(ColumnMetaData.AutoIncrement.NO);
+    }
+
+    @Test
+    void visitAllColumnDefinitions_includesViewColumns() throws Exception {
+        List<ColumnDefinition> streamed = new ArrayList<>();
+        assertThat(provider.visitAllColumnDefinitions(connection, null, null, null, null, streamed::add)).isTrue();
+        assertThat(streamed).filteredOn(c -> "v_orders".equals(c.column().table().orElseThrow().name()))
+                .extracting(c -> c.column().name()).containsExactly("id", "amount");
+        assertThat(streamed).noneMatch(c -> c.column().table().orElseThrow().name().startsWith("sqlite_"));
+    }
+
+    @Test
+    void getAllPrimaryKeys_ordersByKeyPosition() throws Exception {
+        List<PrimaryKey> pks = provider.getAllPrimaryKeys(connection, null, null).orElseThrow();
+        assertThat(pks).extracting(pk -> pk.table().name()).containsExactly("customers", "orders", "shipments");
+        assertThat(pks.get(1).columns()).extracting(c -> c.name()).containsExactly("id", "line");
+    }
+
+    @Test
+    void getAllImportedKeys_readsActionsNamesAndDeferrability() throws Exception {
+        List<ImportedKey> fks = provider.getAllImportedKeys(connection, null, null).orElseThrow();
+        assertThat(fks).hasSize(3);
+        ImportedKey orders = fks.get(0);
+        assertThat(orders.foreignKeyColumn().name()).isEqualTo("customer_id");
+        assertThat(orders.primaryKeyColumn().table().orElseThrow().name()).isEqualTo("customers");
+        assertThat(orders.deleteRule()).isEqualTo(ImportedKey.ReferentialAction.CASCADE);
+        assertThat(orders.name()).isEmpty();
+
+        List<ImportedKey> shipments = fks.subList(1, 3);
+        assertThat(shipments).extracting(ImportedKey::name).containsOnly("fk_ship");
+        assertThat(shipments).extracting(fk -> fk.primaryKeyColumn().name()).containsExactly("id", "line");
+        assertThat(shipments).extracting(ImportedKey::keySequence).containsExactly(1, 2);
+        assertThat(shipments.get(0).deferrability()).isEqualTo(ImportedKey.Deferrability.INITIALLY_DEFERRED);
+    }
+
+    @Test
+    void getAllImportedKeys_resolvesImplicitParentKey() throws Exception {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE notes (id INTEGER PRIMARY KEY, customer INTEGER REFERENCES customers)");
+        }
+        try {
+            List<ImportedKey> fks = provider.getAllImportedKeys(connection, null, null).orElseThrow();
+            assertThat(fks).filteredOn(fk -> "customer".equals(fk.foreignKeyColumn().name()))
+                    .extracting(fk -> fk.primaryKeyColumn().name()).containsExactly("id");
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE notes");
+            }
+        }
+    }
+
+    @Test
+    void getAllExportedKeys_groupsByReferencedTable() throws Exception {
+        List<ImportedKey> exported = provider.getAllExportedKeys(connection, null, null).orElseThrow();
+        assertThat(exported).extracting(fk -> fk.primaryKeyColumn().table().orElseThrow().name())
+                .containsExactly("customers", "orders", "orders");
+    }
+
+    @Test
+    void getAllUniqueConstraints_useAutoIndexes() throws Exception {
+        List<UniqueConstraint> ucs = provider.getAllUniqueConstraints(connection, null, null);
+        assertThat(ucs).hasSize(1);
+        assertThat(ucs.get(0).table().name()).isEqualTo("customers");
+        assertThat(ucs.get(0).columns()).extracting(c -> c.name()).containsExactly("email");
+    }
+
+    @Test
+    void getAllIndexInfo_readsOrderFilterAndExpressions() throws Exception {
+        List<IndexInfo> indexes = provider.getAllIndexInfo(connection, null, null).orElseThrow();
+        IndexInfo orders = indexes.stream().filter(i -> "orders".equals(i.tableReference().name())).findFirst()
+                .orElseThrow();
+        IndexInfoItem amount = orders.indexInfoItems().stream()
+                .filter(i -> i.indexName().equals(Optional.of("idx_orders_amount"))).findFirst().orElseThrow();
+        assertThat(amount.column()).get().extracting(c -> c.name()).isEqualTo("amount");
+        assertThat(amount.ascending()).contains(false);
+        assertThat(amount.filterCondition()).contains("amount > 10");
+        IndexInfoItem expr = orders.indexInfoItems().stream()
+                .filter(i -> i.indexName().equals(Optional.of("idx_orders_expr"))).findFirst().orElseThrow();
+        assertThat(expr.column()).isEmpty();
+        assertThat(orders.indexInfoItems()).filteredOn(IndexInfoItem::unique)
+                .extracting(i -> i.column().orElseThrow().name()).containsExactly("id", "line");
+    }
+
+    @Test
+    void getAllViewDefinitions_splitsBody() throws Exception {
+        List<ViewDefinition> views = provider.getAllViewDefinitions(connection, null, null);
+        assertThat(views).hasSize(1);
+        assertThat(views.get(0).viewBody()).contains("SELECT id, amount FROM orders");
+        assertThat(views.get(0).fullDefinition()).get().asString().startsWith("CREATE VIEW");
+    }
+
+    @Test
+    void getAllTriggers_parsesTimingEventAndCondition() throws Exception {
+        List<Trigger> triggers = provider.getAllTriggers(connection, null, null);
+        assertThat(triggers).extracting(t -> t.reference().name()).containsExactly("trg_customers_upd",
+                "trg_orders");
+        Trigger customers = triggers.get(0);
+        assertThat(customers.timing()).isEqualTo(TriggerTiming.BEFORE);
+        assertThat(customers.event()).isEqualTo(TriggerEvent.UPDATE);
+        Trigger orders = triggers.get(1);
+        assertThat(orders.timing()).isEqualTo(TriggerTiming.AFTER);
+        assertThat(orders.event()).isEqualTo(TriggerEvent.INSERT);
+        assertThat(orders.whenCondition()).contains("NEW.amount > 100");
+        assertThat(orders.body()).get().asString().startsWith("UPDATE customers");
+    }
+
+    @Test
+    void scope_restrictsTables() throws Exception {
+        MetadataScope scope = MetadataScope.ALL.includeTables("ship%");
+        SqliteMetadataProvider scoped = (SqliteMetadataProvider) provider.withScope(scope);
+        assertThat(scoped.getAllPrimaryKeys(connection, null, null).orElseThrow()).extracting(pk -> pk.table().name())
+                .containsExactly("shipments");
+        assertThat(scoped.getAllImportedKeys(connection, null, null).orElseThrow())
+                .allMatch(fk -> "shipments".equals(fk.foreignKeyColumn().table().orElseThrow().name()));
+    }
+
+    @Test
+    void getCatalogFingerprint_changesWithSchema() throws Exception {
+        String before = provider.getCatalogFingerprint(connection).orElseThrow();
+        assertThat(provider.getCatalogFingerprint(connection)).contains(before);
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE tmp_fingerprint (x INTEGER)");
+        }
+        try {
+            assertThat(provider.getCatalogFingerprint(connection)).isPresent().get().isNotEqualTo(before);
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("DROP TABLE tmp_fingerprint");
+            }
+        }
+    }
+}
@@ -14,15 +14,52 @@
 package org.eclipse.daanse.sql.jdbc.record.meta;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.daanse.sql.jdbc.api.meta.DatabaseInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IdentifierInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.IndexInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.MetaInfo;
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
 import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
 import org.eclipse.daanse.sql.jdbc.api.meta.TypeInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
 
-public record MetaInfoRecord(DatabaseInfo databaseInfo,StructureInfo structureInfo , IdentifierInfo identifierInfo, List<TypeInfo> typeInfos,  List<IndexInfo> indexInfos)
+public record MetaInfoRecord(DatabaseInfo databaseInfo,StructureInfo structureInfo , IdentifierInfo identifierInfo, List<TypeInfo> typeInfos,  List<IndexInfo> indexInfos,
+        List<TableStatistics> tableStatistics, List<ColumnStatistics> columnStatistics,
+        Optional<MetadataLoadReport> loadReport)
         implements MetaInfo {
 
+    /** Compatibility constructor without load report. */
+    public MetaInfoRecord(DatabaseInfo databaseInfo, StructureInfo structureInfo, IdentifierInfo identifierInfo,
+            List<TypeInfo> typeInfos, List<IndexInfo> indexInfos, List<TableStatistics> tableStatistics,
+            List<ColumnStatistics> columnStatistics) {
+        this(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos, tableStatistics, columnStatistics,
+                Optional.empty());
+    }
+
+    /** Compatibility constructor without statistics. */
+    public MetaInfoRecord(DatabaseInfo databaseInfo, StructureInfo structureInfo, IdentifierInfo identifierInfo,
+            List<TypeInfo> typeInfos, List<IndexInfo> indexInfos) {
+        this(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos, List.of(), List.of());
+    }
+
+    /** Two snapshots of the same catalog are equal however long they took to read. */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof MetaInfoRecord other && Objects.equals(databaseInfo, other.databaseInfo)
+                && Objects.equals(structureInfo, other.structureInfo)
+                && Objects.equals(identifierInfo, other.identifierInfo) && Objects.equals(typeInfos, other.typeInfos)
+                && Objects.equals(indexInfos, other.indexInfos)
+                && Objects.equals(tableStatistics, other.tableStatistics)
+                && Objects.equals(columnStatistics, other.columnStatistics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(databaseInfo, structureInfo, identifierInfo, typeInfos, indexInfos, tableStatistics,
+                columnStatistics);
+    }
 }
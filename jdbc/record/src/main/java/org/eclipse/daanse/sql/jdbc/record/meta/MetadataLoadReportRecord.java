@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.meta;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.MetadataLoadReport;
+
+public record MetadataLoadReportRecord(List<MetadataLoadReport.Query> queries, Duration elapsed)
+        implements MetadataLoadReport {
+
+    public record QueryRecord(String section, String statement, Duration elapsed, long rows, long bytes)
+            implements MetadataLoadReport.Query {
+    }
+}
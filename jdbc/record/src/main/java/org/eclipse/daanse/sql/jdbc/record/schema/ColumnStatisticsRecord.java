@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.schema;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.ColumnStatistics;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+
+public record ColumnStatisticsRecord(
+        ColumnReference column,
+        Optional<Long> distinctValues,
+        Optional<Double> nullFraction,
+        Optional<Integer> averageWidth,
+        List<String> histogramBounds) implements ColumnStatistics {
+
+    public ColumnStatisticsRecord {
+        histogramBounds = List.copyOf(histogramBounds);
+    }
+
+    /** Statistics without a histogram. */
+    public ColumnStatisticsRecord(ColumnReference column, Optional<Long> distinctValues, Optional<Double> nullFraction,
+            Optional<Integer> averageWidth) {
+        this(column, distinctValues, nullFraction, averageWidth, List.of());
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.jdbc.record.schema;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.jdbc.api.schema.TableStatistics;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+
+public record TableStatisticsRecord(
+        TableReference table,
+        Optional<Long> rowCount,
+        Optional<Long> totalBytes,
+        Optional<Long> averageRowLength) implements TableStatistics {
+}
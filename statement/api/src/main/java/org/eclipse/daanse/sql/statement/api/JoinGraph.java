@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.statement.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.daanse.sql.jdbc.api.meta.StructureInfo;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.SchemaReference;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.statement.api.expression.Predicate;
+import org.eclipse.daanse.sql.statement.api.model.FromClause;
+import org.eclipse.daanse.sql.statement.api.model.JoinKind;
+import org.eclipse.daanse.sql.statement.api.model.TableAlias;
+
+/**
+ * The foreign keys of a schema as an undirected graph of tables, for joining a set
+ * of tables without spelling out the join conditions.
+ * <p>
+ * Tables are matched by schema and table name; catalog and table type are ignored,
+ * so references from {@link StructureInfo#tables()} and from the foreign keys meet.
+ * Paths are shortest in number of joins. Among equally short paths the one that
+ * follows foreign keys from child to parent — and to the parent's primary key — is
+ * preferred, so a star schema joins every dimension straight to the fact table.
+ * Self-referencing foreign keys are left out (they need a second alias); of several
+ * foreign keys between the same two tables the first in metadata order is used.
+ * <p>
+ * The graph is immutable. Paths and trees are memoized, so repeated queries over
+ * the same tables cost a map lookup; instances may be shared between threads.
+ */
+public final class JoinGraph {
+
+    /**
+     * One foreign key.
+     *
+     * @param name          the constraint name
+     * @param child         the referencing table
+     * @param childColumns  the foreign key columns, in key sequence
+     * @param parent        the referenced table
+     * @param parentColumns the referenced columns, matching {@code childColumns}
+     * @param toPrimaryKey  whether {@code parentColumns} are the parent's primary key
+     */
+    public record Edge(String name, TableReference child, List<ColumnReference> childColumns, TableReference parent,
+            List<ColumnReference> parentColumns, boolean toPrimaryKey) {
+
+        /** @return the table at the other end of this edge, seen from {@code table} */
+        public TableReference other(TableReference table) {
+            return node(child).equals(node(table)) ? parent : child;
+        }
+    }
+
+    private record Node(Optional<String> schema, String table) {
+    }
+
+    private final Map<Node, TableReference> tables;
+    private final Map<Node, List<Edge>> adjacency;
+    private final Map<List<Node>, Optional<List<Edge>>> paths = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Optional<List<Edge>>> trees = new ConcurrentHashMap<>();
+
+    private JoinGraph(Map<Node, TableReference> tables, Map<Node, List<Edge>> adjacency) {
+        this.tables = tables;
+        this.adjacency = adjacency;
+    }
+
+    /** The join graph of the imported and primary keys of a metadata snapshot. */
+    public static JoinGraph of(StructureInfo structureInfo) {
+        return of(structureInfo.importedKeys(), structureInfo.primaryKeys());
+    }
+
+    /**
+     * @param importedKeys one entry per foreign key column, as
+     *                     {@link java.sql.DatabaseMetaData#getImportedKeys} reports
+     *                     them
+     * @param primaryKeys  the primary keys, telling foreign keys to a primary key
+     *                     from those to another unique key
+     */
+    public static JoinGraph of(Collection<? extends ImportedKey> importedKeys,
+            Collection<? extends PrimaryKey> primaryKeys) {
+        Map<Node, Set<String>> primaryKeyColumns = new HashMap<>();
+        for (PrimaryKey pk : primaryKeys) {
+            primaryKeyColumns.put(node(pk.table()), names(pk.columns()));
+        }
+
+        // unnamed foreign keys (SQLite reports "", other drivers null) are told apart
+        // by their parent table and by the key sequence starting over at 1
+        List<List<ImportedKey>> foreignKeys = new ArrayList<>();
+        Map<List<Object>, List<ImportedKey>> open = new HashMap<>();
+        for (ImportedKey ik : importedKeys) {
+            Optional<TableReference> child = ik.foreignKeyColumn().table();
+            Optional<TableReference> parent = ik.primaryKeyColumn().table();
+            if (child.isPresent() && parent.isPresent()) {
+                List<Object> key = Arrays.asList(node(child.get()), node(parent.get()), ik.name());
+                List<ImportedKey> columns = open.get(key);
+                if (columns == null || ik.keySequence() <= 1) {
+                    columns = new ArrayList<>();
+                    open.put(key, columns);
+                    foreignKeys.add(columns);
+                }
+                columns.add(ik);
+            }
+        }
+
+        Map<Node, TableReference> tables = new HashMap<>();
+        Map<Node, List<Edge>> adjacency = new HashMap<>();
+        for (List<ImportedKey> columns : foreignKeys) {
+            columns.sort(Comparator.comparingInt(ImportedKey::keySequence));
+            List<ColumnReference> childColumns = new ArrayList<>(columns.size());
+            List<ColumnReference> parentColumns = new ArrayList<>(columns.size());
+            for (ImportedKey ik : columns) {
+                childColumns.add(ik.foreignKeyColumn());
+                parentColumns.add(ik.primaryKeyColumn());
+            }
+            TableReference child = childColumns.get(0).table().get();
+            TableReference parent = parentColumns.get(0).table().get();
+            Node childNode = node(child);
+            Node parentNode = node(parent);
+            if (childNode.equals(parentNode)) {
+                continue;
+            }
+            Edge edge = new Edge(columns.get(0).name(), tables.computeIfAbsent(childNode, n -> child),
+                    List.copyOf(childColumns), tables.computeIfAbsent(parentNode, n -> parent),
+                    List.copyOf(parentColumns), names(parentColumns).equals(primaryKeyColumns.get(parentNode)));
+            adjacency.computeIfAbsent(childNode, n -> new ArrayList<>()).add(edge);
+            adjacency.computeIfAbsent(parentNode, n -> new ArrayList<>()).add(edge);
+        }
+        // breadth-first search takes the first edge that reaches a table: child to
+        // parent before parent to child, primary key before other unique keys
+        for (Map.Entry<Node, List<Edge>> entry : adjacency.entrySet()) {
+            entry.getValue().sort(Comparator.comparing((Edge e) -> !node(e.child()).equals(entry.getKey()))
+                    .thenComparing(e -> !e.toPrimaryKey()));
+            entry.setValue(List.copyOf(entry.getValue()));
+        }
+        return new JoinGraph(Map.copyOf(tables), Map.copyOf(adjacency));
+    }
+
+    /** @return the foreign keys of {@code table} in either direction */
+    public List<Edge> edges(TableReference table) {
+        return adjacency.getOrDefault(node(table), List.of());
+    }
+
+    /**
+     * @return the foreign keys to follow from {@code from} to {@code to}, in that
+     *         order; empty when no path connects them, an empty list for the same
+     *         table
+     */
+    public Optional<List<Edge>> shortestPath(TableReference from, TableReference to) {
+        Node source = node(from);
+        Node target = node(to);
+        return paths.computeIfAbsent(List.of(source, target),
+                k -> Optional.ofNullable(search(Set.of(source), Set.of(target))));
+    }
+
+    /**
+     * An approximately minimal tree of foreign keys connecting {@code root} with all
+     * {@code tables}: starting from the root, the closest table not yet connected is
+     * added by its shortest path until all are in the tree.
+     *
+     * @return the tree's foreign keys in join order — each one adds a table to those
+     *         before it, starting at {@code root}; empty when some table cannot be
+     *         reached
+     */
+    public Optional<List<Edge>> connect(TableReference root, Collection<TableReference> tables) {
+        Node rootNode = node(root);
+        Set<Node> terminals = new HashSet<>();
+        for (TableReference table : tables) {
+            terminals.add(node(table));
+        }
+        terminals.remove(rootNode);
+        return trees.computeIfAbsent(List.of(rootNode, Set.copyOf(terminals)),
+                k -> Optional.ofNullable(steinerTree(rootNode, terminals)));
+    }
+
+    /**
+     * Inner joins {@code tables} to {@code root}, each table aliased by its name.
+     *
+     * @see #join(TableReference, Collection, Function, JoinKind)
+     */
+    public FromClause join(TableReference root, Collection<TableReference> tables) {
+        return join(root, tables, table -> TableAlias.of(table.name()), JoinKind.INNER);
+    }
+
+    /**
+     * A left-deep chain of {@link FromClause.FromJoin}s over the tree of
+     * {@link #connect}. Tables on the tree that are not in {@code tables} are joined
+     * as well; each join carries its foreign key name as comment.
+     *
+     * @param aliases the alias of each joined table
+     * @param kind    the join kind of every join
+     * @throws IllegalArgumentException when no foreign keys connect the tables
+     */
+    public FromClause join(TableReference root, Collection<TableReference> tables,
+            Function<TableReference, TableAlias> aliases, JoinKind kind) {
+        List<Edge> tree = connect(root, tables).orElseThrow(() -> new IllegalArgumentException(
+                "no foreign keys connect " + root.name() + " with " + tableNames(tables)));
+        Map<Node, TableReference> references = new HashMap<>();
+        for (TableReference table : tables) {
+            references.put(node(table), table);
+        }
+        references.put(node(root), root);
+
+        Map<Node, TableAlias> joined = new HashMap<>();
+        joined.put(node(root), aliases.apply(root));
+        FromClause from = From.table(root, joined.get(node(root)));
+        for (Edge edge : tree) {
+            Node added = joined.containsKey(node(edge.child())) ? node(edge.parent()) : node(edge.child());
+            TableReference table = references.getOrDefault(added, this.tables.get(added));
+            TableAlias alias = aliases.apply(table);
+            joined.put(added, alias);
+            from = new FromClause.FromJoin(from, kind, From.table(table, alias),
+                    on(edge, joined.get(node(edge.child())), joined.get(node(edge.parent()))),
+                    Optional.of("foreign key " + edge.name()));
+        }
+        return from;
+    }
+
+    private static Predicate on(Edge edge, TableAlias child, TableAlias parent) {
+        List<Predicate> conditions = new ArrayList<>(edge.childColumns().size());
+        for (int i = 0; i < edge.childColumns().size(); i++) {
+            conditions.add(Predicates.eq(Expressions.column(child, edge.childColumns().get(i).name()),
+                    Expressions.column(parent, edge.parentColumns().get(i).name())));
+        }
+        return conditions.size() == 1 ? conditions.get(0) : Predicates.and(conditions);
+    }
+
+    private List<Edge> steinerTree(Node root, Set<Node> terminals) {
+        Set<Node> inTree = new HashSet<>();
+        inTree.add(root);
+        Set<Node> open = new LinkedHashSet<>(terminals);
+        List<Edge> tree = new ArrayList<>();
+        while (!open.isEmpty()) {
+            List<Edge> path = search(inTree, open);
+            if (path == null) {
+                return null;
+            }
+            for (Edge edge : path) {
+                Node child = node(edge.child());
+                Node added = inTree.contains(child) ? node(edge.parent()) : child;
+                inTree.add(added);
+                open.remove(added);
+                tree.add(edge);
+            }
+        }
+        return List.copyOf(tree);
+    }
+
+    /**
+     * Breadth-first search from all {@code sources} at once.
+     *
+     * @return the edges from a source to the nearest target, or {@code null} when no
+     *         target is reachable
+     */
+    private List<Edge> search(Set<Node> sources, Set<Node> targets) {
+        for (Node source : sources) {
+            if (targets.contains(source)) {
+                return List.of();
+            }
+        }
+        Map<Node, Edge> via = new HashMap<>();
+        Set<Node> seen = new HashSet<>(sources);
+        Deque<Node> queue = new ArrayDeque<>(sources);
+        while (!queue.isEmpty()) {
+            Node current = queue.removeFirst();
+            for (Edge edge : adjacency.getOrDefault(current, List.of())) {
+                Node child = node(edge.child());
+                Node next = child.equals(current) ? node(edge.parent()) : child;
+                if (!seen.add(next)) {
+                    continue;
+                }
+                via.put(next, edge);
+                if (targets.contains(next)) {
+                    List<Edge> path = new ArrayList<>();
+                    for (Node at = next; !sources.contains(at);) {
+                        Edge step = via.get(at);
+                        path.add(0, step);
+                        Node stepChild = node(step.child());
+                        at = stepChild.equals(at) ? node(step.parent()) : stepChild;
+                    }
+                    return List.copyOf(path);
+                }
+                queue.addLast(next);
+            }
+        }
+        return null;
+    }
+
+    private static Node node(TableReference table) {
+        return new Node(table.schema().map(SchemaReference::name), table.name());
+    }
+
+    private static Set<String> names(Collection<ColumnReference> columns) {
+        Set<String> names = new HashSet<>();
+        for (ColumnReference column : columns) {
+            names.add(column.name());
+        }
+        return names;
+    }
+
+    private static List<String> tableNames(Collection<TableReference> tables) {
+        return tables.stream().map(TableReference::name).toList();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.daanse.sql.statement.demo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.sql.dialect.db.common.AnsiDialect;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey.Deferrability;
+import org.eclipse.daanse.sql.jdbc.api.schema.ImportedKey.ReferentialAction;
+import org.eclipse.daanse.sql.jdbc.record.schema.ImportedKeyRecord;
+import org.eclipse.daanse.sql.jdbc.record.schema.PrimaryKeyRecord;
+import org.eclipse.daanse.sql.model.schema.ColumnReference;
+import org.eclipse.daanse.sql.model.schema.PrimaryKey;
+import org.eclipse.daanse.sql.model.schema.TableReference;
+import org.eclipse.daanse.sql.model.type.BestFitColumnType;
+import org.eclipse.daanse.sql.statement.api.Expressions;
+import org.eclipse.daanse.sql.statement.api.JoinGraph;
+import org.eclipse.daanse.sql.statement.api.SelectStatementBuilder;
+import org.eclipse.daanse.sql.statement.api.model.JoinKind;
+import org.eclipse.daanse.sql.statement.api.model.TableAlias;
+import org.eclipse.daanse.sql.statement.render.DialectSqlRenderer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Joins derived from foreign keys: a snowflake {@code sales -> product -> category},
+ * {@code sales -> store} and a composite key {@code sales -> promotion}.
+ */
+class JoinGraphTest {
+
+    private static final TableReference SALES = new TableReference("sales");
+    private static final TableReference PRODUCT = new TableReference("product");
+    private static final TableReference CATEGORY = new TableReference("category");
+    private static final TableReference STORE = new TableReference("store");
+    private static final TableReference PROMOTION = new TableReference("promotion");
+    private static final TableReference UNRELATED = new TableReference("unrelated");
+
+    private final List<ImportedKey> importedKeys = new ArrayList<>();
+    private final List<PrimaryKey> primaryKeys = new ArrayList<>();
+
+    private JoinGraph snowflake() {
+        foreignKey("fk_sales_product", SALES, PRODUCT, "product_id", "id");
+        foreignKey("fk_product_category", PRODUCT, CATEGORY, "category_id", "id");
+        foreignKey("fk_sales_store", SALES, STORE, "store_id", "id");
+        foreignKey("fk_sales_promotion", SALES, PROMOTION, "promo_id", "id", "promo_year", "year");
+        primaryKey(PROMOTION, "id", "year");
+        return JoinGraph.of(importedKeys, primaryKeys);
+    }
+
+    @Test
+    void join_addsTheTablesOnThePath_nearestFirst() {
+        SelectStatementBuilder q = SelectStatementBuilder.create();
+        q.from(snowflake().join(SALES, List.of(CATEGORY, STORE)));
+        q.project(Expressions.column(TableAlias.of("category"), "name"), BestFitColumnType.STRING);
+
+        assertEquals("""
+                select "category"."name" as "c0" from "sales" as "sales" \
+                join "store" as "store" on "sales"."store_id" = "store"."id" \
+                join "product" as "product" on "sales"."product_id" = "product"."id" \
+                join "category" as "category" on "product"."category_id" = "category"."id"\
+                """, new DialectSqlRenderer(new AnsiDialect()).render(q.build()).sql());
+    }
+
+    @Test
+    void join_compositeForeignKey_conjunctionInKeySequence() {
+        SelectStatementBuilder q = SelectStatementBuilder.create();
+        q.from(snowflake().join(SALES, List.of(PROMOTION), t -> TableAlias.of(t.name().substring(0, 2)),
+                JoinKind.LEFT));
+        q.project(Expressions.column(TableAlias.of("pr"), "id"), BestFitColumnType.INT);
+
+        assertEquals("""
+                select "pr"."id" as "c0" from "sales" as "sa" \
+                left join "promotion" as "pr" on ("sa"."promo_id" = "pr"."id" and "sa"."promo_year" = "pr"."year")\
+                """, new DialectSqlRenderer(new AnsiDialect()).render(q.build()).sql());
+    }
+
+    @Test
+    void shortestPath_followsForeignKeysInEitherDirection() {
+        JoinGraph graph = snowflake();
+
+        List<JoinGraph.Edge> path = graph.shortestPath(CATEGORY, STORE).orElseThrow();
+
+        assertEquals(List.of("fk_product_category", "fk_sales_product", "fk_sales_store"),
+                path.stream().map(JoinGraph.Edge::name).toList());
+        assertFalse(path.get(0).toPrimaryKey());
+        assertTrue(graph.shortestPath(SALES, UNRELATED).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> graph.join(SALES, List.of(UNRELATED)));
+    }
+
+    @Test
+    void star_treeIsMemoized() {
+        List<TableReference> dimensions = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            TableReference dimension = new TableReference("dim_" + i);
+            dimensions.add(dimension);
+            foreignKey("fk_fact_" + i, SALES, dimension, "dim_" + i + "_id", "id");
+            primaryKey(dimension, "id");
+        }
+        JoinGraph graph = JoinGraph.of(importedKeys, primaryKeys);
+
+        List<JoinGraph.Edge> tree = graph.connect(SALES, dimensions).orElseThrow();
+
+        assertEquals(60, tree.size());
+        assertTrue(tree.stream().allMatch(e -> e.child().equals(SALES) && e.toPrimaryKey()));
+        List<TableReference> reversed = new ArrayList<>(dimensions);
+        Collections.reverse(reversed);
+        assertSame(tree, graph.connect(SALES, reversed).orElseThrow());
+    }
+
+    @Test
+    void unnamedForeignKeys_stayApart() {
+        foreignKey("", SALES, PRODUCT, "product_id", "id");
+        foreignKey("", SALES, STORE, "store_id", "id");
+        foreignKey(null, SALES, PROMOTION, "promo_id", "id", "promo_year", "year");
+        foreignKey(null, SALES, CATEGORY, "category_id", "id");
+        JoinGraph graph = JoinGraph.of(importedKeys, primaryKeys);
+
+        assertEquals(4, graph.edges(SALES).size());
+        assertEquals(List.of("store_id"), graph.shortestPath(SALES, STORE).orElseThrow().get(0).childColumns()
+                .stream().map(ColumnReference::name).toList());
+        assertEquals(List.of("promo_id", "promo_year"), graph.shortestPath(SALES, PROMOTION).orElseThrow().get(0)
+                .childColumns().stream().map(ColumnReference::name).toList());
+        assertTrue(graph.shortestPath(SALES, CATEGORY).isPresent());
+    }
+
+    private void foreignKey(String name, TableReference child, TableReference parent, String... columnPairs) {
+        for (int i = 0; i < columnPairs.length; i += 2) {
+            importedKeys.add(new ImportedKeyRecord(new ColumnReference(Optional.of(parent), columnPairs[i + 1]),
+                    new ColumnReference(Optional.of(child), columnPairs[i]), name, i / 2 + 1,
+                    ReferentialAction.NO_ACTION, ReferentialAction.NO_ACTION, Optional.empty(),
+                    Deferrability.NOT_DEFERRABLE));
+        }
+    }
+
+    private void primaryKey(TableReference table, String... columns) {
+        primaryKeys.add(new PrimaryKeyRecord(table,
+                List.of(columns).stream().map(c -> new ColumnReference(Optional.of(table), c)).toList(),
+                Optional.empty()));
+    }
+}